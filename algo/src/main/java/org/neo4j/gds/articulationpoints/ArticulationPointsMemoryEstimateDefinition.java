@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.articulationpoints;
 
+import org.neo4j.gds.biconnectivity.Biconnectivity;
 import org.neo4j.gds.bridges.Bridges;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
@@ -31,7 +32,18 @@ import org.neo4j.gds.mem.MemoryRange;
 public class ArticulationPointsMemoryEstimateDefinition implements MemoryEstimateDefinition {
     @Override
     public MemoryEstimation memoryEstimation() {
+        var depthFirstSearchEstimation = depthFirstSearchMemoryEstimation();
+        var biconnectivityEstimation = Biconnectivity.memoryEstimation();
 
+        return MemoryEstimations.setup(
+            "",
+            (graphDimensions, concurrency) -> Biconnectivity.isApplicable(graphDimensions.nodeCount(), concurrency)
+                ? biconnectivityEstimation
+                : depthFirstSearchEstimation
+        );
+    }
+
+    private static MemoryEstimation depthFirstSearchMemoryEstimation() {
         var builder = MemoryEstimations.builder(Bridges.class);
         builder
             .perNode("tin", HugeLongArray::memoryEstimation)
@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.biconnectivity;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.bridges.Bridge;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Parallel biconnectivity of an undirected graph, following Tarjan and Vishkin.
+ *
+ * <ol>
+ *     <li>A breadth-first spanning forest is grown level by level from the smallest node of every connected component.
+ *     The children of a node are stored next to each other, which gives a preorder numbering from the subtree sizes.</li>
+ *     <li>{@code low} and {@code high} are the smallest and largest preorder numbers reachable from a subtree
+ *     with a single non-tree relationship. A tree edge is a bridge if its subtree cannot be left this way.</li>
+ *     <li>Tree edges are then connected if they share a biconnected component.
+ *     A tree edge is connected to its parent edge if its subtree can be left around the parent,
+ *     and a non-tree relationship between unrelated subtrees connects the tree edges above both endpoints.
+ *     A node is an articulation point if its incident tree edges belong to more than one biconnected component.</li>
+ * </ol>
+ *
+ * All state is kept in primitive arrays that are linear in the number of nodes.
+ * Every level of the spanning forest is processed in parallel.
+ * Forests with many narrow levels, as found in graphs with a large diameter, spend most of their time synchronising
+ * the levels. Once the forest has more levels than {@link #MIN_NODES_PER_LEVEL} allows for, the remaining levels
+ * are traversed by a single thread and the tree phases run sequentially over the breadth-first order.
+ */
+public final class Biconnectivity extends Algorithm<BiconnectivityResult> {
+
+    // below this size the sequential depth-first search is faster than synchronising every level of the forest
+    public static final long MIN_NODE_COUNT = 100_000;
+    // a level with fewer nodes on average is not worth synchronising all threads for
+    static final long MIN_NODES_PER_LEVEL = 1_000;
+
+    static final long NO_PARENT = -1;
+
+    private final Graph graph;
+    private final Concurrency concurrency;
+    private final long nodeCount;
+    private final long minNodesPerLevel;
+
+    private final HugeLongArray order;
+    private final HugeLongArray parent;
+    private final HugeLongArray childOffset;
+    private final HugeIntArray childCount;
+    private final HugeLongArray subtreeSize;
+    private final HugeLongArray preorder;
+    private final HugeLongArray low;
+    private final HugeLongArray high;
+    private final LongArrayList levelOffsets;
+    private boolean sequentialLevels;
+
+    public Biconnectivity(
+        Graph graph,
+        Concurrency concurrency,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        this(graph, concurrency, MIN_NODES_PER_LEVEL, progressTracker, terminationFlag);
+    }
+
+    Biconnectivity(
+        Graph graph,
+        Concurrency concurrency,
+        long minNodesPerLevel,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.concurrency = concurrency;
+        this.nodeCount = graph.nodeCount();
+        this.minNodesPerLevel = minNodesPerLevel;
+        this.terminationFlag = terminationFlag;
+
+        this.order = HugeLongArray.newArray(nodeCount);
+        this.parent = HugeLongArray.newArray(nodeCount);
+        this.childOffset = HugeLongArray.newArray(nodeCount);
+        this.childCount = HugeIntArray.newArray(nodeCount);
+        this.subtreeSize = HugeLongArray.newArray(nodeCount);
+        this.preorder = HugeLongArray.newArray(nodeCount);
+        this.low = HugeLongArray.newArray(nodeCount);
+        this.high = HugeLongArray.newArray(nodeCount);
+        this.levelOffsets = new LongArrayList();
+    }
+
+    /**
+     * @return whether the graph is large enough to benefit from processing the levels of the forest in parallel
+     */
+    public static boolean isApplicable(long nodeCount, Concurrency concurrency) {
+        return concurrency.value() > 1 && nodeCount >= MIN_NODE_COUNT;
+    }
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(Biconnectivity.class)
+            .perNode("order", HugeLongArray::memoryEstimation)
+            .perNode("parent", HugeLongArray::memoryEstimation)
+            .perNode("childOffset", HugeLongArray::memoryEstimation)
+            .perNode("childCount", HugeIntArray::memoryEstimation)
+            .perNode("subtreeSize", HugeLongArray::memoryEstimation)
+            .perNode("preorder", HugeLongArray::memoryEstimation)
+            .perNode("low", HugeLongArray::memoryEstimation)
+            .perNode("high", HugeLongArray::memoryEstimation)
+            .perNode("visited", HugeAtomicBitSet::memoryEstimation)
+            .add("disjoint sets", HugeAtomicDisjointSetStruct.memoryEstimation(false))
+            .perNode("articulationPoints", Estimate::sizeOfBitset)
+            .perNode("bridges", nodeCount -> nodeCount * Estimate.sizeOfInstance(Bridge.class))
+            .build();
+    }
+
+    @Override
+    public BiconnectivityResult compute() {
+        progressTracker.beginSubTask();
+
+        buildSpanningForest();
+        computeSubtreeSizes();
+        computePreorder();
+        computeLowAndHigh();
+
+        var treeEdgeComponents = new HugeAtomicDisjointSetStruct(nodeCount, concurrency);
+        var bridges = connectTreeEdges(treeEdgeComponents);
+        connectCrossingRelationships(treeEdgeComponents);
+        var articulationPoints = articulationPoints(treeEdgeComponents);
+
+        // the subtree sizes are no longer needed and their array is reused for the component of the tree edge above every node
+        var components = subtreeSize;
+        forEachIndex(nodeCount, (localGraph, nodeId) -> components.set(
+            nodeId,
+            parent.get(nodeId) == NO_PARENT ? NO_PARENT : treeEdgeComponents.setIdOf(nodeId)
+        ));
+
+        progressTracker.endSubTask();
+        return new BiconnectivityResult(articulationPoints, bridges, parent, preorder, components);
+    }
+
+    private void buildSpanningForest() {
+        var components = new HugeAtomicDisjointSetStruct(nodeCount, concurrency);
+        forEachIndex(nodeCount, (localGraph, nodeId) -> localGraph.forEachRelationship(nodeId, (source, target) -> {
+            if (source < target) {
+                components.union(source, target);
+            }
+            return true;
+        }));
+
+        // the components are merged by their smallest node, which becomes the root of the tree
+        var visited = HugeAtomicBitSet.create(nodeCount);
+        var nextOffset = new AtomicLong();
+        forEachIndex(nodeCount, (localGraph, nodeId) -> {
+            if (components.setIdOf(nodeId) == nodeId) {
+                visited.set(nodeId);
+                parent.set(nodeId, NO_PARENT);
+                order.set(nextOffset.getAndIncrement(), nodeId);
+            }
+        });
+
+        long levelStart = 0;
+        long levelEnd = nextOffset.get();
+        levelOffsets.add(levelStart);
+        while (levelStart < levelEnd) {
+            terminationFlag.assertRunning();
+            if (levelOffsets.size() * minNodesPerLevel > nodeCount) {
+                sequentialLevels = true;
+                visitRemainingLevelsSequentially(levelStart, visited, nextOffset);
+                return;
+            }
+            levelOffsets.add(levelEnd);
+            forEachIndexInRange(levelStart, levelEnd, () -> {
+                var children = new LongArrayList();
+                return (localGraph, index) -> visitChildren(localGraph, order.get(index), children, visited, nextOffset);
+            });
+            levelStart = levelEnd;
+            levelEnd = nextOffset.get();
+        }
+    }
+
+    /**
+     * Continues the breadth-first traversal in a single thread, using the order as its queue.
+     */
+    private void visitRemainingLevelsSequentially(long start, HugeAtomicBitSet visited, AtomicLong nextOffset) {
+        var children = new LongArrayList();
+        for (long index = start; index < nextOffset.get(); index++) {
+            if ((index & 0xFFFF) == 0) {
+                terminationFlag.assertRunning();
+            }
+            visitChildren(graph, order.get(index), children, visited, nextOffset);
+        }
+    }
+
+    private void visitChildren(
+        Graph localGraph,
+        long nodeId,
+        LongArrayList children,
+        HugeAtomicBitSet visited,
+        AtomicLong nextOffset
+    ) {
+        children.clear();
+        localGraph.forEachRelationship(nodeId, (source, target) -> {
+            if (!visited.getAndSet(target)) {
+                parent.set(target, source);
+                children.add(target);
+            }
+            return true;
+        });
+        // children of the same node are stored consecutively
+        long offset = nextOffset.getAndAdd(children.size());
+        for (int i = 0; i < children.size(); i++) {
+            order.set(offset + i, children.get(i));
+        }
+        childOffset.set(nodeId, offset);
+        childCount.set(nodeId, children.size());
+    }
+
+    private void computeSubtreeSizes() {
+        forEachLevelBottomUp((localGraph, index) -> {
+            long nodeId = order.get(index);
+            long size = 1;
+            long offset = childOffset.get(nodeId);
+            for (long child = offset; child < offset + childCount.get(nodeId); child++) {
+                size += subtreeSize.get(order.get(child));
+            }
+            subtreeSize.set(nodeId, size);
+        });
+    }
+
+    private void computePreorder() {
+        // roots are numbered by the sizes of the preceding trees
+        long nextPreorder = 0;
+        for (long index = 0; index < nodeCount && parent.get(order.get(index)) == NO_PARENT; index++) {
+            long root = order.get(index);
+            preorder.set(root, nextPreorder);
+            nextPreorder += subtreeSize.get(root);
+        }
+
+        forEachLevelTopDown((localGraph, index) -> {
+            long nodeId = order.get(index);
+            long childPreorder = preorder.get(nodeId) + 1;
+            long offset = childOffset.get(nodeId);
+            for (long child = offset; child < offset + childCount.get(nodeId); child++) {
+                long childId = order.get(child);
+                preorder.set(childId, childPreorder);
+                childPreorder += subtreeSize.get(childId);
+            }
+        });
+    }
+
+    private void computeLowAndHigh() {
+        forEachLevelBottomUp((localGraph, index) -> {
+            long nodeId = order.get(index);
+            long parentId = parent.get(nodeId);
+            long[] lowAndHigh = {preorder.get(nodeId), preorder.get(nodeId)};
+            var skippedTreeEdge = new boolean[]{false};
+            localGraph.forEachRelationship(nodeId, (source, target) -> {
+                if (target == source || parent.get(target) == source) {
+                    return true;
+                }
+                // only the first relationship to the parent is the tree edge, parallel ones are not
+                if (target == parentId && !skippedTreeEdge[0]) {
+                    skippedTreeEdge[0] = true;
+                    return true;
+                }
+                long targetPreorder = preorder.get(target);
+                lowAndHigh[0] = Math.min(lowAndHigh[0], targetPreorder);
+                lowAndHigh[1] = Math.max(lowAndHigh[1], targetPreorder);
+                return true;
+            });
+
+            long offset = childOffset.get(nodeId);
+            for (long child = offset; child < offset + childCount.get(nodeId); child++) {
+                long childId = order.get(child);
+                lowAndHigh[0] = Math.min(lowAndHigh[0], low.get(childId));
+                lowAndHigh[1] = Math.max(lowAndHigh[1], high.get(childId));
+            }
+            low.set(nodeId, lowAndHigh[0]);
+            high.set(nodeId, lowAndHigh[1]);
+        });
+    }
+
+    private boolean leavesSubtree(long nodeId, long subtreeRoot) {
+        long subtreeStart = preorder.get(subtreeRoot);
+        return low.get(nodeId) < subtreeStart || high.get(nodeId) >= subtreeStart + subtreeSize.get(subtreeRoot);
+    }
+
+    private List<Bridge> connectTreeEdges(HugeAtomicDisjointSetStruct treeEdgeComponents) {
+        var bridgesPerTask = new ArrayList<List<Bridge>>();
+        forEachIndexInRange(0, nodeCount, () -> {
+            var bridges = new ArrayList<Bridge>();
+            bridgesPerTask.add(bridges);
+            return (localGraph, nodeId) -> {
+                long parentId = parent.get(nodeId);
+                if (parentId == NO_PARENT) {
+                    return;
+                }
+                if (!leavesSubtree(nodeId, nodeId)) {
+                    // oriented away from the smallest node of the component, like the depth-first search of Bridges
+                    bridges.add(new Bridge(parentId, nodeId));
+                }
+                if (parent.get(parentId) != NO_PARENT && leavesSubtree(nodeId, parentId)) {
+                    treeEdgeComponents.union(nodeId, parentId);
+                }
+            };
+        });
+
+        var bridges = new ArrayList<Bridge>();
+        bridgesPerTask.forEach(bridges::addAll);
+        return bridges;
+    }
+
+    private void connectCrossingRelationships(HugeAtomicDisjointSetStruct treeEdgeComponents) {
+        forEachIndex(nodeCount, (localGraph, nodeId) -> {
+            long subtreeEnd = preorder.get(nodeId) + subtreeSize.get(nodeId);
+            localGraph.forEachRelationship(nodeId, (source, target) -> {
+                // the target is neither an ancestor nor a descendant and comes later in preorder
+                if (preorder.get(target) >= subtreeEnd) {
+                    treeEdgeComponents.union(source, target);
+                }
+                return true;
+            });
+        });
+    }
+
+    private BitSet articulationPoints(HugeAtomicDisjointSetStruct treeEdgeComponents) {
+        var isArticulationPoint = HugeAtomicBitSet.create(nodeCount);
+        forEachIndex(nodeCount, (localGraph, nodeId) -> {
+            int children = childCount.get(nodeId);
+            if (children > 0) {
+                long offset = childOffset.get(nodeId);
+                long parentEdgeComponent = parent.get(nodeId) == NO_PARENT
+                    ? treeEdgeComponents.setIdOf(order.get(offset))
+                    : treeEdgeComponents.setIdOf(nodeId);
+                for (long child = offset; child < offset + children; child++) {
+                    if (treeEdgeComponents.setIdOf(order.get(child)) != parentEdgeComponent) {
+                        isArticulationPoint.set(nodeId);
+                        break;
+                    }
+                }
+            }
+            progressTracker.logProgress();
+        });
+
+        var articulationPoints = new BitSet(nodeCount);
+        isArticulationPoint.forEachSetBit(articulationPoints::set);
+        return articulationPoints;
+    }
+
+    private void forEachLevelTopDown(IndexConsumer consumer) {
+        if (sequentialLevels) {
+            // every node comes after its parent in the breadth-first order
+            for (long index = 0; index < nodeCount; index++) {
+                if ((index & 0xFFFF) == 0) {
+                    terminationFlag.assertRunning();
+                }
+                consumer.accept(graph, index);
+            }
+            return;
+        }
+        for (int level = 0; level < levelOffsets.size() - 1; level++) {
+            terminationFlag.assertRunning();
+            forEachIndexInRange(levelOffsets.get(level), levelOffsets.get(level + 1), () -> consumer);
+        }
+    }
+
+    private void forEachLevelBottomUp(IndexConsumer consumer) {
+        if (sequentialLevels) {
+            for (long index = nodeCount - 1; index >= 0; index--) {
+                if ((index & 0xFFFF) == 0) {
+                    terminationFlag.assertRunning();
+                }
+                consumer.accept(graph, index);
+            }
+            return;
+        }
+        for (int level = levelOffsets.size() - 2; level >= 0; level--) {
+            terminationFlag.assertRunning();
+            forEachIndexInRange(levelOffsets.get(level), levelOffsets.get(level + 1), () -> consumer);
+        }
+    }
+
+    private void forEachIndex(long count, IndexConsumer consumer) {
+        forEachIndexInRange(0, count, () -> consumer);
+    }
+
+    private void forEachIndexInRange(long start, long end, IndexConsumerFactory consumerFactory) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            end - start,
+            partition -> createTask(partition, start, consumerFactory.create()),
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .run();
+    }
+
+    private Runnable createTask(Partition partition, long offset, IndexConsumer consumer) {
+        return () -> {
+            var localGraph = graph.concurrentCopy();
+            long taskStart = offset + partition.startNode();
+            long taskEnd = taskStart + partition.nodeCount();
+            for (long index = taskStart; index < taskEnd; index++) {
+                consumer.accept(localGraph, index);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface IndexConsumer {
+        void accept(Graph localGraph, long index);
+    }
+
+    @FunctionalInterface
+    private interface IndexConsumerFactory {
+        IndexConsumer create();
+    }
+}
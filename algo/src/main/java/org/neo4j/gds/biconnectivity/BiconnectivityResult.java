@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.biconnectivity;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.bridges.Bridge;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+
+import java.util.List;
+
+public final class BiconnectivityResult {
+
+    private final BitSet articulationPoints;
+    private final List<Bridge> bridges;
+    private final HugeLongArray parent;
+    private final HugeLongArray preorder;
+    private final HugeLongArray treeEdgeComponents;
+
+    BiconnectivityResult(
+        BitSet articulationPoints,
+        List<Bridge> bridges,
+        HugeLongArray parent,
+        HugeLongArray preorder,
+        HugeLongArray treeEdgeComponents
+    ) {
+        this.articulationPoints = articulationPoints;
+        this.bridges = bridges;
+        this.parent = parent;
+        this.preorder = preorder;
+        this.treeEdgeComponents = treeEdgeComponents;
+    }
+
+    public BitSet articulationPoints() {
+        return articulationPoints;
+    }
+
+    public List<Bridge> bridges() {
+        return bridges;
+    }
+
+    /**
+     * Returns the id of the biconnected component containing the relationship between the given nodes.
+     * Components are identified by a node id, a relationship that is a bridge forms a component on its own.
+     */
+    public long biconnectedComponent(long source, long target) {
+        if (parent.get(target) == source) {
+            return treeEdgeComponents.get(target);
+        }
+        if (parent.get(source) == target) {
+            return treeEdgeComponents.get(source);
+        }
+        // a non-tree relationship belongs to the component of the tree edge above its later endpoint
+        return preorder.get(source) > preorder.get(target)
+            ? treeEdgeComponents.get(source)
+            : treeEdgeComponents.get(target);
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.bridges;
 
+import org.neo4j.gds.biconnectivity.Biconnectivity;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.mem.Estimate;
@@ -30,7 +31,18 @@ import org.neo4j.gds.mem.MemoryRange;
 public class BridgesMemoryEstimateDefinition implements MemoryEstimateDefinition {
     @Override
     public MemoryEstimation memoryEstimation() {
+        var depthFirstSearchEstimation = depthFirstSearchMemoryEstimation();
+        var biconnectivityEstimation = Biconnectivity.memoryEstimation();
 
+        return MemoryEstimations.setup(
+            "",
+            (graphDimensions, concurrency) -> Biconnectivity.isApplicable(graphDimensions.nodeCount(), concurrency)
+                ? biconnectivityEstimation
+                : depthFirstSearchEstimation
+        );
+    }
+
+    private static MemoryEstimation depthFirstSearchMemoryEstimation() {
         var builder = MemoryEstimations.builder(Bridges.class);
         builder
             .perNode("tin", HugeLongArray::memoryEstimation)
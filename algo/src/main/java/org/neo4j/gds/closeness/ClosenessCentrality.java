@@ -29,16 +29,25 @@ import org.neo4j.gds.core.utils.paged.ParallelIntPageCreator;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.msbfs.BfsConsumer;
+import org.neo4j.gds.msbfs.HyperBall;
 import org.neo4j.gds.msbfs.MultiSourceBFSAccessMethods;
+import org.neo4j.gds.msbfs.Pivots;
 
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.LongToDoubleFunction;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 /**
  * Normalized Closeness Centrality
  *
  * Utilizes the MSBFS for counting the farness between nodes.
  * See MSBFS documentation.
+ *
+ * Optionally approximated, either by a BFS from sampled pivots only, scaling the farness by the share of
+ * sampled nodes, or by HyperBall, estimating the farness from the growth of HyperLogLog counters.
  */
 public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResult> {
 
@@ -46,14 +55,26 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
     private final long nodeCount;
     private final Concurrency concurrency;
     private final ExecutorService executorService;
-    private final HugeAtomicIntArray farness;
-    private final HugeAtomicIntArray component;
     private final CentralityComputer centralityComputer;
+    private final Optional<Pivots> pivots;
+    private final boolean hyperBall;
+
+    public ClosenessCentrality(
+        Graph graph,
+        Concurrency concurrency,
+        CentralityComputer centralityComputer,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        this(graph, concurrency, centralityComputer, Optional.empty(), false, executorService, progressTracker);
+    }
 
     public ClosenessCentrality(
         Graph graph,
         Concurrency concurrency,
         CentralityComputer centralityComputer,
+        Optional<Pivots> pivots,
+        boolean hyperBall,
         ExecutorService executorService,
         ProgressTracker progressTracker
     ) {
@@ -63,26 +84,30 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
         this.concurrency = concurrency;
         this.executorService = executorService;
         this.centralityComputer = centralityComputer;
-        this.farness = HugeAtomicIntArray.of(nodeCount, ParallelIntPageCreator.of(concurrency));
-        this.component = HugeAtomicIntArray.of(nodeCount, ParallelIntPageCreator.of(concurrency));
+        this.pivots = pivots;
+        this.hyperBall = hyperBall;
     }
 
     @Override
     public ClosenessCentralityResult compute() {
         progressTracker.beginSubTask();
-        computeFarness();
-        var centralities = computeCloseness();
+        var centralities = hyperBall ? estimateWithHyperBall() : computeWithBfs();
         progressTracker.endSubTask();
 
         return new ClosenessCentralityResult(centralities);
     }
 
-    private void computeFarness() {
+    private HugeDoubleArray computeWithBfs() {
+        var farness = HugeAtomicIntArray.of(nodeCount, ParallelIntPageCreator.of(concurrency));
+        var component = HugeAtomicIntArray.of(nodeCount, ParallelIntPageCreator.of(concurrency));
+        var maxDepth = new LongAccumulator(Math::max, 0);
+
         progressTracker.beginSubTask();
         final BfsConsumer consumer = (nodeId, depth, sourceNodeIds) -> {
             int len = sourceNodeIds.size();
             farness.getAndAdd(nodeId, len * depth);
             component.getAndAdd(nodeId, len);
+            maxDepth.accumulate(depth);
             progressTracker.logProgress(len);
         };
         MultiSourceBFSAccessMethods
@@ -90,14 +115,51 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
                 nodeCount,
                 graph,
                 consumer,
-                Optional.empty(),
+                pivots.map(Pivots::nodes),
                 terminationFlag
             )
             .run(concurrency, executorService);
         progressTracker.endSubTask();
+
+        if (pivots.isEmpty()) {
+            return computeCloseness(farness::get, component::get);
+        }
+
+        var sample = pivots.get();
+        logErrorBound(sample, maxDepth.get());
+        // every sampled source stands for (n - 1) / k sources, which keeps the normalization of the exact farness
+        LongToDoubleFunction scale = nodeId -> {
+            long sampleSize = sample.sampleSizeFor(nodeId);
+            return sampleSize == 0 ? 0.0D : (nodeCount - 1.0D) / sampleSize;
+        };
+        return computeCloseness(
+            nodeId -> farness.get(nodeId) * scale.applyAsDouble(nodeId),
+            nodeId -> component.get(nodeId) * scale.applyAsDouble(nodeId)
+        );
+    }
+
+    private HugeDoubleArray estimateWithHyperBall() {
+        progressTracker.beginSubTask();
+        var estimates = new HyperBall(graph, concurrency, progressTracker, terminationFlag).compute();
+        progressTracker.endSubTask();
+
+        return computeCloseness(estimates.farness()::get, estimates.reaching()::get);
+    }
+
+    private void logErrorBound(Pivots sample, long maxDepth) {
+        // on undirected graphs, no distance exceeds twice the eccentricity of a pivot
+        long maxDistance = graph.characteristics().isUndirected() ? 2 * maxDepth : maxDepth;
+        progressTracker.logInfo(formatWithLocale(
+            "Sampled %d of %d source nodes, the estimated average distance to every node is within %.4f of the exact average with probability of at least %.4f, given distances of at most %d",
+            sample.nodes().length,
+            nodeCount,
+            sample.errorBound(maxDistance),
+            1.0D - 1.0D / Math.max(nodeCount, 1),
+            maxDistance
+        ));
     }
 
-    private HugeDoubleArray computeCloseness() {
+    private HugeDoubleArray computeCloseness(LongToDoubleFunction farness, LongToDoubleFunction component) {
         progressTracker.beginSubTask();
 
         var closeness = HugeDoubleArray.newArray(nodeCount);
@@ -107,8 +169,8 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
             nodeCount,
             partition -> (Runnable) () -> {
                 partition.consume(nodeId -> closeness.set(nodeId, centralityComputer.centrality(
-                    farness.get(nodeId),
-                    component.get(nodeId)
+                    farness.applyAsDouble(nodeId),
+                    component.applyAsDouble(nodeId)
                 )));
                 progressTracker.logProgress(partition.nodeCount());
             },
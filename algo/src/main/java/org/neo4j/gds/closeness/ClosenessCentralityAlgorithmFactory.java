@@ -26,6 +26,7 @@ import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.msbfs.Pivots;
 
 public class ClosenessCentralityAlgorithmFactory<CONFIG extends ClosenessCentralityBaseConfig> extends
     GraphAlgorithmFactory<ClosenessCentrality, CONFIG> {
@@ -34,10 +35,14 @@ public class ClosenessCentralityAlgorithmFactory<CONFIG extends ClosenessCentral
         var centralityComputer = parameters.useWassermanFaust()
             ? new WassermanFaustCentralityComputer(graph.nodeCount())
             : new DefaultCentralityComputer();
+        var pivots = parameters.samplingSize()
+            .map(samplingSize -> Pivots.sample(graph.nodeCount(), samplingSize, parameters.samplingSeed()));
         return new ClosenessCentrality(
             graph,
             parameters.concurrency(),
             centralityComputer,
+            pivots,
+            parameters.hyperBall(),
             DefaultPool.INSTANCE,
             progressTracker
         );
@@ -54,15 +59,33 @@ public class ClosenessCentralityAlgorithmFactory<CONFIG extends ClosenessCentral
     }
 
     public Task progressTask(long nodeCount) {
+        return progressTask(nodeCount, nodeCount);
+    }
+
+    private Task progressTask(long nodeCount, long sourceCount) {
         return Tasks.task(
             taskName(),
-            Tasks.leaf("Farness computation", nodeCount * nodeCount),
+            Tasks.leaf("Farness computation", nodeCount * sourceCount),
             Tasks.leaf("Closeness computation", nodeCount)
         );
     }
 
+    public Task progressTask(long nodeCount, ClosenessCentralityParameters parameters) {
+        if (parameters.hyperBall()) {
+            return Tasks.task(
+                taskName(),
+                Tasks.leaf("Farness computation"),
+                Tasks.leaf("Closeness computation", nodeCount)
+            );
+        }
+        long sourceCount = parameters.samplingSize()
+            .map(samplingSize -> Math.min(samplingSize, nodeCount))
+            .orElse(nodeCount);
+        return progressTask(nodeCount, sourceCount);
+    }
+
     @Override
     public Task progressTask(Graph graph, CONFIG config) {
-        return progressTask(graph.nodeCount());
+        return progressTask(graph.nodeCount(), config.toParameters());
     }
 }
@@ -22,6 +22,10 @@ package org.neo4j.gds.closeness;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
 
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 @Configuration
 public interface ClosenessCentralityBaseConfig extends AlgoBaseConfig {
 
@@ -29,8 +33,38 @@ public interface ClosenessCentralityBaseConfig extends AlgoBaseConfig {
         return false;
     }
 
+    Optional<Long> samplingSize();
+
+    Optional<Long> samplingSeed();
+
+    default boolean hyperBall() {
+        return false;
+    }
+
+    @Configuration.Check
+    default void validateApproximation() {
+        samplingSize().ifPresent(samplingSize -> {
+            if (samplingSize <= 0) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Configuration parameter 'samplingSize' must be a positive number, got %d.",
+                    samplingSize
+                ));
+            }
+            if (hyperBall()) {
+                throw new IllegalArgumentException(
+                    "Configuration parameters 'samplingSize' and 'hyperBall' cannot be combined.");
+            }
+        });
+    }
+
     @Configuration.Ignore
     default ClosenessCentralityParameters toParameters() {
-        return new ClosenessCentralityParameters(concurrency(), useWassermanFaust());
+        return new ClosenessCentralityParameters(
+            concurrency(),
+            useWassermanFaust(),
+            samplingSize(),
+            samplingSeed(),
+            hyperBall()
+        );
     }
 }
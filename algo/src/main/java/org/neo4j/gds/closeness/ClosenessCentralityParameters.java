@@ -22,5 +22,13 @@ package org.neo4j.gds.closeness;
 import org.neo4j.gds.annotation.Parameters;
 import org.neo4j.gds.core.concurrency.Concurrency;
 
+import java.util.Optional;
+
 @Parameters
-public record ClosenessCentralityParameters(Concurrency concurrency, boolean useWassermanFaust) { }
+public record ClosenessCentralityParameters(
+    Concurrency concurrency,
+    boolean useWassermanFaust,
+    Optional<Long> samplingSize,
+    Optional<Long> samplingSeed,
+    boolean hyperBall
+) { }
@@ -0,0 +1,439 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.communityquality;
+
+import com.carrotsearch.hppc.LongIntHashMap;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeMergeSort;
+import org.neo4j.gds.core.utils.paged.ShardedLongLongMap;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Evaluates one or more community assignments in a single pass over the relationships.
+ * <p>
+ * For every community property, the relationship weight leaving each community is split into
+ * internal weight (target in the same community) and external weight. From these, the conductance
+ * and modularity of each community, the average conductance, the total modularity and the coverage
+ * (fraction of relationship weight within communities) are derived.
+ * <p>
+ * Every task accumulates only the communities of its own nodes, so the accumulators together hold
+ * at most one entry per node and property, and the scan itself needs no synchronization.
+ * Only non-negative community ids represent communities, relationships of other nodes
+ * only count towards the total relationship weight.
+ */
+public final class CommunityQuality extends Algorithm<CommunityQualityResult> {
+
+    private static final long NO_COMMUNITY = -1L;
+
+    private final Graph graph;
+    private final CommunityQualityParameters parameters;
+    private final ExecutorService executorService;
+
+    public static Task progressTask(long nodeCount, int communityPropertyCount) {
+        return Tasks.task(
+            "CommunityQuality",
+            Tasks.leaf("Compact communities", nodeCount * communityPropertyCount),
+            Tasks.leaf("Accumulate weights", nodeCount),
+            Tasks.leaf("Merge accumulators")
+        );
+    }
+
+    public CommunityQuality(
+        Graph graph,
+        CommunityQualityParameters parameters,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.parameters = parameters;
+        this.executorService = executorService;
+    }
+
+    @Override
+    public CommunityQualityResult compute() {
+        progressTracker.beginSubTask();
+
+        var communities = compactCommunities();
+        var accumulators = accumulate(communities);
+        var result = merge(communities, accumulators);
+
+        progressTracker.endSubTask();
+        return result;
+    }
+
+    private List<Communities> compactCommunities() {
+        progressTracker.beginSubTask();
+
+        var nodeCount = graph.nodeCount();
+        var communityProperties = parameters.communityProperties();
+        int propertyCount = communityProperties.size();
+        var values = new NodePropertyValues[propertyCount];
+        var distinctCommunities = new ShardedLongLongMap.Builder[propertyCount];
+        for (int property = 0; property < propertyCount; property++) {
+            values[property] = graph.nodeProperties(communityProperties.get(property));
+            distinctCommunities[property] = ShardedLongLongMap.builder(parameters.concurrency());
+        }
+
+        // collect the community ids of all properties in one pass
+        run(PartitionUtils.rangePartition(
+            parameters.concurrency(),
+            nodeCount,
+            partition -> (Runnable) () -> {
+                // neighbouring nodes often share their community, which then needs no shard lock
+                var lastCommunities = new long[propertyCount];
+                Arrays.fill(lastCommunities, NO_COMMUNITY);
+                partition.consume(nodeId -> {
+                    for (int property = 0; property < propertyCount; property++) {
+                        long communityId = values[property].longValue(nodeId);
+                        if (communityId >= 0 && communityId != lastCommunities[property]) {
+                            distinctCommunities[property].addNode(communityId);
+                            lastCommunities[property] = communityId;
+                        }
+                    }
+                });
+            },
+            Optional.empty()
+        ));
+
+        // sorting the community ids keeps the compact ids independent of the thread schedule
+        var communityIds = new HugeLongArray[propertyCount];
+        for (int property = 0; property < propertyCount; property++) {
+            terminationFlag.assertRunning();
+
+            var distinct = distinctCommunities[property].build();
+            var ids = HugeLongArray.newArray(distinct.size());
+            ParallelUtil.parallelForEachNode(
+                ids.size(),
+                parameters.concurrency(),
+                terminationFlag,
+                index -> ids.set(index, distinct.toOriginalNodeId(index))
+            );
+            if (ids.size() > 1) {
+                HugeMergeSort.sort(ids, parameters.concurrency());
+            }
+            communityIds[property] = ids;
+        }
+
+        var nodeCommunities = new HugeLongArray[propertyCount];
+        for (int property = 0; property < propertyCount; property++) {
+            nodeCommunities[property] = HugeLongArray.newArray(nodeCount);
+        }
+        run(PartitionUtils.rangePartition(
+            parameters.concurrency(),
+            nodeCount,
+            partition -> (Runnable) () -> {
+                var lastCommunities = new long[propertyCount];
+                var lastCompactIds = new long[propertyCount];
+                Arrays.fill(lastCommunities, NO_COMMUNITY);
+                partition.consume(nodeId -> {
+                    for (int property = 0; property < propertyCount; property++) {
+                        long communityId = values[property].longValue(nodeId);
+                        if (communityId < 0) {
+                            nodeCommunities[property].set(nodeId, NO_COMMUNITY);
+                            continue;
+                        }
+                        if (communityId != lastCommunities[property]) {
+                            lastCommunities[property] = communityId;
+                            lastCompactIds[property] = compactId(communityIds[property], communityId);
+                        }
+                        nodeCommunities[property].set(nodeId, lastCompactIds[property]);
+                    }
+                });
+                progressTracker.logProgress(partition.nodeCount() * propertyCount);
+            },
+            Optional.empty()
+        ));
+
+        var communities = new ArrayList<Communities>(propertyCount);
+        for (int property = 0; property < propertyCount; property++) {
+            communities.add(new Communities(
+                communityProperties.get(property),
+                nodeCommunities[property],
+                communityIds[property]
+            ));
+        }
+
+        progressTracker.endSubTask();
+        return communities;
+    }
+
+    private static long compactId(HugeLongArray sortedCommunityIds, long communityId) {
+        long low = 0;
+        long high = sortedCommunityIds.size() - 1;
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            long midCommunityId = sortedCommunityIds.get(mid);
+            if (midCommunityId < communityId) {
+                low = mid + 1;
+            } else if (midCommunityId > communityId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        throw new IllegalStateException("Community " + communityId + " was not collected.");
+    }
+
+    private List<Accumulator> accumulate(List<Communities> communities) {
+        progressTracker.beginSubTask();
+
+        // one partition per thread, so that the number of accumulators is bounded by the concurrency
+        var tasks = PartitionUtils.degreePartition(
+            graph,
+            parameters.concurrency(),
+            partition -> new Accumulator(graph.concurrentCopy(), partition, communities),
+            Optional.empty()
+        );
+        run(tasks);
+
+        progressTracker.endSubTask();
+        return tasks;
+    }
+
+    private CommunityQualityResult merge(List<Communities> communities, List<Accumulator> accumulators) {
+        progressTracker.beginSubTask();
+
+        double totalWeight = 0;
+        for (Accumulator accumulator : accumulators) {
+            totalWeight += accumulator.totalWeight;
+        }
+
+        var scores = new ArrayList<CommunityQualityScores>(communities.size());
+        for (int property = 0; property < communities.size(); property++) {
+            scores.add(merge(communities.get(property), property, accumulators, totalWeight));
+        }
+
+        progressTracker.endSubTask();
+        return new CommunityQualityResult(totalWeight, scores);
+    }
+
+    private CommunityQualityScores merge(
+        Communities communities,
+        int property,
+        List<Accumulator> accumulators,
+        double totalWeight
+    ) {
+        long communityCount = communities.communityIds().size();
+        var internalWeights = HugeDoubleArray.newArray(communityCount);
+        // holds the volumes until the external weights are derived from them
+        var externalWeights = HugeDoubleArray.newArray(communityCount);
+        var conductances = HugeDoubleArray.newArray(communityCount);
+        var modularities = HugeDoubleArray.newArray(communityCount);
+
+        // the communities of a single accumulator are distinct, its entries can be added in parallel
+        for (Accumulator accumulator : accumulators) {
+            terminationFlag.assertRunning();
+            var weights = accumulator.weights[property];
+            ParallelUtil.parallelForEachNode(
+                weights.size,
+                parameters.concurrency(),
+                terminationFlag,
+                entry -> {
+                    int index = (int) entry;
+                    internalWeights.addTo(weights.communities[index], weights.internalWeights[index]);
+                    externalWeights.addTo(weights.communities[index], weights.volumes[index]);
+                }
+            );
+        }
+
+        var conductanceSum = new DoubleAdder();
+        var validCommunities = new LongAdder();
+        var modularitySum = new DoubleAdder();
+        var internalWeightSum = new DoubleAdder();
+
+        run(PartitionUtils.rangePartition(
+            parameters.concurrency(),
+            communityCount,
+            partition -> (Runnable) () -> {
+                double localConductanceSum = 0;
+                long localValidCommunities = 0;
+                double localModularitySum = 0;
+                double localInternalWeightSum = 0;
+
+                long end = partition.startNode() + partition.nodeCount();
+                for (long community = partition.startNode(); community < end; community++) {
+                    double internal = internalWeights.get(community);
+                    double volume = externalWeights.get(community);
+                    double external = volume - internal;
+                    externalWeights.set(community, external);
+
+                    if (volume > 0) {
+                        double conductance = external / volume;
+                        conductances.set(community, conductance);
+                        localConductanceSum += conductance;
+                        localValidCommunities++;
+                    } else {
+                        conductances.set(community, Double.NaN);
+                    }
+
+                    double modularity = totalWeight > 0
+                        ? (internal - volume * volume / totalWeight) / totalWeight
+                        : 0;
+                    modularities.set(community, modularity);
+                    localModularitySum += modularity;
+                    localInternalWeightSum += internal;
+                }
+
+                conductanceSum.add(localConductanceSum);
+                validCommunities.add(localValidCommunities);
+                modularitySum.add(localModularitySum);
+                internalWeightSum.add(localInternalWeightSum);
+                progressTracker.logProgress(partition.nodeCount());
+            },
+            Optional.empty()
+        ));
+
+        long valid = validCommunities.sum();
+        return new CommunityQualityScores(
+            communities.communityProperty(),
+            communityCount,
+            communities.communityIds(),
+            internalWeights,
+            externalWeights,
+            conductances,
+            modularities,
+            valid > 0 ? conductanceSum.sum() / valid : Double.NaN,
+            modularitySum.sum(),
+            totalWeight > 0 ? internalWeightSum.sum() / totalWeight : 0
+        );
+    }
+
+    private void run(List<? extends Runnable> tasks) {
+        RunWithConcurrency.builder()
+            .concurrency(parameters.concurrency())
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+
+    private record Communities(String communityProperty, HugeLongArray nodeCommunities, HugeLongArray communityIds) {
+    }
+
+    /**
+     * The weights of the communities a single task has seen, in the order they were first seen.
+     */
+    private static final class CommunityWeights {
+
+        private final LongIntHashMap indices = new LongIntHashMap();
+        private long[] communities = new long[0];
+        private double[] internalWeights = new double[0];
+        private double[] volumes = new double[0];
+        private int size;
+
+        void add(long community, double internalWeight, double volume) {
+            int index = indices.getOrDefault(community, -1);
+            if (index == -1) {
+                index = size++;
+                indices.put(community, index);
+                if (index == communities.length) {
+                    int capacity = Math.max(16, 2 * communities.length);
+                    communities = Arrays.copyOf(communities, capacity);
+                    internalWeights = Arrays.copyOf(internalWeights, capacity);
+                    volumes = Arrays.copyOf(volumes, capacity);
+                }
+                communities[index] = community;
+            }
+            internalWeights[index] += internalWeight;
+            volumes[index] += volume;
+        }
+    }
+
+    private final class Accumulator implements Runnable {
+
+        private final Graph graph;
+        private final Partition partition;
+        private final HugeLongArray[] nodeCommunities;
+        private final CommunityWeights[] weights;
+        private final long[] sourceCommunities;
+        private final double[] nodeInternalWeights;
+        private final boolean weighted;
+        private double totalWeight;
+        private double nodeWeight;
+
+        Accumulator(Graph graph, Partition partition, List<Communities> communities) {
+            this.graph = graph;
+            this.partition = partition;
+            this.weighted = parameters.hasRelationshipWeightProperty();
+
+            int propertyCount = communities.size();
+            this.nodeCommunities = new HugeLongArray[propertyCount];
+            this.weights = new CommunityWeights[propertyCount];
+            this.sourceCommunities = new long[propertyCount];
+            this.nodeInternalWeights = new double[propertyCount];
+            for (int property = 0; property < propertyCount; property++) {
+                this.nodeCommunities[property] = communities.get(property).nodeCommunities();
+                this.weights[property] = new CommunityWeights();
+            }
+        }
+
+        @Override
+        public void run() {
+            int propertyCount = nodeCommunities.length;
+            partition.consume(nodeId -> {
+                for (int property = 0; property < propertyCount; property++) {
+                    sourceCommunities[property] = nodeCommunities[property].get(nodeId);
+                }
+                Arrays.fill(nodeInternalWeights, 0);
+                nodeWeight = 0;
+
+                graph.forEachRelationship(nodeId, 1.0D, (sourceNodeId, targetNodeId, relationshipWeight) -> {
+                    double weight = weighted ? relationshipWeight : 1.0D;
+                    nodeWeight += weight;
+                    for (int p = 0; p < propertyCount; p++) {
+                        long sourceCommunity = sourceCommunities[p];
+                        if (sourceCommunity != NO_COMMUNITY && nodeCommunities[p].get(targetNodeId) == sourceCommunity) {
+                            nodeInternalWeights[p] += weight;
+                        }
+                    }
+                    return true;
+                });
+
+                // all relationships of a node count towards the same community, add them once per node
+                for (int property = 0; property < propertyCount; property++) {
+                    if (sourceCommunities[property] != NO_COMMUNITY) {
+                        weights[property].add(sourceCommunities[property], nodeInternalWeights[property], nodeWeight);
+                    }
+                }
+                totalWeight += nodeWeight;
+            });
+            progressTracker.logProgress(partition.nodeCount());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.communityquality;
+
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimateDefinition;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+
+import java.util.function.LongUnaryOperator;
+
+/**
+ * The number of communities is unknown upfront, the estimation ranges from a single community
+ * to one community per node for every community property.
+ */
+public class CommunityQualityMemoryEstimateDefinition implements MemoryEstimateDefinition {
+
+    private final int communityPropertyCount;
+
+    public CommunityQualityMemoryEstimateDefinition(int communityPropertyCount) {
+        this.communityPropertyCount = communityPropertyCount;
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(CommunityQuality.class)
+            .perNode("node communities", nodeCount -> communityPropertyCount * HugeLongArray.memoryEstimation(nodeCount))
+            .rangePerNode("community ids", nodeCount -> perCommunity(nodeCount, CommunityQualityMemoryEstimateDefinition::communityIds))
+            .rangePerNode("accumulators", nodeCount -> perCommunity(nodeCount, CommunityQualityMemoryEstimateDefinition::accumulators))
+            .rangePerNode("scores", nodeCount -> perCommunity(nodeCount, communityCount -> 4 * HugeDoubleArray.memoryEstimation(communityCount)))
+            .build();
+    }
+
+    private MemoryRange perCommunity(long nodeCount, LongUnaryOperator fn) {
+        long maxCommunityCount = Math.max(nodeCount, 1);
+        return MemoryRange.of(fn.applyAsLong(1), fn.applyAsLong(maxCommunityCount)).times(communityPropertyCount);
+    }
+
+    // the distinct ids while collecting, then sorted with a temporary array of the same size
+    private static long communityIds(long communityCount) {
+        return Estimate.sizeOfLongDoubleHashMap(communityCount) + 3 * HugeLongArray.memoryEstimation(communityCount);
+    }
+
+    // every node contributes at most one entry to the accumulator of its task, the entry arrays grow by doubling
+    private static long accumulators(long entryCount) {
+        return Estimate.sizeOfLongDoubleHashMap(entryCount)
+            + 2 * (Estimate.sizeOfLongArray(entryCount) + 2 * Estimate.sizeOfDoubleArray(entryCount));
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.communityquality;
+
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The quality scores of every evaluated community property, in the order of
+ * {@link CommunityQualityParameters#communityProperties()}.
+ */
+public record CommunityQualityResult(double totalRelationshipWeight, List<CommunityQualityScores> scores) {
+
+    public CommunityQualityScores scores(String communityProperty) {
+        return scores.stream()
+            .filter(scores -> scores.communityProperty().equals(communityProperty))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException(formatWithLocale(
+                "No scores for community property `%s`.",
+                communityProperty
+            )));
+    }
+}
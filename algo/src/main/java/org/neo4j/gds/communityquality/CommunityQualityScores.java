@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.communityquality;
+
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+
+/**
+ * Quality scores of the communities given by a single node property.
+ * The per-community arrays are indexed by a compact community index,
+ * {@code communityIds} maps that index back to the community id stored in the property.
+ * <p>
+ * Conductance is {@code NaN} for communities without relationship weight; those communities
+ * do not contribute to the average conductance.
+ */
+public record CommunityQualityScores(
+    String communityProperty,
+    long communityCount,
+    HugeLongArray communityIds,
+    HugeDoubleArray internalWeights,
+    HugeDoubleArray externalWeights,
+    HugeDoubleArray conductances,
+    HugeDoubleArray modularities,
+    double averageConductance,
+    double modularity,
+    double coverage
+) {
+}
@@ -214,23 +214,22 @@ public class DegreeCentrality extends Algorithm<DegreeCentralityResult> {
 
         @Override
         public void run() {
-            var nodeWeight = new MutableDouble();
-            partition.consume(nodeId -> {
-                nodeWeight.setValue(0);
-                relationshipIterator.forEachRelationship(
+            // Reduces the property values per node without decoding the targets.
+            partition.consume(nodeId -> result.set(
+                nodeId,
+                relationshipIterator.reduceRelationshipProperty(
                     nodeId,
                     DEFAULT_WEIGHT,
-                    (sourceNodeId, targetNodeId, weight) -> {
-                        if (weight > 0.0D) {
-                            nodeWeight.add(weight);
-                        }
-                        return true;
-                    }
-                );
-                result.set(nodeId, nodeWeight.doubleValue());
-            });
+                    0.0D,
+                    NaturalWeightedDegreeTask::addPositive
+                )
+            ));
             progressTracker.logProgress(partition.nodeCount());
         }
+
+        private static double addPositive(double sum, double weight) {
+            return weight > 0.0D ? sum + weight : sum;
+        }
     }
 
     private static class ReverseDegreeTask implements Runnable {
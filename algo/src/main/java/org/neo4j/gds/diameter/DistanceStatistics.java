@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.diameter;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicIntArray;
+import org.neo4j.gds.core.utils.paged.ParallelIntPageCreator;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.msbfs.BfsConsumer;
+import org.neo4j.gds.msbfs.MSBFSConstants;
+import org.neo4j.gds.msbfs.MultiSourceBFSAccessMethods;
+import org.neo4j.gds.msbfs.Pivots;
+import org.neo4j.gds.termination.TerminationFlag;
+import org.neo4j.gds.utils.CloseableThreadLocal;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Distance statistics of an undirected graph, computed with MSBFS traversals.
+ * <p>
+ * The neighbourhood function and the effective diameter are estimated from the distances of uniformly sampled
+ * sources. Sources are added in batches of one MSBFS word per thread until a batch barely changes
+ * the effective diameter.
+ * <p>
+ * The diameter and radius are bounded by iFUB: starting from a traversal of the node with the highest degree,
+ * the eccentricities of the nodes furthest away are computed level by level, until the largest eccentricity
+ * exceeds twice the next level. The boundary levels are traversed together by a single MSBFS run each.
+ *
+ * specified in: Crescenzi, Grossi, Habib, Lanzi and Marino, "On computing the diameter of real-world undirected
+ * graphs", Theoretical Computer Science 2013
+ */
+public final class DistanceStatistics extends Algorithm<DistanceStatisticsResult> {
+
+    private static final double EFFECTIVE_DIAMETER_QUANTILE = 0.9;
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final DistanceStatisticsParameters parameters;
+    private final ExecutorService executorService;
+    private final HugeAtomicIntArray eccentricity;
+
+    public DistanceStatistics(
+        Graph graph,
+        DistanceStatisticsParameters parameters,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        if (!graph.characteristics().isUndirected()) {
+            throw new IllegalArgumentException("Distance statistics require undirected relationships.");
+        }
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.parameters = parameters;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+        this.eccentricity = HugeAtomicIntArray.of(nodeCount, ParallelIntPageCreator.of(parameters.concurrency()));
+    }
+
+    public static Task progressTask(long nodeCount, DistanceStatisticsParameters parameters) {
+        return Tasks.task(
+            "DistanceStatistics",
+            Tasks.leaf("Sample sources", Math.min(nodeCount, parameters.maxSamplingSize())),
+            Tasks.leaf("Bound eccentricities")
+        );
+    }
+
+    @Override
+    public DistanceStatisticsResult compute() {
+        progressTracker.beginSubTask();
+
+        var histograms = new ConcurrentLinkedQueue<DistanceHistogram>();
+        long sampledSources = sample(histograms);
+        var pairsAtDistance = DistanceHistogram.merge(histograms);
+        var neighbourhoodFunction = neighbourhoodFunction(pairsAtDistance, sampledSources);
+
+        var bounds = nodeCount == 0 ? new Bounds(0, 0, 0, 0) : bound();
+
+        progressTracker.endSubTask();
+
+        return new DistanceStatisticsResult(
+            neighbourhoodFunction,
+            effectiveDiameter(neighbourhoodFunction),
+            sampledSources,
+            Math.max(bounds.diameterLowerBound(), pairsAtDistance.length - 1),
+            bounds.diameterUpperBound(),
+            bounds.radiusLowerBound(),
+            bounds.radiusUpperBound(),
+            eccentricity
+        );
+    }
+
+    private long sample(Collection<DistanceHistogram> histograms) {
+        progressTracker.beginSubTask();
+
+        var sources = Pivots.sample(nodeCount, parameters.maxSamplingSize(), parameters.samplingSeed()).nodes();
+        // pivots are sorted, after shuffling every prefix is a uniform sample
+        var random = parameters.samplingSeed().map(SplittableRandom::new).orElseGet(SplittableRandom::new);
+        for (int i = sources.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long source = sources[i];
+            sources[i] = sources[j];
+            sources[j] = source;
+        }
+
+        // every thread counts into its own histogram, they are only merged between batches
+        int sampled = 0;
+        try (var localHistogram = CloseableThreadLocal.withInitial(() -> {
+            var histogram = new DistanceHistogram();
+            histograms.add(histogram);
+            return histogram;
+        })) {
+            BfsConsumer consumer = (nodeId, depth, sourceNodeIds) -> {
+                localHistogram.get().add(depth, sourceNodeIds.size());
+                raiseEccentricity(nodeId, depth);
+            };
+
+            int batchSize = MSBFSConstants.OMEGA * parameters.concurrency().value();
+            double effectiveDiameter = 0;
+            while (sampled < sources.length) {
+                terminationFlag.assertRunning();
+                int batchEnd = Math.min(sampled + batchSize, sources.length);
+                traverse(Arrays.copyOfRange(sources, sampled, batchEnd), consumer);
+                progressTracker.logProgress(batchEnd - sampled);
+                sampled = batchEnd;
+
+                double previousEffectiveDiameter = effectiveDiameter;
+                effectiveDiameter = effectiveDiameter(neighbourhoodFunction(DistanceHistogram.merge(histograms), sampled));
+                if (sampled > batchSize
+                    && Math.abs(effectiveDiameter - previousEffectiveDiameter) <= parameters.tolerance() * previousEffectiveDiameter) {
+                    break;
+                }
+            }
+        }
+
+        progressTracker.endSubTask();
+        return sampled;
+    }
+
+    private Bounds bound() {
+        progressTracker.beginSubTask();
+
+        long start = 0;
+        for (long nodeId = 1; nodeId < nodeCount; nodeId++) {
+            if (graph.degree(nodeId) > graph.degree(start)) {
+                start = nodeId;
+            }
+        }
+
+        var level = HugeIntArray.newArray(nodeCount);
+        level.fill(-1);
+        level.set(start, 0);
+        traverse(new long[]{start}, (nodeId, depth, sourceNodeIds) -> {
+            level.set(nodeId, depth);
+            raiseEccentricity(nodeId, depth);
+        });
+
+        int startEccentricity = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            startEccentricity = Math.max(startEccentricity, level.get(nodeId));
+        }
+        raiseEccentricity(start, startEccentricity);
+
+        // order the reached nodes by their level
+        var levelOffsets = new long[startEccentricity + 2];
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            int nodeLevel = level.get(nodeId);
+            if (nodeLevel >= 0) {
+                levelOffsets[nodeLevel + 1]++;
+            }
+        }
+        for (int i = 1; i < levelOffsets.length; i++) {
+            levelOffsets[i] += levelOffsets[i - 1];
+        }
+        long reached = levelOffsets[startEccentricity + 1];
+        var nodesByLevel = HugeLongArray.newArray(reached);
+        var cursors = Arrays.copyOf(levelOffsets, levelOffsets.length);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            int nodeLevel = level.get(nodeId);
+            if (nodeLevel >= 0) {
+                nodesByLevel.set(cursors[nodeLevel]++, nodeId);
+            }
+        }
+
+        long lowerBound = startEccentricity;
+        long upperBound = 2L * startEccentricity;
+        long radiusUpperBound = startEccentricity;
+        long traversals = 1;
+        for (int i = startEccentricity; i > 0 && lowerBound < upperBound; i--) {
+            terminationFlag.assertRunning();
+            long fringeSize = levelOffsets[i + 1] - levelOffsets[i];
+            if (traversals + fringeSize > parameters.maxBoundingSources()) {
+                break;
+            }
+
+            var fringe = new long[Math.toIntExact(fringeSize)];
+            for (int j = 0; j < fringe.length; j++) {
+                fringe[j] = nodesByLevel.get(levelOffsets[i] + j);
+            }
+            traverse(fringe, (nodeId, depth, sourceNodeIds) -> {
+                raiseEccentricity(nodeId, depth);
+                while (sourceNodeIds.hasNext()) {
+                    raiseEccentricity(sourceNodeIds.nextLong(), depth);
+                }
+            });
+
+            for (long node : fringe) {
+                lowerBound = Math.max(lowerBound, eccentricity.get(node));
+                radiusUpperBound = Math.min(radiusUpperBound, eccentricity.get(node));
+            }
+            // every unvisited pair is within two levels below the fringe of the start node
+            upperBound = Math.max(lowerBound, 2L * (i - 1));
+            traversals += fringeSize;
+            progressTracker.logProgress(fringeSize);
+        }
+
+        progressTracker.endSubTask();
+
+        // any other component has fewer nodes than the start node did not reach
+        long unreached = nodeCount - reached;
+        return new Bounds(
+            lowerBound,
+            Math.max(upperBound, unreached - 1),
+            (lowerBound + 1) / 2,
+            radiusUpperBound
+        );
+    }
+
+    private void traverse(long[] sources, BfsConsumer consumer) {
+        MultiSourceBFSAccessMethods
+            .aggregatedNeighborProcessing(nodeCount, graph, consumer, Optional.of(sources), terminationFlag)
+            .run(parameters.concurrency(), executorService);
+    }
+
+    private void raiseEccentricity(long nodeId, int distance) {
+        // in an undirected graph, every distance from a node bounds its eccentricity
+        if (eccentricity.get(nodeId) < distance) {
+            eccentricity.update(nodeId, current -> Math.max(current, distance));
+        }
+    }
+
+    private double[] neighbourhoodFunction(long[] pairsAtDistance, long sampledSources) {
+        if (nodeCount == 0) {
+            return new double[0];
+        }
+        int maxDistance = Math.max(pairsAtDistance.length - 1, 0);
+        var neighbourhoodFunction = new double[maxDistance + 1];
+        neighbourhoodFunction[0] = nodeCount;
+        // every sampled source stands for n / k sources
+        double scale = sampledSources == 0 ? 0 : (double) nodeCount / sampledSources;
+        for (int distance = 1; distance <= maxDistance; distance++) {
+            neighbourhoodFunction[distance] = neighbourhoodFunction[distance - 1] + pairsAtDistance[distance] * scale;
+        }
+        return neighbourhoodFunction;
+    }
+
+    private static double effectiveDiameter(double[] neighbourhoodFunction) {
+        if (neighbourhoodFunction.length < 2) {
+            return 0;
+        }
+        double selfPairs = neighbourhoodFunction[0];
+        double connectedPairs = neighbourhoodFunction[neighbourhoodFunction.length - 1] - selfPairs;
+        if (connectedPairs <= 0) {
+            return 0;
+        }
+        double target = EFFECTIVE_DIAMETER_QUANTILE * connectedPairs;
+        for (int distance = 1; distance < neighbourhoodFunction.length; distance++) {
+            double within = neighbourhoodFunction[distance] - selfPairs;
+            if (within >= target) {
+                double previous = neighbourhoodFunction[distance - 1] - selfPairs;
+                return distance - 1 + (target - previous) / (within - previous);
+            }
+        }
+        return neighbourhoodFunction.length - 1;
+    }
+
+    /**
+     * Number of sampled pairs per distance, written by a single thread.
+     */
+    private static final class DistanceHistogram {
+        private long[] pairs = new long[0];
+
+        void add(int distance, long count) {
+            if (distance >= pairs.length) {
+                pairs = Arrays.copyOf(pairs, Math.max(distance + 1, 2 * pairs.length));
+            }
+            pairs[distance] += count;
+        }
+
+        /**
+         * Sums all histograms, trimmed to the largest distance seen by any of them.
+         */
+        static long[] merge(Collection<DistanceHistogram> histograms) {
+            var merged = new long[0];
+            for (var histogram : histograms) {
+                var pairs = histogram.pairs;
+                if (pairs.length > merged.length) {
+                    merged = Arrays.copyOf(merged, pairs.length);
+                }
+                for (int distance = 0; distance < pairs.length; distance++) {
+                    merged[distance] += pairs[distance];
+                }
+            }
+            int length = merged.length;
+            while (length > 0 && merged[length - 1] == 0) {
+                length--;
+            }
+            return Arrays.copyOf(merged, length);
+        }
+    }
+
+    private record Bounds(long diameterLowerBound, long diameterUpperBound, long radiusLowerBound, long radiusUpperBound) {}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.diameter;
+
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicIntArray;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimateDefinition;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+
+public class DistanceStatisticsMemoryEstimateDefinition implements MemoryEstimateDefinition {
+
+    private final long maxSamplingSize;
+
+    public DistanceStatisticsMemoryEstimateDefinition(long maxSamplingSize) {
+        this.maxSamplingSize = maxSamplingSize;
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation() {
+        // every MSBFS thread keeps its own visit and seen bitsets
+        var msbfs = MemoryEstimations.builder("MSBFS")
+            .perNode("visits", HugeLongArray::memoryEstimation)
+            .perNode("next visits", HugeLongArray::memoryEstimation)
+            .perNode("seens", HugeLongArray::memoryEstimation)
+            .build();
+
+        return MemoryEstimations.builder(DistanceStatistics.class)
+            .perNode("eccentricity lower bounds", HugeAtomicIntArray::memoryEstimation)
+            .perNode("sampled sources", nodeCount -> Estimate.sizeOfLongArray(Math.min(nodeCount, maxSamplingSize)))
+            .perNode("levels", HugeIntArray::memoryEstimation)
+            .perNode("nodes by level", HugeLongArray::memoryEstimation)
+            .perThread("MSBFS", msbfs)
+            .build();
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.diameter;
+
+import org.neo4j.gds.annotation.Parameters;
+import org.neo4j.gds.core.concurrency.Concurrency;
+
+import java.util.Optional;
+
+/**
+ * @param maxSamplingSize    the maximum number of sampled sources for the neighbourhood function
+ * @param tolerance          sampling stops once a batch changes the effective diameter by at most this relative amount
+ * @param samplingSeed       the seed for selecting the sampled sources
+ * @param maxBoundingSources the maximum number of traversals to bound the diameter and radius
+ */
+@Parameters
+public record DistanceStatisticsParameters(
+    Concurrency concurrency,
+    long maxSamplingSize,
+    double tolerance,
+    Optional<Long> samplingSeed,
+    long maxBoundingSources
+) {}
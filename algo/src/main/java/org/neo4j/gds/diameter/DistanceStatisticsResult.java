@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.diameter;
+
+import org.neo4j.gds.collections.haa.HugeAtomicIntArray;
+
+/**
+ * @param neighbourhoodFunction    the estimated number of ordered node pairs within the distance of the index, including pairs of a node with itself
+ * @param effectiveDiameter        the interpolated distance within which 90% of the connected pairs of distinct nodes are
+ * @param sampledSources           the number of sources the neighbourhood function is estimated from
+ * @param diameterLowerBound       the largest distance found between any two nodes
+ * @param diameterUpperBound       no two connected nodes are further apart
+ * @param radiusLowerBound         lower bound on the radius of the component of the node with the highest degree
+ * @param radiusUpperBound         upper bound on the radius of the component of the node with the highest degree
+ * @param eccentricityLowerBounds  the largest distance found from every node, exact for nodes on the boundary of the bounding traversal
+ */
+public record DistanceStatisticsResult(
+    double[] neighbourhoodFunction,
+    double effectiveDiameter,
+    long sampledSources,
+    long diameterLowerBound,
+    long diameterUpperBound,
+    long radiusLowerBound,
+    long radiusUpperBound,
+    HugeAtomicIntArray eccentricityLowerBounds
+) {}
@@ -28,10 +28,15 @@ import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.msbfs.BfsConsumer;
+import org.neo4j.gds.msbfs.HyperBall;
 import org.neo4j.gds.msbfs.MultiSourceBFSAccessMethods;
+import org.neo4j.gds.msbfs.Pivots;
 
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
+import java.util.function.LongToDoubleFunction;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public class HarmonicCentrality extends Algorithm<HarmonicResult> {
 
@@ -39,6 +44,8 @@ public class HarmonicCentrality extends Algorithm<HarmonicResult> {
     private final long nodeCount;
     private final ExecutorService executorService;
     private final HugeAtomicDoubleArray inverseFarness;
+    private final Optional<Pivots> pivots;
+    private final boolean hyperBall;
 
     private final Graph graph;
 
@@ -47,6 +54,17 @@ public class HarmonicCentrality extends Algorithm<HarmonicResult> {
         Concurrency concurrency,
         ExecutorService executorService,
         ProgressTracker progressTracker
+    ) {
+        this(graph, concurrency, Optional.empty(), false, executorService, progressTracker);
+    }
+
+    public HarmonicCentrality(
+        Graph graph,
+        Concurrency concurrency,
+        Optional<Pivots> pivots,
+        boolean hyperBall,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
         this.graph = graph;
@@ -54,37 +72,64 @@ public class HarmonicCentrality extends Algorithm<HarmonicResult> {
         this.executorService = executorService;
         this.inverseFarness = HugeAtomicDoubleArray.of(graph.nodeCount(), ParallelDoublePageCreator.passThrough(concurrency));
         this.nodeCount = graph.nodeCount();
+        this.pivots = pivots;
+        this.hyperBall = hyperBall;
     }
 
     @Override
     public HarmonicResult compute() {
         progressTracker.beginSubTask();
 
-        final BfsConsumer consumer = (nodeId, depth, sourceNodeIds) -> {
-            double len = sourceNodeIds.size();
-            inverseFarness.update(nodeId, currentValue -> currentValue + (len * (1.0 / depth)));
-        };
+        if (hyperBall) {
+            var estimates = new HyperBall(graph, concurrency, progressTracker, terminationFlag).compute();
+            normalize(nodeId -> estimates.inverseFarness().get(nodeId), nodeId -> nodeCount - 1);
+        } else {
+            final BfsConsumer consumer = (nodeId, depth, sourceNodeIds) -> {
+                double len = sourceNodeIds.size();
+                inverseFarness.update(nodeId, currentValue -> currentValue + (len * (1.0 / depth)));
+            };
+
+            MultiSourceBFSAccessMethods.aggregatedNeighborProcessing(
+                graph.nodeCount(),
+                graph,
+                consumer,
+                pivots.map(Pivots::nodes),
+                terminationFlag
+            ).run(concurrency, executorService);
 
-        MultiSourceBFSAccessMethods.aggregatedNeighborProcessing(
-            graph.nodeCount(),
-            graph,
-            consumer,
-            Optional.empty(),
-            terminationFlag
-        ).run(concurrency, executorService);
+            if (pivots.isPresent()) {
+                // the mean over the sampled sources estimates the mean over all other nodes
+                var sample = pivots.get();
+                progressTracker.logInfo(formatWithLocale(
+                    "Sampled %d of %d source nodes, every estimated centrality is within %.4f of the exact centrality with probability of at least %.4f",
+                    sample.nodes().length,
+                    nodeCount,
+                    sample.errorBound(1.0D),
+                    1.0D - 1.0D / Math.max(nodeCount, 1)
+                ));
+                normalize(inverseFarness::get, sample::sampleSizeFor);
+            } else {
+                normalize(inverseFarness::get, nodeId -> nodeCount - 1);
+            }
+        }
 
+        progressTracker.endSubTask();
+
+        return new HarmonicResult(inverseFarness);
+    }
+
+    private void normalize(LongToDoubleFunction sum, LongToDoubleFunction sourceCount) {
         var tasks = PartitionUtils.rangePartition(
             concurrency,
             nodeCount,
-            partition -> (Runnable) () -> partition.consume(nodeId -> inverseFarness.update(nodeId, currentValue -> currentValue / (double) (nodeCount - 1))),
+            partition -> (Runnable) () -> partition.consume(nodeId -> {
+                double count = sourceCount.applyAsDouble(nodeId);
+                inverseFarness.set(nodeId, count == 0 ? 0.0D : sum.applyAsDouble(nodeId) / count);
+            }),
             Optional.empty()
         );
 
         ParallelUtil.run(tasks, executorService);
-
-        progressTracker.endSubTask();
-
-        return new HarmonicResult(inverseFarness);
     }
 
 }
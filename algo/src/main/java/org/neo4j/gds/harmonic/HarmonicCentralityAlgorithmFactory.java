@@ -23,6 +23,7 @@ import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.msbfs.Pivots;
 
 public class HarmonicCentralityAlgorithmFactory<CONFIG extends HarmonicCentralityBaseConfig> extends GraphAlgorithmFactory<HarmonicCentrality, CONFIG> {
     @Override
@@ -36,9 +37,13 @@ public class HarmonicCentralityAlgorithmFactory<CONFIG extends HarmonicCentralit
         HarmonicCentralityBaseConfig configuration,
         ProgressTracker progressTracker
     ) {
+        var pivots = configuration.samplingSize()
+            .map(samplingSize -> Pivots.sample(graph.nodeCount(), samplingSize, configuration.samplingSeed()));
         return new HarmonicCentrality(
             graph,
             configuration.concurrency(),
+            pivots,
+            configuration.hyperBall(),
             DefaultPool.INSTANCE,
             progressTracker
         );
@@ -19,9 +19,37 @@
  */
 package org.neo4j.gds.harmonic;
 
+import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
 
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public interface HarmonicCentralityBaseConfig  extends AlgoBaseConfig
 {
+
+    Optional<Long> samplingSize();
+
+    Optional<Long> samplingSeed();
+
+    default boolean hyperBall() {
+        return false;
+    }
+
+    @Configuration.Check
+    default void validateApproximation() {
+        samplingSize().ifPresent(samplingSize -> {
+            if (samplingSize <= 0) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Configuration parameter 'samplingSize' must be a positive number, got %d.",
+                    samplingSize
+                ));
+            }
+            if (hyperBall()) {
+                throw new IllegalArgumentException(
+                    "Configuration parameters 'samplingSize' and 'hyperBall' cannot be combined.");
+            }
+        });
+    }
 }
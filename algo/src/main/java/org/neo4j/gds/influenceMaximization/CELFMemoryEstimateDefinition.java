@@ -33,13 +33,23 @@ public final class CELFMemoryEstimateDefinition implements MemoryEstimateDefinit
     public static final int DEFAULT_BATCH_SIZE = 10;
 
     private final CELFParameters celfParameters;
+    private final boolean reverseInfluenceSampling;
 
     public CELFMemoryEstimateDefinition(CELFParameters celfParameters) {
+        this(celfParameters, false);
+    }
+
+    public CELFMemoryEstimateDefinition(CELFParameters celfParameters, boolean reverseInfluenceSampling) {
         this.celfParameters = celfParameters;
+        this.reverseInfluenceSampling = reverseInfluenceSampling;
     }
 
     @Override
     public MemoryEstimation memoryEstimation() {
+        if (reverseInfluenceSampling) {
+            return ReverseInfluenceSampling.memoryEstimation(celfParameters);
+        }
+
         MemoryEstimations.Builder builder = MemoryEstimations.builder(CELF.class);
 
         //CELF class
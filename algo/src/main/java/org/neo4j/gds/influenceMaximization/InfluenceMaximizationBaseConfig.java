@@ -38,6 +38,14 @@ public interface InfluenceMaximizationBaseConfig extends AlgoBaseConfig, RandomS
         return 100;
     }
 
+    /**
+     * Choose seeds by greedy maximum coverage of sampled reverse reachable sets instead of Monte-Carlo simulations.
+     * Requires undirected or inverse indexed relationships.
+     */
+    default boolean reverseInfluenceSampling() {
+        return false;
+    }
+
     @Configuration.Ignore
     default CELFParameters toParameters() {
         return new CELFParameters(
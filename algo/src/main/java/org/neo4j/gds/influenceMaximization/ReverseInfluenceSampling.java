@@ -0,0 +1,440 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.influenceMaximization;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongDoubleScatterMap;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+/**
+ * Influence maximization under the independent cascade model using reverse influence sampling (IMM).
+ * <p>
+ * A reverse reachable set contains all nodes that activate a uniformly chosen root in a random cascade,
+ * found by traversing the relationships backwards and keeping each with the propagation probability.
+ * The fraction of sets covered by a seed set estimates its spread, so the seeds are chosen by
+ * greedy maximum coverage over the sets. The number of sets is chosen such that the seed set is a
+ * {@code (1 - 1/e - epsilon)}-approximation with probability of at least {@code 1 - 1/n}.
+ * <p>
+ * The sets are sampled in parallel into compact primitive storage, no cascades are simulated per candidate.
+ * Requires an undirected graph or an inverse index to traverse relationships backwards.
+ *
+ * specified in: Tang et al., "Influence Maximization in Near-Linear Time: A Martingale Approach", SIGMOD 2015
+ */
+public final class ReverseInfluenceSampling extends Algorithm<CELFResult> {
+
+    // approximation error of the seed set
+    private static final double EPSILON = 0.1;
+    // the approximation holds with probability of at least 1 - 1/n^L
+    private static final double L = 1;
+
+    private final Graph graph;
+    private final Concurrency concurrency;
+    private final double propagationProbability;
+    private final long randomSeed;
+    private final int seedSetCount;
+    private final long nodeCount;
+    private final boolean undirected;
+
+    private final ReverseReachableSets reverseReachableSets;
+
+    public ReverseInfluenceSampling(
+        Graph graph,
+        CELFParameters parameters,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        if (!graph.characteristics().isUndirected() && !graph.characteristics().isInverseIndexed()) {
+            throw new IllegalArgumentException(
+                "Reverse influence sampling requires relationships to be undirected or inverse indexed.");
+        }
+        this.graph = graph;
+        this.concurrency = parameters.concurrency();
+        this.propagationProbability = parameters.propagationProbability();
+        this.randomSeed = parameters.randomSeed();
+        this.seedSetCount = (parameters.seedSetSize() <= graph.nodeCount())
+            ? parameters.seedSetSize()
+            : (int) graph.nodeCount(); // k <= nodeCount
+        this.nodeCount = graph.nodeCount();
+        this.undirected = graph.characteristics().isUndirected();
+        this.terminationFlag = terminationFlag;
+        this.reverseReachableSets = new ReverseReachableSets();
+    }
+
+    static MemoryEstimation memoryEstimation(CELFParameters parameters) {
+        return MemoryEstimations.builder(ReverseInfluenceSampling.class)
+            .fixed("seedSet", Estimate.sizeOfLongDoubleScatterMap(parameters.seedSetSize()))
+            .perThread("visited", MemoryEstimations.builder().perNode("visited", Estimate::sizeOfBitset).build())
+            .perNode("coverage", HugeAtomicLongArray::memoryEstimation)
+            .perNode("setOffsetsOfNodes", HugeLongArray::memoryEstimation)
+            .add("coverage priority queue", HugeLongPriorityQueue.memoryEstimation())
+            .perGraphDimension("reverse reachable sets", (graphDimensions, concurrency) -> {
+                // the spread is at most the node count and at least the seed set size,
+                // every set contains at least its root
+                long nodeCount = Math.max(graphDimensions.nodeCount(), 1);
+                int seedSetSize = (int) Math.min(parameters.seedSetSize(), nodeCount);
+                double lambda = lambdaStar(nodeCount, seedSetSize);
+                long minSetCount = (long) Math.ceil(lambda / nodeCount);
+                long maxSetCount = (long) Math.ceil(lambda * (1 + epsilonPrime()) / seedSetSize);
+                return MemoryRange.of(
+                    setsMemoryEstimation(minSetCount, minSetCount),
+                    setsMemoryEstimation(maxSetCount, maxEntryCount(nodeCount, maxSetCount, lambda))
+                );
+            })
+            .build();
+    }
+
+    /**
+     * The expected size of a set is the average spread of a single node, which is at most the optimal spread.
+     * The number of sets is inversely proportional to the lower bound of the optimal spread,
+     * which the greedy seeds approximate by a factor of {@code (1 - 1/e) / (1 + epsilon')}.
+     * So the sets are expected to hold at most {@code lambda * (1 + epsilon') / (1 - 1/e)} nodes in total.
+     */
+    private static long maxEntryCount(long nodeCount, long setCount, double lambda) {
+        long expectedEntryCount = (long) Math.ceil(lambda * (1 + epsilonPrime()) / (1 - 1 / Math.E));
+        // every set contains at least its root and at most all nodes
+        long upperBound = setCount > Long.MAX_VALUE / nodeCount ? Long.MAX_VALUE : setCount * nodeCount;
+        return Math.min(Math.max(expectedEntryCount, setCount), upperBound);
+    }
+
+    private static long setsMemoryEstimation(long setCount, long entryCount) {
+        // the storage grows by half when sets are appended
+        long nodesCapacity = entryCount + (entryCount >> 1);
+        return HugeLongArray.memoryEstimation(setCount + 1)      // offsets
+               + HugeLongArray.memoryEstimation(nodesCapacity)   // nodes
+               + HugeLongArray.memoryEstimation(entryCount)      // sampled chunks, before they are appended
+               + HugeLongArray.memoryEstimation(setCount)        // ends of the sampled chunks
+               + HugeLongArray.memoryEstimation(entryCount)      // sets of nodes
+               + Estimate.sizeOfBitset(setCount);                // covered
+    }
+
+    @Override
+    public CELFResult compute() {
+        if (nodeCount == 0) {
+            return new CELFResult(new LongDoubleScatterMap());
+        }
+        progressTracker.beginSubTask();
+
+        progressTracker.beginSubTask();
+        double lowerBound = estimateSpreadLowerBound();
+        progressTracker.endSubTask();
+
+        // the sets sampled for the lower bound are reused and count as progress
+        long sampledSets = reverseReachableSets.size();
+        long setCount = Math.max((long) Math.ceil(lambdaStar(nodeCount, seedSetCount) / lowerBound), sampledSets);
+        progressTracker.beginSubTask(setCount);
+        progressTracker.logProgress(sampledSets);
+        sample(setCount, true);
+        progressTracker.endSubTask();
+
+        progressTracker.beginSubTask(seedSetCount);
+        var seedSet = selectSeeds(true);
+        progressTracker.endSubTask();
+
+        double spreadPerSet = (double) nodeCount / reverseReachableSets.size();
+        var seedSetNodes = new LongDoubleScatterMap(seedSetCount);
+        for (int i = 0; i < seedSetCount; i++) {
+            seedSetNodes.put(seedSet.nodes()[i], seedSet.coverage()[i] * spreadPerSet);
+        }
+
+        progressTracker.endSubTask();
+        return new CELFResult(seedSetNodes);
+    }
+
+    /**
+     * Samples increasingly many sets until the spread of the greedily chosen seeds
+     * is large enough to bound the optimal spread from below.
+     */
+    private double estimateSpreadLowerBound() {
+        double n = Math.max(nodeCount, 2);
+        double epsilonPrime = epsilonPrime();
+        double lambdaPrime = (2 + 2.0 / 3 * epsilonPrime)
+                             * (logBinomial(nodeCount, seedSetCount) + ell(n) * Math.log(n) + Math.log(log2(n)))
+                             * n / (epsilonPrime * epsilonPrime);
+
+        for (int i = 1; i < log2(n); i++) {
+            terminationFlag.assertRunning();
+            double x = n / Math.pow(2, i);
+            sample((long) Math.ceil(lambdaPrime / x), false);
+            double spread = (double) nodeCount * selectSeeds(false).coveredSets() / reverseReachableSets.size();
+            progressTracker.logProgress();
+            if (spread >= (1 + epsilonPrime) * x) {
+                return spread / (1 + epsilonPrime);
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * @return the maximum number of sampling rounds to bound the optimal spread from below
+     */
+    public static long lowerBoundRounds(long nodeCount) {
+        return Math.max((long) Math.ceil(log2(Math.max(nodeCount, 2))) - 1, 0);
+    }
+
+    private static double lambdaStar(long nodeCount, int seedSetCount) {
+        double n = Math.max(nodeCount, 2);
+        double alpha = Math.sqrt(ell(n) * Math.log(n) + Math.log(2));
+        double beta = Math.sqrt((1 - 1 / Math.E) * (logBinomial(nodeCount, seedSetCount) + ell(n) * Math.log(n) + Math.log(2)));
+        double factor = (1 - 1 / Math.E) * alpha + beta;
+        return 2 * n * factor * factor / (EPSILON * EPSILON);
+    }
+
+    private static double epsilonPrime() {
+        return Math.sqrt(2) * EPSILON;
+    }
+
+    // increased such that the approximation still holds after the lower bound has been estimated
+    private static double ell(double n) {
+        return L * (1 + Math.log(2) / Math.log(n));
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / Math.log(2);
+    }
+
+    private static double logBinomial(long n, int k) {
+        double result = 0;
+        for (int i = 0; i < k; i++) {
+            result += Math.log((double) (n - i) / (i + 1));
+        }
+        return result;
+    }
+
+    /**
+     * Samples sets until there are at least the given number of them.
+     * Every set uses its own random number generator, so the sets do not depend on the concurrency.
+     */
+    private void sample(long setCount, boolean logProgress) {
+        long firstSet = reverseReachableSets.size();
+        if (setCount <= firstSet) {
+            return;
+        }
+
+        var partitions = PartitionUtils.rangePartition(
+            concurrency,
+            setCount - firstSet,
+            Function.identity(),
+            Optional.empty()
+        );
+        var chunks = new ReverseReachableSets.Chunk[partitions.size()];
+        var tasks = new ArrayList<Runnable>(partitions.size());
+        for (int index = 0; index < partitions.size(); index++) {
+            var partition = partitions.get(index);
+            int chunkIndex = index;
+            tasks.add(() -> {
+                chunks[chunkIndex] = new SamplingTask(graph.concurrentCopy()).sample(
+                    firstSet + partition.startNode(),
+                    partition.nodeCount()
+                );
+                if (logProgress) {
+                    progressTracker.logProgress(partition.nodeCount());
+                }
+            });
+        }
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .run();
+
+        reverseReachableSets.append(chunks);
+    }
+
+    /**
+     * Greedily chooses the nodes that cover the most sets not yet covered by previously chosen nodes.
+     */
+    private SeedSet selectSeeds(boolean logProgress) {
+        long setCount = reverseReachableSets.size();
+
+        var coverage = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        forEachSet(set -> forEachNodeOfSet(set, node -> coverage.getAndAdd(node, 1)));
+
+        // index the sets of every node, coverage is used as insert position and holds the end of each range afterward
+        var setOffsets = HugeLongArray.newArray(nodeCount + 1);
+        long offset = 0;
+        for (long node = 0; node < nodeCount; node++) {
+            setOffsets.set(node, offset);
+            long count = coverage.get(node);
+            coverage.set(node, offset);
+            offset += count;
+        }
+        setOffsets.set(nodeCount, offset);
+        var setsOfNodes = HugeLongArray.newArray(offset);
+        forEachSet(set -> forEachNodeOfSet(set, node -> setsOfNodes.set(coverage.getAndAdd(node, 1), set)));
+
+        var queue = new HugeLongPriorityQueue(nodeCount) {
+            @Override
+            protected boolean lessThan(long a, long b) {
+                return (Double.compare(costValues.get(a), costValues.get(b)) == 0) // when equal costs
+                    ? a < b                                                        // the smaller node ID is less
+                    : costValues.get(a) > costValues.get(b);                       // otherwise compare the costs
+            }
+        };
+        for (long node = 0; node < nodeCount; node++) {
+            long count = setOffsets.get(node + 1) - setOffsets.get(node);
+            coverage.set(node, count);
+            queue.add(node, count);
+        }
+
+        var covered = new BitSet(setCount);
+        var seedNodes = new long[seedSetCount];
+        var seedCoverage = new long[seedSetCount];
+        for (int i = 0; i < seedSetCount; i++) {
+            // the coverage of nodes only decreases, so a node whose queued coverage is current is the best one
+            long node = queue.top();
+            while (coverage.get(node) != (long) queue.cost(node)) {
+                queue.set(node, coverage.get(node));
+                node = queue.top();
+            }
+            queue.pop();
+
+            seedNodes[i] = node;
+            seedCoverage[i] = coverage.get(node);
+            for (long index = setOffsets.get(node); index < setOffsets.get(node + 1); index++) {
+                long set = setsOfNodes.get(index);
+                if (!covered.get(set)) {
+                    covered.set(set);
+                    forEachNodeOfSet(set, nodeOfSet -> coverage.set(nodeOfSet, coverage.get(nodeOfSet) - 1));
+                }
+            }
+            if (logProgress) {
+                progressTracker.logProgress();
+            }
+        }
+
+        return new SeedSet(seedNodes, seedCoverage);
+    }
+
+    private void forEachNodeOfSet(long set, LongConsumer consumer) {
+        long end = reverseReachableSets.end(set);
+        for (long index = reverseReachableSets.start(set); index < end; index++) {
+            consumer.accept(reverseReachableSets.node(index));
+        }
+    }
+
+    private void forEachSet(LongConsumer consumer) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            reverseReachableSets.size(),
+            partition -> (Runnable) () -> {
+                long end = partition.startNode() + partition.nodeCount();
+                for (long set = partition.startNode(); set < end; set++) {
+                    consumer.accept(set);
+                }
+            },
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .run();
+    }
+
+    private record SeedSet(long[] nodes, long[] coverage) {
+        long coveredSets() {
+            long sum = 0;
+            for (long count : coverage) {
+                sum += count;
+            }
+            return sum;
+        }
+    }
+
+    private final class SamplingTask implements RelationshipConsumer {
+
+        private final Graph localGraph;
+        private final BitSet visited;
+        private HugeLongArray nodes;
+        private long nodeCountOfSets;
+        private SplittableRandom random;
+
+        private SamplingTask(Graph localGraph) {
+            this.localGraph = localGraph;
+            this.visited = new BitSet(nodeCount);
+        }
+
+        ReverseReachableSets.Chunk sample(long firstSet, long setCount) {
+            // paged storage, the sets of a task are not limited to the size of a single array
+            this.nodes = HugeLongArray.newArray(Math.max(setCount, 1));
+            this.nodeCountOfSets = 0;
+            var ends = HugeLongArray.newArray(setCount);
+            for (long set = 0; set < setCount; set++) {
+                random = new SplittableRandom(randomSeed + firstSet + set);
+                long start = nodeCountOfSets;
+
+                add(random.nextLong(nodeCount));
+                for (long head = start; head < nodeCountOfSets; head++) {
+                    long node = nodes.get(head);
+                    if (undirected) {
+                        localGraph.forEachRelationship(node, this);
+                    } else {
+                        localGraph.forEachInverseRelationship(node, this);
+                    }
+                }
+
+                for (long index = start; index < nodeCountOfSets; index++) {
+                    visited.clear(nodes.get(index));
+                }
+                ends.set(set, nodeCountOfSets);
+            }
+            return new ReverseReachableSets.Chunk(nodes, nodeCountOfSets, ends);
+        }
+
+        private void add(long node) {
+            // grow by half to amortize copying
+            if (nodeCountOfSets == nodes.size()) {
+                nodes = nodes.copyOf(nodes.size() + (nodes.size() >> 1) + 1);
+            }
+            visited.set(node);
+            nodes.set(nodeCountOfSets++, node);
+        }
+
+        @Override
+        public boolean accept(long source, long target) {
+            if (!visited.get(target) && random.nextDouble() < propagationProbability) {
+                add(target);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.influenceMaximization;
+
+import org.neo4j.gds.collections.ha.HugeLongArray;
+
+/**
+ * Reverse reachable sets in compact storage.
+ * The nodes of all sets are stored consecutively, set {@code i} occupies the range {@code [start(i), end(i))}.
+ */
+final class ReverseReachableSets {
+
+    private HugeLongArray nodes;
+    private HugeLongArray offsets;
+    private long setCount;
+    private long entryCount;
+
+    ReverseReachableSets() {
+        this.nodes = HugeLongArray.newArray(0);
+        this.offsets = HugeLongArray.newArray(1);
+    }
+
+    long size() {
+        return setCount;
+    }
+
+    long entryCount() {
+        return entryCount;
+    }
+
+    long start(long set) {
+        return offsets.get(set);
+    }
+
+    long end(long set) {
+        return offsets.get(set + 1);
+    }
+
+    long node(long index) {
+        return nodes.get(index);
+    }
+
+    /**
+     * Appends the sets of the given chunks, in order.
+     */
+    void append(Chunk[] chunks) {
+        long newSetCount = setCount;
+        long newEntryCount = entryCount;
+        for (var chunk : chunks) {
+            newSetCount += chunk.ends().size();
+            newEntryCount += chunk.nodeCount();
+        }
+
+        // grow at least by half to amortize copying over the sampling rounds
+        if (newEntryCount > nodes.size()) {
+            nodes = nodes.copyOf(Math.max(newEntryCount, nodes.size() + (nodes.size() >> 1)));
+        }
+        if (newSetCount + 1 > offsets.size()) {
+            offsets = offsets.copyOf(Math.max(newSetCount + 1, offsets.size() + (offsets.size() >> 1)));
+        }
+
+        for (var chunk : chunks) {
+            long base = entryCount;
+            var chunkNodes = chunk.nodes();
+            for (long index = 0; index < chunk.nodeCount(); index++) {
+                nodes.set(entryCount++, chunkNodes.get(index));
+            }
+            var chunkEnds = chunk.ends();
+            for (long index = 0; index < chunkEnds.size(); index++) {
+                offsets.set(++setCount, base + chunkEnds.get(index));
+            }
+        }
+    }
+
+    /**
+     * Sets sampled by a single task, the first {@code nodeCount} entries of {@code nodes} hold their nodes
+     * and the nodes of set {@code i} end at {@code ends[i]}.
+     */
+    record Chunk(HugeLongArray nodes, long nodeCount, HugeLongArray ends) {}
+}
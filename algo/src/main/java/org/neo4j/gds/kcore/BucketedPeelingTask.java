@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.kcore;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.haa.HugeAtomicIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Peels nodes level by level using a window of degree buckets instead of scanning the whole node range at every level.
+ * A node is only re-inserted into a bucket when one of its neighbours is peeled and its degree drops into the window.
+ * Nodes with a degree beyond the window are picked up by a {@link Phase#FILL} pass once the window is exhausted.
+ */
+class BucketedPeelingTask implements Runnable {
+
+    private final Graph localGraph;
+    private final HugeAtomicIntArray currentDegrees;
+    private final HugeIntArray core;
+    private final HugeLongArrayStack examinationStack;
+    private final LongArrayList[] buckets;
+    private final AtomicLong nodeIndex;
+    private final AtomicLong remainingNodes;
+    private final int chunkSize;
+    private final ProgressTracker progressTracker;
+    private NodeProvider nodeProvider;
+    private Phase phase;
+    private int windowStart;
+    private int level;
+    private int smallestRemainingDegree;
+    private long peeledNodes;
+
+    BucketedPeelingTask(
+        Graph localGraph,
+        HugeAtomicIntArray currentDegrees,
+        HugeIntArray core,
+        AtomicLong nodeIndex,
+        AtomicLong remainingNodes,
+        int chunkSize,
+        int windowSize,
+        NodeProvider nodeProvider,
+        ProgressTracker progressTracker
+    ) {
+        this.localGraph = localGraph;
+        this.currentDegrees = currentDegrees;
+        this.core = core;
+        this.examinationStack = HugeLongArrayStack.newStack(localGraph.nodeCount());
+        this.buckets = new LongArrayList[windowSize];
+        for (int bucket = 0; bucket < windowSize; bucket++) {
+            this.buckets[bucket] = new LongArrayList();
+        }
+        this.nodeIndex = nodeIndex;
+        this.remainingNodes = remainingNodes;
+        this.chunkSize = chunkSize;
+        this.nodeProvider = nodeProvider;
+        this.progressTracker = progressTracker;
+        this.phase = Phase.FILL;
+    }
+
+    static MemoryEstimation memoryEstimation(int windowSize) {
+        return MemoryEstimations.builder(BucketedPeelingTask.class)
+            .add("examinationStack", HugeLongArrayStack.memoryEstimation())
+            .fixed("buckets", Estimate.sizeOfObjectArray(windowSize) + windowSize * Estimate.sizeOfLongArrayList(0))
+            .build();
+    }
+
+    /**
+     * Every node enters a bucket at most once per degree value, so across all tasks the buckets of one window
+     * hold at most one entry per node plus one entry per decremented relationship.
+     */
+    static MemoryRange bucketEntriesEstimation(long nodeCount, long relationshipCount) {
+        return MemoryRange.of(0, Estimate.sizeOfLongArray(nodeCount + relationshipCount));
+    }
+
+    void updateNodeProvider(NodeProvider nodeProvider) {
+        this.nodeProvider = nodeProvider;
+    }
+
+    void setWindowStart(int windowStart) {
+        this.windowStart = windowStart;
+    }
+
+    void setLevel(int level) {
+        this.level = level;
+    }
+
+    void setPhase(Phase phase) {
+        this.phase = phase;
+    }
+
+    int getSmallestRemainingDegree() {
+        return smallestRemainingDegree;
+    }
+
+    long getPeeledNodes() {
+        return peeledNodes;
+    }
+
+    /**
+     * @return the smallest level in {@code [fromLevel, windowEnd)} for which this task holds bucket entries, or -1
+     */
+    int nextNonEmptyLevel(int fromLevel) {
+        for (int bucket = fromLevel - windowStart; bucket < buckets.length; bucket++) {
+            if (!buckets[bucket].isEmpty()) {
+                return windowStart + bucket;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void run() {
+        if (phase == Phase.FILL) {
+            fill();
+        } else {
+            peel();
+        }
+    }
+
+    private void fill() {
+        long upperBound = nodeProvider.size();
+        int windowEnd = windowStart + buckets.length;
+        smallestRemainingDegree = -1;
+        long offset;
+        while ((offset = nodeIndex.getAndAdd(chunkSize)) < upperBound) {
+            var currentChunk = Math.min(offset + chunkSize, upperBound);
+            for (long indexId = offset; indexId < currentChunk; indexId++) {
+                long nodeId = nodeProvider.node(indexId);
+                if (core.get(nodeId) != KCoreDecomposition.UNASSIGNED) {
+                    continue;
+                }
+                int nodeDegree = currentDegrees.get(nodeId);
+                if (smallestRemainingDegree == -1 || nodeDegree < smallestRemainingDegree) {
+                    smallestRemainingDegree = nodeDegree;
+                }
+                if (nodeDegree >= windowStart && nodeDegree < windowEnd) {
+                    buckets[nodeDegree - windowStart].add(nodeId);
+                }
+            }
+        }
+    }
+
+    private void peel() {
+        var bucket = buckets[level - windowStart];
+        var bucketBuffer = bucket.buffer;
+        for (int i = 0; i < bucket.elementsCount; i++) {
+            long nodeId = bucketBuffer[i];
+            // a node peeled by another task of this level may already have decremented the degree below the level
+            if (core.get(nodeId) == KCoreDecomposition.UNASSIGNED && currentDegrees.get(nodeId) <= level) {
+                examinationStack.push(nodeId);
+            }
+        }
+        bucket.release();
+
+        peeledNodes = 0;
+        while (!examinationStack.isEmpty()) {
+            long nodeId = examinationStack.pop();
+            core.set(nodeId, level);
+            peeledNodes++;
+
+            relax(nodeId);
+        }
+        remainingNodes.addAndGet(-peeledNodes);
+        progressTracker.logProgress(peeledNodes);
+    }
+
+    private void relax(long nodeId) {
+        int windowEnd = windowStart + buckets.length;
+        localGraph.forEachRelationship(nodeId, (s, t) -> {
+            if (core.get(t) == KCoreDecomposition.UNASSIGNED) {
+                int previousDegree = currentDegrees.getAndAdd(t, -1);
+                if (previousDegree == level + 1) {
+                    examinationStack.push(t);
+                } else if (previousDegree > level + 1 && previousDegree - 1 < windowEnd) {
+                    buckets[previousDegree - 1 - windowStart].add(t);
+                }
+            }
+            return true;
+        });
+    }
+
+    enum Phase {
+        FILL, PEEL
+    }
+}
@@ -48,16 +48,44 @@ public class KCoreDecomposition extends Algorithm<KCoreDecompositionResult> {
     //To find relevant vertices  at each step we need to iterate from 0... nodeCount
     //When only 2% nodes remain in the graph, we can create a smaller array to loop over these ones only
     static double REBUILD_CONSTANT = 0.02;
+    //Number of consecutive core levels covered by the open buckets of the bucketed peeling
+    static final int BUCKET_WINDOW_SIZE = 128;
+    private final boolean bucketedPeeling;
+    private final int bucketWindowSize;
 
     public KCoreDecomposition(Graph graph, Concurrency concurrency, ProgressTracker progressTracker, TerminationFlag terminationFlag) {
-        this(graph, concurrency, progressTracker, CHUNK_SIZE, terminationFlag);
+        this(graph, concurrency, false, progressTracker, terminationFlag);
+    }
+
+    public KCoreDecomposition(
+        Graph graph,
+        Concurrency concurrency,
+        boolean bucketedPeeling,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        this(graph, concurrency, progressTracker, CHUNK_SIZE, bucketedPeeling, BUCKET_WINDOW_SIZE, terminationFlag);
     }
 
     KCoreDecomposition(Graph graph, Concurrency concurrency, ProgressTracker progressTracker, int chunkSize, TerminationFlag terminationFlag) {
+        this(graph, concurrency, progressTracker, chunkSize, false, BUCKET_WINDOW_SIZE, terminationFlag);
+    }
+
+    KCoreDecomposition(
+        Graph graph,
+        Concurrency concurrency,
+        ProgressTracker progressTracker,
+        int chunkSize,
+        boolean bucketedPeeling,
+        int bucketWindowSize,
+        TerminationFlag terminationFlag
+    ) {
         super(progressTracker);
         this.graph = graph;
         this.concurrency = concurrency;
         this.chunkSize = chunkSize;
+        this.bucketedPeeling = bucketedPeeling;
+        this.bucketWindowSize = bucketWindowSize;
         this.terminationFlag = terminationFlag;
     }
 
@@ -71,7 +99,6 @@ public class KCoreDecomposition extends Algorithm<KCoreDecompositionResult> {
         );
 
         HugeIntArray core = HugeIntArray.newArray(graph.nodeCount());
-        int degeneracy = 0;
 
         AtomicLong degreeZeroNodes = new AtomicLong();
 
@@ -95,6 +122,22 @@ public class KCoreDecomposition extends Algorithm<KCoreDecompositionResult> {
         AtomicLong remainingNodes = new AtomicLong(graph.nodeCount() - degreeZeroNodes.get());
         progressTracker.logProgress(degreeZeroNodes.get());
 
+        int degeneracy = bucketedPeeling
+            ? peelWithBuckets(currentDegrees, core, remainingNodes, rebuildLimit)
+            : peelByScanning(currentDegrees, core, remainingNodes, rebuildLimit);
+
+        progressTracker.endSubTask("KCoreDecomposition");
+
+        return ImmutableKCoreDecompositionResult.of(core, degeneracy);
+    }
+
+    private int peelByScanning(
+        HugeAtomicIntArray currentDegrees,
+        HugeIntArray core,
+        AtomicLong remainingNodes,
+        long rebuildLimit
+    ) {
+        int degeneracy = 0;
         AtomicLong nodeIndex = new AtomicLong(0);
 
         int scanningDegree = 1;
@@ -105,7 +148,10 @@ public class KCoreDecomposition extends Algorithm<KCoreDecompositionResult> {
         while (remainingNodes.get() > 0) {
 
             if (!hasRebuild && remainingNodes.get() < rebuildLimit) {
-                rebuild(tasks, core, remainingNodes.get());
+                var reducedNodeProvider = rebuild(core, remainingNodes.get());
+                for (var task : tasks) {
+                    task.updateNodeProvider(reducedNodeProvider);
+                }
                 hasRebuild = true;
             }
 
@@ -144,9 +190,86 @@ public class KCoreDecomposition extends Algorithm<KCoreDecompositionResult> {
             }
 
         }
-        progressTracker.endSubTask("KCoreDecomposition");
+        return degeneracy;
+    }
 
-        return ImmutableKCoreDecompositionResult.of(core, degeneracy);
+    /**
+     * Peels the graph using a window of degree buckets that only receive nodes whose degree changed.
+     * The node range is only scanned again once all levels of the current window are exhausted,
+     * so the number of full scans drops from the degeneracy to the degeneracy divided by the window size.
+     */
+    private int peelWithBuckets(
+        HugeAtomicIntArray currentDegrees,
+        HugeIntArray core,
+        AtomicLong remainingNodes,
+        long rebuildLimit
+    ) {
+        int degeneracy = 0;
+        AtomicLong nodeIndex = new AtomicLong(0);
+        var tasks = createBucketedTasks(currentDegrees, core, nodeIndex, remainingNodes);
+        boolean hasRebuild = false;
+        int windowStart = 1;
+
+        while (remainingNodes.get() > 0) {
+            terminationFlag.assertRunning();
+
+            if (!hasRebuild && remainingNodes.get() < rebuildLimit) {
+                var reducedNodeProvider = rebuild(core, remainingNodes.get());
+                for (var task : tasks) {
+                    task.updateNodeProvider(reducedNodeProvider);
+                }
+                hasRebuild = true;
+            }
+
+            int smallestRemainingDegree = fillBuckets(tasks, nodeIndex, windowStart);
+            if (smallestRemainingDegree >= windowStart + bucketWindowSize) {
+                // nothing falls into the window, move it directly to the smallest remaining degree
+                windowStart = smallestRemainingDegree;
+                fillBuckets(tasks, nodeIndex, windowStart);
+            }
+
+            int level = nextNonEmptyLevel(tasks, windowStart);
+            while (level != -1 && remainingNodes.get() > 0) {
+                for (var task : tasks) {
+                    task.setLevel(level);
+                    task.setPhase(BucketedPeelingTask.Phase.PEEL);
+                }
+                RunWithConcurrency.builder().tasks(tasks).concurrency(concurrency).run();
+
+                if (tasks.stream().anyMatch(task -> task.getPeeledNodes() > 0)) {
+                    degeneracy = level;
+                }
+                level = nextNonEmptyLevel(tasks, level + 1);
+            }
+
+            windowStart += bucketWindowSize;
+        }
+        return degeneracy;
+    }
+
+    private int fillBuckets(List<BucketedPeelingTask> tasks, AtomicLong nodeIndex, int windowStart) {
+        nodeIndex.set(0L);
+        for (var task : tasks) {
+            task.setWindowStart(windowStart);
+            task.setPhase(BucketedPeelingTask.Phase.FILL);
+        }
+        RunWithConcurrency.builder().tasks(tasks).concurrency(concurrency).run();
+
+        return tasks
+            .stream()
+            .mapToInt(BucketedPeelingTask::getSmallestRemainingDegree)
+            .filter(v -> v > -1)
+            .min()
+            .orElseThrow();
+    }
+
+    private static int nextNonEmptyLevel(List<BucketedPeelingTask> tasks, int fromLevel) {
+        return tasks
+            .stream()
+            .mapToInt(task -> task.nextNonEmptyLevel(fromLevel))
+            .filter(v -> v > -1)
+            .min()
+            .orElse(-1);
     }
 
     private List<KCoreDecompositionTask> createTasks(
@@ -172,7 +295,31 @@ public class KCoreDecomposition extends Algorithm<KCoreDecompositionResult> {
         return tasks;
     }
 
-    private void rebuild(List<KCoreDecompositionTask> tasks, HugeIntArray core, long numberOfRemainingNodes) {
+    private List<BucketedPeelingTask> createBucketedTasks(
+        HugeAtomicIntArray currentDegrees,
+        HugeIntArray core,
+        AtomicLong nodeIndex,
+        AtomicLong remainingNodes
+    ) {
+        List<BucketedPeelingTask> tasks = new ArrayList<>();
+        var nodeProvider = NodeProvider.fullNodeProvider(graph.nodeCount());
+        for (int taskId = 0; taskId < concurrency.value(); ++taskId) {
+            tasks.add(new BucketedPeelingTask(
+                graph.concurrentCopy(),
+                currentDegrees,
+                core,
+                nodeIndex,
+                remainingNodes,
+                chunkSize,
+                bucketWindowSize,
+                nodeProvider,
+                progressTracker
+            ));
+        }
+        return tasks;
+    }
+
+    private NodeProvider rebuild(HugeIntArray core, long numberOfRemainingNodes) {
         HugeLongArray nodeOrder = HugeLongArray.newArray(numberOfRemainingNodes);
         AtomicLong atomicIndex = new AtomicLong(0);
         var rebuildTasks = PartitionUtils.rangePartition(
@@ -182,9 +329,6 @@ public class KCoreDecomposition extends Algorithm<KCoreDecompositionResult> {
             Optional.empty()
         );
         RunWithConcurrency.builder().tasks(rebuildTasks).concurrency(concurrency).run();
-        var newNodeProvider = NodeProvider.reducedNodeProvider(numberOfRemainingNodes,nodeOrder);
-        for (var task : tasks) {
-            task.updateNodeProvider(newNodeProvider);
-        }
+        return NodeProvider.reducedNodeProvider(numberOfRemainingNodes,nodeOrder);
     }
 }
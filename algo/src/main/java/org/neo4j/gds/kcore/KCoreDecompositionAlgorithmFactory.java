@@ -31,7 +31,13 @@ public class KCoreDecompositionAlgorithmFactory<CONFIG extends KCoreDecompositio
     @Override
     public KCoreDecomposition build(Graph graph, CONFIG configuration, ProgressTracker progressTracker) {
 
-        return new KCoreDecomposition(graph, configuration.concurrency(), progressTracker, TerminationFlag.RUNNING_TRUE);
+        return new KCoreDecomposition(
+            graph,
+            configuration.concurrency(),
+            configuration.bucketedPeeling(),
+            progressTracker,
+            TerminationFlag.RUNNING_TRUE
+        );
     }
 
     @Override
@@ -42,7 +48,7 @@ public class KCoreDecompositionAlgorithmFactory<CONFIG extends KCoreDecompositio
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
 
-        return new KCoreDecompositionMemoryEstimateDefinition().memoryEstimation();
+        return new KCoreDecompositionMemoryEstimateDefinition(configuration.bucketedPeeling()).memoryEstimation();
     }
 
     @Override
@@ -48,4 +48,8 @@ public interface KCoreDecompositionBaseConfig extends AlgoBaseConfig {
         }
     }
 
+    default boolean bucketedPeeling() {
+        return false;
+    }
+
 }
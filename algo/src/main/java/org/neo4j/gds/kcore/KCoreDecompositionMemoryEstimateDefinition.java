@@ -28,13 +28,39 @@ import org.neo4j.gds.mem.MemoryRange;
 
 public class KCoreDecompositionMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
+    private final boolean bucketedPeeling;
+
+    public KCoreDecompositionMemoryEstimateDefinition() {
+        this(false);
+    }
+
+    public KCoreDecompositionMemoryEstimateDefinition(boolean bucketedPeeling) {
+        this.bucketedPeeling = bucketedPeeling;
+    }
+
     @Override
     public MemoryEstimation memoryEstimation() {
         var builder = MemoryEstimations.builder(KCoreDecomposition.class);
         builder
             .perNode("currentDegrees", HugeAtomicIntArray::memoryEstimation)
-            .perNode("cores", HugeIntArray::memoryEstimation)
-            .perThread("KCoreDecompositionTask", KCoreDecompositionTask.memoryEstimation());
+            .perNode("cores", HugeIntArray::memoryEstimation);
+
+        if (bucketedPeeling) {
+            builder
+                .perThread(
+                    "BucketedPeelingTask",
+                    BucketedPeelingTask.memoryEstimation(KCoreDecomposition.BUCKET_WINDOW_SIZE)
+                )
+                .rangePerGraphDimension(
+                    "bucket entries",
+                    (graphDimensions, concurrency) -> BucketedPeelingTask.bucketEntriesEstimation(
+                        graphDimensions.nodeCount(),
+                        graphDimensions.relCountUpperBound()
+                    )
+                );
+        } else {
+            builder.perThread("KCoreDecompositionTask", KCoreDecompositionTask.memoryEstimation());
+        }
 
         builder.perGraphDimension("RebuildTask", ((graphDimensions, concurrency) -> {
             var resizedNodeCount = Math.max(
@@ -31,6 +31,7 @@ import java.util.List;
 abstract class ClusterManager {
 
     final long[] nodesInCluster;
+    final long[] streamedNodesInCluster;
 
     final boolean[] shouldReset;
     final NodePropertyValues nodePropertyValues;
@@ -44,6 +45,7 @@ abstract class ClusterManager {
         this.k = k;
         this.nodePropertyValues = values;
         this.nodesInCluster = new long[k];
+        this.streamedNodesInCluster = new long[k];
         this.currentlyAssigned = 0;
         this.shouldReset = new boolean[k];
     }
@@ -74,6 +76,44 @@ abstract class ClusterManager {
 
     abstract void updateFromTask(KmeansTask task);
 
+    /**
+     * Moves every centroid towards the nodes assigned to it by the tasks in the last mini-batch.
+     * Each centroid is the running mean of all nodes ever assigned to it, which is the same as applying
+     * a gradient step with a per-centroid learning rate of one over the number of assigned nodes for every node.
+     */
+    void updateFromMiniBatch(List<KmeansTask> tasks) {
+        for (int centroidId = 0; centroidId < k; ++centroidId) {
+            long batchContribution = 0;
+            for (KmeansTask task : tasks) {
+                batchContribution += task.getNumAssignedAtCluster(centroidId);
+            }
+            if (batchContribution == 0) {
+                continue;
+            }
+            streamedNodesInCluster[centroidId] += batchContribution;
+            moveTowardsContributions(centroidId, batchContribution, streamedNodesInCluster[centroidId], tasks);
+        }
+    }
+
+    abstract void moveTowardsContributions(
+        int centroidId,
+        long batchContribution,
+        long totalContribution,
+        List<KmeansTask> tasks
+    );
+
+    /**
+     * Keeps a copy of the current centroids, so that {@link #centroidShift(int)} can be computed after they are updated.
+     */
+    abstract void saveCentroids();
+
+    /**
+     * The distance a centroid moved since the last {@link #saveCentroids()}.
+     */
+    abstract double centroidShift(int centroidId);
+
+    abstract double centroidDistance(int centroidId, int otherCentroidId);
+
     void initializeCentroids(List<Long> initialCentroidIds) {
         currentlyAssigned = 0;
         for (Long currentId : initialCentroidIds) {
@@ -96,6 +136,8 @@ abstract class ClusterManager {
 
     public abstract double euclidean(long nodeId, int centroidId);
 
+    abstract double nodeDistance(long nodeId, long otherNodeId);
+
     public int findClosestCentroid(long nodeId) {
         int community = 0;
         double smallestDistance = Double.MAX_VALUE;
@@ -109,6 +151,29 @@ abstract class ClusterManager {
         return community;
     }
 
+    /**
+     * Finds the closest centroid of a node and stores the distances to the closest
+     * and second-closest centroid in {@code closestDistances}.
+     */
+    int findClosestCentroid(long nodeId, double[] closestDistances) {
+        int community = 0;
+        double smallestDistance = Double.MAX_VALUE;
+        double secondSmallestDistance = Double.MAX_VALUE;
+        for (int centroidId = 0; centroidId < k; ++centroidId) {
+            double distance = euclidean(nodeId, centroidId);
+            if (Double.compare(distance, smallestDistance) < 0) {
+                secondSmallestDistance = smallestDistance;
+                smallestDistance = distance;
+                community = centroidId;
+            } else if (Double.compare(distance, secondSmallestDistance) < 0) {
+                secondSmallestDistance = distance;
+            }
+        }
+        closestDistances[0] = smallestDistance;
+        closestDistances[1] = secondSmallestDistance;
+        return community;
+    }
+
     static MemoryEstimation memoryEstimation(int k, int fakeDimensions) {
         var builder = MemoryEstimations.builder(ClusterManager.class);
         builder
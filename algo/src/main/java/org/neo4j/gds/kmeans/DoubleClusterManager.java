@@ -27,6 +27,7 @@ import java.util.List;
 
 class DoubleClusterManager extends ClusterManager {
     private final double[][] centroids;
+    private double[][] previousCentroids;
 
     DoubleClusterManager(NodePropertyValues values, int dimensions, int k) {
         super(values, dimensions, k);
@@ -57,6 +58,61 @@ class DoubleClusterManager extends ClusterManager {
         }
     }
 
+    @Override
+    void moveTowardsContributions(
+        int centroidId,
+        long batchContribution,
+        long totalContribution,
+        List<KmeansTask> tasks
+    ) {
+        var centroid = centroids[centroidId];
+        var batchSum = new double[dimensions];
+        for (KmeansTask task : tasks) {
+            var taskContributionToCluster = ((DoubleKmeansTask) task).getCentroidContribution(centroidId);
+            for (int dimension = 0; dimension < dimensions; ++dimension) {
+                batchSum[dimension] += taskContributionToCluster[dimension];
+            }
+        }
+        for (int dimension = 0; dimension < dimensions; ++dimension) {
+            centroid[dimension] += ((batchSum[dimension] - batchContribution * centroid[dimension]) / totalContribution);
+        }
+    }
+
+    @Override
+    void saveCentroids() {
+        if (previousCentroids == null) {
+            previousCentroids = new double[k][dimensions];
+        }
+        for (int centroidId = 0; centroidId < k; ++centroidId) {
+            System.arraycopy(centroids[centroidId], 0, previousCentroids[centroidId], 0, dimensions);
+        }
+    }
+
+    @Override
+    double centroidShift(int centroidId) {
+        return Math.sqrt(Intersections.sumSquareDelta(
+            previousCentroids[centroidId],
+            centroids[centroidId],
+            dimensions
+        ));
+    }
+
+    @Override
+    double nodeDistance(long nodeId, long otherNodeId) {
+        double[] left = nodePropertyValues.doubleArrayValue(nodeId);
+        double[] right = nodePropertyValues.doubleArrayValue(otherNodeId);
+        return Math.sqrt(Intersections.sumSquareDelta(left, right, dimensions));
+    }
+
+    @Override
+    double centroidDistance(int centroidId, int otherCentroidId) {
+        return Math.sqrt(Intersections.sumSquareDelta(
+            centroids[centroidId],
+            centroids[otherCentroidId],
+            dimensions
+        ));
+    }
+
     @Override
     public double euclidean(long nodeId, int centroidId) {
         double[] left = nodePropertyValues.doubleArrayValue(nodeId);
@@ -27,6 +27,7 @@ import java.util.List;
 
 class FloatClusterManager extends ClusterManager {
     private final float[][] centroids;
+    private float[][] previousCentroids;
 
     FloatClusterManager(NodePropertyValues values, int dimensions, int k) {
         super(values, dimensions, k);
@@ -74,6 +75,61 @@ class FloatClusterManager extends ClusterManager {
         return doubleCentroids;
     }
 
+    @Override
+    void moveTowardsContributions(
+        int centroidId,
+        long batchContribution,
+        long totalContribution,
+        List<KmeansTask> tasks
+    ) {
+        var centroid = centroids[centroidId];
+        var batchSum = new float[dimensions];
+        for (KmeansTask task : tasks) {
+            var taskContributionToCluster = ((FloatKmeansTask) task).getCentroidContribution(centroidId);
+            for (int dimension = 0; dimension < dimensions; ++dimension) {
+                batchSum[dimension] += taskContributionToCluster[dimension];
+            }
+        }
+        for (int dimension = 0; dimension < dimensions; ++dimension) {
+            centroid[dimension] += (float) ((batchSum[dimension] - batchContribution * centroid[dimension]) / totalContribution);
+        }
+    }
+
+    @Override
+    void saveCentroids() {
+        if (previousCentroids == null) {
+            previousCentroids = new float[k][dimensions];
+        }
+        for (int centroidId = 0; centroidId < k; ++centroidId) {
+            System.arraycopy(centroids[centroidId], 0, previousCentroids[centroidId], 0, dimensions);
+        }
+    }
+
+    @Override
+    double centroidShift(int centroidId) {
+        return Math.sqrt(Intersections.sumSquareDelta(
+            previousCentroids[centroidId],
+            centroids[centroidId],
+            dimensions
+        ));
+    }
+
+    @Override
+    double nodeDistance(long nodeId, long otherNodeId) {
+        float[] left = nodePropertyValues.floatArrayValue(nodeId);
+        float[] right = nodePropertyValues.floatArrayValue(otherNodeId);
+        return Math.sqrt(Intersections.sumSquareDelta(left, right, dimensions));
+    }
+
+    @Override
+    double centroidDistance(int centroidId, int otherCentroidId) {
+        return Math.sqrt(Intersections.sumSquareDelta(
+            centroids[centroidId],
+            centroids[otherCentroidId],
+            dimensions
+        ));
+    }
+
     @Override
     public double euclidean(long nodeId, int centroidId) {
         float[] left = nodePropertyValues.floatArrayValue(nodeId);
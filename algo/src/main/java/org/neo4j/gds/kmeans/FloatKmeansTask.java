@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.kmeans;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeIntArray;
@@ -38,7 +39,8 @@ final class FloatKmeansTask extends KmeansTask {
         HugeDoubleArray distanceFromCluster,
         int k,
         int dimensions,
-        Partition partition
+        Partition partition,
+        @Nullable HamerlyBounds bounds
     ) {
         super(
             samplerType,
@@ -48,7 +50,8 @@ final class FloatKmeansTask extends KmeansTask {
             distanceFromCluster,
             k,
             dimensions,
-            partition
+            partition,
+            bounds
         );
         this.communityCoordinateSums = new float[k][dimensions];
     }
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.kmeans;
+
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+
+import java.util.Arrays;
+
+/**
+ * Distance bounds for Hamerly's accelerated K-Means, shared by all tasks of a K-Means run.
+ * <p>
+ * Per node, we keep an upper bound on the distance to its assigned centroid and a lower bound
+ * on the distance to any other centroid. When the upper bound is below both the lower bound and
+ * half the distance from the assigned centroid to its closest other centroid, the assignment cannot change
+ * and no distances need to be computed for that node.
+ * The bounds are loosened lazily by the centroid shifts of the previous iteration, when the node is visited next.
+ *
+ * specified in: Hamerly, "Making k-means even faster", SIAM International Conference on Data Mining 2010
+ */
+final class HamerlyBounds {
+
+    private final HugeDoubleArray upperBounds;
+    private final HugeDoubleArray lowerBounds;
+    private final double[] halfDistanceToClosestCentroid;
+    private final double[] shifts;
+    private final int k;
+
+    private double maxShift;
+    private double secondMaxShift;
+    private int maxShiftCentroid;
+    private boolean initialized;
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(HamerlyBounds.class)
+            .perNode("upperBounds", HugeDoubleArray::memoryEstimation)
+            .perNode("lowerBounds", HugeDoubleArray::memoryEstimation)
+            .build();
+    }
+
+    HamerlyBounds(long nodeCount, int k) {
+        this.upperBounds = HugeDoubleArray.newArray(nodeCount);
+        this.lowerBounds = HugeDoubleArray.newArray(nodeCount);
+        this.halfDistanceToClosestCentroid = new double[k];
+        this.shifts = new double[k];
+        this.k = k;
+        this.maxShiftCentroid = -1;
+    }
+
+    /**
+     * Whether the bounds of all nodes have been set by a full assignment.
+     */
+    boolean initialized() {
+        return initialized;
+    }
+
+    void markInitialized() {
+        initialized = true;
+    }
+
+    /**
+     * Computes the pairwise centroid distances needed for the pruning test of the coming assignment.
+     */
+    void prepareAssignment(ClusterManager clusterManager) {
+        Arrays.fill(halfDistanceToClosestCentroid, Double.MAX_VALUE);
+        for (int centroid = 0; centroid < k; centroid++) {
+            for (int other = centroid + 1; other < k; other++) {
+                double halfDistance = clusterManager.centroidDistance(centroid, other) / 2;
+                if (halfDistance < halfDistanceToClosestCentroid[centroid]) {
+                    halfDistanceToClosestCentroid[centroid] = halfDistance;
+                }
+                if (halfDistance < halfDistanceToClosestCentroid[other]) {
+                    halfDistanceToClosestCentroid[other] = halfDistance;
+                }
+            }
+        }
+    }
+
+    /**
+     * Records how far every centroid moved during the last recomputation.
+     */
+    void recordShifts(ClusterManager clusterManager) {
+        maxShift = 0;
+        secondMaxShift = 0;
+        maxShiftCentroid = -1;
+        for (int centroid = 0; centroid < k; centroid++) {
+            double shift = clusterManager.centroidShift(centroid);
+            shifts[centroid] = shift;
+            if (shift > maxShift) {
+                secondMaxShift = maxShift;
+                maxShift = shift;
+                maxShiftCentroid = centroid;
+            } else if (shift > secondMaxShift) {
+                secondMaxShift = shift;
+            }
+        }
+    }
+
+    double halfDistanceToClosestCentroid(int centroid) {
+        return halfDistanceToClosestCentroid[centroid];
+    }
+
+    double upperBound(long nodeId, int centroid) {
+        return upperBounds.get(nodeId) + shifts[centroid];
+    }
+
+    double lowerBound(long nodeId, int centroid) {
+        // the closest other centroid moved at most by the largest shift among all other centroids
+        return lowerBounds.get(nodeId) - (centroid == maxShiftCentroid ? secondMaxShift : maxShift);
+    }
+
+    void set(long nodeId, double upperBound, double lowerBound) {
+        upperBounds.set(nodeId, upperBound);
+        lowerBounds.set(nodeId, lowerBound);
+    }
+}
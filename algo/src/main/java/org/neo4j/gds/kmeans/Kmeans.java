@@ -20,6 +20,7 @@
 package org.neo4j.gds.kmeans;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.nodeproperties.ValueType;
@@ -178,6 +179,10 @@ public final class Kmeans extends Algorithm<KmeansResult> {
 
         currentCommunities.setAll(v -> UNASSIGNED);
 
+        var bounds = parameters.variant() == KmeansVariant.HAMERLY
+            ? new HamerlyBounds(nodeCount, parameters.k())
+            : null;
+
         var tasks = PartitionUtils.rangePartition(
             concurrency,
             nodeCount,
@@ -189,7 +194,8 @@ public final class Kmeans extends Algorithm<KmeansResult> {
                 currentDistanceFromCentroid,
                 parameters.k(),
                 dimensions,
-                partition
+                partition,
+                bounds
             ),
             Optional.of((int) nodeCount / concurrency.value())
         );
@@ -213,6 +219,23 @@ public final class Kmeans extends Algorithm<KmeansResult> {
         //Initialization do initial centroid computation and assignment
         initializeCentroids(clusterManager, sampler);
 
+        if (parameters.variant() == KmeansVariant.MINIBATCH) {
+            miniBatchIterations(clusterManager, tasks);
+        } else {
+            iterations(clusterManager, tasks, bounds);
+        }
+
+        double averageDistanceFromCentroid = calculatedistancePhase(tasks);
+        updateBestSolution(
+            restartIteration,
+            clusterManager,
+            averageDistanceFromCentroid,
+            currentCommunities,
+            currentDistanceFromCentroid
+        );
+    }
+
+    private void iterations(ClusterManager clusterManager, List<KmeansTask> tasks, @Nullable HamerlyBounds bounds) {
         int iteration = 0;
         progressTracker.beginSubTask(); // Main - start
         while (true) {
@@ -220,9 +243,13 @@ public final class Kmeans extends Algorithm<KmeansResult> {
 
             long numberOfSwaps = 0;
             //assign each node to a centroid
+            // K-Means++ sampling already assigns every node to its closest centroid
             boolean shouldComputeDistance = (iteration > 0)
-                || (parameters.samplerType() == KmeansSampler.SamplerType.UNIFORM);
+                || (parameters.samplerType() != KmeansSampler.SamplerType.KMEANSPP);
             if (shouldComputeDistance) {
+                if (bounds != null && bounds.initialized()) {
+                    bounds.prepareAssignment(clusterManager);
+                }
                 RunWithConcurrency.builder()
                     .concurrency(concurrency)
                     .tasks(tasks)
@@ -232,8 +259,17 @@ public final class Kmeans extends Algorithm<KmeansResult> {
                 for (KmeansTask task : tasks) {
                     numberOfSwaps += task.getSwaps();
                 }
+                if (bounds != null) {
+                    bounds.markInitialized();
+                }
+            }
+            if (bounds != null) {
+                clusterManager.saveCentroids();
+                recomputeCentroids(clusterManager, tasks);
+                bounds.recordShifts(clusterManager);
+            } else {
+                recomputeCentroids(clusterManager, tasks);
             }
-            recomputeCentroids(clusterManager, tasks);
             progressTracker.endSubTask(); // Iteration - end
             if (kmeansIterationStopper.shouldQuit(numberOfSwaps, ++iteration)) {
                 break;
@@ -241,15 +277,65 @@ public final class Kmeans extends Algorithm<KmeansResult> {
 
         }
         progressTracker.endSubTask(); // Main - end
+    }
 
-        double averageDistanceFromCentroid = calculatedistancePhase(tasks);
-        updateBestSolution(
-            restartIteration,
-            clusterManager,
-            averageDistanceFromCentroid,
-            currentCommunities,
-            currentDistanceFromCentroid
+    /**
+     * Mini-batch K-Means: every iteration assigns a uniform sample of nodes and moves the centroids towards them.
+     * The last iteration assigns all nodes and recomputes the centroids from the full assignment.
+     *
+     * specified in: Sculley, "Web-scale k-means clustering", WWW 2010
+     */
+    private void miniBatchIterations(ClusterManager clusterManager, List<KmeansTask> tasks) {
+        long nodeCount = graph.nodeCount();
+        var miniBatch = new long[(int) Math.min(parameters.miniBatchSize(), nodeCount)];
+        var miniBatchStopper = new KmeansIterationStopper(
+            parameters.deltaThreshold(),
+            parameters.maxIterations(),
+            miniBatch.length
         );
+
+        int iteration = 0;
+        progressTracker.beginSubTask(); // Main - start
+        while (true) {
+            progressTracker.beginSubTask(); // Iteration - start
+
+            for (int i = 0; i < miniBatch.length; i++) {
+                miniBatch[i] = random.nextLong(nodeCount);
+            }
+            for (KmeansTask task : tasks) {
+                task.useMiniBatch(miniBatch);
+                task.switchToPhase(TaskPhase.MINI_BATCH);
+            }
+            RunWithConcurrency.builder()
+                .concurrency(concurrency)
+                .tasks(tasks)
+                .executor(executorService)
+                .run();
+
+            long numberOfSwaps = 0;
+            for (KmeansTask task : tasks) {
+                numberOfSwaps += task.getSwaps();
+            }
+            clusterManager.updateFromMiniBatch(tasks);
+
+            boolean shouldQuit = miniBatchStopper.shouldQuit(numberOfSwaps, ++iteration);
+            if (shouldQuit) {
+                for (KmeansTask task : tasks) {
+                    task.switchToPhase(TaskPhase.ITERATION);
+                }
+                RunWithConcurrency.builder()
+                    .concurrency(concurrency)
+                    .tasks(tasks)
+                    .executor(executorService)
+                    .run();
+                recomputeCentroids(clusterManager, tasks);
+            }
+            progressTracker.endSubTask(); // Iteration - end
+            if (shouldQuit) {
+                break;
+            }
+        }
+        progressTracker.endSubTask(); // Main - end
     }
 
     private void initializeCentroids(ClusterManager clusterManager, KmeansSampler sampler) {
@@ -88,6 +88,17 @@ public interface KmeansBaseConfig extends AlgoBaseConfig, IterationsConfig, Rand
         return KmeansSampler.SamplerType.UNIFORM;
     }
 
+    @Configuration.ConvertWith(method = "org.neo4j.gds.kmeans.KmeansVariant#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.kmeans.KmeansVariant#toString")
+    default KmeansVariant variant() {
+        return KmeansVariant.LLOYD;
+    }
+
+    @Configuration.IntegerRange(min = 1)
+    default int miniBatchSize() {
+        return 1024;
+    }
+
     default List<List<Double>> seedCentroids() {
         return List.of();
     }
@@ -109,7 +120,9 @@ public interface KmeansBaseConfig extends AlgoBaseConfig, IterationsConfig, Rand
             nodeProperty(),
             initialSampler(),
             seedCentroids(),
-            randomSeed()
+            randomSeed(),
+            variant(),
+            miniBatchSize()
         );
     }
 }
@@ -53,6 +53,18 @@ public class KmeansMemoryEstimateDefinition implements MemoryEstimateDefinition
             ))
             .perThread("KMeansTask", KmeansTask.memoryEstimation(parameters.k(), fakeLength));
 
+        if (parameters.variant() == KmeansVariant.HAMERLY) {
+            builder.add(HamerlyBounds.memoryEstimation());
+        }
+
+        if (parameters.variant() == KmeansVariant.MINIBATCH) {
+            builder.fixed("miniBatch", Estimate.sizeOfLongArray(parameters.miniBatchSize()));
+        }
+
+        if (parameters.samplerType() == KmeansSampler.SamplerType.KMEANSPARALLEL) {
+            builder.add(KmeansParallelSampler.memoryEstimation(parameters.k()));
+        }
+
         if (parameters.computeSilhouette()) {
             builder.perNode("silhouette", HugeDoubleArray::memoryEstimation);
         }
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.kmeans;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.function.Function;
+
+/**
+ * K-Means|| seeding: instead of picking one centroid per pass over all nodes as K-Means++ does,
+ * every round samples about {@code 2k} candidates in parallel, each node with a probability proportional to
+ * its squared distance to the closest candidate so far. The candidates are then weighted by the number of nodes
+ * closest to them and reclustered into {@code k} centroids by a weighted K-Means++ over the candidates only.
+ * <p>
+ * The analysis asks for {@code O(log cost)} rounds, where cost is the sum of squared distances to the first
+ * candidate. Following the experiments of the paper, we stop after at most {@value #MAX_ROUNDS} rounds.
+ *
+ * specified in: Bahmani, Moseley, Vattani, Kumar and Vassilvitskii, "Scalable K-Means++", VLDB 2012
+ */
+public class KmeansParallelSampler extends KmeansSampler {
+
+    static final int MAX_ROUNDS = 5;
+    private static final int OVERSAMPLING_FACTOR = 2;
+
+    private final HugeDoubleArray distanceFromClosestCandidate;
+    private final HugeIntArray closestCandidate;
+    private final Concurrency concurrency;
+    private final ExecutorService executorService;
+    private final ProgressTracker progressTracker;
+
+    static MemoryEstimation memoryEstimation(int k) {
+        return MemoryEstimations.builder(KmeansParallelSampler.class)
+            .perNode("closestCandidate", HugeIntArray::memoryEstimation)
+            .fixed("candidates", Estimate.sizeOfLongArray((long) MAX_ROUNDS * OVERSAMPLING_FACTOR * k))
+            .build();
+    }
+
+    public KmeansParallelSampler(
+        SplittableRandom random,
+        ClusterManager clusterManager,
+        long nodeCount,
+        int k,
+        HugeDoubleArray distanceFromClosestCandidate,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        super(random, clusterManager, nodeCount, k);
+        this.distanceFromClosestCandidate = distanceFromClosestCandidate;
+        this.closestCandidate = HugeIntArray.newArray(nodeCount);
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.progressTracker = progressTracker;
+    }
+
+    @Override
+    public void performInitialSampling() {
+        var candidates = new LongArrayList();
+        candidates.add(random.nextLong(nodeCount));
+
+        double cost = updateDistances(candidates, 0);
+        int rounds = (int) Math.min(MAX_ROUNDS, Math.max(1, Math.ceil(Math.log(cost))));
+        for (int round = 0; round < rounds && cost > 0; round++) {
+            int newCandidatesStart = candidates.size();
+            sampleCandidates(candidates, cost);
+            if (candidates.size() > newCandidatesStart) {
+                cost = updateDistances(candidates, newCandidatesStart);
+            }
+        }
+
+        var centroids = recluster(candidates, candidateWeights(candidates.size()));
+        clusterManager.initializeCentroids(centroids);
+        progressTracker.logProgress(k);
+    }
+
+    /**
+     * Updates the distance of every node to its closest candidate, considering the candidates from
+     * {@code newCandidatesStart} onwards, and returns the sum of squared distances.
+     */
+    private double updateDistances(LongArrayList candidates, int newCandidatesStart) {
+        var cost = new DoubleAdder();
+        var newCandidates = Arrays.copyOfRange(candidates.buffer, newCandidatesStart, candidates.size());
+        runPerPartition(partition -> () -> {
+            double localCost = 0;
+            long end = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+                double distance = newCandidatesStart == 0
+                    ? Double.MAX_VALUE
+                    : distanceFromClosestCandidate.get(nodeId);
+                int closest = newCandidatesStart == 0 ? 0 : closestCandidate.get(nodeId);
+                for (int i = 0; i < newCandidates.length; i++) {
+                    double candidateDistance = clusterManager.nodeDistance(nodeId, newCandidates[i]);
+                    if (candidateDistance < distance) {
+                        distance = candidateDistance;
+                        closest = newCandidatesStart + i;
+                    }
+                }
+                distanceFromClosestCandidate.set(nodeId, distance);
+                closestCandidate.set(nodeId, closest);
+                localCost += distance * distance;
+            }
+            cost.add(localCost);
+        });
+        return cost.sum();
+    }
+
+    private void sampleCandidates(LongArrayList candidates, double cost) {
+        double oversampling = (double) OVERSAMPLING_FACTOR * k;
+        var partitions = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> partition,
+            Optional.empty()
+        );
+        var sampledPerPartition = new ArrayList<LongArrayList>(partitions.size());
+        var tasks = new ArrayList<Runnable>(partitions.size());
+        for (Partition partition : partitions) {
+            var sampled = new LongArrayList();
+            var partitionRandom = random.split();
+            sampledPerPartition.add(sampled);
+            tasks.add(() -> {
+                long end = partition.startNode() + partition.nodeCount();
+                for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+                    double distance = distanceFromClosestCandidate.get(nodeId);
+                    if (partitionRandom.nextDouble() * cost < oversampling * distance * distance) {
+                        sampled.add(nodeId);
+                    }
+                }
+            });
+        }
+        run(tasks);
+        // merge in partition order to keep the candidates independent of thread scheduling
+        sampledPerPartition.forEach(candidates::addAll);
+    }
+
+    /**
+     * The number of nodes for which a candidate is the closest one.
+     */
+    private long[] candidateWeights(int candidateCount) {
+        var partitions = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> partition,
+            Optional.empty()
+        );
+        var countsPerPartition = new ArrayList<long[]>(partitions.size());
+        var tasks = new ArrayList<Runnable>(partitions.size());
+        for (Partition partition : partitions) {
+            var counts = new long[candidateCount];
+            countsPerPartition.add(counts);
+            tasks.add(() -> partition.consume(nodeId -> counts[closestCandidate.get(nodeId)]++));
+        }
+        run(tasks);
+
+        var weights = new long[candidateCount];
+        for (long[] counts : countsPerPartition) {
+            for (int candidate = 0; candidate < candidateCount; candidate++) {
+                weights[candidate] += counts[candidate];
+            }
+        }
+        return weights;
+    }
+
+    /**
+     * Weighted K-Means++ over the candidates, which are few enough to be handled by a single thread.
+     */
+    private List<Long> recluster(LongArrayList candidates, long[] weights) {
+        int candidateCount = candidates.size();
+        var centroids = new ArrayList<Long>(k);
+        var chosen = new BitSet(nodeCount);
+
+        var minDistances = new double[candidateCount];
+        Arrays.fill(minDistances, Double.MAX_VALUE);
+
+        int next = pickWeighted(weights, null);
+        while (next != -1 && centroids.size() < k) {
+            long centroid = candidates.get(next);
+            centroids.add(centroid);
+            chosen.set(centroid);
+
+            for (int candidate = 0; candidate < candidateCount; candidate++) {
+                double distance = clusterManager.nodeDistance(candidates.get(candidate), centroid);
+                if (distance < minDistances[candidate]) {
+                    minDistances[candidate] = distance;
+                }
+            }
+            next = pickWeighted(weights, minDistances);
+        }
+
+        // fewer distinct candidates than centroids, fill up with uniformly sampled nodes
+        while (centroids.size() < k) {
+            long nodeId = random.nextLong(nodeCount);
+            if (!chosen.get(nodeId)) {
+                chosen.set(nodeId);
+                centroids.add(nodeId);
+            }
+        }
+        return centroids;
+    }
+
+    /**
+     * Picks a candidate with probability proportional to its weight times its squared distance to the closest centroid,
+     * or proportional to its weight only if no distances are given. Returns -1 if all probabilities are zero.
+     */
+    private int pickWeighted(long[] weights, double[] minDistances) {
+        double total = 0;
+        for (int candidate = 0; candidate < weights.length; candidate++) {
+            total += score(weights, minDistances, candidate);
+        }
+        if (Double.isInfinite(total) || total <= 0) {
+            return -1;
+        }
+
+        double x = random.nextDouble() * total;
+        double current = 0;
+        int last = -1;
+        for (int candidate = 0; candidate < weights.length; candidate++) {
+            double score = score(weights, minDistances, candidate);
+            if (score > 0) {
+                current += score;
+                last = candidate;
+                if (x < current) {
+                    return candidate;
+                }
+            }
+        }
+        // rounding errors
+        return last;
+    }
+
+    private static double score(long[] weights, double[] minDistances, int candidate) {
+        if (minDistances == null) {
+            return weights[candidate];
+        }
+        return weights[candidate] * minDistances[candidate] * minDistances[candidate];
+    }
+
+    private void runPerPartition(Function<Partition, Runnable> taskCreator) {
+        run(PartitionUtils.rangePartition(concurrency, nodeCount, taskCreator, Optional.empty()));
+    }
+
+    private void run(List<Runnable> tasks) {
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .run();
+    }
+}
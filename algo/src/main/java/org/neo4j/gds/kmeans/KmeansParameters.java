@@ -36,7 +36,9 @@ public record KmeansParameters(
     String nodeProperty,
     KmeansSampler.SamplerType samplerType,
     List<List<Double>> seedCentroids,
-    Optional<Long> randomSeed
+    Optional<Long> randomSeed,
+    KmeansVariant variant,
+    int miniBatchSize
 ) {
     public boolean isSeeded() {
         return !seedCentroids().isEmpty();
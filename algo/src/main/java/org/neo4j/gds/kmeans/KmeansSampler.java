@@ -69,6 +69,17 @@ public abstract class KmeansSampler {
     ) {
         if (samplerType == SamplerType.UNIFORM) {
             return new KmeansUniformSampler(random, clusterManager, nodeCount, k, progressTracker);
+        } else if (samplerType == SamplerType.KMEANSPARALLEL) {
+            return new KmeansParallelSampler(
+                random,
+                clusterManager,
+                nodeCount,
+                k,
+                distanceFromCenter,
+                concurrency,
+                executorService,
+                progressTracker
+            );
         } else {
             return new KmeansPlusPlusSampler(
                 random,
@@ -86,7 +97,7 @@ public abstract class KmeansSampler {
 
 
     public enum SamplerType {
-        UNIFORM("UNIFORM", "UNIFORM"), KMEANSPP("KMEANS++", "KMEANSPP");
+        UNIFORM("UNIFORM", "UNIFORM"), KMEANSPP("KMEANS++", "KMEANSPP"), KMEANSPARALLEL("KMEANS||", "KMEANSPARALLEL");
 
         private final String samplerName;
         private final String samplerType;
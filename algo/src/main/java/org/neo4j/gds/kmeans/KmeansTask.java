@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.kmeans;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
@@ -48,6 +49,10 @@ public abstract class KmeansTask implements Runnable {
 
     private TaskPhase phase;
 
+    private final @Nullable HamerlyBounds bounds;
+    private final double[] closestDistances;
+    private long[] miniBatch;
+
     long getNumAssignedAtCluster(int ith) {
         return communitySizes[ith];
     }
@@ -79,9 +84,13 @@ public abstract class KmeansTask implements Runnable {
         HugeDoubleArray distanceFromCentroid,
         int k,
         int dimensions,
-        Partition partition
+        Partition partition,
+        @Nullable HamerlyBounds bounds
     ) {
         this.clusterManager = clusterManager;
+        this.bounds = bounds;
+        this.closestDistances = new double[2];
+        this.miniBatch = new long[0];
         this.nodePropertyValues = nodePropertyValues;
         this.communities = communities;
         this.distanceFromCentroid = distanceFromCentroid;
@@ -89,10 +98,10 @@ public abstract class KmeansTask implements Runnable {
         this.dimensions = dimensions;
         this.partition = partition;
         this.communitySizes = new long[k];
-        if (samplerType == KmeansSampler.SamplerType.UNIFORM) {
-            this.phase = TaskPhase.ITERATION;
-        } else {
+        if (samplerType == KmeansSampler.SamplerType.KMEANSPP) {
             this.phase = TaskPhase.INITIAL;
+        } else {
+            this.phase = TaskPhase.ITERATION;
         }
         this.distance = 0d;
     }
@@ -106,6 +115,30 @@ public abstract class KmeansTask implements Runnable {
         int k,
         int dimensions,
         Partition partition
+    ) {
+        return createTask(
+            samplerType,
+            clusterManager,
+            nodePropertyValues,
+            communities,
+            distanceFromCentroid,
+            k,
+            dimensions,
+            partition,
+            null
+        );
+    }
+
+    static KmeansTask createTask(
+        KmeansSampler.SamplerType samplerType,
+        ClusterManager clusterManager,
+        NodePropertyValues nodePropertyValues,
+        HugeIntArray communities,
+        HugeDoubleArray distanceFromCentroid,
+        int k,
+        int dimensions,
+        Partition partition,
+        @Nullable HamerlyBounds bounds
     ) {
         if (clusterManager instanceof DoubleClusterManager) {
             return new DoubleKmeansTask(
@@ -116,7 +149,8 @@ public abstract class KmeansTask implements Runnable {
                 distanceFromCentroid,
                 k,
                 dimensions,
-                partition
+                partition,
+                bounds
             );
         }
         return new FloatKmeansTask(
@@ -127,7 +161,8 @@ public abstract class KmeansTask implements Runnable {
             distanceFromCentroid,
             k,
             dimensions,
-            partition
+            partition,
+            bounds
         );
     }
 
@@ -135,13 +170,23 @@ public abstract class KmeansTask implements Runnable {
         phase = newPhase;
     }
 
+    /**
+     * Sets the nodes of the next mini-batch. Every task assigns the share of the batch
+     * that corresponds to its partition of the node range.
+     */
+    void useMiniBatch(long[] miniBatch) {
+        this.miniBatch = miniBatch;
+    }
+
     private void assignNodeToCentroid(long startNode, long endNode) {
         swaps = 0;
 
         reset();
 
         for (long nodeId = startNode; nodeId < endNode; nodeId++) {
-            int closestCommunity = clusterManager.findClosestCentroid(nodeId);
+            int closestCommunity = bounds == null
+                ? clusterManager.findClosestCentroid(nodeId)
+                : findClosestCentroidWithinBounds(nodeId);
             communitySizes[closestCommunity]++;
             int previousCommunity = communities.get(nodeId);
             if (closestCommunity != previousCommunity) {
@@ -157,6 +202,46 @@ public abstract class KmeansTask implements Runnable {
         }
     }
 
+    private int findClosestCentroidWithinBounds(long nodeId) {
+        assert bounds != null;
+        if (bounds.initialized()) {
+            int community = communities.get(nodeId);
+            double upperBound = bounds.upperBound(nodeId, community);
+            double lowerBound = bounds.lowerBound(nodeId, community);
+            double threshold = Math.max(bounds.halfDistanceToClosestCentroid(community), lowerBound);
+            if (upperBound > threshold) {
+                // the bound might just be loose, tighten it before looking at the other centroids
+                upperBound = clusterManager.euclidean(nodeId, community);
+            }
+            if (upperBound <= threshold) {
+                bounds.set(nodeId, upperBound, lowerBound);
+                return community;
+            }
+        }
+        int community = clusterManager.findClosestCentroid(nodeId, closestDistances);
+        bounds.set(nodeId, closestDistances[0], closestDistances[1]);
+        return community;
+    }
+
+    private void assignMiniBatchToCentroid(long startNode, long endNode) {
+        swaps = 0;
+
+        reset();
+
+        long nodeCount = communities.size();
+        int batchStart = (int) (startNode * miniBatch.length / nodeCount);
+        int batchEnd = (int) (endNode * miniBatch.length / nodeCount);
+        for (int batchIndex = batchStart; batchIndex < batchEnd; batchIndex++) {
+            long nodeId = miniBatch[batchIndex];
+            int closestCommunity = clusterManager.findClosestCentroid(nodeId);
+            communitySizes[closestCommunity]++;
+            if (closestCommunity != communities.get(nodeId)) {
+                swaps++;
+            }
+            updateAfterAssignmentToCentroid(nodeId, closestCommunity);
+        }
+    }
+
     public double getDistanceFromCentroidNormalized() {
         return distance / communities.size();
     }
@@ -213,6 +298,8 @@ public abstract class KmeansTask implements Runnable {
         long endNode = startNode + partition.nodeCount();
         if (phase == TaskPhase.ITERATION) {
             assignNodeToCentroid(startNode, endNode);
+        } else if (phase == TaskPhase.MINI_BATCH) {
+            assignMiniBatchToCentroid(startNode, endNode);
         } else if (phase == TaskPhase.DISTANCE) {
             calculateFinalDistance(startNode, endNode);
         } else {
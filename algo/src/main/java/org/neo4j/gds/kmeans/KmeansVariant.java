@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.kmeans;
+
+import org.neo4j.gds.utils.StringFormatting;
+
+import java.util.Arrays;
+
+/**
+ * The strategy used to assign nodes to centroids in every iteration.
+ */
+public enum KmeansVariant {
+    /**
+     * Computes the distance from every node to every centroid.
+     */
+    LLOYD,
+    /**
+     * Keeps an upper bound on the distance to the assigned centroid and a lower bound on the distance
+     * to every other centroid per node, and only computes distances for nodes whose bounds overlap.
+     * Produces the same clustering as {@link #LLOYD}.
+     */
+    HAMERLY,
+    /**
+     * Updates the centroids from a uniform sample of nodes per iteration and assigns all nodes once at the end.
+     */
+    MINIBATCH;
+
+    public static KmeansVariant parse(Object input) {
+        if (input instanceof String) {
+            var inputString = StringFormatting.toUpperCaseWithLocale((String) input).replace("-", "");
+            for (KmeansVariant variant : values()) {
+                if (variant.name().equals(inputString)) {
+                    return variant;
+                }
+            }
+            throw new IllegalArgumentException(StringFormatting.formatWithLocale(
+                "K-Means variant `%s` is not supported. Must be one of: %s.",
+                input,
+                Arrays.toString(values())
+            ));
+        } else if (input instanceof KmeansVariant) {
+            return (KmeansVariant) input;
+        }
+
+        throw new IllegalArgumentException(StringFormatting.formatWithLocale(
+            "Expected K-Means variant or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(KmeansVariant variant) {
+        return variant.toString();
+    }
+}
@@ -20,5 +20,5 @@
 package org.neo4j.gds.kmeans;
 
 enum TaskPhase {
-    INITIAL, ITERATION, DISTANCE
+    INITIAL, ITERATION, MINI_BATCH, DISTANCE
 }
@@ -25,10 +25,12 @@ import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 import org.neo4j.gds.spanningtree.Prim;
 import org.neo4j.gds.spanningtree.SpanningTree;
+import org.neo4j.gds.spanningtree.SpanningTreeEngine;
 import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.function.DoubleUnaryOperator;
@@ -38,6 +40,7 @@ import java.util.function.DoubleUnaryOperator;
  * startNodeId. It aggregates all transitions into a MinPriorityQueue
  * and visits each (unvisited) connected node by following only the
  * cheapest transition and adding it to a specialized form of undirected tree.
+ * If requested, large graphs use one of the parallel implementations selected by {@link SpanningTreeEngine}.
  * <p>
  * After calculating the MST the algorithm cuts the tree at its k weakest
  * relationships to form k spanning trees
@@ -48,6 +51,8 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
     private final DoubleUnaryOperator minMax;
     private final long startNodeId;
     private final long k;
+    private final Concurrency concurrency;
+    private final boolean parallel;
 
     public KSpanningTree(
         Graph graph,
@@ -56,6 +61,19 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
         long k,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
+    ) {
+        this(graph, minMax, startNodeId, k, new Concurrency(1), false, progressTracker, terminationFlag);
+    }
+
+    public KSpanningTree(
+        Graph graph,
+        DoubleUnaryOperator minMax,
+        long startNodeId,
+        long k,
+        Concurrency concurrency,
+        boolean parallel,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
     ) {
         super(progressTracker);
         this.graph = graph;
@@ -63,6 +81,8 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
         this.startNodeId = startNodeId;
 
         this.k = k;
+        this.concurrency = concurrency;
+        this.parallel = parallel;
 
         this.terminationFlag = terminationFlag;
     }
@@ -70,15 +90,17 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
     @Override
     public SpanningTree compute() {
         progressTracker.beginSubTask();
-        Prim prim = new Prim(
+        var mst = SpanningTreeEngine.create(
             graph,
             minMax,
             startNodeId,
+            concurrency,
+            parallel,
             progressTracker,
             terminationFlag
         );
 
-        SpanningTree spanningTree = prim.compute();
+        SpanningTree spanningTree = mst.compute();
 
         var outputTree = growApproach(spanningTree);
         progressTracker.endSubTask();
@@ -24,5 +24,5 @@ import org.neo4j.gds.annotation.Parameters;
 import java.util.function.DoubleUnaryOperator;
 
 @Parameters
-public record KSpanningTreeParameters(DoubleUnaryOperator objective, long sourceNode, long k) {
+public record KSpanningTreeParameters(DoubleUnaryOperator objective, long sourceNode, long k, boolean parallel) {
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.labelpropagation;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.modularityoptimization.ModularityColorArray;
+
+/**
+ * Computes new labels for a partition of a single color class.
+ * Nodes of the same color are not adjacent, so labels can be updated in place without
+ * affecting the votes of any other node computed concurrently.
+ * Only nodes in the active frontier are recomputed. If a label changes, the nodes voting
+ * with that label are activated again.
+ */
+final class ColorClassComputeStep implements Runnable {
+
+    private static final double DEFAULT_WEIGHT = 1.0;
+
+    private final Graph graph;
+    private final ComputeStepConsumer consumer;
+    private final HugeLongArray labels;
+    private final ModularityColorArray colorArray;
+    private final HugeAtomicBitSet activeNodes;
+    private final FrontierMode frontierMode;
+    private final Partition partition;
+    private final long colorStart;
+    private final ProgressTracker progressTracker;
+
+    private boolean didChange;
+
+    ColorClassComputeStep(
+        Graph graph,
+        ComputeStepConsumer consumer,
+        HugeLongArray labels,
+        ModularityColorArray colorArray,
+        HugeAtomicBitSet activeNodes,
+        FrontierMode frontierMode,
+        Partition partition,
+        long colorStart,
+        ProgressTracker progressTracker
+    ) {
+        this.graph = graph;
+        this.consumer = consumer;
+        this.labels = labels;
+        this.colorArray = colorArray;
+        this.activeNodes = activeNodes;
+        this.frontierMode = frontierMode;
+        this.partition = partition;
+        this.colorStart = colorStart;
+        this.progressTracker = progressTracker;
+        this.didChange = false;
+    }
+
+    @Override
+    public void run() {
+        long relationshipsProcessed = 0;
+        long start = colorStart + partition.startNode();
+        long end = start + partition.nodeCount();
+        for (long position = start; position < end; position++) {
+            long nodeId = colorArray.nodeAtPosition(position);
+            // skipped nodes count as processed, as the iteration's progress volume covers all relationships
+            relationshipsProcessed += graph.degree(nodeId);
+            if (frontierMode != FrontierMode.NONE) {
+                if (!activeNodes.get(nodeId)) {
+                    continue;
+                }
+                activeNodes.clear(nodeId);
+            }
+
+            consumer.clearVotes();
+            long label = labels.get(nodeId);
+            graph.forEachRelationship(nodeId, DEFAULT_WEIGHT, consumer);
+            long newLabel = consumer.tallyVotes(label);
+            if (newLabel != label) {
+                labels.set(nodeId, newLabel);
+                didChange = true;
+                activateVoters(nodeId);
+            }
+        }
+        progressTracker.logProgress(relationshipsProcessed);
+    }
+
+    boolean didChange() {
+        return didChange;
+    }
+
+    private void activateVoters(long nodeId) {
+        switch (frontierMode) {
+            case UNDIRECTED:
+                graph.forEachRelationship(nodeId, (source, target) -> {
+                    activeNodes.set(target);
+                    return true;
+                });
+                break;
+            case INVERSE:
+                graph.forEachInverseRelationship(nodeId, (source, target) -> {
+                    activeNodes.set(target);
+                    return true;
+                });
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Describes how to find the nodes whose votes depend on the label of a node.
+     */
+    enum FrontierMode {
+        // the graph is undirected, the voters are the neighbours
+        UNDIRECTED,
+        // the voters are found through the inverse index
+        INVERSE,
+        // the voters cannot be found, every node is recomputed in every iteration
+        NONE;
+
+        static FrontierMode of(Graph graph) {
+            if (graph.characteristics().isUndirected()) {
+                return UNDIRECTED;
+            }
+            if (graph.characteristics().isInverseIndexed()) {
+                return INVERSE;
+            }
+            return NONE;
+        }
+    }
+}
@@ -19,6 +19,8 @@
  */
 package org.neo4j.gds.labelpropagation;
 
+import org.apache.commons.lang3.mutable.MutableInt;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.algorithms.community.CommunityCompanion;
 import org.neo4j.gds.api.DefaultValue;
@@ -27,17 +29,25 @@ import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.primitive.PrimitiveLongCollections;
 import org.neo4j.gds.collections.primitive.PrimitiveLongIterable;
+import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.loading.NullPropertyMap.DoubleNullPropertyMap;
 import org.neo4j.gds.core.loading.NullPropertyMap.LongNullPropertyMap;
 import org.neo4j.gds.core.utils.LazyBatchCollection;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.k1coloring.K1ColoringAlgorithmFactory;
+import org.neo4j.gds.k1coloring.K1ColoringParameters;
+import org.neo4j.gds.modularityoptimization.ModularityColorArray;
 import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 
 import static java.util.concurrent.TimeUnit.MICROSECONDS;
@@ -45,6 +55,8 @@ import static org.neo4j.kernel.api.StatementConstants.NO_SUCH_LABEL;
 
 public class LabelPropagation extends Algorithm<LabelPropagationResult> {
 
+    private static final int K1COLORING_MAX_ITERATIONS = 5;
+
     static final String LABEL_PROPAGATION_DESCRIPTION =
         "The Label Propagation algorithm is a fast algorithm for finding communities in a graph.";
     private final long nodeCount;
@@ -112,6 +124,11 @@ public class LabelPropagation extends Algorithm<LabelPropagationResult> {
 
         List<StepRunner> stepRunners = stepRunners();
 
+        if (parameters.semiSynchronous()) {
+            stepRunners.forEach(StepRunner::release);
+            return computeSemiSynchronous();
+        }
+
         progressTracker.beginSubTask();
         while (ranIterations < parameters.maxIterations()) {
             progressTracker.beginSubTask();
@@ -137,6 +154,170 @@ public class LabelPropagation extends Algorithm<LabelPropagationResult> {
         return new LabelPropagationResult(labels, didConverge, ranIterations);
     }
 
+    /**
+     * Semi-synchronous label propagation based on:
+     *
+     * Cordasco, Gennaro, and Luisa Gargano.
+     * "Community detection via semi-synchronous label propagation algorithms."
+     * 2010 IEEE International Workshop on: Business Applications of Social Network Analysis (BASNA).
+     *
+     * Nodes are colored such that no two adjacent nodes share a color.
+     * The color classes are processed one after another, and nodes within a class in parallel.
+     * This avoids the oscillation of fully asynchronous updates.
+     * K1Coloring may stop with adjacent nodes sharing a color. Those nodes are moved into a trailing
+     * color class that is processed by a single thread, so no two nodes that are updated concurrently
+     * read each other's labels.
+     * Only nodes with a neighbour that changed its label are recomputed.
+     */
+    private LabelPropagationResult computeSemiSynchronous() {
+        var coloring = new K1ColoringAlgorithmFactory<>().build(
+            graph,
+            new K1ColoringParameters(parameters.concurrency(), K1COLORING_MAX_ITERATIONS, batchSize),
+            ProgressTracker.NULL_TRACKER
+        );
+        coloring.setTerminationFlag(terminationFlag);
+        var coloringResult = coloring.compute();
+        var colors = coloringResult.colors();
+        boolean hasConflicts = isolateColorConflicts(
+            graph,
+            colors,
+            coloringResult.usedColors().length(),
+            parameters.concurrency(),
+            executor
+        );
+        // usedColors is derived from the colors and includes the conflict color
+        var colorArray = ModularityColorArray.create(colors, coloringResult.usedColors());
+        long lastColor = colorArray.numberOfColors() - 1;
+
+        var frontierMode = ColorClassComputeStep.FrontierMode.of(graph);
+        HugeAtomicBitSet activeNodes = null;
+        if (frontierMode != ColorClassComputeStep.FrontierMode.NONE) {
+            activeNodes = HugeAtomicBitSet.create(nodeCount);
+            activeNodes.set(0, nodeCount);
+        }
+
+        var consumers = new ComputeStepConsumer[parameters.concurrency().value()];
+        Arrays.setAll(consumers, i -> new ComputeStepConsumer(nodeWeights, labels));
+
+        long ranIterations = 0L;
+        boolean didConverge = false;
+
+        progressTracker.beginSubTask();
+        while (ranIterations < parameters.maxIterations()) {
+            progressTracker.beginSubTask();
+            boolean didChange = false;
+            long colorStart = 0;
+            for (long color = 0; color < colorArray.numberOfColors(); color++) {
+                terminationFlag.assertRunning();
+                long colorEnd = colorArray.nextStartingCoordinate(colorStart);
+                var concurrency = hasConflicts && color == lastColor ? new Concurrency(1) : parameters.concurrency();
+                didChange |= computeColorClass(
+                    colorArray,
+                    activeNodes,
+                    frontierMode,
+                    consumers,
+                    concurrency,
+                    colorStart,
+                    colorEnd
+                );
+                colorStart = colorEnd;
+            }
+            ++ranIterations;
+            progressTracker.endSubTask();
+            if (!didChange) {
+                didConverge = true;
+                break;
+            }
+        }
+        progressTracker.endSubTask();
+
+        for (ComputeStepConsumer consumer : consumers) {
+            consumer.release();
+        }
+        progressTracker.endSubTask();
+
+        return new LabelPropagationResult(labels, didConverge, ranIterations);
+    }
+
+    private boolean computeColorClass(
+        ModularityColorArray colorArray,
+        @Nullable HugeAtomicBitSet activeNodes,
+        ColorClassComputeStep.FrontierMode frontierMode,
+        ComputeStepConsumer[] consumers,
+        Concurrency concurrency,
+        long colorStart,
+        long colorEnd
+    ) {
+        var consumerIndex = new MutableInt();
+        // range partitioning creates at most `concurrency` partitions, so every task gets its own consumer
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            colorEnd - colorStart,
+            partition -> new ColorClassComputeStep(
+                graph.concurrentCopy(),
+                consumers[consumerIndex.getAndIncrement()],
+                labels,
+                colorArray,
+                activeNodes,
+                frontierMode,
+                partition,
+                colorStart,
+                progressTracker
+            ),
+            Optional.of(batchSize)
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executor)
+            .run();
+
+        return tasks.stream().anyMatch(ColorClassComputeStep::didChange);
+    }
+
+    /**
+     * Moves every node with an outgoing neighbour of the same color into the color class {@code conflictColor}.
+     * Afterwards, no relationship connects two nodes of the same color outside of that class.
+     *
+     * @return true, iff any node was moved
+     */
+    static boolean isolateColorConflicts(
+        Graph graph,
+        HugeLongArray colors,
+        long conflictColor,
+        Concurrency concurrency,
+        ExecutorService executor
+    ) {
+        var conflicts = HugeAtomicBitSet.create(graph.nodeCount());
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                partition.consume(nodeId -> localGraph.forEachRelationship(nodeId, (source, target) -> {
+                    if (source != target && colors.get(source) == colors.get(target)) {
+                        conflicts.set(source);
+                        return false;
+                    }
+                    return true;
+                }));
+            },
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executor)
+            .run();
+
+        // colors are only changed after all conflicts have been found
+        conflicts.forEachSetBit(nodeId -> colors.set(nodeId, conflictColor));
+        return !conflicts.isEmpty();
+    }
+
     private List<StepRunner> stepRunners() {
         long nodeCount = graph.nodeCount();
         long batchSize = ParallelUtil.adjustedBatchSize(nodeCount, this.batchSize);
@@ -41,8 +41,18 @@ public interface LabelPropagationBaseConfig extends
         return 10;
     }
 
+    default boolean semiSynchronous() {
+        return false;
+    }
+
     @Configuration.Ignore
     default LabelPropagationParameters toParameters() {
-        return new LabelPropagationParameters(concurrency(), maxIterations(), nodeWeightProperty(), seedProperty());
+        return new LabelPropagationParameters(
+            concurrency(),
+            maxIterations(),
+            nodeWeightProperty(),
+            seedProperty(),
+            semiSynchronous()
+        );
     }
 }
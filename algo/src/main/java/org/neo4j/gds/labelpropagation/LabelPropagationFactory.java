@@ -62,7 +62,7 @@ public class LabelPropagationFactory<CONFIG extends LabelPropagationBaseConfig>
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG config) {
-        return new LabelPropagationMemoryEstimateDefinition().memoryEstimation();
+        return new LabelPropagationMemoryEstimateDefinition(config.semiSynchronous()).memoryEstimation();
     }
 
     public Task progressTask(long relationshipCount, int maxIterations) {
@@ -22,6 +22,8 @@ package org.neo4j.gds.labelpropagation;
 import com.carrotsearch.hppc.LongDoubleScatterMap;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.k1coloring.K1ColoringMemoryEstimateDefinition;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
 import org.neo4j.gds.mem.MemoryRange;
@@ -32,9 +34,19 @@ import static org.neo4j.gds.mem.Estimate.sizeOfLongArray;
 
 public class LabelPropagationMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
+    private final boolean semiSynchronous;
+
+    public LabelPropagationMemoryEstimateDefinition() {
+        this(false);
+    }
+
+    public LabelPropagationMemoryEstimateDefinition(boolean semiSynchronous) {
+        this.semiSynchronous = semiSynchronous;
+    }
+
     @Override
     public MemoryEstimation memoryEstimation() {
-        return MemoryEstimations.builder(LabelPropagation.class)
+        var builder = MemoryEstimations.builder(LabelPropagation.class)
             .perNode("labels", HugeLongArray::memoryEstimation)
             .perThread("votes", MemoryEstimations.builder()
                 .field("init step", InitStep.class)
@@ -51,8 +63,17 @@ public class LabelPropagationMemoryEstimateDefinition implements MemoryEstimateD
                     long min = sizeOfLongArray(minBufferSize) + sizeOfDoubleArray(minBufferSize);
                     long max = sizeOfLongArray(maxBufferSize) + sizeOfDoubleArray(maxBufferSize);
                     return MemoryRange.of(min, max);
-                }).build())
-            .build();
+                }).build());
+
+        if (semiSynchronous) {
+            builder
+                .add("coloring", new K1ColoringMemoryEstimateDefinition().memoryEstimation())
+                .perNode("nodes sorted by color", HugeLongArray::memoryEstimation)
+                .perNode("color coordinates", Estimate::sizeOfBitset)
+                .perNode("active nodes", HugeAtomicBitSet::memoryEstimation);
+        }
+
+        return builder.build();
     }
 
 }
@@ -28,6 +28,7 @@ public record LabelPropagationParameters(
     Concurrency concurrency,
     int maxIterations,
     @Nullable String nodeWeightProperty,
-    @Nullable String seedProperty
+    @Nullable String seedProperty,
+    boolean semiSynchronous
 ) {
 }
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.leiden;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Refines the nodes of whole local-move communities at a time.
+ * Refinement never merges nodes across local-move communities, so every piece of shared
+ * state touched while refining a community (refined ids, merged volumes, weights towards
+ * candidate communities) is indexed by nodes of that community only.
+ * This allows several tasks to refine disjoint communities concurrently without synchronization.
+ * The random source is re-seeded per community, which keeps the result independent of the concurrency.
+ */
+final class CommunityRefinementTask implements Runnable {
+
+    private static final long COMMUNITY_BATCH_SIZE = 64;
+
+    private final Graph graph;
+    private final HugeLongArray originalCommunities;
+    private final HugeLongArray refinedCommunities;
+    private final HugeLongArray communityOffsets;
+    private final HugeLongArray nodesByCommunity;
+    private final HugeDoubleArray nodeVolumes;
+    private final HugeDoubleArray communityVolumes;
+    private final HugeDoubleArray communityVolumesAfterMerge;
+    private final HugeDoubleArray relationshipsBetweenCommunities;
+    private final HugeDoubleArray encounteredCommunitiesWeights;
+    private final AtomicLong communityCursor;
+    private final double gamma;
+    private final double theta;
+    private final long seed;
+    private final ProgressTracker progressTracker;
+
+    // per task scratch space, bounded by the size of the largest refined community
+    private final LongArrayList encounteredCommunities;
+    private final DoubleArrayList nextCommunityProbabilities;
+    // refined communities of the current local-move community which are no longer singletons
+    private final LongHashSet mergedCommunities;
+    private final Random random;
+
+    long maximumRefinedCommunityId;
+
+    CommunityRefinementTask(
+        Graph graph,
+        HugeLongArray originalCommunities,
+        HugeLongArray refinedCommunities,
+        HugeLongArray communityOffsets,
+        HugeLongArray nodesByCommunity,
+        HugeDoubleArray nodeVolumes,
+        HugeDoubleArray communityVolumes,
+        HugeDoubleArray communityVolumesAfterMerge,
+        HugeDoubleArray relationshipsBetweenCommunities,
+        HugeDoubleArray encounteredCommunitiesWeights,
+        AtomicLong communityCursor,
+        double gamma,
+        double theta,
+        long seed,
+        ProgressTracker progressTracker
+    ) {
+        this.graph = graph;
+        this.originalCommunities = originalCommunities;
+        this.refinedCommunities = refinedCommunities;
+        this.communityOffsets = communityOffsets;
+        this.nodesByCommunity = nodesByCommunity;
+        this.nodeVolumes = nodeVolumes;
+        this.communityVolumes = communityVolumes;
+        this.communityVolumesAfterMerge = communityVolumesAfterMerge;
+        this.relationshipsBetweenCommunities = relationshipsBetweenCommunities;
+        this.encounteredCommunitiesWeights = encounteredCommunitiesWeights;
+        this.communityCursor = communityCursor;
+        this.gamma = gamma;
+        this.theta = theta;
+        this.seed = seed;
+        this.progressTracker = progressTracker;
+        this.encounteredCommunities = new LongArrayList();
+        this.nextCommunityProbabilities = new DoubleArrayList();
+        this.mergedCommunities = new LongHashSet();
+        this.random = new Random(seed);
+        this.maximumRefinedCommunityId = -1;
+    }
+
+    @Override
+    public void run() {
+        long communityCount = communityOffsets.size() - 1;
+        long offset;
+        while ((offset = communityCursor.getAndAdd(COMMUNITY_BATCH_SIZE)) < communityCount) {
+            long end = Math.min(offset + COMMUNITY_BATCH_SIZE, communityCount);
+            for (long communityId = offset; communityId < end; communityId++) {
+                refineCommunity(communityId);
+            }
+        }
+    }
+
+    private void refineCommunity(long communityId) {
+        long start = communityOffsets.get(communityId);
+        long end = communityOffsets.get(communityId + 1);
+        if (start == end) {
+            return;
+        }
+
+        random.setSeed(seed + communityId);
+        mergedCommunities.clear();
+
+        for (long idx = start; idx < end; idx++) {
+            long nodeId = nodesByCommunity.get(idx);
+            boolean isSingleton = !mergedCommunities.contains(nodeId);
+            if (isSingleton && isWellConnected(nodeId)) {
+                mergeNodeSubset(nodeId);
+            }
+            maximumRefinedCommunityId = Math.max(maximumRefinedCommunityId, refinedCommunities.get(nodeId));
+        }
+
+        progressTracker.logProgress(end - start);
+    }
+
+    private void mergeNodeSubset(long nodeId) {
+        encounteredCommunities.clear();
+        nextCommunityProbabilities.clear();
+
+        computeCommunityInformation(nodeId);
+
+        if (encounteredCommunities.isEmpty()) {
+            return;
+        }
+
+        var currentNodeCommunityId = refinedCommunities.get(nodeId);
+        var currentNodeVolume = nodeVolumes.get(nodeId);
+
+        double probabilitiesSum = 0d;
+        double bestGain = 0d;
+        long bestCommunityId = 0;
+        double totalSumOfRelationships = 0.0;
+        for (int c = 0; c < encounteredCommunities.size(); c++) {
+            var candidateCommunityId = encounteredCommunities.get(c);
+            var communityRelationshipsCount = encounteredCommunitiesWeights.get(candidateCommunityId);
+            totalSumOfRelationships += communityRelationshipsCount;
+            encounteredCommunitiesWeights.set(candidateCommunityId, -communityRelationshipsCount);
+
+            var modularityGain =
+                communityRelationshipsCount - currentNodeVolume * communityVolumesAfterMerge.get(candidateCommunityId) * gamma;
+            if (modularityGain > bestGain) {
+                bestGain = modularityGain;
+                bestCommunityId = candidateCommunityId;
+            }
+            double nextCommunityProbability = 0d;
+            if (modularityGain >= 0) {
+                nextCommunityProbability = Math.exp(modularityGain / theta);
+            }
+
+            nextCommunityProbabilities.add(nextCommunityProbability);
+            probabilitiesSum += nextCommunityProbability;
+        }
+
+        long nextCommunityId = currentNodeCommunityId;
+
+        if (Double.isInfinite(probabilitiesSum) || probabilitiesSum <= 0) {
+            if (bestGain > 0) {
+                nextCommunityId = bestCommunityId;
+            }
+        } else {
+            nextCommunityId = selectRandomCommunity(probabilitiesSum, nextCommunityId);
+        }
+
+        if (nextCommunityId != currentNodeCommunityId) {
+            addToCommunity(nodeId, currentNodeCommunityId, totalSumOfRelationships, nextCommunityId);
+        }
+    }
+
+    private long selectRandomCommunity(double probabilitiesSum, long defaultCommunity) {
+        var x = probabilitiesSum * random.nextDouble();
+
+        assert x >= 0;
+        double curr = 0d;
+        for (int c = 0; c < encounteredCommunities.size(); c++) {
+            curr += nextCommunityProbabilities.get(c);
+            if (x <= curr) {
+                return encounteredCommunities.get(c);
+            }
+        }
+        return defaultCommunity;
+    }
+
+    private void addToCommunity(
+        long nodeId,
+        long currentNodeCommunityId,
+        double totalSumOfRelationships,
+        long nextCommunityId
+    ) {
+        refinedCommunities.set(nodeId, nextCommunityId);
+        mergedCommunities.add(nextCommunityId);
+
+        var nodeVolume = nodeVolumes.get(nodeId);
+
+        communityVolumesAfterMerge.addTo(nextCommunityId, nodeVolume);
+        communityVolumesAfterMerge.addTo(currentNodeCommunityId, -nodeVolume);
+
+        double externalEdgesWithNewCommunity = Math.abs(encounteredCommunitiesWeights.get(nextCommunityId));
+        relationshipsBetweenCommunities.addTo(
+            nextCommunityId,
+            totalSumOfRelationships - externalEdgesWithNewCommunity
+        );
+    }
+
+    private void computeCommunityInformation(long nodeId) {
+        long originalCommunityId = originalCommunities.get(nodeId);
+        graph.forEachRelationship(nodeId, 1.0, (s, t, relationshipWeight) -> {
+            long tOriginalCommunity = originalCommunities.get(t);
+            if (tOriginalCommunity == originalCommunityId) { //they are in the same original partition
+                long tCommunity = refinedCommunities.get(t);
+
+                if (isWellConnected(tCommunity)) {
+                    if (encounteredCommunitiesWeights.get(tCommunity) < 0) {
+                        encounteredCommunities.add(tCommunity);
+                        encounteredCommunitiesWeights.set(tCommunity, relationshipWeight);
+                    } else {
+                        encounteredCommunitiesWeights.addTo(tCommunity, relationshipWeight);
+                    }
+                }
+            }
+            return true;
+        });
+    }
+
+    private boolean isWellConnected(long nodeOrCommunityId) {
+        long originalCommunityId = originalCommunities.get(nodeOrCommunityId);
+        double originalCommunityVolume = communityVolumes.get(originalCommunityId);
+        double updatedCommunityVolume = communityVolumesAfterMerge.get(nodeOrCommunityId);
+        double rightSide = gamma * updatedCommunityVolume * (originalCommunityVolume - updatedCommunityVolume);
+
+        return relationshipsBetweenCommunities.get(nodeOrCommunityId) >= rightSide;
+    }
+}
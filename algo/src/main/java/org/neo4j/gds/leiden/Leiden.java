@@ -56,6 +56,7 @@ public class Leiden extends Algorithm<LeidenResult> {
     private final long randomSeed;
 
     private final double tolerance;
+    private final boolean parallelRefinement;
 
     public Leiden(
         Graph graph,
@@ -68,6 +69,34 @@ public class Leiden extends Algorithm<LeidenResult> {
         double tolerance,
         Concurrency concurrency,
         ProgressTracker progressTracker
+    ) {
+        this(
+            graph,
+            maxIterations,
+            initialGamma,
+            theta,
+            includeIntermediateCommunities,
+            randomSeed,
+            seedValues,
+            tolerance,
+            false,
+            concurrency,
+            progressTracker
+        );
+    }
+
+    public Leiden(
+        Graph graph,
+        int maxIterations,
+        double initialGamma,
+        double theta,
+        boolean includeIntermediateCommunities,
+        long randomSeed,
+        @Nullable NodePropertyValues seedValues,
+        double tolerance,
+        boolean parallelRefinement,
+        Concurrency concurrency,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
         this.rootGraph = graph;
@@ -90,6 +119,7 @@ public class Leiden extends Algorithm<LeidenResult> {
         this.modularities = new double[maxIterations];
         this.modularity = 0d;
         this.tolerance = tolerance;
+        this.parallelRefinement = parallelRefinement;
     }
 
     @Override
@@ -192,6 +222,7 @@ public class Leiden extends Algorithm<LeidenResult> {
                     gamma,
                     theta,
                     randomSeed,
+                    parallelRefinement,
                     concurrency,
                     executorService,
                     progressTracker
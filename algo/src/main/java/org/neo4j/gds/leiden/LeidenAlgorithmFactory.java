@@ -51,6 +51,7 @@ public class LeidenAlgorithmFactory<CONFIG extends LeidenBaseConfig> extends Gra
             parameters.randomSeed().orElse(0L),
             seedValues,
             parameters.tolerance(),
+            parameters.parallelRefinement(),
             parameters.concurrency(),
             progressTracker
         );
@@ -51,6 +51,10 @@ public interface LeidenBaseConfig extends
         return false;
     }
 
+    default boolean parallelRefinement() {
+        return false;
+    }
+
     @Override
     @Configuration.DoubleRange(min = 0D)
     default double tolerance() {
@@ -67,11 +71,11 @@ public interface LeidenBaseConfig extends
 
     @Configuration.Ignore
     default LeidenParameters toParameters() {
-        return new LeidenParameters(concurrency(), tolerance(), seedProperty(), maxLevels(), gamma(), theta(), includeIntermediateCommunities(), randomSeed());
+        return new LeidenParameters(concurrency(), tolerance(), seedProperty(), maxLevels(), gamma(), theta(), includeIntermediateCommunities(), randomSeed(), parallelRefinement());
     }
 
     @Configuration.Ignore
     default LeidenMemoryEstimationParameters toMemoryEstimationParameters() {
-        return new LeidenMemoryEstimationParameters(seedProperty(), includeIntermediateCommunities(), maxLevels());
+        return new LeidenMemoryEstimationParameters(seedProperty(), includeIntermediateCommunities(), maxLevels(), parallelRefinement());
     }
 }
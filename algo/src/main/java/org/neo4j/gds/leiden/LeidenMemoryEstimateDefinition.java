@@ -49,7 +49,11 @@ public class LeidenMemoryEstimateDefinition implements MemoryEstimateDefinition
             .add("dendogram manager", LeidenDendrogramManager.memoryEstimation(
                 parameters.includeIntermediateCommunities() ? parameters.maxLevels() : 1
             ))
-            .add("refinement phase", RefinementPhase.memoryEstimation())
+            .add("refinement phase", RefinementPhase.memoryEstimation());
+        if (parameters.parallelRefinement()) {
+            builder.add("parallel refinement", RefinementPhase.parallelRefinementMemoryEstimation());
+        }
+        builder
             .add("aggregation phase", GraphAggregationPhase.memoryEstimation())
             .add("post-aggregation phase", MemoryEstimations.builder()
                 .perNode("next local move communities", HugeLongArray::memoryEstimation)
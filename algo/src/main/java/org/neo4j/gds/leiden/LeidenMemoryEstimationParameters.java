@@ -26,6 +26,7 @@ import org.neo4j.gds.annotation.Parameters;
 public record LeidenMemoryEstimationParameters(
     @Nullable String seedProperty,
     boolean includeIntermediateCommunities,
-    int maxLevels
+    int maxLevels,
+    boolean parallelRefinement
 ) {
 }
@@ -34,6 +34,7 @@ public record LeidenParameters(
     double gamma,
     double theta,
     boolean includeIntermediateCommunities,
-    Optional<Long> randomSeed
+    Optional<Long> randomSeed,
+    boolean parallelRefinement
 ) {
 }
@@ -22,6 +22,7 @@ package org.neo4j.gds.leiden;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
@@ -29,6 +30,7 @@ import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
+import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.ArrayList;
 import java.util.concurrent.atomic.AtomicLong;
@@ -105,19 +107,15 @@ final class LocalMovePhase {
      */
     public void run() {
         var atomicCommunityVolumes = HugeAtomicDoubleArray.of(graph.nodeCount(), ParallelDoublePageCreator.passThrough(concurrency));
-        graph.forEachNode(v -> {
-            atomicCommunityVolumes.set(v, communityVolumes.get(v));
-            return true;
-        });
         HugeLongArray globalQueue = HugeLongArray.newArray(graph.nodeCount());
         AtomicLong globalQueueIndex = new AtomicLong();
         AtomicLong globalQueueSize = new AtomicLong(graph.nodeCount());
 
         HugeAtomicBitSet nodeInQueue = HugeAtomicBitSet.create(graph.nodeCount());
         nodeInQueue.set(0, graph.nodeCount());
-        graph.forEachNode(v -> {
+        ParallelUtil.parallelForEachNode(graph.nodeCount(), concurrency, TerminationFlag.RUNNING_TRUE, v -> {
+            atomicCommunityVolumes.set(v, communityVolumes.get(v));
             globalQueue.set(v, v);
-            return true;
         });
         var tasks = new ArrayList<LocalMoveTask>();
         for (int i = 0; i < concurrency.value(); ++i) {
@@ -144,10 +142,12 @@ final class LocalMovePhase {
             swaps += task.swaps;
         }
 
-        graph.forEachNode(v -> {
-            communityVolumes.set(v, atomicCommunityVolumes.get(v));
-            return true;
-        });
+        ParallelUtil.parallelForEachNode(
+            graph.nodeCount(),
+            concurrency,
+            TerminationFlag.RUNNING_TRUE,
+            v -> communityVolumes.set(v, atomicCommunityVolumes.get(v))
+        );
 
     }
 
@@ -36,6 +36,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 final class RefinementPhase {
 
@@ -56,6 +59,8 @@ final class RefinementPhase {
     private final ExecutorService executorService;
     private final HugeDoubleArray nextCommunityProbabilities;
     private final ProgressTracker progressTracker;
+    private final boolean parallelRefinement;
+
     static RefinementPhase create(
         Graph workingGraph,
         HugeLongArray originalCommunities,
@@ -67,6 +72,34 @@ final class RefinementPhase {
         Concurrency concurrency,
         ExecutorService executorService,
         ProgressTracker progressTracker
+    ) {
+        return create(
+            workingGraph,
+            originalCommunities,
+            nodeVolumes,
+            communityVolumes,
+            gamma,
+            theta,
+            seed,
+            false,
+            concurrency,
+            executorService,
+            progressTracker
+        );
+    }
+
+    static RefinementPhase create(
+        Graph workingGraph,
+        HugeLongArray originalCommunities,
+        HugeDoubleArray nodeVolumes,
+        HugeDoubleArray communityVolumes,
+        double gamma,
+        double theta,
+        long seed,
+        boolean parallelRefinement,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
     ) {
         var encounteredCommunities = HugeLongArray.newArray(workingGraph.nodeCount());
         var encounteredCommunitiesWeights = HugeDoubleArray.newArray(workingGraph.nodeCount());
@@ -84,11 +117,13 @@ final class RefinementPhase {
             gamma,
             theta,
             seed,
+            parallelRefinement,
             concurrency,
             executorService,
             progressTracker
         );
     }
+
     private RefinementPhase(
         Graph workingGraph,
         HugeLongArray originalCommunities,
@@ -100,6 +135,7 @@ final class RefinementPhase {
         double gamma,
         double theta,
         long seed,
+        boolean parallelRefinement,
         Concurrency concurrency,
         ExecutorService executorService,
         ProgressTracker progressTracker
@@ -120,6 +156,7 @@ final class RefinementPhase {
         this.concurrency = concurrency;
         this.executorService = executorService;
         this.progressTracker = progressTracker;
+        this.parallelRefinement = parallelRefinement;
     }
 
     static MemoryEstimation memoryEstimation() {
@@ -134,12 +171,24 @@ final class RefinementPhase {
             .build();
     }
 
+    static MemoryEstimation parallelRefinementMemoryEstimation() {
+        return MemoryEstimations.builder(CommunityRefinementTask.class)
+            .perNode("community offsets", HugeLongArray::memoryEstimation)
+            .perNode("nodes by community", HugeLongArray::memoryEstimation)
+            .perNode("insertion indices", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
     RefinementPhaseResult run() {
         var refinedCommunities = HugeLongArray.newArray(workingGraph.nodeCount());
         refinedCommunities.setAll(nodeId -> nodeId); //singleton partition
 
         computeRelationshipsBetweenCommunities();
 
+        if (parallelRefinement) {
+            return refineCommunitiesInParallel(refinedCommunities);
+        }
+
         BitSet singleton = new BitSet(workingGraph.nodeCount());
         singleton.set(0, workingGraph.nodeCount());
 
@@ -168,6 +217,67 @@ final class RefinementPhase {
         );
     }
 
+    private RefinementPhaseResult refineCommunitiesInParallel(HugeLongArray refinedCommunities) {
+        long nodeCount = workingGraph.nodeCount();
+
+        // counting sort of the nodes by their local move community, keeping node id order within a community
+        var communityOffsets = HugeLongArray.newArray(nodeCount + 1);
+        workingGraph.forEachNode(nodeId -> {
+            communityOffsets.addTo(originalCommunities.get(nodeId) + 1, 1);
+            return true;
+        });
+        for (long communityId = 1; communityId <= nodeCount; communityId++) {
+            communityOffsets.addTo(communityId, communityOffsets.get(communityId - 1));
+        }
+        var nodesByCommunity = HugeLongArray.newArray(nodeCount);
+        var insertionIndices = communityOffsets.copyOf(nodeCount);
+        workingGraph.forEachNode(nodeId -> {
+            long communityId = originalCommunities.get(nodeId);
+            long index = insertionIndices.get(communityId);
+            insertionIndices.set(communityId, index + 1);
+            nodesByCommunity.set(index, nodeId);
+            return true;
+        });
+
+        var communityCursor = new AtomicLong();
+        var tasks = IntStream.range(0, concurrency.value())
+            .mapToObj(i -> new CommunityRefinementTask(
+                workingGraph.concurrentCopy(),
+                originalCommunities,
+                refinedCommunities,
+                communityOffsets,
+                nodesByCommunity,
+                nodeVolumes,
+                communityVolumes,
+                communityVolumesAfterMerge,
+                relationshipsBetweenCommunities,
+                encounteredCommunitiesWeights,
+                communityCursor,
+                gamma,
+                theta,
+                seed,
+                progressTracker
+            ))
+            .collect(Collectors.toList());
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .run();
+
+        long maximumCommunityId = tasks.stream()
+            .mapToLong(task -> task.maximumRefinedCommunityId)
+            .max()
+            .orElse(-1);
+
+        return new RefinementPhaseResult(
+            refinedCommunities,
+            communityVolumesAfterMerge,
+            maximumCommunityId
+        );
+    }
+
     private void computeRelationshipsBetweenCommunities() {
         List<RefinementBetweenRelationshipCounter> tasks = PartitionUtils.degreePartition(
             workingGraph,
@@ -66,6 +66,33 @@ public final class Louvain extends Algorithm<LouvainResult> {
 
     private final boolean trackIntermediateCommunities;
 
+    private final boolean lowMemory;
+
+    public Louvain(
+        Graph graph,
+        Concurrency concurrency,
+        int maxIterations,
+        double tolerance,
+        int maxLevels,
+        boolean trackIntermediateCommunities,
+        String seedProperty,
+        ProgressTracker progressTracker,
+        ExecutorService executorService
+    ) {
+        this(
+            graph,
+            concurrency,
+            maxIterations,
+            tolerance,
+            maxLevels,
+            trackIntermediateCommunities,
+            seedProperty,
+            false,
+            progressTracker,
+            executorService
+        );
+    }
+
     public Louvain(
         Graph graph,
         Concurrency concurrency,
@@ -74,6 +101,7 @@ public final class Louvain extends Algorithm<LouvainResult> {
         int maxLevels,
         boolean trackIntermediateCommunities,
         String seedProperty,
+        boolean lowMemory,
         ProgressTracker progressTracker,
         ExecutorService executorService
     ) {
@@ -94,6 +122,7 @@ public final class Louvain extends Algorithm<LouvainResult> {
         this.modularities = new double[maxLevels];
         this.maxLevels = maxLevels;
         this.trackIntermediateCommunities = trackIntermediateCommunities;
+        this.lowMemory = lowMemory;
     }
 
     @Override
@@ -204,6 +233,7 @@ public final class Louvain extends Algorithm<LouvainResult> {
             seed,
             concurrency,
             DEFAULT_BATCH_SIZE,
+            lowMemory,
             DefaultPool.INSTANCE,
             progressTracker,
             terminationFlag
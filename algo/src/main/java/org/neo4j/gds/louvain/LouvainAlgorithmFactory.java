@@ -40,6 +40,7 @@ public class LouvainAlgorithmFactory<CONFIG extends LouvainBaseConfig> extends G
             parameters.maxLevels(),
             parameters.includeIntermediateCommunities(),
             parameters.seedProperty(),
+            parameters.lowMemory(),
             progressTracker,
             DefaultPool.INSTANCE
         );
@@ -55,6 +55,10 @@ public interface LouvainBaseConfig extends
         return false;
     }
 
+    default boolean lowMemory() {
+        return false;
+    }
+
     @Configuration.Check
     default void validate() {
         if (includeIntermediateCommunities() && consecutiveIds()) {
@@ -70,12 +74,13 @@ public interface LouvainBaseConfig extends
             tolerance(),
             maxLevels(),
             includeIntermediateCommunities(),
-            seedProperty()
+            seedProperty(),
+            lowMemory()
         );
     }
 
     @Configuration.Ignore
     default LouvainMemoryEstimationParameters toMemoryEstimationParameters() {
-        return new LouvainMemoryEstimationParameters(maxLevels(), includeIntermediateCommunities());
+        return new LouvainMemoryEstimationParameters(maxLevels(), includeIntermediateCommunities(), lowMemory());
     }
 }
@@ -51,7 +51,7 @@ public class LouvainMemoryEstimateDefinition implements MemoryEstimateDefinition
         return MemoryEstimations.builder(Louvain.class)
             .add(
                 "modularityOptimization()",
-                new ModularityOptimizationMemoryEstimateDefinition().memoryEstimation()
+                new ModularityOptimizationMemoryEstimateDefinition(parameters.lowMemory()).memoryEstimation()
             )
             .rangePerGraphDimension("subGraph", (graphDimensions, concurrency) -> {
                 ImmutableGraphDimensions.Builder dimensionsBuilder = ImmutableGraphDimensions
@@ -22,5 +22,9 @@ package org.neo4j.gds.louvain;
 import org.neo4j.gds.annotation.Parameters;
 
 @Parameters
-public record LouvainMemoryEstimationParameters(int maxLevels, boolean includeIntermediateCommunities) {
+public record LouvainMemoryEstimationParameters(
+    int maxLevels,
+    boolean includeIntermediateCommunities,
+    boolean lowMemory
+) {
 }
@@ -30,6 +30,7 @@ public record LouvainParameters(
     double tolerance,
     int maxLevels,
     boolean includeIntermediateCommunities,
-    @Nullable String seedProperty
+    @Nullable String seedProperty,
+    boolean lowMemory
 ) {
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.modularityoptimization;
+
+import com.carrotsearch.hppc.BitMixer;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryRange;
+
+/**
+ * Accumulates the relationship weights of a single node towards its neighbouring communities.
+ * Communities are assigned to dense local slots in the order they are encountered,
+ * weights are kept in float precision and the slot lookup is an open addressing table of ints.
+ * Resetting the accumulator only touches the slots used by the previous node.
+ */
+final class CommunityWeightAccumulator {
+
+    private static final int MIN_CAPACITY = 64;
+
+    private long[] communities;
+    private float[] weights;
+    // slot + 1 for every occupied bucket, 0 for free buckets
+    private int[] buckets;
+    private int mask;
+    private int size;
+
+    CommunityWeightAccumulator() {
+        this.communities = new long[MIN_CAPACITY];
+        this.weights = new float[MIN_CAPACITY];
+        this.buckets = new int[MIN_CAPACITY * 2];
+        this.mask = buckets.length - 1;
+        this.size = 0;
+    }
+
+    static MemoryRange memoryEstimation(long nodeCount) {
+        return MemoryRange.of(
+            estimate(MIN_CAPACITY),
+            estimate(Math.max(MIN_CAPACITY, nodeCount))
+        );
+    }
+
+    private static long estimate(long capacity) {
+        return Estimate.sizeOfInstance(CommunityWeightAccumulator.class) +
+               Estimate.sizeOfLongArray(capacity) +
+               Estimate.sizeOfFloatArray(capacity) +
+               Estimate.sizeOfIntArray(2 * capacity);
+    }
+
+    /**
+     * Prepares the accumulator for a node with the given degree, which bounds the number of distinct communities.
+     */
+    void reset(int degree) {
+        // removing the entries in reverse insertion order never breaks the probe sequence of a remaining entry
+        for (int slot = size - 1; slot >= 0; slot--) {
+            buckets[bucketOf(slot)] = 0;
+        }
+        size = 0;
+        if (degree > communities.length) {
+            int capacity = Integer.highestOneBit(degree - 1) << 1;
+            communities = new long[capacity];
+            weights = new float[capacity];
+            buckets = new int[capacity * 2];
+            mask = buckets.length - 1;
+        }
+    }
+
+    void add(long community, double weight) {
+        int bucket = BitMixer.mixPhi(community) & mask;
+        int slot;
+        while ((slot = buckets[bucket]) != 0) {
+            if (communities[slot - 1] == community) {
+                weights[slot - 1] += (float) weight;
+                return;
+            }
+            bucket = (bucket + 1) & mask;
+        }
+        communities[size] = community;
+        weights[size] = (float) weight;
+        buckets[bucket] = ++size;
+    }
+
+    double weight(long community) {
+        int bucket = BitMixer.mixPhi(community) & mask;
+        int slot;
+        while ((slot = buckets[bucket]) != 0) {
+            if (communities[slot - 1] == community) {
+                return weights[slot - 1];
+            }
+            bucket = (bucket + 1) & mask;
+        }
+        return 0.0;
+    }
+
+    private int bucketOf(int slot) {
+        int bucket = BitMixer.mixPhi(communities[slot]) & mask;
+        while (buckets[bucket] != slot + 1) {
+            bucket = (bucket + 1) & mask;
+        }
+        return bucket;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long communityAt(int slot) {
+        return communities[slot];
+    }
+
+    double weightAt(int slot) {
+        return weights[slot];
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.modularityoptimization;
+
+import org.apache.commons.lang3.mutable.MutableDouble;
+import org.apache.commons.lang3.mutable.MutableLong;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * Low memory variant of {@link ModularityOptimizationTask}.
+ * Neighbour community weights are accumulated in a {@link CommunityWeightAccumulator}.
+ * The task does not record community weight changes, they are derived from the
+ * current and next communities of the moved nodes once all tasks of a color have finished.
+ */
+final class CompactModularityOptimizationTask implements Runnable {
+
+    private final Graph localGraph;
+    private final Partition partition;
+    private final long currentStartingPosition;
+    private final double totalNodeWeight;
+    private final ProgressTracker progressTracker;
+    private final HugeLongArray currentCommunities;
+    private final HugeLongArray nextCommunities;
+    private final LongToDoubleFunction cumulativeNodeWeights;
+    private final ModularityManager modularityManager;
+    private final ModularityColorArray modularityColorArray;
+    private final CommunityWeightAccumulator communityInfluences;
+
+    CompactModularityOptimizationTask(
+        Graph graph,
+        Partition partition,
+        long currentStartingPosition,
+        double totalNodeWeight,
+        HugeLongArray currentCommunities,
+        HugeLongArray nextCommunities,
+        LongToDoubleFunction cumulativeNodeWeights,
+        ModularityManager modularityManager,
+        ModularityColorArray modularityColorArray,
+        CommunityWeightAccumulator communityInfluences,
+        ProgressTracker progressTracker
+    ) {
+        this.modularityColorArray = modularityColorArray;
+        this.partition = partition;
+        this.currentStartingPosition = currentStartingPosition;
+        this.localGraph = graph.concurrentCopy();
+        this.currentCommunities = currentCommunities;
+        this.nextCommunities = nextCommunities;
+        this.modularityManager = modularityManager;
+        this.totalNodeWeight = totalNodeWeight;
+        this.cumulativeNodeWeights = cumulativeNodeWeights;
+        this.communityInfluences = communityInfluences;
+        this.progressTracker = progressTracker;
+    }
+
+    @Override
+    public void run() {
+        var relationshipsProcessed = new MutableLong();
+        var selfWeight = new MutableDouble();
+
+        partition.consume(indexId -> {
+            long actualIndexId = currentStartingPosition + indexId;
+            long nodeId = modularityColorArray.nodeAtPosition(actualIndexId);
+            long currentCommunity = currentCommunities.get(nodeId);
+            final int degree = localGraph.degree(nodeId);
+
+            communityInfluences.reset(degree);
+            selfWeight.setValue(0.0D);
+
+            // calculate influence of this node w.r.t its neighbours communities
+            localGraph.forEachRelationship(nodeId, 1.0D, (s, t, w) -> {
+                if (s == t) {
+                    selfWeight.add(w);
+                }
+                communityInfluences.add(currentCommunities.get(t), w);
+                return true;
+            });
+
+            long nextCommunity = currentCommunity;
+            double currentGain;
+            double maxGain = 0.0;
+            double eix = communityInfluences.weight(currentCommunity) - selfWeight.doubleValue();
+            double cumulativeNodeWeight = cumulativeNodeWeights.applyAsDouble(nodeId);
+            double ax = modularityManager.getCommunityWeight(currentCommunity) - cumulativeNodeWeight;
+            double eiy;
+            double ay;
+
+            long communityCandidate;
+            for (int slot = 0; slot < communityInfluences.size(); slot++) {
+                communityCandidate = communityInfluences.communityAt(slot);
+
+                if (currentCommunity != communityCandidate) {
+                    ay = modularityManager.getCommunityWeight(communityCandidate);
+                    eiy = communityInfluences.weightAt(slot);
+                    currentGain =
+                        (eiy - eix) / (totalNodeWeight / 2.0)
+                        + (2 * cumulativeNodeWeight * ax - 2 * cumulativeNodeWeight * ay) / Math.pow(
+                            totalNodeWeight,
+                            2
+                        );
+
+                    if ((currentGain > maxGain) || (currentGain == maxGain && currentGain != 0.0 && nextCommunity > communityCandidate)) {
+                        maxGain = currentGain;
+                        nextCommunity = communityCandidate;
+                    }
+                }
+            }
+
+            nextCommunities.set(nodeId, nextCommunity);
+
+            relationshipsProcessed.add(degree);
+        });
+
+        progressTracker.logProgress(relationshipsProcessed.longValue());
+    }
+}
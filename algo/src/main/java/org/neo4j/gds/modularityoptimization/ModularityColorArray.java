@@ -24,7 +24,10 @@ import com.carrotsearch.hppc.LongLongHashMap;
 import com.carrotsearch.hppc.LongLongMap;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 
-final class ModularityColorArray {
+/**
+ * Orders the nodes by their color, such that every color class occupies a contiguous range of positions.
+ */
+public final class ModularityColorArray {
 
     private final HugeLongArray sortedNodesByColor;
     private final BitSet colorCoordinates;
@@ -40,20 +43,20 @@ final class ModularityColorArray {
         this.numberOfColors = colorCoordinates.cardinality() - 1;
     }
 
-    long numberOfColors() {
+    public long numberOfColors() {
         return numberOfColors;
     }
 
-    long nextStartingCoordinate(long currentStartingPosition) {
+    public long nextStartingCoordinate(long currentStartingPosition) {
         return colorCoordinates.nextSetBit(currentStartingPosition + 1);
     }
 
 
-    long nodeAtPosition(long indexId) {
+    public long nodeAtPosition(long indexId) {
         return sortedNodesByColor.get(indexId);
     }
 
-    static ModularityColorArray create(HugeLongArray colors, BitSet usedColors) {
+    public static ModularityColorArray create(HugeLongArray colors, BitSet usedColors) {
         long nodeCount = colors.size();
         var sortedNodesByColor = HugeLongArray.newArray(nodeCount);
         HugeLongArray colorCoordinateArray = HugeLongArray.newArray(usedColors.cardinality());
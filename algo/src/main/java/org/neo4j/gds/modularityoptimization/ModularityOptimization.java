@@ -21,6 +21,7 @@ package org.neo4j.gds.modularityoptimization;
 
 import com.carrotsearch.hppc.cursors.LongLongCursor;
 import org.apache.commons.lang3.mutable.MutableDouble;
+import org.apache.commons.lang3.mutable.MutableInt;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.DefaultValue;
@@ -43,9 +44,11 @@ import org.neo4j.gds.k1coloring.K1ColoringAlgorithmFactory;
 import org.neo4j.gds.k1coloring.K1ColoringParameters;
 import org.neo4j.gds.termination.TerminationFlag;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
+import java.util.function.LongToDoubleFunction;
 import java.util.function.LongUnaryOperator;
 import java.util.stream.LongStream;
 
@@ -70,6 +73,7 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
     private final Graph graph;
     private final NodePropertyValues seedProperty;
     private final ExecutorService executor;
+    private final boolean lowMemory;
 
     private final ModularityManager modularityManager;
 
@@ -85,6 +89,7 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
     private HugeAtomicDoubleArray communityWeightUpdates;
 
     private ModularityColorArray modularityColorArray;
+    private CommunityWeightAccumulator[] communityInfluences;
 
     public ModularityOptimization(
         final Graph graph,
@@ -96,6 +101,36 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
         ExecutorService executor,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
+    ) {
+        this(
+            graph,
+            maxIterations,
+            tolerance,
+            seedProperty,
+            concurrency,
+            minBatchSize,
+            false,
+            executor,
+            progressTracker,
+            terminationFlag
+        );
+    }
+
+    /**
+     * @param lowMemory trades precision of the neighbour community weights (float instead of double)
+     *                  and a few extra passes for less node-sized state, see {@link CompactModularityOptimizationTask}.
+     */
+    public ModularityOptimization(
+        final Graph graph,
+        int maxIterations,
+        double tolerance,
+        @Nullable NodePropertyValues seedProperty,
+        Concurrency concurrency,
+        int minBatchSize,
+        boolean lowMemory,
+        ExecutorService executor,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
     ) {
         super(progressTracker);
         this.graph = graph;
@@ -106,6 +141,7 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
         this.executor = executor;
         this.concurrency = concurrency;
         this.minBatchSize = minBatchSize;
+        this.lowMemory = lowMemory;
         if (maxIterations < 1) {
             throw new IllegalArgumentException(formatWithLocale(
                 "Need to run at least one iteration, but got %d",
@@ -226,9 +262,16 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
 
     private void init() {
         this.nextCommunities = HugeLongArray.newArray(nodeCount);
-        this.cumulativeNodeWeights = HugeDoubleArray.newArray(nodeCount);
-
-        this.communityWeightUpdates = HugeAtomicDoubleArray.of(nodeCount, ParallelDoublePageCreator.passThrough(concurrency));
+        // in low memory mode, the cumulative weight of a node in an unweighted graph is its degree
+        boolean storeNodeWeights = !lowMemory || graph.hasRelationshipProperty();
+        this.cumulativeNodeWeights = storeNodeWeights ? HugeDoubleArray.newArray(nodeCount) : null;
+
+        if (lowMemory) {
+            this.communityInfluences = new CommunityWeightAccumulator[concurrency.value()];
+            Arrays.setAll(communityInfluences, i -> new CommunityWeightAccumulator());
+        } else {
+            this.communityWeightUpdates = HugeAtomicDoubleArray.of(nodeCount, ParallelDoublePageCreator.passThrough(concurrency));
+        }
 
         var initTasks = PartitionUtils.rangePartition(concurrency, nodeCount, (partition) ->
                 new InitTask(
@@ -303,7 +346,9 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
                 );
 
 
-                cumulativeNodeWeights.set(nodeId, cumulativeWeight.doubleValue());
+                if (cumulativeNodeWeights != null) {
+                    cumulativeNodeWeights.set(nodeId, cumulativeWeight.doubleValue());
+                }
 
                 localSum += cumulativeWeight.doubleValue();
             });
@@ -320,6 +365,11 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
         long nextStartingCoordinate = modularityColorArray.nextStartingCoordinate(currentStandingPosition);
         long colorCount = nextStartingCoordinate - currentStandingPosition;
 
+        if (lowMemory) {
+            optimizeColorCompact(currentStandingPosition, colorCount);
+            return nextStartingCoordinate;
+        }
+
         RunWithConcurrency.builder()
             .concurrency(concurrency)
             .tasks(createModularityOptimizationTasks(currentStandingPosition, colorCount))
@@ -353,6 +403,56 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
         return nextStartingCoordinate;
     }
 
+    private void optimizeColorCompact(long currentStandingPosition, long colorCount) {
+        var taskIndex = new MutableInt();
+        LongToDoubleFunction nodeWeights = cumulativeNodeWeights != null
+            ? cumulativeNodeWeights::get
+            : graph::degree;
+        // range partitioning creates at most `concurrency` partitions, so every task gets its own accumulator
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            colorCount,
+            partition -> new CompactModularityOptimizationTask(
+                graph,
+                partition,
+                currentStandingPosition,
+                totalNodeWeight,
+                currentCommunities,
+                nextCommunities,
+                nodeWeights,
+                modularityManager,
+                modularityColorArray,
+                communityInfluences[taskIndex.getAndIncrement()],
+                progressTracker
+            ),
+            Optional.of(minBatchSize)
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executor)
+            .run();
+
+        // the community weights are derived from the moved nodes directly, which avoids a node-sized update buffer
+        ParallelUtil.parallelStreamConsume(
+            LongStream.range(0, colorCount),
+            concurrency,
+            TerminationFlag.RUNNING_TRUE,
+            stream -> stream.forEach(indexId -> {
+                long nodeId = modularityColorArray.nodeAtPosition(currentStandingPosition + indexId);
+                long currentCommunity = currentCommunities.get(nodeId);
+                long nextCommunity = nextCommunities.get(nodeId);
+                if (currentCommunity != nextCommunity) {
+                    double nodeWeight = nodeWeights.applyAsDouble(nodeId);
+                    modularityManager.communityWeightUpdate(currentCommunity, -nodeWeight);
+                    modularityManager.communityWeightUpdate(nextCommunity, nodeWeight);
+                    currentCommunities.set(nodeId, nextCommunity);
+                }
+            })
+        );
+    }
+
     private Collection<ModularityOptimizationTask> createModularityOptimizationTasks(
         long currentStandingPosition,
         long colorCount
@@ -30,8 +30,21 @@ import org.neo4j.gds.mem.Estimate;
 
 public class ModularityOptimizationMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
+    private final boolean lowMemory;
+
+    public ModularityOptimizationMemoryEstimateDefinition() {
+        this(false);
+    }
+
+    public ModularityOptimizationMemoryEstimateDefinition(boolean lowMemory) {
+        this.lowMemory = lowMemory;
+    }
+
     @Override
     public MemoryEstimation memoryEstimation() {
+        if (lowMemory) {
+            return lowMemoryEstimation();
+        }
         return MemoryEstimations.builder(ModularityOptimization.class)
             .perNode("currentCommunities", HugeLongArray::memoryEstimation)
             .perNode("nextCommunities", HugeLongArray::memoryEstimation)
@@ -57,4 +70,27 @@ public class ModularityOptimizationMemoryEstimateDefinition implements MemoryEst
             )
             .build();
     }
+
+    private MemoryEstimation lowMemoryEstimation() {
+        return MemoryEstimations.builder(ModularityOptimization.class)
+            .perNode("currentCommunities", HugeLongArray::memoryEstimation)
+            .perNode("nextCommunities", HugeLongArray::memoryEstimation)
+            // not stored for unweighted graphs, the degree is used instead
+            .rangePerNode(
+                "cumulativeNodeWeights", (nodeCount) ->
+                    MemoryRange.of(0, HugeDoubleArray.memoryEstimation(nodeCount))
+            )
+            .perNode("communityWeights", HugeAtomicDoubleArray::memoryEstimation)
+            .perNode("colorsUsed", Estimate::sizeOfBitset)
+            .perNode("colors", HugeLongArray::memoryEstimation)
+            .rangePerNode(
+                "reversedSeedCommunityMapping", (nodeCount) ->
+                    MemoryRange.of(0, HugeLongArray.memoryEstimation(nodeCount))
+            )
+            .perThread("CompactModularityOptimizationTask", MemoryEstimations.builder()
+                .rangePerNode("communityInfluences", CommunityWeightAccumulator::memoryEstimation)
+                .build()
+            )
+            .build();
+    }
 }
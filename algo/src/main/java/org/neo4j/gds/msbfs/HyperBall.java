@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.msbfs;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+/**
+ * Approximates the distances from all nodes to every node with HyperLogLog counters (HyperBall).
+ * <p>
+ * After iteration {@code t}, the counter of a node estimates the number of nodes from which it is reachable
+ * within {@code t} hops. The counter is the union of its own counter and the counters of the nodes with a
+ * relationship to it in the previous iteration. The growth of a counter in iteration {@code t} estimates
+ * the number of nodes at distance {@code t}, which is accumulated into the farness, the inverse farness and
+ * the number of reaching nodes. The iterations stop once no counter changes, after as many passes over
+ * the relationships as the diameter of the graph.
+ * <p>
+ * Every counter has 64 registers of one byte, stored in eight longs, and is merged with broadword operations.
+ * The relative standard error of each estimate is about {@code 1.04 / sqrt(64) = 13%}.
+ * Requires an undirected graph or an inverse index to find the relationships to a node.
+ *
+ * specified in: Boldi and Vigna, "In-Core Computation of Geometric Centralities with HyperBall:
+ * A Hundred Billion Nodes and Beyond", ICDMW 2013
+ */
+public final class HyperBall {
+
+    private static final int LOG2_REGISTERS = 6;
+    private static final int REGISTERS = 1 << LOG2_REGISTERS;
+    private static final int WORDS = REGISTERS / Long.BYTES;
+    private static final double ALPHA = 0.709;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private final Graph graph;
+    private final Concurrency concurrency;
+    private final ProgressTracker progressTracker;
+    private final TerminationFlag terminationFlag;
+    private final long nodeCount;
+    private final boolean undirected;
+
+    public HyperBall(
+        Graph graph,
+        Concurrency concurrency,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        if (!graph.characteristics().isUndirected() && !graph.characteristics().isInverseIndexed()) {
+            throw new IllegalArgumentException(
+                "HyperBall requires relationships to be undirected or inverse indexed.");
+        }
+        this.graph = graph;
+        this.concurrency = concurrency;
+        this.progressTracker = progressTracker;
+        this.terminationFlag = terminationFlag;
+        this.nodeCount = graph.nodeCount();
+        this.undirected = graph.characteristics().isUndirected();
+    }
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(HyperBall.class)
+            .perNode("counters", nodeCount -> HugeLongArray.memoryEstimation(nodeCount * WORDS))
+            .perNode("next counters", nodeCount -> HugeLongArray.memoryEstimation(nodeCount * WORDS))
+            .perNode("sizes", HugeDoubleArray::memoryEstimation)
+            .perNode("initial sizes, reused for reaching", HugeDoubleArray::memoryEstimation)
+            .perNode("farness", HugeDoubleArray::memoryEstimation)
+            .perNode("inverse farness", HugeDoubleArray::memoryEstimation)
+            .build();
+    }
+
+    public Result compute() {
+        var counters = HugeLongArray.newArray(nodeCount * WORDS);
+        var nextCounters = HugeLongArray.newArray(nodeCount * WORDS);
+        var sizes = HugeDoubleArray.newArray(nodeCount);
+        var initialSizes = HugeDoubleArray.newArray(nodeCount);
+        var farness = HugeDoubleArray.newArray(nodeCount);
+        var inverseFarness = HugeDoubleArray.newArray(nodeCount);
+
+        forEachNode(localGraph -> nodeId -> {
+            long hash = hash(nodeId);
+            int register = (int) (hash >>> (Long.SIZE - LOG2_REGISTERS));
+            long rank = Math.min(Long.numberOfLeadingZeros(hash << LOG2_REGISTERS), Long.SIZE - LOG2_REGISTERS) + 1;
+            counters.set(nodeId * WORDS + register / Long.BYTES, rank << ((register % Long.BYTES) * Byte.SIZE));
+            double size = estimate(counters, nodeId);
+            sizes.set(nodeId, size);
+            initialSizes.set(nodeId, size);
+        });
+
+        var changed = new AtomicBoolean(true);
+        for (int distance = 1; changed.get(); distance++) {
+            terminationFlag.assertRunning();
+            changed.set(false);
+
+            var current = counters;
+            var next = nextCounters;
+            int depth = distance;
+            forEachNode(localGraph -> new RelationshipConsumer() {
+                private long target;
+                private boolean targetChanged;
+
+                @Override
+                public boolean accept(long ignored, long source) {
+                    long sourceOffset = source * WORDS;
+                    long targetOffset = target * WORDS;
+                    for (int word = 0; word < WORDS; word++) {
+                        long before = next.get(targetOffset + word);
+                        long after = registerMax(before, current.get(sourceOffset + word));
+                        if (after != before) {
+                            next.set(targetOffset + word, after);
+                            targetChanged = true;
+                        }
+                    }
+                    return true;
+                }
+
+                void union(long nodeId) {
+                    target = nodeId;
+                    targetChanged = false;
+                    for (int word = 0; word < WORDS; word++) {
+                        next.set(nodeId * WORDS + word, current.get(nodeId * WORDS + word));
+                    }
+                    if (undirected) {
+                        localGraph.forEachRelationship(nodeId, this);
+                    } else {
+                        localGraph.forEachInverseRelationship(nodeId, this);
+                    }
+                    if (targetChanged) {
+                        double size = estimate(next, nodeId);
+                        double growth = Math.max(0, size - sizes.get(nodeId));
+                        sizes.set(nodeId, Math.max(size, sizes.get(nodeId)));
+                        farness.addTo(nodeId, depth * growth);
+                        inverseFarness.addTo(nodeId, growth / depth);
+                        changed.set(true);
+                    }
+                }
+            }::union);
+
+            counters = next;
+            nextCounters = current;
+            progressTracker.logProgress();
+        }
+
+        // the initial sizes are no longer needed and their array is reused for the number of reaching nodes
+        var reaching = initialSizes;
+        forEachNode(localGraph -> nodeId -> reaching.set(nodeId, sizes.get(nodeId) - initialSizes.get(nodeId)));
+
+        return new Result(farness, inverseFarness, reaching);
+    }
+
+    /**
+     * Byte-wise maximum of registers that never exceed 127.
+     */
+    static long registerMax(long registers, long otherRegisters) {
+        // the high bit of a byte is set where the register is at least the other register, there is no borrow between bytes
+        long atLeast = ((registers | HIGH_BITS) - otherRegisters) & HIGH_BITS;
+        long mask = (atLeast >>> 7) * 0xFFL;
+        return (registers & mask) | (otherRegisters & ~mask);
+    }
+
+    private static double estimate(HugeLongArray counters, long nodeId) {
+        double sum = 0;
+        int zeros = 0;
+        for (int word = 0; word < WORDS; word++) {
+            long registers = counters.get(nodeId * WORDS + word);
+            for (int register = 0; register < Long.BYTES; register++) {
+                int rank = (int) ((registers >>> (register * Byte.SIZE)) & 0xFF);
+                sum += Math.scalb(1.0, -rank);
+                if (rank == 0) {
+                    zeros++;
+                }
+            }
+        }
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        // linear counting is more accurate for small cardinalities
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            return REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+        return estimate;
+    }
+
+    private static long hash(long nodeId) {
+        long z = nodeId + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private void forEachNode(Function<Graph, LongConsumer> taskFactory) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> {
+                var consumer = taskFactory.apply(graph.concurrentCopy());
+                long end = partition.startNode() + partition.nodeCount();
+                for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+                    consumer.accept(nodeId);
+                }
+            },
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .run();
+    }
+
+    /**
+     * Estimated sum of distances from, sum of inverse distances from and number of nodes reaching every node.
+     */
+    public record Result(HugeDoubleArray farness, HugeDoubleArray inverseFarness, HugeDoubleArray reaching) {}
+}
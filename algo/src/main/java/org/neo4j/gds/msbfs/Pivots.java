@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.msbfs;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongHashSet;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+/**
+ * Uniformly sampled source nodes to approximate aggregates over the distances from all nodes.
+ * <p>
+ * A per-node mean over the sampled sources is an unbiased estimate of the mean over all other nodes.
+ * By Hoeffding's inequality and a union bound over all nodes, every estimate of a mean of values
+ * within {@code [0, range]} is within {@code range * sqrt(ln(2n) / 2k)} of the exact mean
+ * with probability of at least {@code 1 - 1/n}.
+ *
+ * specified in: Eppstein and Wang, "Fast Approximation of Centrality", SODA 2001
+ */
+public final class Pivots {
+
+    private final long[] nodes;
+    private final BitSet isPivot;
+    private final long nodeCount;
+
+    private Pivots(long[] nodes, long nodeCount) {
+        this.nodes = nodes;
+        this.nodeCount = nodeCount;
+        this.isPivot = new BitSet(nodeCount);
+        for (long node : nodes) {
+            isPivot.set(node);
+        }
+    }
+
+    /**
+     * Samples {@code min(sampleSize, nodeCount)} distinct nodes uniformly at random.
+     */
+    public static Pivots sample(long nodeCount, long sampleSize, Optional<Long> randomSeed) {
+        int count = Math.toIntExact(Math.min(sampleSize, nodeCount));
+        var random = randomSeed.map(SplittableRandom::new).orElseGet(SplittableRandom::new);
+
+        // Floyd's algorithm, every subset of the requested size is equally likely
+        var sampled = new LongHashSet(count);
+        for (long candidate = nodeCount - count; candidate < nodeCount; candidate++) {
+            long node = random.nextLong(candidate + 1);
+            sampled.add(sampled.contains(node) ? candidate : node);
+        }
+        var nodes = sampled.toArray();
+        Arrays.sort(nodes);
+        return new Pivots(nodes, nodeCount);
+    }
+
+    public long[] nodes() {
+        return nodes;
+    }
+
+    /**
+     * @return the number of pivots other than the given node, the sample size of the mean of this node
+     */
+    public long sampleSizeFor(long nodeId) {
+        return isPivot.get(nodeId) ? nodes.length - 1 : nodes.length;
+    }
+
+    /**
+     * @return the bound on the error of every estimated mean of values within {@code [0, range]}
+     */
+    public double errorBound(double range) {
+        if (nodes.length == 0) {
+            return range;
+        }
+        return range * Math.sqrt(Math.log(2.0 * Math.max(nodeCount, 1)) / (2.0 * nodes.length));
+    }
+}
@@ -115,7 +115,7 @@ public final class ArticleRankComputation implements PregelComputation<PageRankC
     }
 
     @Override
-    public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
-        return new PageRankMemoryEstimateDefinition();
+    public MemoryEstimateDefinition estimateDefinition(PageRankConfig config) {
+        return new PageRankMemoryEstimateDefinition(config);
     }
 }
@@ -180,7 +180,7 @@ public final class EigenvectorComputation implements PregelComputation<PageRankC
     }
 
     @Override
-    public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
-        return new PageRankMemoryEstimateDefinition();
+    public MemoryEstimateDefinition estimateDefinition(PageRankConfig config) {
+        return new PageRankMemoryEstimateDefinition(config);
     }
 }
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import com.carrotsearch.hppc.LongArrayDeque;
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * Personalized PageRank by local forward push (Andersen, Chung and Lang),
+ * optionally refined by random walks from the remaining residuals (FORA).
+ * <br>
+ * Each query starts with a residual of 1 on every source node. A node whose
+ * residual exceeds {@code epsilon} times its degree keeps {@code 1 - dampingFactor}
+ * of it as score and pushes the rest to its neighbours, proportionally to the
+ * relationship weight. Only nodes reached by a push are touched, so the state of
+ * a query is sparse and its cost is bounded by {@code 1 / (epsilon * (1 - dampingFactor))}
+ * pushes, independent of the size of the graph.
+ * <br>
+ * The scores match those of {@link PageRankComputation} with the same source nodes,
+ * up to the residual left behind. With {@code walksPerResidual > 0}, that residual is
+ * distributed by random walks that stop with probability {@code 1 - dampingFactor} at
+ * every step, which removes the bias of the push phase at a low variance.
+ * <br>
+ * Queries are independent and are answered in parallel, each thread reusing its
+ * residual state across the queries it takes.
+ */
+public final class ForwardPushPageRank extends Algorithm<ForwardPushPageRankResult> {
+
+    private final Graph graph;
+    private final ForwardPushPageRankParameters parameters;
+    private final List<long[]> sourceNodeSets;
+    private final LongToDoubleFunction degreeFunction;
+    private final ExecutorService executorService;
+
+    /**
+     * @param sourceNodeSets mapped source node ids, one set per query
+     * @param degreeFunction the (weighted) out-degree, matching the relationship weights of the graph
+     */
+    public ForwardPushPageRank(
+        Graph graph,
+        ForwardPushPageRankParameters parameters,
+        List<long[]> sourceNodeSets,
+        LongToDoubleFunction degreeFunction,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.parameters = parameters;
+        this.sourceNodeSets = sourceNodeSets;
+        this.degreeFunction = degreeFunction;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+    }
+
+    public static Task progressTask(int queryCount) {
+        return Tasks.leaf("ForwardPushPageRank", queryCount);
+    }
+
+    @Override
+    public ForwardPushPageRankResult compute() {
+        progressTracker.beginSubTask();
+
+        var scores = Arrays.asList(new LongDoubleHashMap[sourceNodeSets.size()]);
+        var nextQuery = new AtomicInteger();
+        var pushes = new LongAdder();
+        var randomWalks = new LongAdder();
+
+        var tasks = new ArrayList<Runnable>();
+        for (int i = 0; i < parameters.concurrency().value(); i++) {
+            tasks.add(() -> {
+                var runner = new QueryRunner(graph.concurrentCopy());
+                int query;
+                while ((query = nextQuery.getAndIncrement()) < sourceNodeSets.size()) {
+                    terminationFlag.assertRunning();
+                    scores.set(query, runner.run(sourceNodeSets.get(query), random(query)));
+                    progressTracker.logProgress();
+                }
+                pushes.add(runner.pushes);
+                randomWalks.add(runner.randomWalks);
+            });
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(parameters.concurrency())
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+
+        progressTracker.endSubTask();
+
+        return new ForwardPushPageRankResult(scores, pushes.sum(), randomWalks.sum());
+    }
+
+    private SplittableRandom random(int query) {
+        // seeding per query keeps the result independent of the thread that answers it
+        return parameters.randomSeed()
+            .map(seed -> new SplittableRandom(seed + query))
+            .orElseGet(SplittableRandom::new);
+    }
+
+    private final class QueryRunner implements RelationshipWithPropertyConsumer {
+
+        private final Graph graph;
+        private final boolean weighted;
+        private final double alpha;
+        private final LongDoubleHashMap residuals;
+        private final LongArrayDeque queue;
+
+        private final RelationshipWithPropertyConsumer walkConsumer;
+
+        private double share;
+        private double walkTarget;
+        private double walkCumulative;
+        private long walkNeighbour;
+        private long pushes;
+        private long randomWalks;
+
+        private QueryRunner(Graph graph) {
+            this.graph = graph;
+            this.weighted = graph.hasRelationshipProperty();
+            this.alpha = 1 - parameters.dampingFactor();
+            this.residuals = new LongDoubleHashMap();
+            this.queue = new LongArrayDeque();
+            this.walkConsumer = (sourceNodeId, targetNodeId, weight) -> {
+                walkNeighbour = targetNodeId;
+                walkCumulative += weight;
+                return walkCumulative < walkTarget;
+            };
+        }
+
+        LongDoubleHashMap run(long[] sourceNodes, SplittableRandom random) {
+            var estimates = new LongDoubleHashMap();
+            residuals.clear();
+            queue.clear();
+
+            for (long sourceNode : sourceNodes) {
+                addResidual(sourceNode, 1.0D);
+            }
+
+            while (!queue.isEmpty()) {
+                long nodeId = queue.removeFirst();
+                double residual = residuals.get(nodeId);
+                double degree = degreeFunction.applyAsDouble(nodeId);
+
+                residuals.remove(nodeId);
+                estimates.addTo(nodeId, alpha * residual);
+                pushes++;
+
+                // the pushed mass of dangling nodes is lost, as in PageRankComputation
+                if (degree > 0) {
+                    share = parameters.dampingFactor() * residual / degree;
+                    graph.forEachRelationship(nodeId, 1.0D, this);
+                }
+            }
+
+            if (parameters.walksPerResidual() > 0) {
+                walkResiduals(estimates, random);
+            }
+
+            return estimates;
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId, double property) {
+            addResidual(targetNodeId, share * property);
+            return true;
+        }
+
+        private void addResidual(long nodeId, double delta) {
+            double before = residuals.get(nodeId);
+            double after = before + delta;
+            residuals.put(nodeId, after);
+
+            // enqueue on crossing the threshold only, nodes are removed from the queue and the residuals together
+            double threshold = parameters.epsilon() * Math.max(degreeFunction.applyAsDouble(nodeId), 1.0D);
+            if (before <= threshold && after > threshold) {
+                queue.addLast(nodeId);
+            }
+        }
+
+        private void walkResiduals(LongDoubleHashMap estimates, SplittableRandom random) {
+            // the iteration order of hppc maps is randomized, walking in node order keeps seeded runs reproducible
+            long[] residualNodes = residuals.keys().toArray();
+            Arrays.sort(residualNodes);
+            for (long nodeId : residualNodes) {
+                double residual = residuals.get(nodeId);
+                if (residual <= 0) {
+                    continue;
+                }
+                int walks = (int) Math.ceil(residual * parameters.walksPerResidual());
+                double mass = residual / walks;
+                for (int i = 0; i < walks; i++) {
+                    long endNode = walk(nodeId, random);
+                    if (endNode != -1) {
+                        estimates.addTo(endNode, mass);
+                    }
+                }
+                randomWalks += walks;
+            }
+        }
+
+        /**
+         * @return the node the walk stopped at, or -1 if it continued from a dangling node
+         */
+        private long walk(long startNode, SplittableRandom random) {
+            long current = startNode;
+            while (random.nextDouble() >= alpha) {
+                int degree = graph.degree(current);
+                if (degree == 0) {
+                    return -1;
+                }
+                current = weighted
+                    ? weightedNeighbour(current, random.nextDouble() * degreeFunction.applyAsDouble(current))
+                    : graph.nthTarget(current, random.nextInt(degree));
+            }
+            return current;
+        }
+
+        private long weightedNeighbour(long nodeId, double target) {
+            walkTarget = target;
+            walkCumulative = 0.0D;
+            walkNeighbour = -1L;
+            graph.forEachRelationship(nodeId, 1.0D, walkConsumer);
+            return walkNeighbour;
+        }
+    }
+}
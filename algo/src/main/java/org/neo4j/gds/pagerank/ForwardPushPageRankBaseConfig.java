@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RandomSeedConfig;
+import org.neo4j.gds.config.RelationshipWeightConfig;
+import org.neo4j.gds.config.SourceNodesConfig;
+
+/**
+ * Answers one personalized PageRank query per source node.
+ */
+@Configuration
+public interface ForwardPushPageRankBaseConfig extends
+    AlgoBaseConfig,
+    RelationshipWeightConfig,
+    SourceNodesConfig,
+    RandomSeedConfig
+{
+    @Configuration.DoubleRange(min = 0, max = 1, maxInclusive = false)
+    default double dampingFactor() {
+        return 0.85;
+    }
+
+    @Configuration.DoubleRange(min = 0, minInclusive = false)
+    default double epsilon() {
+        return 1E-6;
+    }
+
+    @Configuration.DoubleRange(min = 0)
+    default double walksPerResidual() {
+        return 0;
+    }
+
+    @Configuration.Ignore
+    default ForwardPushPageRankParameters toParameters() {
+        return new ForwardPushPageRankParameters(
+            concurrency(),
+            dampingFactor(),
+            epsilon(),
+            walksPerResidual(),
+            randomSeed()
+        );
+    }
+}
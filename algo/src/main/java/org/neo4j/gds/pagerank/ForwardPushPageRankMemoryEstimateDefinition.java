@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimateDefinition;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+
+public class ForwardPushPageRankMemoryEstimateDefinition implements MemoryEstimateDefinition {
+
+    private final ForwardPushPageRankParameters parameters;
+    private final int queryCount;
+    private final long sourceNodesPerQuery;
+
+    public ForwardPushPageRankMemoryEstimateDefinition(
+        ForwardPushPageRankParameters parameters,
+        int queryCount,
+        long sourceNodesPerQuery
+    ) {
+        this.parameters = parameters;
+        this.queryCount = queryCount;
+        this.sourceNodesPerQuery = sourceNodesPerQuery;
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation() {
+        var queryRunner = MemoryEstimations.builder("query runner")
+            .perNode("residuals", nodeCount -> Estimate.sizeOfLongDoubleHashMap(touchedNodes(nodeCount)))
+            .perNode("queue", nodeCount -> Estimate.sizeOfLongArray(touchedNodes(nodeCount)))
+            .build();
+
+        return MemoryEstimations.builder(ForwardPushPageRank.class)
+            .perThread("query runners", queryRunner)
+            .rangePerNode("scores", nodeCount -> {
+                long pushedNodes = touchedNodes(nodeCount);
+                // random walks may end at any node
+                long scoredNodes = parameters.walksPerResidual() > 0 ? nodeCount : pushedNodes;
+                return MemoryRange.of(
+                    Estimate.sizeOfLongDoubleHashMap(pushedNodes),
+                    Estimate.sizeOfLongDoubleHashMap(scoredNodes)
+                ).times(queryCount);
+            })
+            .build();
+    }
+
+    /**
+     * A push keeps more than {@code (1 - dampingFactor) * epsilon * max(degree, 1)} of the
+     * mass of the query, which bounds the summed degree of all pushed nodes and thereby
+     * the number of nodes that receive a residual.
+     */
+    private long touchedNodes(long nodeCount) {
+        double alpha = 1 - parameters.dampingFactor();
+        double touchedNodes = sourceNodesPerQuery + sourceNodesPerQuery / (alpha * parameters.epsilon());
+        return (long) Math.min(nodeCount, Math.ceil(touchedNodes));
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.DegreePartition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongToDoubleFunction;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * PageRank by in-place (Gauss-Seidel) pull iteration, computing the same
+ * scores as {@link PageRankComputation} without the Pregel framework.
+ * <br>
+ * Every sweep, a node gathers the contributions of its incoming neighbours via
+ * the inverse index and overwrites its score, so that nodes later in the sweep
+ * already read the new value. Only nodes with an incoming neighbour whose score
+ * moved by more than {@code tolerance} since it was last propagated are gathered
+ * again, so converged regions of the graph are skipped. The computation stops
+ * once no node needs to be gathered or {@code maxIterations} sweeps ran.
+ * <br>
+ * Finding the receivers of a change means visiting the outgoing relationships of
+ * the changed nodes. As long as these touch many relationships, all nodes are
+ * gathered in the next sweep instead, so a sweep visits at most
+ * {@code (1 + DENSE_THRESHOLD)} times the relationships of a Pregel iteration.
+ * <br>
+ * Partitions are balanced by incoming degree, i.e. by the work of gathering.
+ * Partitions are swept in parallel and read each other's scores without
+ * synchronization, which is safe as the iteration converges for any order of updates.
+ * Whether a node reads the old or the new score of a neighbour in another partition
+ * depends on the concurrency and the scheduling of the threads, though. Scores therefore
+ * only agree with {@link PageRankComputation} and between runs within the tolerance,
+ * and the number of sweeps may differ between runs.
+ */
+public final class GaussSeidelPageRank extends Algorithm<PageRankResult> {
+
+    // Like Ligra, all nodes are gathered if the changed nodes
+    // touch more than a twentieth of the relationships.
+    static final double DENSE_THRESHOLD = 0.05;
+
+    private final Graph graph;
+    private final GaussSeidelPageRankParameters parameters;
+    private final LongToDoubleFunction degreeFunction;
+    private final ExecutorService executorService;
+
+    private final HugeDoubleArray scores;
+    // damped score per unit of outgoing degree, read by the outgoing neighbours
+    private final HugeDoubleArray contributions;
+    // score at the time its change was last propagated to the outgoing neighbours
+    private final HugeDoubleArray propagatedScores;
+
+    // nodes gathered in the current sweep
+    private final HugeAtomicBitSet active;
+    // nodes whose change is propagated after the current sweep
+    private final HugeAtomicBitSet changed;
+    private final LongAdder changedVolume;
+    private final LongAdder visitedRelationships;
+
+    /**
+     * @param degreeFunction the (weighted) out-degree, matching the relationship weights of the graph
+     */
+    public GaussSeidelPageRank(
+        Graph graph,
+        GaussSeidelPageRankParameters parameters,
+        LongToDoubleFunction degreeFunction,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+
+        var characteristics = graph.characteristics();
+        if (!characteristics.isInverseIndexed() && !characteristics.isUndirected()) {
+            throw new IllegalArgumentException(
+                "Gauss-Seidel PageRank requires an inverse index or an undirected graph to gather scores"
+            );
+        }
+
+        this.graph = graph;
+        this.parameters = parameters;
+        this.degreeFunction = degreeFunction;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+
+        long nodeCount = graph.nodeCount();
+        this.scores = HugeDoubleArray.newArray(nodeCount);
+        this.contributions = HugeDoubleArray.newArray(nodeCount);
+        this.propagatedScores = HugeDoubleArray.newArray(nodeCount);
+        this.active = HugeAtomicBitSet.create(nodeCount);
+        this.changed = HugeAtomicBitSet.create(nodeCount);
+        this.changedVolume = new LongAdder();
+        this.visitedRelationships = new LongAdder();
+    }
+
+    public static Task progressTask(GaussSeidelPageRankParameters parameters) {
+        return Tasks.leaf("GaussSeidelPageRank", parameters.maxIterations());
+    }
+
+    @Override
+    public PageRankResult compute() {
+        progressTracker.beginSubTask();
+
+        long nodeCount = graph.nodeCount();
+        double alpha = 1 - parameters.dampingFactor();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            scores.set(nodeId, alpha);
+            contributions.set(nodeId, contribution(nodeId, alpha));
+        }
+        active.set(0, nodeCount);
+
+        PartitionUtils.DegreeFunction incomingDegree = graph.characteristics().isUndirected()
+            ? graph::degree
+            : graph::degreeInverse;
+        List<DegreePartition> partitions = PartitionUtils.degreePartition(
+            nodeCount,
+            graph.relationshipCount(),
+            incomingDegree,
+            parameters.concurrency(),
+            Function.identity(),
+            Optional.empty()
+        );
+        var sweepTasks = partitions.stream()
+            .map(partition -> new SweepTask(graph.concurrentCopy(), partition))
+            .collect(Collectors.toList());
+        var activationTasks = partitions.stream()
+            .map(partition -> new ActivationTask(graph.concurrentCopy(), partition))
+            .collect(Collectors.toList());
+
+        int iterations = 0;
+        boolean didConverge = false;
+        while (iterations < parameters.maxIterations()) {
+            terminationFlag.assertRunning();
+
+            run(sweepTasks);
+
+            iterations++;
+            progressTracker.logProgress();
+
+            if (changedVolume.sumThenReset() > graph.relationshipCount() * DENSE_THRESHOLD) {
+                active.set(0, nodeCount);
+            } else {
+                active.clear();
+                run(activationTasks);
+            }
+            changed.clear();
+
+            if (active.isEmpty()) {
+                didConverge = true;
+                break;
+            }
+        }
+
+        progressTracker.logInfo(formatWithLocale(
+            "Ran %d sweeps visiting %d relationships",
+            iterations,
+            visitedRelationships.sum()
+        ));
+        progressTracker.endSubTask();
+
+        PageRankAlgorithm.scaleScores(graph, scores, parameters.scaler(), parameters.concurrency(), executorService);
+
+        return new PageRankResult(scores, iterations, didConverge);
+    }
+
+    long visitedRelationships() {
+        return visitedRelationships.sum();
+    }
+
+    private void run(List<? extends Runnable> tasks) {
+        RunWithConcurrency.builder()
+            .concurrency(parameters.concurrency())
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+
+    private double contribution(long nodeId, double score) {
+        double degree = degreeFunction.applyAsDouble(nodeId);
+        // the score of dangling nodes is not distributed, as in PageRankComputation
+        return degree > 0 ? parameters.dampingFactor() * score / degree : 0;
+    }
+
+    /**
+     * Gathers the active nodes of a partition and marks those whose score moved by more than the tolerance.
+     */
+    private final class SweepTask implements Runnable, RelationshipConsumer, RelationshipWithPropertyConsumer {
+
+        private final Graph graph;
+        private final DegreePartition partition;
+        private final boolean isUndirected;
+        private final boolean weighted;
+
+        private double sum;
+        private long visited;
+
+        private SweepTask(Graph graph, DegreePartition partition) {
+            this.graph = graph;
+            this.partition = partition;
+            this.isUndirected = graph.characteristics().isUndirected();
+            this.weighted = graph.hasRelationshipProperty();
+        }
+
+        @Override
+        public void run() {
+            long endNode = partition.startNode() + partition.nodeCount();
+            double alpha = 1 - parameters.dampingFactor();
+            visited = 0;
+            long volume = 0;
+
+            for (long nodeId = active.nextSetBit(partition.startNode());
+                 nodeId != -1 && nodeId < endNode;
+                 nodeId = active.nextSetBit(nodeId + 1)) {
+                sum = 0;
+                gather(nodeId);
+
+                double score = alpha + sum;
+                scores.set(nodeId, score);
+                contributions.set(nodeId, contribution(nodeId, score));
+
+                if (Math.abs(score - propagatedScores.get(nodeId)) > parameters.tolerance()) {
+                    propagatedScores.set(nodeId, score);
+                    changed.set(nodeId);
+                    volume += graph.degree(nodeId);
+                }
+            }
+
+            visitedRelationships.add(visited);
+            changedVolume.add(volume);
+        }
+
+        private void gather(long nodeId) {
+            if (weighted) {
+                if (isUndirected) {
+                    graph.forEachRelationship(nodeId, 1.0, this);
+                } else {
+                    graph.forEachInverseRelationship(nodeId, 1.0, this);
+                }
+            } else {
+                if (isUndirected) {
+                    graph.forEachRelationship(nodeId, this);
+                } else {
+                    graph.forEachInverseRelationship(nodeId, this);
+                }
+            }
+        }
+
+        @Override
+        public boolean accept(long nodeId, long neighborId) {
+            sum += contributions.get(neighborId);
+            visited++;
+            return true;
+        }
+
+        @Override
+        public boolean accept(long nodeId, long neighborId, double weight) {
+            sum += contributions.get(neighborId) * weight;
+            visited++;
+            return true;
+        }
+    }
+
+    /**
+     * Activates the outgoing neighbours of the changed nodes of a partition for the next sweep.
+     */
+    private final class ActivationTask implements Runnable, RelationshipConsumer {
+
+        private final Graph graph;
+        private final DegreePartition partition;
+
+        private long visited;
+
+        private ActivationTask(Graph graph, DegreePartition partition) {
+            this.graph = graph;
+            this.partition = partition;
+        }
+
+        @Override
+        public void run() {
+            long endNode = partition.startNode() + partition.nodeCount();
+            visited = 0;
+
+            for (long nodeId = changed.nextSetBit(partition.startNode());
+                 nodeId != -1 && nodeId < endNode;
+                 nodeId = changed.nextSetBit(nodeId + 1)) {
+                graph.forEachRelationship(nodeId, this);
+            }
+
+            visitedRelationships.add(visited);
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId) {
+            active.set(targetNodeId);
+            visited++;
+            return true;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValuesAdapter;
 import org.neo4j.gds.beta.pregel.Pregel;
 import org.neo4j.gds.beta.pregel.PregelComputation;
+import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
@@ -31,6 +32,7 @@ import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.scaling.L2Norm;
 import org.neo4j.gds.scaling.NoneScaler;
+import org.neo4j.gds.scaling.ScalerFactory;
 
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
@@ -107,11 +109,22 @@ public class PageRankAlgorithm extends Algorithm<PageRankResult> {
     }
 
     private void scaleScores(HugeDoubleArray scores) {
-        var scalerFactory = config.scaler();
-        var concurrency = config.concurrency();
-
         // Eigenvector produces L2NORM-scaled results by default.
-        if (scalerFactory.type().equals(NoneScaler.TYPE) || (scalerFactory.type().equals(L2Norm.TYPE) && mode == PageRankAlgorithmFactory.Mode.EIGENVECTOR)) {
+        if (config.scaler().type().equals(L2Norm.TYPE) && mode == PageRankAlgorithmFactory.Mode.EIGENVECTOR) {
+            return;
+        }
+
+        scaleScores(graph, scores, config.scaler(), config.concurrency(), executorService);
+    }
+
+    static void scaleScores(
+        Graph graph,
+        HugeDoubleArray scores,
+        ScalerFactory scalerFactory,
+        Concurrency concurrency,
+        ExecutorService executorService
+    ) {
+        if (scalerFactory.type().equals(NoneScaler.TYPE)) {
             return;
         }
 
@@ -158,6 +158,6 @@ public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends Gra
 
     @Override
     public MemoryEstimation memoryEstimation(PageRankConfig configuration) {
-        return new PageRankMemoryEstimateDefinition().memoryEstimation();
+        return new PageRankMemoryEstimateDefinition(configuration).memoryEstimation();
     }
 }
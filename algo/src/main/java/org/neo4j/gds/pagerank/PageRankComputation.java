@@ -109,7 +109,7 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
     }
 
     @Override
-    public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
-        return new PageRankMemoryEstimateDefinition();
+    public MemoryEstimateDefinition estimateDefinition(PageRankConfig config) {
+        return new PageRankMemoryEstimateDefinition(config);
     }
 }
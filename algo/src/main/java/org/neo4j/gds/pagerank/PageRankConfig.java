@@ -57,6 +57,33 @@ public interface PageRankConfig extends
         return NoneScaler.buildFrom(CypherMapWrapper.empty());
     }
 
+    /**
+     * Computes PageRank with {@link GaussSeidelPageRank} instead of Pregel, which skips converged nodes.
+     * The scores depend on the concurrency and the scheduling of the threads within the tolerance.
+     * Neither supported for personalized PageRank nor for ArticleRank and Eigenvector centrality.
+     */
+    default boolean gaussSeidel() {
+        return false;
+    }
+
+    @Configuration.Check
+    default void validateGaussSeidel() {
+        if (gaussSeidel() && !sourceNodes().isEmpty()) {
+            throw new IllegalArgumentException("The `gaussSeidel` option cannot be used together with `sourceNodes`.");
+        }
+    }
+
+    @Configuration.Ignore
+    default GaussSeidelPageRankParameters toGaussSeidelParameters() {
+        return new GaussSeidelPageRankParameters(
+            concurrency(),
+            dampingFactor(),
+            tolerance(),
+            maxIterations(),
+            scaler()
+        );
+    }
+
     @Override
     @Configuration.Ignore
     default boolean isAsynchronous() {
@@ -22,17 +22,25 @@ package org.neo4j.gds.pagerank;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.Pregel;
+import org.neo4j.gds.beta.pregel.PregelConfig;
 import org.neo4j.gds.mem.MemoryEstimation;
 
 import java.util.Map;
 
 public class PageRankMemoryEstimateDefinition implements MemoryEstimateDefinition {
+
+    private final PregelConfig config;
+
+    public PageRankMemoryEstimateDefinition(PregelConfig config) {
+        this.config = config;
+    }
+
     @Override
     public MemoryEstimation memoryEstimation() {
         return Pregel.memoryEstimation(
             Map.of(PageRankComputation.PAGE_RANK, ValueType.DOUBLE),
             false,
-            false
+            config
         );
     }
 }
@@ -0,0 +1,508 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.scc;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicIntArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.paged.ParallelIntPageCreator;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Parallel strongly connected components based on trimming, forward-backward reachability and coloring.
+ *
+ * <ol>
+ *     <li>Trim-1 repeatedly removes nodes without incoming or outgoing relationships to remaining nodes,
+ *     trim-2 removes pairs of nodes that only reach each other. Both form their own component.</li>
+ *     <li>The component of a pivot with a large in- and out-degree, usually the giant component,
+ *     is found by intersecting its forward and backward reachable sets.</li>
+ *     <li>The remaining nodes are colored by propagating the smallest node id along relationships.
+ *     Every node that kept its own id as color is the smallest node of its component,
+ *     which consists of the nodes of the same color that reach it. After every round of coloring,
+ *     the remaining nodes are trimmed again.</li>
+ *     <li>Coloring needs a round per component on a chain of components. Once few nodes remain,
+ *     or a round assigns only a small share of them, the remaining nodes are handed to {@link Scc}.</li>
+ * </ol>
+ *
+ * The components are the same as the ones of {@link Scc}, but every component is identified by its smallest node id,
+ * independent of the concurrency and of the phase that found it.
+ * Requires an undirected graph or an inverse index to traverse relationships backwards.
+ *
+ * specified in: Slota et al., "BFS and Coloring-based Parallel Algorithms for Strongly Connected Components
+ * and Related Problems", IPDPS 2014
+ */
+public final class ParallelScc extends Algorithm<HugeLongArray> {
+
+    // below this number of remaining nodes the sequential traversal of Scc is faster than synchronising the parallel phases
+    static final long SEQUENTIAL_CUTOFF = 100_000;
+    // a coloring round that assigns a smaller share of the remaining nodes is not worth repeating
+    private static final double MIN_COLORING_PROGRESS = 0.01;
+
+    private final Graph graph;
+    private final Concurrency concurrency;
+    private final boolean undirected;
+    private final long nodeCount;
+    private final long sequentialCutoff;
+
+    private final HugeLongArray connectedComponents;
+    private final HugeAtomicBitSet assigned;
+    private final HugeAtomicIntArray inDegrees;
+    private final HugeAtomicIntArray outDegrees;
+    private HugeLongArray frontier;
+    private HugeLongArray nextFrontier;
+    private long frontierSize;
+    private final AtomicLong nextFrontierSize;
+
+    public ParallelScc(
+        Graph graph,
+        Concurrency concurrency,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        this(graph, concurrency, SEQUENTIAL_CUTOFF, progressTracker, terminationFlag);
+    }
+
+    ParallelScc(
+        Graph graph,
+        Concurrency concurrency,
+        long sequentialCutoff,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        if (!graph.characteristics().isUndirected() && !graph.characteristics().isInverseIndexed()) {
+            throw new IllegalArgumentException(
+                "The parallel SCC computation requires an inverse index or an undirected graph to traverse relationships backwards"
+            );
+        }
+        this.graph = graph;
+        this.sequentialCutoff = sequentialCutoff;
+        this.concurrency = concurrency;
+        this.terminationFlag = terminationFlag;
+        this.undirected = graph.characteristics().isUndirected();
+        this.nodeCount = graph.nodeCount();
+
+        this.connectedComponents = HugeLongArray.newArray(nodeCount);
+        this.assigned = HugeAtomicBitSet.create(nodeCount);
+        this.inDegrees = HugeAtomicIntArray.of(nodeCount, new ParallelIntPageCreator(concurrency));
+        this.outDegrees = HugeAtomicIntArray.of(nodeCount, new ParallelIntPageCreator(concurrency));
+        this.frontier = HugeLongArray.newArray(nodeCount);
+        this.nextFrontier = HugeLongArray.newArray(nodeCount);
+        this.nextFrontierSize = new AtomicLong();
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(ParallelScc.class)
+            .perNode("connectedComponents", HugeLongArray::memoryEstimation)
+            .perNode("assigned", HugeAtomicBitSet::memoryEstimation)
+            .perNode("inDegrees", HugeAtomicIntArray::memoryEstimation)
+            .perNode("outDegrees", HugeAtomicIntArray::memoryEstimation)
+            .perNode("frontier", HugeLongArray::memoryEstimation)
+            .perNode("nextFrontier", HugeLongArray::memoryEstimation)
+            .perNode("colors", HugeAtomicLongArray::memoryEstimation)
+            .perNode("queued", HugeAtomicBitSet::memoryEstimation)
+            .build();
+    }
+
+    @Override
+    public HugeLongArray compute() {
+        progressTracker.beginSubTask();
+        connectedComponents.fill(Scc.UNORDERED);
+
+        initializeDegrees();
+        trim();
+
+        if (remainingNodes() > 0) {
+            forwardBackward(pivot());
+        }
+
+        long remainingNodes = remainingNodes();
+        if (remainingNodes > sequentialCutoff) {
+            var colors = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+            var queued = HugeAtomicBitSet.create(nodeCount);
+            while (remainingNodes > sequentialCutoff) {
+                terminationFlag.assertRunning();
+                propagateColors(colors, queued);
+                assignColorComponents(colors);
+                updateRemainingDegrees();
+                trim();
+
+                long stillRemainingNodes = remainingNodes();
+                boolean slowProgress = remainingNodes - stillRemainingNodes < remainingNodes * MIN_COLORING_PROGRESS;
+                remainingNodes = stillRemainingNodes;
+                if (slowProgress) {
+                    break;
+                }
+            }
+        }
+
+        if (remainingNodes > 0) {
+            computeRemainingSequentially();
+        }
+
+        progressTracker.endSubTask();
+        return connectedComponents;
+    }
+
+    private long remainingNodes() {
+        return nodeCount - assigned.cardinality();
+    }
+
+    private void initializeDegrees() {
+        forEachInParallel(nodeCount, (localGraph, nodeId) -> {
+            inDegrees.set(nodeId, undirected ? localGraph.degree(nodeId) : localGraph.degreeInverse(nodeId));
+            outDegrees.set(nodeId, localGraph.degree(nodeId));
+        });
+    }
+
+    /**
+     * Restricts the degrees of the remaining nodes to relationships between remaining nodes.
+     */
+    private void updateRemainingDegrees() {
+        forEachInParallel(nodeCount, (localGraph, nodeId) -> {
+            if (assigned.get(nodeId)) {
+                return;
+            }
+            var degrees = new int[2];
+            localGraph.forEachRelationship(nodeId, (source, target) -> {
+                if (!assigned.get(target)) {
+                    degrees[0]++;
+                }
+                return true;
+            });
+            forEachIncoming(localGraph, nodeId, (source, target) -> {
+                if (!assigned.get(target)) {
+                    degrees[1]++;
+                }
+                return true;
+            });
+            outDegrees.set(nodeId, degrees[0]);
+            inDegrees.set(nodeId, degrees[1]);
+        });
+    }
+
+    private void trim() {
+        forEachInParallel(nodeCount, (localGraph, nodeId) -> {
+            if (inDegrees.get(nodeId) == 0 || outDegrees.get(nodeId) == 0) {
+                claimSingleton(nodeId);
+            }
+        });
+        removeTrimmedNodes();
+
+        forEachInParallel(nodeCount, this::trimPair);
+        removeTrimmedNodes();
+    }
+
+    /**
+     * Removes the nodes of the current frontier from the degrees of their remaining neighbours.
+     * Neighbours that lose their last incoming or outgoing relationship are trimmed in the next round.
+     */
+    private void removeTrimmedNodes() {
+        swapFrontiers();
+        while (frontierSize > 0) {
+            terminationFlag.assertRunning();
+            forEachInParallel(frontierSize, (localGraph, index) -> {
+                long nodeId = frontier.get(index);
+                localGraph.forEachRelationship(nodeId, (source, target) -> {
+                    if (target != source && !assigned.get(target) && inDegrees.getAndAdd(target, -1) == 1) {
+                        claimSingleton(target);
+                    }
+                    return true;
+                });
+                forEachIncoming(localGraph, nodeId, (source, target) -> {
+                    if (target != source && !assigned.get(target) && outDegrees.getAndAdd(target, -1) == 1) {
+                        claimSingleton(target);
+                    }
+                    return true;
+                });
+            });
+            swapFrontiers();
+        }
+    }
+
+    private void trimPair(Graph localGraph, long nodeId) {
+        if (assigned.get(nodeId)) {
+            return;
+        }
+        long partner = -1;
+        if (inDegrees.get(nodeId) == 1) {
+            long candidate = uniqueRemainingNeighbour(localGraph, nodeId, true);
+            if (candidate > nodeId && inDegrees.get(candidate) == 1 && uniqueRemainingNeighbour(localGraph, candidate, true) == nodeId) {
+                partner = candidate;
+            }
+        }
+        if (partner == -1 && outDegrees.get(nodeId) == 1) {
+            long candidate = uniqueRemainingNeighbour(localGraph, nodeId, false);
+            if (candidate > nodeId && outDegrees.get(candidate) == 1 && uniqueRemainingNeighbour(localGraph, candidate, false) == nodeId) {
+                partner = candidate;
+            }
+        }
+        // the smaller node claims the pair, no other node can form a pair with either of them
+        if (partner != -1 && !assigned.getAndSet(nodeId)) {
+            assigned.set(partner);
+            connectedComponents.set(nodeId, nodeId);
+            connectedComponents.set(partner, nodeId);
+            appendToNextFrontier(nodeId);
+            appendToNextFrontier(partner);
+            progressTracker.logProgress(2);
+        }
+    }
+
+    private long uniqueRemainingNeighbour(Graph localGraph, long nodeId, boolean incoming) {
+        var neighbour = new long[]{-1};
+        RelationshipConsumer visitor = (source, target) -> {
+            if (!assigned.get(target)) {
+                neighbour[0] = target;
+                return false;
+            }
+            return true;
+        };
+        if (incoming) {
+            forEachIncoming(localGraph, nodeId, visitor);
+        } else {
+            localGraph.forEachRelationship(nodeId, visitor);
+        }
+        return neighbour[0] == nodeId ? -1 : neighbour[0];
+    }
+
+    private void claimSingleton(long nodeId) {
+        if (!assigned.getAndSet(nodeId)) {
+            connectedComponents.set(nodeId, nodeId);
+            appendToNextFrontier(nodeId);
+            progressTracker.logProgress();
+        }
+    }
+
+    private long pivot() {
+        long pivot = -1;
+        long maxDegreeProduct = -1;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            if (!assigned.get(nodeId)) {
+                long degreeProduct = (long) inDegrees.get(nodeId) * outDegrees.get(nodeId);
+                if (degreeProduct > maxDegreeProduct) {
+                    maxDegreeProduct = degreeProduct;
+                    pivot = nodeId;
+                }
+            }
+        }
+        return pivot;
+    }
+
+    private void forwardBackward(long pivot) {
+        var forward = HugeAtomicBitSet.create(nodeCount);
+        forward.set(pivot);
+        appendToNextFrontier(pivot);
+        swapFrontiers();
+        while (frontierSize > 0) {
+            terminationFlag.assertRunning();
+            forEachInParallel(frontierSize, (localGraph, index) -> localGraph.forEachRelationship(
+                frontier.get(index),
+                (source, target) -> {
+                    if (!assigned.get(target) && !forward.getAndSet(target)) {
+                        appendToNextFrontier(target);
+                    }
+                    return true;
+                }
+            ));
+            swapFrontiers();
+        }
+
+        // the component of the pivot are the forward reachable nodes that also reach the pivot
+        var smallestNode = new LongAccumulator(Math::min, pivot);
+        assigned.set(pivot);
+        appendToNextFrontier(pivot);
+        swapFrontiers();
+        while (frontierSize > 0) {
+            terminationFlag.assertRunning();
+            forEachInParallel(frontierSize, (localGraph, index) -> forEachIncoming(
+                localGraph,
+                frontier.get(index),
+                (source, target) -> {
+                    if (forward.get(target) && !assigned.getAndSet(target)) {
+                        smallestNode.accumulate(target);
+                        appendToNextFrontier(target);
+                    }
+                    return true;
+                }
+            ));
+            swapFrontiers();
+        }
+
+        long componentId = smallestNode.get();
+        forEachInParallel(nodeCount, (localGraph, nodeId) -> {
+            if (assigned.get(nodeId) && connectedComponents.get(nodeId) == Scc.UNORDERED) {
+                connectedComponents.set(nodeId, componentId);
+                progressTracker.logProgress();
+            }
+        });
+    }
+
+    private void propagateColors(HugeAtomicLongArray colors, HugeAtomicBitSet queued) {
+        forEachInParallel(nodeCount, (localGraph, nodeId) -> {
+            if (!assigned.get(nodeId)) {
+                colors.set(nodeId, nodeId);
+                appendToNextFrontier(nodeId);
+            }
+        });
+        swapFrontiers();
+
+        while (frontierSize > 0) {
+            terminationFlag.assertRunning();
+            forEachInParallel(frontierSize, (localGraph, index) -> queued.clear(frontier.get(index)));
+            forEachInParallel(frontierSize, (localGraph, index) -> {
+                long nodeId = frontier.get(index);
+                long color = colors.get(nodeId);
+                localGraph.forEachRelationship(nodeId, (source, target) -> {
+                    if (!assigned.get(target)) {
+                        long targetColor = colors.get(target);
+                        while (color < targetColor) {
+                            long witness = colors.compareAndExchange(target, targetColor, color);
+                            if (witness == targetColor) {
+                                if (!queued.getAndSet(target)) {
+                                    appendToNextFrontier(target);
+                                }
+                                break;
+                            }
+                            targetColor = witness;
+                        }
+                    }
+                    return true;
+                });
+            });
+            swapFrontiers();
+        }
+    }
+
+    /**
+     * A node that kept its own id as color is the smallest node of its component.
+     * The component consists of all nodes with the same color that reach it.
+     */
+    private void assignColorComponents(HugeAtomicLongArray colors) {
+        forEachInParallel(nodeCount, (localGraph, nodeId) -> {
+            if (!assigned.get(nodeId) && colors.get(nodeId) == nodeId) {
+                assigned.set(nodeId);
+                connectedComponents.set(nodeId, nodeId);
+                appendToNextFrontier(nodeId);
+                progressTracker.logProgress();
+            }
+        });
+        swapFrontiers();
+
+        while (frontierSize > 0) {
+            terminationFlag.assertRunning();
+            forEachInParallel(frontierSize, (localGraph, index) -> {
+                long nodeId = frontier.get(index);
+                long color = colors.get(nodeId);
+                forEachIncoming(localGraph, nodeId, (source, target) -> {
+                    if (colors.get(target) == color && !assigned.getAndSet(target)) {
+                        connectedComponents.set(target, color);
+                        appendToNextFrontier(target);
+                        progressTracker.logProgress();
+                    }
+                    return true;
+                });
+            });
+            swapFrontiers();
+        }
+    }
+
+    /**
+     * Runs {@link Scc} on the remaining nodes and identifies the components by their smallest node id,
+     * instead of the node at which the traversal entered them.
+     */
+    private void computeRemainingSequentially() {
+        var roots = new Scc(graph, progressTracker, terminationFlag, assigned::get).computeComponents();
+        // Scc stops silently when terminated
+        terminationFlag.assertRunning();
+
+        // nodes are visited in ascending order, so the first node seen of a component is its smallest one
+        var smallestNodes = frontier;
+        smallestNodes.fill(Scc.UNORDERED);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            if (!assigned.get(nodeId)) {
+                long root = roots.get(nodeId);
+                if (smallestNodes.get(root) == Scc.UNORDERED) {
+                    smallestNodes.set(root, nodeId);
+                }
+                connectedComponents.set(nodeId, smallestNodes.get(root));
+                assigned.set(nodeId);
+            }
+        }
+    }
+
+    private void forEachIncoming(Graph localGraph, long nodeId, RelationshipConsumer consumer) {
+        if (undirected) {
+            localGraph.forEachRelationship(nodeId, consumer);
+        } else {
+            localGraph.forEachInverseRelationship(nodeId, consumer);
+        }
+    }
+
+    private void appendToNextFrontier(long nodeId) {
+        nextFrontier.set(nextFrontierSize.getAndIncrement(), nodeId);
+    }
+
+    private void swapFrontiers() {
+        var swap = frontier;
+        frontier = nextFrontier;
+        nextFrontier = swap;
+        frontierSize = nextFrontierSize.getAndSet(0);
+    }
+
+    private void forEachInParallel(long count, IndexConsumer consumer) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            count,
+            partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                long end = partition.startNode() + partition.nodeCount();
+                for (long index = partition.startNode(); index < end; index++) {
+                    consumer.accept(localGraph, index);
+                }
+            },
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .run();
+    }
+
+    @FunctionalInterface
+    private interface IndexConsumer {
+        void accept(Graph localGraph, long index);
+    }
+}
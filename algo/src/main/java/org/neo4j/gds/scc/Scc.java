@@ -28,6 +28,8 @@ import org.neo4j.gds.core.utils.paged.PagedLongStack;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.termination.TerminationFlag;
 
+import java.util.function.LongPredicate;
+
 /**
  * huge iterative (non recursive) sequential strongly connected components algorithm.
  *
@@ -44,11 +46,24 @@ public class Scc extends Algorithm<HugeLongArray> {
     private final HugeLongArrayStack stack;
     private final PagedLongStack todo; // stores nodeIds either positive (edge visit) or negative (node visit)
     private final BitSet visited;
+    private final LongPredicate excludedNodes;
 
     public Scc(
         Graph graph,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
+    ) {
+        this(graph, progressTracker, terminationFlag, nodeId -> false);
+    }
+
+    /**
+     * @param excludedNodes nodes that are skipped, together with their relationships, and keep {@link #UNORDERED} as component
+     */
+    Scc(
+        Graph graph,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag,
+        LongPredicate excludedNodes
     ) {
         super(progressTracker);
 
@@ -61,6 +76,7 @@ public class Scc extends Algorithm<HugeLongArray> {
         this.stack = HugeLongArrayStack.newStack(nodeCount);
         this.todo = new PagedLongStack(nodeCount); //can be as high as `graph.relationshipsCount()` if we are unlucky...
         this.visited = new BitSet(nodeCount);
+        this.excludedNodes = excludedNodes;
 
         this.terminationFlag = terminationFlag;
     }
@@ -70,11 +86,19 @@ public class Scc extends Algorithm<HugeLongArray> {
      */
     public HugeLongArray compute() {
         progressTracker.beginSubTask();
+        computeComponents();
+        progressTracker.endSubTask();
+        return connectedComponents;
+    }
+
+    /**
+     * compute scc within the current task of the progress tracker
+     */
+    HugeLongArray computeComponents() {
         index.fill(UNORDERED);
         connectedComponents.fill(UNORDERED);
 
         graph.forEachNode(this::computePerNode); //this will visit 0 first
-        progressTracker.endSubTask();
         return connectedComponents;
     }
 
@@ -83,7 +107,7 @@ public class Scc extends Algorithm<HugeLongArray> {
             return false;
         }
 
-        if (index.get(nodeId) != UNORDERED) {
+        if (index.get(nodeId) != UNORDERED || excludedNodes.test(nodeId)) {
             return true;
         }
 
@@ -125,7 +149,9 @@ public class Scc extends Algorithm<HugeLongArray> {
         boundaries.push(stackSize); // push to stack (at most one entry per vertex)
         todo.push(-nodeId);
         graph.forEachRelationship(nodeId, (s, t) -> {
-            todo.push(t);
+            if (!excludedNodes.test(t)) {
+                todo.push(t);
+            }
             return true;
         });
     }
@@ -23,4 +23,10 @@ import org.neo4j.gds.config.AlgoBaseConfig;
 
 public interface SccCommonBaseConfig extends AlgoBaseConfig {
 
+    /**
+     * Computes the components with {@link ParallelScc}, which identifies every component by its smallest node id.
+     */
+    default boolean parallel() {
+        return false;
+    }
 }
@@ -30,8 +30,30 @@ import org.neo4j.gds.mem.Estimate;
 
 public class SccMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
+    private final boolean parallel;
+
+    public SccMemoryEstimateDefinition() {
+        this(false);
+    }
+
+    public SccMemoryEstimateDefinition(boolean parallel) {
+        this.parallel = parallel;
+    }
+
     @Override
     public MemoryEstimation memoryEstimation() {
+        if (!parallel) {
+            return sequentialMemoryEstimation();
+        }
+
+        // the remaining nodes of the parallel computation are handed to the sequential one
+        return MemoryEstimations.builder("Parallel SCC")
+            .add("parallel", ParallelScc.memoryEstimation())
+            .add("sequential", sequentialMemoryEstimation())
+            .build();
+    }
+
+    private static MemoryEstimation sequentialMemoryEstimation() {
         var builder = MemoryEstimations.builder(Scc.class);
         builder
             .perNode("index", HugeLongArray::memoryEstimation)
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.spanningtree;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+/**
+ * Parallel minimum weight spanning tree algorithm (Borůvka).
+ * <p>
+ * In every round, each component selects its cheapest relationship to another component
+ * and all selected relationships are contracted at once using a disjoint set structure.
+ * Ties are broken by the node ids of the relationship, which guarantees that the selected
+ * relationships never form a cycle. The number of components at least halves in every round.
+ * <p>
+ * Nodes without any relationship to another component are skipped in subsequent rounds.
+ * The computed forest is reduced to the tree containing the start node, rooted at that node.
+ */
+public final class Boruvka extends Algorithm<SpanningTree> {
+
+    // below this size the sequential traversal of Prim is faster than synchronising the rounds
+    static final long MIN_NODE_COUNT = 100_000;
+
+    private static final long NONE = -1L;
+
+    private final Graph graph;
+    private final DoubleUnaryOperator minMax;
+    private final long startNodeId;
+    private final Concurrency concurrency;
+    private final long nodeCount;
+
+    private final HugeAtomicDisjointSetStruct disjointSets;
+    private final HugeLongArray components;
+    private final HugeLongArray cheapestTargets;
+    private final HugeDoubleArray cheapestWeights;
+    private final HugeAtomicLongArray componentCheapest;
+    private final HugeAtomicBitSet exhausted;
+    private final SpanningForest forest;
+
+    public Boruvka(
+        Graph graph,
+        DoubleUnaryOperator minMax,
+        long startNodeId,
+        Concurrency concurrency,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.minMax = minMax;
+        this.startNodeId = startNodeId;
+        this.concurrency = concurrency;
+        this.terminationFlag = terminationFlag;
+        this.nodeCount = graph.nodeCount();
+
+        this.disjointSets = new HugeAtomicDisjointSetStruct(nodeCount, concurrency);
+        this.components = HugeLongArray.newArray(nodeCount);
+        this.cheapestTargets = HugeLongArray.newArray(nodeCount);
+        this.cheapestWeights = HugeDoubleArray.newArray(nodeCount);
+        this.componentCheapest = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        this.exhausted = HugeAtomicBitSet.create(nodeCount);
+        this.forest = new SpanningForest(nodeCount);
+    }
+
+    /**
+     * @return whether the graph is large enough to benefit from the parallel computation
+     */
+    public static boolean isApplicable(Graph graph, Concurrency concurrency) {
+        return concurrency.value() > 1 && graph.nodeCount() >= MIN_NODE_COUNT;
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(Boruvka.class)
+            .add("disjointSets", HugeAtomicDisjointSetStruct.memoryEstimation(false))
+            .perNode("components", HugeLongArray::memoryEstimation)
+            .perNode("cheapestTargets", HugeLongArray::memoryEstimation)
+            .perNode("cheapestWeights", HugeDoubleArray::memoryEstimation)
+            .perNode("componentCheapest", HugeAtomicLongArray::memoryEstimation)
+            .perNode("exhausted", HugeAtomicBitSet::memoryEstimation)
+            .add("forest", SpanningForest.memoryEstimation())
+            .build();
+    }
+
+    @Override
+    public SpanningTree compute() {
+        progressTracker.beginSubTask("SpanningTree");
+
+        boolean contracted = true;
+        boolean firstRound = true;
+        while (contracted) {
+            terminationFlag.assertRunning();
+            contracted = round(firstRound);
+            firstRound = false;
+        }
+
+        var spanningTree = forest.toSpanningTree(startNodeId, minMax);
+        progressTracker.endSubTask("SpanningTree");
+        return spanningTree;
+    }
+
+    /**
+     * @return whether any component has been merged
+     */
+    private boolean round(boolean logProgress) {
+        forEachNode(localGraph -> node -> {
+            components.set(node, disjointSets.setIdOf(node));
+            componentCheapest.set(node, NONE);
+        });
+
+        forEachNode(localGraph -> new CheapestRelationshipTask(localGraph, logProgress));
+
+        long forestSize = forest.size();
+        forEachNode(localGraph -> this::contract);
+        return forest.size() > forestSize;
+    }
+
+    private void offer(long component, long node) {
+        long current = componentCheapest.get(component);
+        while (current == NONE || isCheaper(node, current)) {
+            long witness = componentCheapest.compareAndExchange(component, current, node);
+            if (witness == current) {
+                return;
+            }
+            current = witness;
+        }
+    }
+
+    private void contract(long node) {
+        long component = components.get(node);
+        if (component != node) {
+            return;
+        }
+        long source = componentCheapest.get(component);
+        if (source == NONE) {
+            return;
+        }
+        long target = cheapestTargets.get(source);
+        long otherComponent = components.get(target);
+        // if both components selected the same relationship, only the smaller one adds it
+        if (otherComponent < component && isSameRelationship(source, componentCheapest.get(otherComponent))) {
+            return;
+        }
+        forest.add(source, target, cheapestWeights.get(source));
+        disjointSets.union(source, target);
+    }
+
+    private boolean isCheaper(long node, long otherNode) {
+        return isCheaper(
+            cheapestWeights.get(node),
+            node,
+            cheapestTargets.get(node),
+            cheapestWeights.get(otherNode),
+            otherNode,
+            cheapestTargets.get(otherNode)
+        );
+    }
+
+    private boolean isSameRelationship(long node, long otherNode) {
+        return cheapestTargets.get(node) == otherNode
+               && cheapestTargets.get(otherNode) == node
+               && Double.compare(cheapestWeights.get(node), cheapestWeights.get(otherNode)) == 0;
+    }
+
+    static boolean isCheaper(double weight, long source, long target, double otherWeight, long otherSource, long otherTarget) {
+        int weightComparison = Double.compare(weight, otherWeight);
+        if (weightComparison != 0) {
+            return weightComparison < 0;
+        }
+        long min = Math.min(source, target);
+        long otherMin = Math.min(otherSource, otherTarget);
+        if (min != otherMin) {
+            return min < otherMin;
+        }
+        return Math.max(source, target) < Math.max(otherSource, otherTarget);
+    }
+
+    private void forEachNode(Function<Graph, LongConsumer> taskFactory) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> {
+                var consumer = taskFactory.apply(graph.concurrentCopy());
+                long end = partition.startNode() + partition.nodeCount();
+                for (long node = partition.startNode(); node < end; node++) {
+                    consumer.accept(node);
+                }
+            },
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .run();
+    }
+
+    private final class CheapestRelationshipTask implements LongConsumer, RelationshipWithPropertyConsumer {
+
+        private final Graph localGraph;
+        private final boolean logProgress;
+
+        private long component;
+        private long cheapestTarget;
+        private double cheapestWeight;
+
+        private CheapestRelationshipTask(Graph localGraph, boolean logProgress) {
+            this.localGraph = localGraph;
+            this.logProgress = logProgress;
+        }
+
+        @Override
+        public void accept(long node) {
+            if (exhausted.get(node)) {
+                return;
+            }
+
+            component = components.get(node);
+            cheapestTarget = NONE;
+            cheapestWeight = Double.MAX_VALUE;
+            localGraph.forEachRelationship(node, 0.0D, this);
+
+            if (logProgress) {
+                progressTracker.logProgress(localGraph.degree(node));
+            }
+
+            if (cheapestTarget == NONE) {
+                // components only grow, so this node will not find a relationship leaving its component anymore
+                exhausted.set(node);
+                return;
+            }
+
+            cheapestTargets.set(node, cheapestTarget);
+            cheapestWeights.set(node, cheapestWeight);
+            offer(component, node);
+        }
+
+        @Override
+        public boolean accept(long source, long target, double property) {
+            if (components.get(target) == component) {
+                return true;
+            }
+            // invert weight to calculate maximum
+            double weight = minMax.applyAsDouble(property);
+            if (cheapestTarget == NONE || isCheaper(weight, source, target, cheapestWeight, source, cheapestTarget)) {
+                cheapestTarget = target;
+                cheapestWeight = weight;
+            }
+            return true;
+        }
+    }
+}
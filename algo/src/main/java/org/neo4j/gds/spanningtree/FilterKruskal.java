@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.spanningtree;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeSerialIndirectMergeSort;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+
+/**
+ * Minimum weight spanning tree algorithm for sparse weighted graphs (Filter-Kruskal).
+ * <p>
+ * All relationships are collected in parallel and partitioned around a pivot weight, like quicksort.
+ * The lighter relationships are processed first. Before recursing into the heavier relationships,
+ * all of them that would close a cycle are filtered out in parallel. Small ranges are sorted and
+ * processed by plain Kruskal. On sparse graphs most heavy relationships are filtered out without ever being sorted.
+ * <p>
+ * The computed forest is reduced to the tree containing the start node, rooted at that node.
+ *
+ * specified in: Osipov et al., "The Filter-Kruskal Minimum Spanning Tree Algorithm", ALENEX 2009
+ */
+public final class FilterKruskal extends Algorithm<SpanningTree> {
+
+    // below this size the sequential traversal of Prim is faster than collecting and filtering the relationships
+    static final long MIN_NODE_COUNT = 100_000;
+    // above this, every relationship is held in memory for little gain over the contraction of Boruvka
+    static final long MAX_AVERAGE_DEGREE = 16;
+
+    private static final long SEQUENTIAL_THRESHOLD = 1 << 14;
+
+    private final Graph graph;
+    private final DoubleUnaryOperator minMax;
+    private final long startNodeId;
+    private final Concurrency concurrency;
+    private final long sequentialThreshold;
+    private final long nodeCount;
+
+    private final HugeAtomicDisjointSetStruct disjointSets;
+    private final SpanningForest forest;
+    private final HugeLongArray buffer;
+    private final HugeLongArray sortBuffer;
+
+    private HugeLongArray sources;
+    private HugeLongArray targets;
+    private HugeDoubleArray weights;
+    private HugeLongArray relationships;
+
+    public FilterKruskal(
+        Graph graph,
+        DoubleUnaryOperator minMax,
+        long startNodeId,
+        Concurrency concurrency,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        this(graph, minMax, startNodeId, concurrency, SEQUENTIAL_THRESHOLD, progressTracker, terminationFlag);
+    }
+
+    FilterKruskal(
+        Graph graph,
+        DoubleUnaryOperator minMax,
+        long startNodeId,
+        Concurrency concurrency,
+        long sequentialThreshold,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.minMax = minMax;
+        this.startNodeId = startNodeId;
+        this.concurrency = concurrency;
+        this.sequentialThreshold = sequentialThreshold;
+        this.terminationFlag = terminationFlag;
+        this.nodeCount = graph.nodeCount();
+
+        this.disjointSets = new HugeAtomicDisjointSetStruct(nodeCount, concurrency);
+        this.forest = new SpanningForest(nodeCount);
+        this.buffer = HugeLongArray.newArray(sequentialThreshold);
+        this.sortBuffer = HugeLongArray.newArray(sequentialThreshold);
+    }
+
+    /**
+     * @return whether the graph is large enough to benefit from the parallel computation,
+     *     and weighted and sparse enough to hold all its relationships in memory
+     */
+    public static boolean isApplicable(Graph graph, Concurrency concurrency) {
+        return concurrency.value() > 1
+               && graph.nodeCount() >= MIN_NODE_COUNT
+               && graph.hasRelationshipProperty()
+               && graph.relationshipCount() <= MAX_AVERAGE_DEGREE * graph.nodeCount();
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(FilterKruskal.class)
+            .add("disjointSets", HugeAtomicDisjointSetStruct.memoryEstimation(false))
+            .add("forest", SpanningForest.memoryEstimation())
+            .fixed("buffers", 2 * HugeLongArray.memoryEstimation(SEQUENTIAL_THRESHOLD))
+            .perGraphDimension("relationships", (graphDimensions, concurrency) -> {
+                // every undirected relationship is stored once
+                long relationshipCount = graphDimensions.relCountUpperBound() / 2;
+                return MemoryRange.of(
+                    3 * HugeLongArray.memoryEstimation(relationshipCount)
+                    + HugeDoubleArray.memoryEstimation(relationshipCount)
+                );
+            })
+            .build();
+    }
+
+    @Override
+    public SpanningTree compute() {
+        progressTracker.beginSubTask("SpanningTree");
+
+        long relationshipCount = collectRelationships();
+        filterKruskal(0, relationshipCount);
+
+        var spanningTree = forest.toSpanningTree(startNodeId, minMax);
+        progressTracker.endSubTask("SpanningTree");
+        return spanningTree;
+    }
+
+    /**
+     * Stores every undirected relationship once, from the smaller to the larger node id, and ignores self loops.
+     *
+     * @return the number of stored relationships
+     */
+    private long collectRelationships() {
+        var partitions = PartitionUtils.rangePartition(concurrency, nodeCount, Function.identity(), Optional.empty());
+        var counts = new long[partitions.size()];
+
+        runInParallel(partitions, (partition, index) -> () -> {
+            var localGraph = graph.concurrentCopy();
+            long end = partition.startNode() + partition.nodeCount();
+            long[] count = {0};
+            for (long node = partition.startNode(); node < end; node++) {
+                localGraph.forEachRelationship(node, (source, target) -> {
+                    if (source < target) {
+                        count[0]++;
+                    }
+                    return true;
+                });
+            }
+            counts[index] = count[0];
+        });
+
+        long relationshipCount = 0;
+        var offsets = new long[partitions.size()];
+        for (int index = 0; index < counts.length; index++) {
+            offsets[index] = relationshipCount;
+            relationshipCount += counts[index];
+        }
+
+        this.sources = HugeLongArray.newArray(relationshipCount);
+        this.targets = HugeLongArray.newArray(relationshipCount);
+        this.weights = HugeDoubleArray.newArray(relationshipCount);
+        this.relationships = HugeLongArray.newArray(relationshipCount);
+
+        runInParallel(partitions, (partition, index) -> () -> {
+            var localGraph = graph.concurrentCopy();
+            long end = partition.startNode() + partition.nodeCount();
+            long[] offset = {offsets[index]};
+            for (long node = partition.startNode(); node < end; node++) {
+                localGraph.forEachRelationship(node, 0.0D, (source, target, property) -> {
+                    if (source < target) {
+                        long relationship = offset[0]++;
+                        sources.set(relationship, source);
+                        targets.set(relationship, target);
+                        // invert weight to calculate maximum
+                        weights.set(relationship, minMax.applyAsDouble(property));
+                        relationships.set(relationship, relationship);
+                    }
+                    return true;
+                });
+                progressTracker.logProgress(localGraph.degree(node));
+            }
+        });
+
+        return relationshipCount;
+    }
+
+    private void filterKruskal(long start, long end) {
+        while (end - start > sequentialThreshold) {
+            terminationFlag.assertRunning();
+
+            double pivot = pivot(start, end);
+
+            // three-way partition into [start, lighterEnd) < pivot, [lighterEnd, heavierStart) == pivot, [heavierStart, end) > pivot
+            long lighterEnd = start;
+            long heavierStart = end;
+            long index = start;
+            while (index < heavierStart) {
+                int comparison = Double.compare(weights.get(relationships.get(index)), pivot);
+                if (comparison < 0) {
+                    swap(lighterEnd++, index++);
+                } else if (comparison > 0) {
+                    swap(index, --heavierStart);
+                } else {
+                    index++;
+                }
+            }
+
+            filterKruskal(start, lighterEnd);
+            for (index = lighterEnd; index < heavierStart; index++) {
+                addIfConnectingTrees(relationships.get(index));
+            }
+
+            start = heavierStart;
+            end = filter(heavierStart, end);
+        }
+        kruskal(start, end);
+    }
+
+    private void kruskal(long start, long end) {
+        long size = end - start;
+        for (long index = 0; index < size; index++) {
+            buffer.set(index, relationships.get(start + index));
+        }
+        HugeSerialIndirectMergeSort.sort(buffer, size, weights::get, sortBuffer);
+        for (long index = 0; index < size; index++) {
+            addIfConnectingTrees(buffer.get(index));
+        }
+    }
+
+    private void addIfConnectingTrees(long relationship) {
+        long source = sources.get(relationship);
+        long target = targets.get(relationship);
+        if (!disjointSets.sameSet(source, target)) {
+            disjointSets.union(source, target);
+            forest.add(source, target, weights.get(relationship));
+        }
+    }
+
+    /**
+     * Removes all relationships in the given range that connect nodes of the same tree.
+     *
+     * @return the new end of the range
+     */
+    private long filter(long start, long end) {
+        var partitions = PartitionUtils.rangePartition(concurrency, end - start, Function.identity(), Optional.empty());
+        var kept = new long[partitions.size()];
+
+        runInParallel(partitions, (partition, index) -> () -> {
+            long from = start + partition.startNode();
+            long to = from + partition.nodeCount();
+            long write = from;
+            for (long read = from; read < to; read++) {
+                long relationship = relationships.get(read);
+                if (!disjointSets.sameSet(sources.get(relationship), targets.get(relationship))) {
+                    relationships.set(write++, relationship);
+                }
+            }
+            kept[index] = write - from;
+        });
+
+        long write = start;
+        for (int index = 0; index < partitions.size(); index++) {
+            long from = start + partitions.get(index).startNode();
+            for (long read = from; read < from + kept[index]; read++) {
+                relationships.set(write++, relationships.get(read));
+            }
+        }
+        return write;
+    }
+
+    private double pivot(long start, long end) {
+        double first = weights.get(relationships.get(start));
+        double middle = weights.get(relationships.get(start + (end - start) / 2));
+        double last = weights.get(relationships.get(end - 1));
+        return Math.max(Math.min(first, middle), Math.min(Math.max(first, middle), last));
+    }
+
+    private void swap(long index, long otherIndex) {
+        long relationship = relationships.get(index);
+        relationships.set(index, relationships.get(otherIndex));
+        relationships.set(otherIndex, relationship);
+    }
+
+    private void runInParallel(List<Partition> partitions, PartitionTaskFactory taskFactory) {
+        var tasks = new ArrayList<Runnable>(partitions.size());
+        for (int index = 0; index < partitions.size(); index++) {
+            tasks.add(taskFactory.create(partitions.get(index), index));
+        }
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .run();
+    }
+
+    @FunctionalInterface
+    private interface PartitionTaskFactory {
+        Runnable create(Partition partition, int index);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.spanningtree;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Relationships of a minimum spanning forest as found by the parallel engines.
+ * Relationships can be added concurrently, their weights are already transformed by the objective.
+ * <p>
+ * The tree containing the start node is rooted at that node, such that the resulting
+ * {@link SpanningTree} has the same shape as the one computed by {@link Prim}.
+ */
+final class SpanningForest {
+
+    private final long nodeCount;
+    private final HugeLongArray sources;
+    private final HugeLongArray targets;
+    private final HugeDoubleArray weights;
+    private final AtomicLong size;
+
+    SpanningForest(long nodeCount) {
+        this.nodeCount = nodeCount;
+        // a forest has at most one relationship less than it has nodes
+        long capacity = Math.max(nodeCount - 1, 0);
+        this.sources = HugeLongArray.newArray(capacity);
+        this.targets = HugeLongArray.newArray(capacity);
+        this.weights = HugeDoubleArray.newArray(capacity);
+        this.size = new AtomicLong();
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(SpanningForest.class)
+            .perNode("sources", HugeLongArray::memoryEstimation)
+            .perNode("targets", HugeLongArray::memoryEstimation)
+            .perNode("weights", HugeDoubleArray::memoryEstimation)
+            .perNode("offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+            .perNode("adjacency", nodeCount -> HugeLongArray.memoryEstimation(2 * nodeCount))
+            .perNode("parent", HugeLongArray::memoryEstimation)
+            .perNode("costToParent", HugeDoubleArray::memoryEstimation)
+            .perNode("queue", HugeLongArray::memoryEstimation)
+            .perNode("visited", Estimate::sizeOfBitset)
+            .build();
+    }
+
+    void add(long source, long target, double weight) {
+        long index = size.getAndIncrement();
+        sources.set(index, source);
+        targets.set(index, target);
+        weights.set(index, weight);
+    }
+
+    long size() {
+        return size.get();
+    }
+
+    SpanningTree toSpanningTree(long startNodeId, DoubleUnaryOperator minMax) {
+        long relationshipCount = size.get();
+
+        // after filling, offsets[node] points to the end of the relationships of node
+        // and therefore to the start of the relationships of node + 1
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+        for (long relationship = 0; relationship < relationshipCount; relationship++) {
+            offsets.addTo(sources.get(relationship), 1);
+            offsets.addTo(targets.get(relationship), 1);
+        }
+        long sum = 0;
+        for (long node = 0; node <= nodeCount; node++) {
+            long degree = offsets.get(node);
+            offsets.set(node, sum);
+            sum += degree;
+        }
+        var adjacency = HugeLongArray.newArray(sum);
+        for (long relationship = 0; relationship < relationshipCount; relationship++) {
+            append(offsets, adjacency, sources.get(relationship), relationship);
+            append(offsets, adjacency, targets.get(relationship), relationship);
+        }
+
+        var parent = HugeLongArray.newArray(nodeCount);
+        parent.fill(-1L);
+        var costToParent = HugeDoubleArray.newArray(nodeCount);
+        var visited = new BitSet(nodeCount);
+        var queue = HugeLongArray.newArray(nodeCount);
+
+        double totalWeight = 0;
+        long head = 0;
+        long tail = 0;
+        queue.set(tail++, startNodeId);
+        visited.set(startNodeId);
+        while (head < tail) {
+            long node = queue.get(head++);
+            long start = node == 0 ? 0 : offsets.get(node - 1);
+            long end = offsets.get(node);
+            for (long index = start; index < end; index++) {
+                long relationship = adjacency.get(index);
+                long other = sources.get(relationship) == node
+                    ? targets.get(relationship)
+                    : sources.get(relationship);
+                if (visited.get(other)) {
+                    continue;
+                }
+                visited.set(other);
+                double weight = weights.get(relationship);
+                parent.set(other, node);
+                costToParent.set(other, minMax.applyAsDouble(weight));
+                totalWeight += weight;
+                queue.set(tail++, other);
+            }
+        }
+
+        return new SpanningTree(
+            startNodeId,
+            nodeCount,
+            tail,
+            parent,
+            costToParent::get,
+            minMax.applyAsDouble(totalWeight)
+        );
+    }
+
+    private static void append(HugeLongArray offsets, HugeLongArray adjacency, long node, long relationship) {
+        adjacency.set(offsets.get(node), relationship);
+        offsets.addTo(node, 1);
+    }
+}
@@ -37,8 +37,16 @@ public interface SpanningTreeBaseConfig extends
         return Prim.MIN_OPERATOR;
     }
 
+    /**
+     * Computes the tree with {@link Boruvka} or {@link FilterKruskal} on large graphs,
+     * which may pick a different tree of the same weight than {@link Prim} if weights are tied.
+     */
+    default boolean parallel() {
+        return false;
+    }
+
     @Configuration.Ignore
     default SpanningTreeParameters toParameters() {
-        return new SpanningTreeParameters(objective(), sourceNode());
+        return new SpanningTreeParameters(objective(), sourceNode(), parallel());
     }
 }
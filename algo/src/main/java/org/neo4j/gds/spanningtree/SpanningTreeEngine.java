@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.spanningtree;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Selects the minimum weight spanning tree implementation for a graph.
+ * All of them compute a tree of the same total weight, rooted at the start node.
+ * If relationships have the same weight, the parallel implementations may pick
+ * a different tree than Prim, which is why they need to be requested explicitly.
+ */
+public final class SpanningTreeEngine {
+
+    private SpanningTreeEngine() {}
+
+    public static Algorithm<SpanningTree> create(
+        Graph graph,
+        DoubleUnaryOperator minMax,
+        long startNodeId,
+        Concurrency concurrency,
+        boolean parallel,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        if (!parallel) {
+            return new Prim(graph, minMax, startNodeId, progressTracker, terminationFlag);
+        }
+        if (FilterKruskal.isApplicable(graph, concurrency)) {
+            return new FilterKruskal(graph, minMax, startNodeId, concurrency, progressTracker, terminationFlag);
+        }
+        if (Boruvka.isApplicable(graph, concurrency)) {
+            return new Boruvka(graph, minMax, startNodeId, concurrency, progressTracker, terminationFlag);
+        }
+        return new Prim(graph, minMax, startNodeId, progressTracker, terminationFlag);
+    }
+}
@@ -26,11 +26,43 @@ import org.neo4j.gds.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 import org.neo4j.gds.mem.Estimate;
 
+import java.util.List;
+
 public class SpanningTreeMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
+    private final boolean parallel;
+
+    public SpanningTreeMemoryEstimateDefinition() {
+        this(false);
+    }
+
+    public SpanningTreeMemoryEstimateDefinition(boolean parallel) {
+        this.parallel = parallel;
+    }
 
     @Override
     public MemoryEstimation memoryEstimation() {
+        var primEstimation = primMemoryEstimation();
+        if (!parallel) {
+            return primEstimation;
+        }
+
+        var boruvkaEstimation = Boruvka.memoryEstimation();
+        var filterKruskalEstimation = FilterKruskal.memoryEstimation();
+
+        // whether Filter-Kruskal is used also depends on the relationship weights, which are not known here
+        return MemoryEstimations.setup("", (graphDimensions, concurrency) -> {
+            if (concurrency.value() <= 1 || graphDimensions.nodeCount() < Boruvka.MIN_NODE_COUNT) {
+                return primEstimation;
+            }
+            if (graphDimensions.relCountUpperBound() <= FilterKruskal.MAX_AVERAGE_DEGREE * graphDimensions.nodeCount()) {
+                return MemoryEstimations.maxEstimation(List.of(primEstimation, boruvkaEstimation, filterKruskalEstimation));
+            }
+            return MemoryEstimations.maxEstimation(List.of(primEstimation, boruvkaEstimation));
+        });
+    }
+
+    private static MemoryEstimation primMemoryEstimation() {
         return MemoryEstimations.builder(Prim.class)
             .perNode("Parent array", HugeLongArray::memoryEstimation)
             .add("Priority queue", HugeLongPriorityQueue.memoryEstimation())
@@ -24,5 +24,5 @@ import org.neo4j.gds.annotation.Parameters;
 import java.util.function.DoubleUnaryOperator;
 
 @Parameters
-public record SpanningTreeParameters(DoubleUnaryOperator objective, long sourceNode) {
+public record SpanningTreeParameters(DoubleUnaryOperator objective, long sourceNode, boolean parallel) {
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.steiner;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.neo4j.gds.steiner.ShortestPathsSteinerAlgorithm.PRUNED;
+import static org.neo4j.gds.steiner.ShortestPathsSteinerAlgorithm.ROOT_NODE;
+
+/*
+ * Same rerouting as the SimpleRerouter, but the relationships are examined in parallel.
+ *
+ * Every tree node is offered the cheapest relationship from a tree node outside its own subtree,
+ * if it is cheaper than the relationship from its current parent.
+ * The subtrees are taken from the tree before rerouting, as preorder intervals,
+ * so that the offers can be computed concurrently without the link-cut tree.
+ *
+ * Accepting one offer can invalidate another, by moving the source of the other offer into the subtree of its target.
+ * The offers are accepted in node order and each one is checked again against the link-cut tree,
+ * so conflicting offers are detected and dropped.
+ */
+final class ParallelRerouter extends SimpleRerouter {
+
+    private static final long NO_OFFER = -1;
+
+    private final TerminationFlag terminationFlag;
+
+    static MemoryEstimation estimation() {
+        return MemoryEstimations.builder(ParallelRerouter.class)
+            .add(SimpleRerouter.estimation())
+            .perNode("offered weight", HugeAtomicDoubleArray::memoryEstimation)
+            .perNode("offered source", HugeAtomicLongArray::memoryEstimation)
+            .perNode("preorder", HugeLongArray::memoryEstimation)
+            .perNode("subtree size", HugeLongArray::memoryEstimation)
+            .perNode("children offsets", HugeLongArray::memoryEstimation)
+            .perNode("children", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    ParallelRerouter(
+        Graph graph,
+        long sourceId,
+        List<Long> terminals,
+        Concurrency concurrency,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(graph, sourceId, terminals, concurrency, progressTracker, terminationFlag);
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public void reroute(
+        HugeLongArray parent,
+        HugeDoubleArray parentCost,
+        DoubleAdder totalCost,
+        LongAdder effectiveNodeCount
+    ) {
+        progressTracker.beginSubTask("Reroute");
+        long nodeCount = graph.nodeCount();
+
+        var preorder = HugeLongArray.newArray(nodeCount);
+        var subtreeSize = HugeLongArray.newArray(nodeCount);
+        computeSubtrees(parent, preorder, subtreeSize);
+
+        var offeredWeight = HugeAtomicDoubleArray.of(nodeCount, ParallelDoublePageCreator.passThrough(concurrency));
+        offeredWeight.setAll(Double.MAX_VALUE);
+        var offeredSource = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        offeredSource.setAll(NO_OFFER);
+
+        // first find the cheapest offer for every node, then the smallest source offering it, to stay deterministic
+        forEachOffer(parent, parentCost, preorder, subtreeSize, false, (source, target, weight) -> {
+            if (weight < offeredWeight.get(target)) {
+                offeredWeight.update(target, current -> Math.min(current, weight));
+            }
+        });
+        forEachOffer(parent, parentCost, preorder, subtreeSize, true, (source, target, weight) -> {
+            if (weight == offeredWeight.get(target)) {
+                long current = offeredSource.get(target);
+                while (current == NO_OFFER || source < current) {
+                    long witness = offeredSource.compareAndExchange(target, current, source);
+                    if (witness == current) {
+                        break;
+                    }
+                    current = witness;
+                }
+            }
+        });
+
+        var tree = createLinkCutTree(parent);
+        boolean didReroutes = false;
+        for (long target = 0; target < nodeCount; target++) {
+            long source = offeredSource.get(target);
+            if (source == NO_OFFER) {
+                continue;
+            }
+            long parentId = parent.get(target);
+            if (checkIfRerouteIsValid(tree, source, target, parentId)) {
+                didReroutes = true;
+                reconnect(tree, parent, parentCost, totalCost, source, target, offeredWeight.get(target));
+            } else {
+                tree.link(parentId, target);
+            }
+        }
+
+        if (didReroutes) {
+            cutNodesAfterRerouting(parent, parentCost, totalCost, effectiveNodeCount);
+        }
+        progressTracker.endSubTask("Reroute");
+    }
+
+    private void forEachOffer(
+        HugeLongArray parent,
+        HugeDoubleArray parentCost,
+        HugeLongArray preorder,
+        HugeLongArray subtreeSize,
+        boolean logProgress,
+        OfferConsumer consumer
+    ) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                partition.consume(nodeId -> {
+                    if (parent.get(nodeId) == PRUNED) {
+                        return;
+                    }
+                    localGraph.forEachRelationship(nodeId, 1.0, (source, target, weight) -> {
+                        long targetParent = parent.get(target);
+                        if (targetParent != PRUNED && targetParent != ROOT_NODE && weight < parentCost.get(target)) {
+                            long targetPreorder = preorder.get(target);
+                            long sourcePreorder = preorder.get(source);
+                            boolean inSubtreeOfTarget = targetPreorder <= sourcePreorder
+                                && sourcePreorder < targetPreorder + subtreeSize.get(target);
+                            if (!inSubtreeOfTarget) {
+                                consumer.accept(source, target, weight);
+                            }
+                        }
+                        return true;
+                    });
+                });
+                if (logProgress) {
+                    progressTracker.logProgress(partition.nodeCount());
+                }
+            },
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .run();
+    }
+
+    private void computeSubtrees(HugeLongArray parent, HugeLongArray preorder, HugeLongArray subtreeSize) {
+        long nodeCount = graph.nodeCount();
+
+        // children in CSR layout
+        var childOffsets = HugeLongArray.newArray(nodeCount + 1);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long parentId = parent.get(nodeId);
+            if (parentId != PRUNED && parentId != ROOT_NODE) {
+                childOffsets.addTo(parentId + 1, 1);
+            }
+        }
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            childOffsets.addTo(nodeId + 1, childOffsets.get(nodeId));
+        }
+        var children = HugeLongArray.newArray(childOffsets.get(nodeCount));
+        var nextChild = childOffsets.copyOf(nodeCount);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long parentId = parent.get(nodeId);
+            if (parentId != PRUNED && parentId != ROOT_NODE) {
+                long position = nextChild.get(parentId);
+                children.set(position, nodeId);
+                nextChild.set(parentId, position + 1);
+            }
+        }
+
+        // iterative DFS from the source, the preorder numbers double as the stack of the visited nodes
+        var visitOrder = HugeLongArray.newArray(children.size() + 1);
+        var stack = HugeLongArray.newArray(children.size() + 1);
+        long stackSize = 0;
+        long visited = 0;
+        stack.set(stackSize++, sourceId);
+        while (stackSize > 0) {
+            long nodeId = stack.get(--stackSize);
+            preorder.set(nodeId, visited);
+            visitOrder.set(visited++, nodeId);
+            for (long position = childOffsets.get(nodeId); position < childOffsets.get(nodeId + 1); position++) {
+                stack.set(stackSize++, children.get(position));
+            }
+        }
+
+        // a subtree is complete once all nodes visited after its root are accounted for
+        for (long index = visited - 1; index >= 0; index--) {
+            long nodeId = visitOrder.get(index);
+            subtreeSize.addTo(nodeId, 1);
+            long parentId = parent.get(nodeId);
+            if (parentId != ROOT_NODE) {
+                subtreeSize.addTo(parentId, subtreeSize.get(nodeId));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface OfferConsumer {
+        void accept(long source, long target, double weight);
+    }
+}
@@ -39,6 +39,7 @@ final class ReroutingSupplier {
         HugeLongArray examinationQueue,
         LongAdder indexQueue,
         Concurrency concurrency,
+        boolean parallel,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
     ) {
@@ -53,6 +54,8 @@ final class ReroutingSupplier {
                 concurrency,
                 progressTracker
             );
+        } else if (parallel) {
+            return new ParallelRerouter(graph, sourceId, terminals, concurrency, progressTracker, terminationFlag);
         } else {
             return new SimpleRerouter(graph, sourceId, terminals, concurrency, progressTracker, terminationFlag);
         }
@@ -52,6 +52,8 @@ public class ShortestPathsSteinerAlgorithm extends Algorithm<SteinerTreeResult>
     private final int binSizeThreshold;
     private final HugeLongArray examinationQueue;
     private final LongAdder indexQueue;
+    private final boolean batchTerminals;
+
     public ShortestPathsSteinerAlgorithm(
         Graph graph,
         long sourceId,
@@ -62,6 +64,32 @@ public class ShortestPathsSteinerAlgorithm extends Algorithm<SteinerTreeResult>
         ExecutorService executorService,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
+    ) {
+        this(
+            graph,
+            sourceId,
+            terminals,
+            delta,
+            concurrency,
+            applyRerouting,
+            false,
+            executorService,
+            progressTracker,
+            terminationFlag
+        );
+    }
+
+    public ShortestPathsSteinerAlgorithm(
+        Graph graph,
+        long sourceId,
+        List<Long> terminals,
+        double delta,
+        Concurrency concurrency,
+        boolean applyRerouting,
+        boolean batchTerminals,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
     ) {
         super(progressTracker);
         this.graph = graph;
@@ -75,6 +103,7 @@ public class ShortestPathsSteinerAlgorithm extends Algorithm<SteinerTreeResult>
         this.binSizeThreshold = SteinerBasedDeltaStepping.BIN_SIZE_THRESHOLD;
         this.examinationQueue = createExaminationQueue(graph, applyRerouting, terminals.size());
         this.indexQueue = new LongAdder();
+        this.batchTerminals = batchTerminals;
         this.terminationFlag = terminationFlag;
     }
 
@@ -102,7 +131,7 @@ public class ShortestPathsSteinerAlgorithm extends Algorithm<SteinerTreeResult>
         this.binSizeThreshold = binSizeThreshold;
         this.examinationQueue = createExaminationQueue(graph, applyRerouting, terminals.size());
         this.indexQueue = new LongAdder();
-
+        this.batchTerminals = false;
     }
 
 
@@ -154,6 +183,7 @@ public class ShortestPathsSteinerAlgorithm extends Algorithm<SteinerTreeResult>
                 examinationQueue,
                 indexQueue,
                 concurrency,
+                batchTerminals,
                 progressTracker,
                 terminationFlag
             );
@@ -215,6 +245,7 @@ public class ShortestPathsSteinerAlgorithm extends Algorithm<SteinerTreeResult>
             isTerminal,
             concurrency,
             binSizeThreshold,
+            batchTerminals,
             executorService,
             progressTracker
         );
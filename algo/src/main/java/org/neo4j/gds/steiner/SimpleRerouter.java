@@ -110,7 +110,7 @@ public class SimpleRerouter extends ReroutingAlgorithm {
         progressTracker.endSubTask("Reroute");
     }
 
-    private void cutNodesAfterRerouting(
+    void cutNodesAfterRerouting(
         HugeLongArray parent,
         HugeDoubleArray parentCost,
         DoubleAdder totalCost,
@@ -22,6 +22,7 @@ package org.neo4j.gds.steiner;
 import com.carrotsearch.hppc.BitSet;
 import com.carrotsearch.hppc.DoubleArrayDeque;
 import com.carrotsearch.hppc.LongArrayDeque;
+import com.carrotsearch.hppc.LongArrayList;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.ha.HugeLongArray;
@@ -78,6 +79,7 @@ public final class SteinerBasedDeltaStepping extends Algorithm<PathFindingResult
     private final BitSet mergedWithSource;
     private final LongAdder metTerminals;
     private final int binSizeThreshold;
+    private final boolean batchTerminals;
 
     SteinerBasedDeltaStepping(
         Graph graph,
@@ -88,6 +90,24 @@ public final class SteinerBasedDeltaStepping extends Algorithm<PathFindingResult
         int binSizeThreshold,
         ExecutorService executorService,
         ProgressTracker progressTracker
+    ) {
+        this(graph, startNode, delta, isTerminal, concurrency, binSizeThreshold, false, executorService, progressTracker);
+    }
+
+    /**
+     * @param batchTerminals if true, all terminals whose shortest path is certain after a relax phase are connected at once,
+     *                       instead of returning to bin 0 after each of them
+     */
+    SteinerBasedDeltaStepping(
+        Graph graph,
+        long startNode,
+        double delta,
+        BitSet isTerminal,
+        Concurrency concurrency,
+        int binSizeThreshold,
+        boolean batchTerminals,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
         this.graph = graph;
@@ -107,6 +127,7 @@ public final class SteinerBasedDeltaStepping extends Algorithm<PathFindingResult
         this.metTerminals = new LongAdder();
         this.numOfTerminals = isTerminal.cardinality();
         this.binSizeThreshold = binSizeThreshold;
+        this.batchTerminals = batchTerminals;
     }
 
     static MemoryEstimation memoryEstimation() {
@@ -192,6 +213,7 @@ public final class SteinerBasedDeltaStepping extends Algorithm<PathFindingResult
             terminalId,
             distances.distances(),
             distances.predecessors().get(),
+            mergedWithSource,
             mergedWithSource
         ));
         frontierIndex.set(0);
@@ -209,6 +231,45 @@ public final class SteinerBasedDeltaStepping extends Algorithm<PathFindingResult
 
     }
 
+    private boolean updateSteinerTree(
+        LongArrayList terminalBatch,
+        AtomicLong frontierIndex,
+        List<PathResult> paths,
+        ImmutablePathResult.Builder pathResultBuilder
+    ) {
+        //all paths are extracted before any of them is merged, since merging zeroes the distances on the path.
+        //a path ends where it meets the path of an earlier terminal in the batch, and its costs are relative to that node
+        var onBatchPath = new BitSet(graph.nodeCount());
+        onBatchPath.or(mergedWithSource);
+        for (var terminal : terminalBatch) {
+            var path = pathResult(
+                pathResultBuilder,
+                pathIndex++,
+                terminal.value,
+                distances.distances(),
+                distances.predecessors().get(),
+                mergedWithSource,
+                onBatchPath
+            );
+            paths.add(path);
+            for (long nodeId : path.nodeIds()) {
+                onBatchPath.set(nodeId);
+            }
+            metTerminals.increment();
+            unvisitedTerminal.flip(terminal.value);
+            progressTracker.logProgress();
+        }
+        frontierIndex.set(0);
+
+        if (metTerminals.longValue() == numOfTerminals) {
+            return true;
+        }
+        for (var terminal : terminalBatch) {
+            mergeNodesOnPathToSource(terminal.value, frontierIndex);
+        }
+        return false;
+    }
+
     private boolean ensureShortest(
         double distance,
         long oldBin,
@@ -336,7 +397,19 @@ public final class SteinerBasedDeltaStepping extends Algorithm<PathFindingResult
             if (terminalId != NO_TERMINAL) { //if we are certain that we have found a shortest path to one of the remaining terminals
                 //we update the solution and merge its path to the root
                 terminalQueue.pop();
-                shouldBreak = updateSteinerTree(terminalId, frontierIndex, paths, pathResultBuilder);
+                if (batchTerminals) {
+                    //the remaining terminals are certain under the same criteria, as long as no path has been merged
+                    var terminalBatch = new LongArrayList();
+                    terminalBatch.add(terminalId);
+                    long nextTerminalId;
+                    while ((nextTerminalId = tryToUpdateSteinerTree(oldCurrentBin, currentBin, terminalQueue, tasks)) != NO_TERMINAL) {
+                        terminalQueue.pop();
+                        terminalBatch.add(nextTerminalId);
+                    }
+                    shouldBreak = updateSteinerTree(terminalBatch, frontierIndex, paths, pathResultBuilder);
+                } else {
+                    shouldBreak = updateSteinerTree(terminalId, frontierIndex, paths, pathResultBuilder);
+                }
                 currentBin = 0;
                 //Note  if this scenario occurs:
                 // The content in the local buckets which normally would have been synced,  remains stored inside buckets
@@ -371,7 +444,8 @@ public final class SteinerBasedDeltaStepping extends Algorithm<PathFindingResult
         long targetNode,
         HugeAtomicDoubleArray distances,
         HugeAtomicLongArray predecessors,
-        BitSet mergedWithSource
+        BitSet mergedWithSource,
+        BitSet endOfPath
     ) {
         // TODO: use LongArrayList and then ArrayUtils.reverse
         var pathNodeIds = new LongArrayDeque();
@@ -382,19 +456,28 @@ public final class SteinerBasedDeltaStepping extends Algorithm<PathFindingResult
 
         while (true) {
             pathNodeIds.addFirst(lastNode);
-            if (mergedWithSource.get(lastNode)) {
+            if (endOfPath.get(lastNode)) {
                 break;
             }
             costs.addFirst(distances.get(lastNode)); //cost is added except the very last one
 
             lastNode = predecessors.get(lastNode);
         }
+
+        var costArray = costs.toArray();
+        //a path ending at a node not merged with the source yet has costs relative to that node
+        if (!mergedWithSource.get(lastNode)) {
+            double offset = distances.get(lastNode);
+            for (int i = 0; i < costArray.length; i++) {
+                costArray[i] -= offset;
+            }
+        }
         return pathResultBuilder
             .index(pathIndex)
             .targetNode(targetNode)
             .nodeIds(pathNodeIds.toArray())
             .relationshipIds(EMPTY_ARRAY)
-            .costs(costs.toArray())
+            .costs(costArray)
             .build();
     }
 }
@@ -48,6 +48,7 @@ public class SteinerTreeAlgorithmFactory<CONFIG extends SteinerTreeBaseConfig> e
             parameters.delta(),
             parameters.concurrency(),
             parameters.applyRerouting(),
+            parameters.batchTerminals(),
             DefaultPool.INSTANCE,
             progressTracker,
             TerminationFlag.RUNNING_TRUE
@@ -81,6 +82,6 @@ public class SteinerTreeAlgorithmFactory<CONFIG extends SteinerTreeBaseConfig> e
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG config) {
-        return new SteinerTreeMemoryEstimateDefinition(config.applyRerouting()).memoryEstimation();
+        return new SteinerTreeMemoryEstimateDefinition(config.applyRerouting(), config.batchTerminals()).memoryEstimation();
     }
 }
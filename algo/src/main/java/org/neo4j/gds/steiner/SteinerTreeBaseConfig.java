@@ -32,6 +32,10 @@ public interface SteinerTreeBaseConfig extends AlgoBaseConfig, SourceNodeConfig,
         return false;
     }
 
+    default boolean batchTerminals() {
+        return false;
+    }
+
     @Configuration.DoubleRange(min = 0, minInclusive = false)
     default double delta() {
         return 2.0;
@@ -39,6 +43,13 @@ public interface SteinerTreeBaseConfig extends AlgoBaseConfig, SourceNodeConfig,
 
     @Configuration.Ignore
     default SteinerTreeParameters toParameters() {
-        return new SteinerTreeParameters(concurrency(), sourceNode(), targetNodes(), delta(), applyRerouting());
+        return new SteinerTreeParameters(
+            concurrency(),
+            sourceNode(),
+            targetNodes(),
+            delta(),
+            applyRerouting(),
+            batchTerminals()
+        );
     }
 }
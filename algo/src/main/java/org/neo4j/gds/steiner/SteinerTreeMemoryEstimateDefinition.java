@@ -30,9 +30,15 @@ import org.neo4j.gds.mem.Estimate;
 public class SteinerTreeMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
     private final boolean applyRerouting;
+    private final boolean batchTerminals;
 
     public SteinerTreeMemoryEstimateDefinition(boolean applyRerouting) {
+        this(applyRerouting, false);
+    }
+
+    public SteinerTreeMemoryEstimateDefinition(boolean applyRerouting, boolean batchTerminals) {
         this.applyRerouting = applyRerouting;
+        this.batchTerminals = batchTerminals;
     }
 
     @Override
@@ -46,7 +52,7 @@ public class SteinerTreeMemoryEstimateDefinition implements MemoryEstimateDefini
 
         if (applyRerouting) {
             memoryEstimationBuilder.perNode("queue", HugeLongArrayQueue::memoryEstimation);
-            memoryEstimationBuilder.add(SimpleRerouter.estimation());
+            memoryEstimationBuilder.add(batchTerminals ? ParallelRerouter.estimation() : SimpleRerouter.estimation());
         }
 
         return memoryEstimationBuilder.build();
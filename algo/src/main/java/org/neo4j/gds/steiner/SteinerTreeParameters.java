@@ -30,6 +30,7 @@ public record SteinerTreeParameters(
     long sourceNode,
     List<Long> targetNodes,
     double delta,
-    boolean applyRerouting
+    boolean applyRerouting,
+    boolean batchTerminals
 ) {
 }
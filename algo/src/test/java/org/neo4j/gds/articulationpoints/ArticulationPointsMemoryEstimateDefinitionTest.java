@@ -21,8 +21,12 @@ package org.neo4j.gds.articulationpoints;
 
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.biconnectivity.Biconnectivity;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.concurrency.Concurrency;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 class ArticulationPointsMemoryEstimateDefinitionTest {
     @Test
     void shouldEstimateMemoryAccurately() {
@@ -32,4 +36,32 @@ class ArticulationPointsMemoryEstimateDefinitionTest {
             .memoryRange(100, 6000, new Concurrency(1))
             .hasSameMinAndMaxEqualTo(218752);
     }
+
+    @Test
+    void shouldNotDependOnRelationshipsForLargeGraphs() {
+        var memoryEstimation = new ArticulationPointsMemoryEstimateDefinition().memoryEstimation();
+
+        var sparse = memoryEstimation
+            .estimate(GraphDimensions.of(Biconnectivity.MIN_NODE_COUNT, 1_000_000), new Concurrency(4))
+            .memoryUsage();
+        var dense = memoryEstimation
+            .estimate(GraphDimensions.of(Biconnectivity.MIN_NODE_COUNT, 100_000_000), new Concurrency(4))
+            .memoryUsage();
+
+        assertThat(dense).isEqualTo(sparse);
+    }
+
+    @Test
+    void shouldUseDepthFirstSearchWithoutConcurrency() {
+        var memoryEstimation = new ArticulationPointsMemoryEstimateDefinition().memoryEstimation();
+
+        var sparse = memoryEstimation
+            .estimate(GraphDimensions.of(Biconnectivity.MIN_NODE_COUNT, 1_000_000), new Concurrency(1))
+            .memoryUsage();
+        var dense = memoryEstimation
+            .estimate(GraphDimensions.of(Biconnectivity.MIN_NODE_COUNT, 100_000_000), new Concurrency(1))
+            .memoryUsage();
+
+        assertThat(dense.max).isGreaterThan(sparse.max);
+    }
 }
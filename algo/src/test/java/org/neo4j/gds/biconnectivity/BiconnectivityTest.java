@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.biconnectivity;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.articulationpoints.ArticulationPoints;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.bridges.Bridge;
+import org.neo4j.gds.bridges.Bridges;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class BiconnectivityTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String GRAPH =
+        """
+            CREATE
+              (a:Node),
+              (b:Node),
+              (c:Node),
+              (d:Node),
+              (e:Node),
+              (f:Node),
+              (g:Node),
+              (h:Node),
+              (i:Node),
+              (z:Node),
+
+              (a)-[:REL]->(b),
+              (b)-[:REL]->(c),
+              (c)-[:REL]->(a),
+              (c)-[:REL]->(d),
+              (d)-[:REL]->(e),
+              (e)-[:REL]->(c),
+              (e)-[:REL]->(f),
+              (f)-[:REL]->(g),
+              (f)-[:REL]->(g),
+              (h)-[:REL]->(i)
+            """;
+
+    @Inject
+    private TestGraph graph;
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, Biconnectivity.MIN_NODES_PER_LEVEL})
+    void shouldComputeArticulationPointsBridgesAndComponents(long minNodesPerLevel) {
+        var result = new Biconnectivity(
+            graph,
+            new Concurrency(4),
+            minNodesPerLevel,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        var articulationPoints = result.articulationPoints();
+        assertThat(articulationPoints.cardinality()).isEqualTo(3L);
+        assertThat(articulationPoints.get(graph.toMappedNodeId("c"))).isTrue();
+        assertThat(articulationPoints.get(graph.toMappedNodeId("e"))).isTrue();
+        assertThat(articulationPoints.get(graph.toMappedNodeId("f"))).isTrue();
+
+        assertThat(result.bridges()).containsExactlyInAnyOrder(
+            bridge("e", "f"),
+            bridge("h", "i")
+        );
+
+        long firstTriangle = component(result, "a", "b");
+        assertThat(component(result, "b", "c")).isEqualTo(firstTriangle);
+        assertThat(component(result, "c", "a")).isEqualTo(firstTriangle);
+
+        long secondTriangle = component(result, "c", "d");
+        assertThat(component(result, "d", "e")).isEqualTo(secondTriangle);
+        assertThat(component(result, "e", "c")).isEqualTo(secondTriangle);
+
+        assertThat(secondTriangle).isNotEqualTo(firstTriangle);
+        assertThat(component(result, "e", "f"))
+            .isNotEqualTo(firstTriangle)
+            .isNotEqualTo(secondTriangle)
+            .isNotEqualTo(component(result, "f", "g"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1, RANDOM, 0",
+        "2, RANDOM, 0",
+        "3, RANDOM, 0",
+        "2, POWER_LAW, 0",
+        "1, RANDOM, 1000",
+        "2, RANDOM, 1000",
+        "3, RANDOM, 10",
+        "2, POWER_LAW, 10"
+    })
+    void shouldMatchDepthFirstSearch(int averageDegree, RelationshipDistribution distribution, long minNodesPerLevel) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(distribution)
+            .direction(Direction.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var result = new Biconnectivity(
+            randomGraph,
+            new Concurrency(4),
+            minNodesPerLevel,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        var expectedArticulationPoints = new ArticulationPoints(randomGraph, ProgressTracker.NULL_TRACKER).compute();
+        assertThat(result.articulationPoints()).isEqualTo(expectedArticulationPoints);
+
+        var expectedBridges = new Bridges(randomGraph, ProgressTracker.NULL_TRACKER).compute().bridges();
+        assertThat(result.bridges()).containsExactlyInAnyOrderElementsOf(expectedBridges);
+    }
+
+    private Bridge bridge(String from, String to) {
+        return new Bridge(graph.toMappedNodeId(from), graph.toMappedNodeId(to));
+    }
+
+    private long component(BiconnectivityResult result, String source, String target) {
+        long sourceId = graph.toMappedNodeId(source);
+        long targetId = graph.toMappedNodeId(target);
+        long component = result.biconnectedComponent(sourceId, targetId);
+        assertThat(result.biconnectedComponent(targetId, sourceId)).isEqualTo(component);
+        return component;
+    }
+}
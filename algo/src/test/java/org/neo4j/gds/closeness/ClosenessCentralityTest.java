@@ -32,8 +32,10 @@ import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
 import org.neo4j.gds.logging.GdsTestLog;
+import org.neo4j.gds.msbfs.Pivots;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -108,6 +110,29 @@ class ClosenessCentralityTest {
         assertThat(result.applyAsDouble(idFunction.of("e"))).isCloseTo(0.4, Offset.offset(0.01));
     }
 
+    @Test
+    void shouldMatchExactCentralityWhenSamplingAllNodes() {
+        IdFunction idFunction = graph::toMappedNodeId;
+
+        var algo = new ClosenessCentrality(
+            graph,
+            new Concurrency(4),
+            new DefaultCentralityComputer(),
+            Optional.of(Pivots.sample(graph.nodeCount(), graph.nodeCount(), Optional.of(42L))),
+            false,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var result = algo.compute().centralityScoreProvider();
+
+        assertThat(result.applyAsDouble(idFunction.of("a"))).isCloseTo(0.4, Offset.offset(0.01));
+        assertThat(result.applyAsDouble(idFunction.of("b"))).isCloseTo(0.57, Offset.offset(0.01));
+        assertThat(result.applyAsDouble(idFunction.of("c"))).isCloseTo(0.66, Offset.offset(0.01));
+        assertThat(result.applyAsDouble(idFunction.of("d"))).isCloseTo(0.57, Offset.offset(0.01));
+        assertThat(result.applyAsDouble(idFunction.of("e"))).isCloseTo(0.4, Offset.offset(0.01));
+    }
+
     @Test
     void shouldLogProgress() {
         var progressTask = new ClosenessCentralityAlgorithmFactory<>().progressTask(graph.nodeCount());
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.communityquality;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.concurrency.Concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommunityQualityMemoryEstimateDefinitionTest {
+
+    @Test
+    void shouldNotDependOnConcurrency() {
+        var dimensions = GraphDimensions.of(1_000_000, 5_000_000);
+        var estimation = new CommunityQualityMemoryEstimateDefinition(2).memoryEstimation();
+
+        var sequential = estimation.estimate(dimensions, new Concurrency(1)).memoryUsage();
+        var parallel = estimation.estimate(dimensions, new Concurrency(64)).memoryUsage();
+
+        assertThat(parallel).isEqualTo(sequential);
+    }
+
+    @Test
+    void shouldScaleWithCommunityProperties() {
+        var dimensions = GraphDimensions.of(1_000_000, 5_000_000);
+
+        var one = new CommunityQualityMemoryEstimateDefinition(1)
+            .memoryEstimation()
+            .estimate(dimensions, new Concurrency(4))
+            .memoryUsage();
+        var two = new CommunityQualityMemoryEstimateDefinition(2)
+            .memoryEstimation()
+            .estimate(dimensions, new Concurrency(4))
+            .memoryUsage();
+
+        assertThat(two.min).isGreaterThan(one.min);
+        assertThat(two.max).isGreaterThan(one.max);
+        assertThat(one.max).isGreaterThan(one.min);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.communityquality;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.modularity.ModularityCalculator;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+class CommunityQualityTest {
+
+    @GdlGraph(orientation = Orientation.NATURAL)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node { community: 0, seed: 0 })" +
+        ", (b:Node { community: 0, seed: 0 })" +
+        ", (c:Node { community: 0, seed: 0 })" +
+        ", (d:Node { community: 1, seed: 1 })" +
+        ", (e:Node { community: 1, seed: 1 })" +
+        ", (f:Node { community: 1, seed: 1 })" +
+        ", (g:Node { community: 1, seed: 1 })" +
+        ", (h:Node { community: -1, seed: 1 })" +
+
+        ", (a)-[:TYPE {weight: 81.0}]->(b)" +
+        ", (a)-[:TYPE {weight: 7.0}]->(d)" +
+        ", (b)-[:TYPE {weight: 1.0}]->(d)" +
+        ", (b)-[:TYPE {weight: 1.0}]->(g)" +
+        ", (b)-[:TYPE {weight: 3.0}]->(h)" +
+        ", (c)-[:TYPE {weight: 45.0}]->(b)" +
+        ", (c)-[:TYPE {weight: 3.0}]->(e)" +
+        ", (d)-[:TYPE {weight: 3.0}]->(c)" +
+        ", (e)-[:TYPE {weight: 1.0}]->(b)" +
+        ", (f)-[:TYPE {weight: 3.0}]->(a)" +
+        ", (g)-[:TYPE {weight: 4.0}]->(c)" +
+        ", (g)-[:TYPE {weight: 999.0}]->(g)" +
+        ", (h)-[:TYPE {weight: 2.0}]->(a)";
+
+    @GdlGraph(orientation = Orientation.NATURAL, graphNamePrefix = "sparse")
+    private static final String SPARSE_CYPHER =
+        "CREATE" +
+        "  (a:Node { community: 42 })" +
+        ", (b:Node { community: 7 })" +
+        ", (c:Node { community: 42 })" +
+        ", (d:Node { community: 7 })" +
+
+        ", (a)-[:TYPE]->(c)" +
+        ", (a)-[:TYPE]->(b)" +
+        ", (b)-[:TYPE]->(d)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private TestGraph sparseGraph;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldEvaluateAllPropertiesInOnePass(int concurrency) {
+        var result = communityQuality(false, concurrency);
+
+        assertThat(result.totalRelationshipWeight()).isEqualTo(13);
+        assertThat(result.scores()).hasSize(2);
+
+        var community = result.scores("community");
+        assertThat(community.communityCount()).isEqualTo(2);
+        assertThat(community.communityIds().toArray()).containsExactly(0L, 1L);
+        assertThat(community.internalWeights().toArray()).containsExactly(2, 1);
+        assertThat(community.externalWeights().toArray()).containsExactly(5, 4);
+        assertThat(community.conductances().toArray()).containsExactly(
+            new double[]{5.0 / 7.0, 4.0 / 5.0},
+            within(1e-9)
+        );
+        assertThat(community.averageConductance()).isCloseTo((5.0 / 7.0 + 4.0 / 5.0) / 2, within(1e-9));
+        assertThat(community.coverage()).isCloseTo(3.0 / 13.0, within(1e-9));
+        assertThat(community.modularity()).isCloseTo(
+            ((2 - 7.0 * 7.0 / 13) + (1 - 5.0 * 5.0 / 13)) / 13,
+            within(1e-9)
+        );
+
+        var seed = result.scores("seed");
+        assertThat(seed.externalWeights().toArray()).containsExactly(5, 5);
+        assertThat(seed.conductances().toArray()).containsExactly(
+            new double[]{5.0 / 7.0, 5.0 / 6.0},
+            within(1e-9)
+        );
+        assertThat(seed.coverage()).isCloseTo(3.0 / 13.0, within(1e-9));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldUseRelationshipWeights(int concurrency) {
+        var community = communityQuality(true, concurrency).scores("community");
+
+        assertThat(community.conductances().toArray()).containsExactly(
+            new double[]{15.0 / (15.0 + 126.0), 11.0 / (11.0 + 999.0)},
+            within(1e-9)
+        );
+        assertThat(community.coverage()).isCloseTo((126.0 + 999.0) / 1153.0, within(1e-9));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldOrderCommunitiesByTheirId(int concurrency) {
+        var community = new CommunityQuality(
+            sparseGraph,
+            new CommunityQualityParameters(new Concurrency(concurrency), false, List.of("community")),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute().scores("community");
+
+        assertThat(community.communityIds().toArray()).containsExactly(7L, 42L);
+        assertThat(community.internalWeights().toArray()).containsExactly(1, 1);
+        assertThat(community.externalWeights().toArray()).containsExactly(0, 1);
+    }
+
+    @Test
+    void shouldMatchModularityCalculator() {
+        var seed = communityQuality(true, 4).scores("seed");
+
+        var expected = ModularityCalculator.create(
+            graph,
+            graph.nodeProperties("seed")::longValue,
+            new Concurrency(4)
+        ).compute();
+
+        assertThat(seed.modularity()).isCloseTo(expected.totalModularity(), within(1e-9));
+    }
+
+    private CommunityQualityResult communityQuality(boolean weighted, int concurrency) {
+        return new CommunityQuality(
+            graph,
+            new CommunityQualityParameters(new Concurrency(concurrency), weighted, List.of("community", "seed")),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.diameter;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicIntArray;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.mem.Estimate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DistanceStatisticsMemoryEstimateDefinitionTest {
+
+    @Test
+    void shouldEstimateMsbfsPerThread() {
+        long nodeCount = 1_000_000;
+        var dimensions = GraphDimensions.of(nodeCount, 5_000_000);
+
+        var memoryUsage = new DistanceStatisticsMemoryEstimateDefinition(10_000)
+            .memoryEstimation()
+            .estimate(dimensions, new Concurrency(4))
+            .memoryUsage();
+
+        long expected = Estimate.sizeOfInstance(DistanceStatistics.class)
+            + HugeAtomicIntArray.memoryEstimation(nodeCount)
+            + Estimate.sizeOfLongArray(10_000)
+            + HugeIntArray.memoryEstimation(nodeCount)
+            + HugeLongArray.memoryEstimation(nodeCount)
+            + 4 * 3 * HugeLongArray.memoryEstimation(nodeCount);
+
+        assertThat(memoryUsage.min).isEqualTo(expected);
+        assertThat(memoryUsage.max).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldNotSampleMoreSourcesThanNodes() {
+        var dimensions = GraphDimensions.of(100, 500);
+
+        var bounded = new DistanceStatisticsMemoryEstimateDefinition(10_000)
+            .memoryEstimation()
+            .estimate(dimensions, new Concurrency(1))
+            .memoryUsage();
+        var exact = new DistanceStatisticsMemoryEstimateDefinition(100)
+            .memoryEstimation()
+            .estimate(dimensions, new Concurrency(1))
+            .memoryUsage();
+
+        assertThat(bounded).isEqualTo(exact);
+    }
+}
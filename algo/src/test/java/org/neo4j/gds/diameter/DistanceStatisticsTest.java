@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.diameter;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+class DistanceStatisticsTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE " +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (g:Node)" +
+
+        ", (a)-[:TYPE]->(b)" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (c)-[:TYPE]->(d)" +
+        ", (d)-[:TYPE]->(e)" +
+        ", (f)-[:TYPE]->(g)";
+
+    @GdlGraph(graphNamePrefix = "directed")
+    private static final String DIRECTED_CYPHER = DB_CYPHER;
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private TestGraph directedGraph;
+
+    @Test
+    void shouldComputeExactStatisticsWhenSamplingAllNodes() {
+        var result = distanceStatistics(graph, 100, 100);
+
+        // ordered pairs of distinct nodes: 10 at distance 1, 6 at distance 2, 4 at distance 3, 2 at distance 4
+        assertThat(result.sampledSources()).isEqualTo(7);
+        assertThat(result.neighbourhoodFunction()).containsExactly(
+            new double[]{7, 17, 23, 27, 29},
+            within(1e-9)
+        );
+        // 90% of the 22 connected pairs are within 2 + (19.8 - 16) / 4
+        assertThat(result.effectiveDiameter()).isCloseTo(2.95, within(1e-9));
+
+        assertThat(result.diameterLowerBound()).isEqualTo(4);
+        assertThat(result.diameterUpperBound()).isEqualTo(4);
+        assertThat(result.radiusLowerBound()).isLessThanOrEqualTo(2);
+        assertThat(result.radiusUpperBound()).isGreaterThanOrEqualTo(2);
+
+        var eccentricity = result.eccentricityLowerBounds();
+        assertThat(eccentricity.get(graph.toMappedNodeId("a"))).isEqualTo(4);
+        assertThat(eccentricity.get(graph.toMappedNodeId("b"))).isEqualTo(3);
+        assertThat(eccentricity.get(graph.toMappedNodeId("c"))).isEqualTo(2);
+        assertThat(eccentricity.get(graph.toMappedNodeId("e"))).isEqualTo(4);
+        assertThat(eccentricity.get(graph.toMappedNodeId("f"))).isEqualTo(1);
+    }
+
+    @Test
+    void shouldBoundDiameterOfRandomGraph() {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(200)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.RANDOM)
+            .direction(Direction.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        // a single batch samples every node, the largest eccentricity is the diameter
+        var exact = distanceStatistics(randomGraph, 200, 1);
+        long diameter = 0;
+        for (long nodeId = 0; nodeId < randomGraph.nodeCount(); nodeId++) {
+            diameter = Math.max(diameter, exact.eccentricityLowerBounds().get(nodeId));
+        }
+
+        for (long maxBoundingSources : new long[]{1, 2, 10, 200}) {
+            var bounded = distanceStatistics(randomGraph, 1, maxBoundingSources);
+            assertThat(bounded.diameterLowerBound()).isLessThanOrEqualTo(diameter);
+            assertThat(bounded.diameterUpperBound()).isGreaterThanOrEqualTo(diameter);
+            assertThat(bounded.radiusLowerBound()).isLessThanOrEqualTo(bounded.radiusUpperBound());
+        }
+    }
+
+    @Test
+    void shouldMergeDistancesOfAllThreads() {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(256)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.RANDOM)
+            .direction(Direction.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        // a single batch of four MSBFS words samples every node
+        var result = distanceStatistics(randomGraph, 256, 1);
+
+        assertThat(result.sampledSources()).isEqualTo(256);
+        assertThat(result.neighbourhoodFunction()).containsExactly(neighbourhoodFunction(randomGraph), within(1e-9));
+    }
+
+    @Test
+    void shouldRequireUndirectedGraph() {
+        assertThatThrownBy(() -> distanceStatistics(directedGraph, 10, 10))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("undirected");
+    }
+
+    private static double[] neighbourhoodFunction(Graph graph) {
+        int nodeCount = Math.toIntExact(graph.nodeCount());
+        var pairsAtDistance = new long[nodeCount];
+        int maxDistance = 0;
+        for (int source = 0; source < nodeCount; source++) {
+            var distances = new int[nodeCount];
+            Arrays.fill(distances, -1);
+            distances[source] = 0;
+            var queue = new ArrayDeque<Long>();
+            queue.add((long) source);
+            while (!queue.isEmpty()) {
+                long nodeId = queue.poll();
+                graph.forEachRelationship(nodeId, (ignored, target) -> {
+                    if (distances[(int) target] < 0) {
+                        distances[(int) target] = distances[(int) nodeId] + 1;
+                        queue.add(target);
+                    }
+                    return true;
+                });
+            }
+            for (int distance : distances) {
+                if (distance >= 0) {
+                    pairsAtDistance[distance]++;
+                    maxDistance = Math.max(maxDistance, distance);
+                }
+            }
+        }
+        var neighbourhoodFunction = new double[maxDistance + 1];
+        neighbourhoodFunction[0] = pairsAtDistance[0];
+        for (int distance = 1; distance <= maxDistance; distance++) {
+            neighbourhoodFunction[distance] = neighbourhoodFunction[distance - 1] + pairsAtDistance[distance];
+        }
+        return neighbourhoodFunction;
+    }
+
+    private static DistanceStatisticsResult distanceStatistics(
+        Graph graph,
+        long maxSamplingSize,
+        long maxBoundingSources
+    ) {
+        var parameters = new DistanceStatisticsParameters(
+            new Concurrency(4),
+            maxSamplingSize,
+            0.01,
+            Optional.of(42L),
+            maxBoundingSources
+        );
+        return new DistanceStatistics(
+            graph,
+            parameters,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
+}
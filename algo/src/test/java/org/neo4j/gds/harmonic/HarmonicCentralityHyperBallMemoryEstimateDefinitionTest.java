@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.harmonic;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.msbfs.HyperBall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HarmonicCentralityHyperBallMemoryEstimateDefinitionTest {
+
+    @Test
+    void shouldAddInverseFarnessToHyperBall() {
+        var dimensions = GraphDimensions.of(1_000_000, 5_000_000);
+
+        var hyperBall = HyperBall.memoryEstimation().estimate(dimensions, new Concurrency(4)).memoryUsage();
+        var harmonic = new HarmonicCentralityHyperBallMemoryEstimateDefinition()
+            .memoryEstimation()
+            .estimate(dimensions, new Concurrency(4))
+            .memoryUsage();
+
+        assertThat(harmonic).isEqualTo(hyperBall
+            .add(HugeAtomicDoubleArray.memoryEstimation(1_000_000))
+            .add(Estimate.sizeOfInstance(HarmonicCentrality.class)));
+    }
+}
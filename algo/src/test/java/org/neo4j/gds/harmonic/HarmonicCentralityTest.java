@@ -29,6 +29,9 @@ import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.msbfs.Pivots;
+
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
@@ -75,4 +78,45 @@ public class HarmonicCentralityTest {
         assertThat(result.applyAsDouble(mappedId.of("e"))).isEqualTo(0.25, within(0.1));
     }
 
+    @Test
+    void shouldMatchExactCentralityWhenSamplingAllNodes() {
+        IdFunction mappedId = variable -> graph.toMappedNodeId(idFunction.of(variable));
+
+        var harmonicCentrality = new HarmonicCentrality(
+            graph,
+            new Concurrency(1),
+            Optional.of(Pivots.sample(graph.nodeCount(), graph.nodeCount(), Optional.of(42L))),
+            false,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var result = harmonicCentrality.compute().centralityScoreProvider();
+
+        assertThat(result.applyAsDouble(mappedId.of("a"))).isEqualTo(0.375, within(1e-9));
+        assertThat(result.applyAsDouble(mappedId.of("b"))).isEqualTo(0.5, within(1e-9));
+        assertThat(result.applyAsDouble(mappedId.of("c"))).isEqualTo(0.375, within(1e-9));
+        assertThat(result.applyAsDouble(mappedId.of("d"))).isEqualTo(0.25, within(1e-9));
+        assertThat(result.applyAsDouble(mappedId.of("e"))).isEqualTo(0.25, within(1e-9));
+    }
+
+    @Test
+    void shouldApproximateCentralityWithHyperBall() {
+        IdFunction mappedId = variable -> graph.toMappedNodeId(idFunction.of(variable));
+
+        var harmonicCentrality = new HarmonicCentrality(
+            graph,
+            new Concurrency(1),
+            Optional.empty(),
+            true,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var result = harmonicCentrality.compute().centralityScoreProvider();
+
+        assertThat(result.applyAsDouble(mappedId.of("a"))).isEqualTo(0.375, within(0.1));
+        assertThat(result.applyAsDouble(mappedId.of("b"))).isEqualTo(0.5, within(0.1));
+        assertThat(result.applyAsDouble(mappedId.of("d"))).isEqualTo(0.25, within(0.1));
+    }
 }
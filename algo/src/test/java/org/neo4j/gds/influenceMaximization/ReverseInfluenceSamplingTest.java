@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.influenceMaximization;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.TestProgressTracker;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.logging.GdsTestLog;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.gds.assertj.Extractors.removingThreadId;
+
+@GdlExtension
+class ReverseInfluenceSamplingTest {
+
+    @GdlGraph(indexInverse = true)
+    private static final String DB_CYPHER =
+        "CREATE " +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (a)-[:R]->(b) " +
+        ", (a)-[:R]->(c) " +
+        ", (a)-[:R]->(d) " +
+        ", (a)-[:R]->(e) " +
+        ", (f)-[:R]->(e) ";
+
+    @GdlGraph(graphNamePrefix = "forward")
+    private static final String FORWARD_CYPHER = DB_CYPHER;
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private TestGraph forwardGraph;
+
+    @Test
+    void shouldSelectTheNodesReachingMostNodes() {
+        var seedSetNodes = new ReverseInfluenceSampling(
+            graph,
+            parameters(2, 1.0, 4),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute().seedSetNodes();
+
+        assertThat(seedSetNodes.size()).isEqualTo(2);
+        // a activates all but f with certainty, f only adds itself
+        assertThat(seedSetNodes.get(graph.toMappedNodeId("a"))).isCloseTo(5, within(0.5));
+        assertThat(seedSetNodes.get(graph.toMappedNodeId("f"))).isCloseTo(1, within(0.5));
+    }
+
+    @Test
+    void shouldNotDependOnConcurrency() {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(Direction.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var sequential = new ReverseInfluenceSampling(
+            randomGraph,
+            parameters(10, 0.1, 1),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+        var parallel = new ReverseInfluenceSampling(
+            randomGraph,
+            parameters(10, 0.1, 4),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        assertThat(parallel.seedSetNodes()).isEqualTo(sequential.seedSetNodes());
+        assertThat(parallel.totalSpread()).isGreaterThanOrEqualTo(10);
+    }
+
+    @Test
+    void shouldLogSamplingProgress() {
+        var task = Tasks.task(
+            "CELF",
+            Tasks.leaf("LowerBound", ReverseInfluenceSampling.lowerBoundRounds(graph.nodeCount())),
+            Tasks.leaf("Sampling"),
+            Tasks.leaf("NodeSelection", 2)
+        );
+        var log = new GdsTestLog();
+        var progressTracker = new TestProgressTracker(task, log, new Concurrency(4), EmptyTaskRegistryFactory.INSTANCE);
+
+        new ReverseInfluenceSampling(
+            graph,
+            parameters(2, 0.5, 4),
+            progressTracker,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        assertThat(log.getMessages(TestLog.INFO))
+            .extracting(removingThreadId())
+            .contains(
+                "CELF :: Sampling :: Start",
+                "CELF :: Sampling 100%",
+                "CELF :: NodeSelection 100%"
+            );
+    }
+
+    @Test
+    void shouldRequireInverseIndexForDirectedGraphs() {
+        assertThatThrownBy(() -> new ReverseInfluenceSampling(
+            forwardGraph,
+            parameters(1, 0.1, 1),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("inverse indexed");
+    }
+
+    private static CELFParameters parameters(int seedSetSize, double propagationProbability, int concurrency) {
+        return new CELFParameters(
+            seedSetSize,
+            propagationProbability,
+            100,
+            new Concurrency(concurrency),
+            42L,
+            CELFAlgorithmFactory.DEFAULT_BATCH_SIZE
+        );
+    }
+}
@@ -19,14 +19,18 @@
  */
 package org.neo4j.gds.kcore;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.mem.Estimate;
 
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.Mockito.mock;
 
@@ -54,4 +58,20 @@ class KCoreDecompositionMemoryEstimateDefinitionTest {
 
     }
 
+    @Test
+    void shouldEstimateBucketEntriesForBucketedPeeling() {
+        var scanning = new KCoreDecompositionMemoryEstimateDefinition(false)
+            .memoryEstimation()
+            .estimate(GraphDimensions.of(100, 1000), new Concurrency(4))
+            .memoryUsage();
+        var bucketed = new KCoreDecompositionMemoryEstimateDefinition(true)
+            .memoryEstimation()
+            .estimate(GraphDimensions.of(100, 1000), new Concurrency(4))
+            .memoryUsage();
+
+        assertThat(bucketed.min).isLessThan(bucketed.max);
+        assertThat(bucketed.max - bucketed.min).isEqualTo(Estimate.sizeOfLongArray(1100));
+        assertThat(bucketed.min).isGreaterThan(scanning.min);
+    }
+
 }
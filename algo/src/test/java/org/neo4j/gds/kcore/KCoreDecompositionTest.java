@@ -23,6 +23,7 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.compat.TestLog;
@@ -190,6 +191,37 @@ class KCoreDecompositionTest {
             }
 
         }
+
+        @ParameterizedTest
+        @CsvSource({"1, 1", "4, 1", "1, 2", "4, 2", "1, 128", "4, 128"})
+        void shouldComputeCoreDecompositionWithBucketedPeeling(int concurrency, int bucketWindowSize) {
+            IdFunction idFunction = graph::toMappedNodeId;
+
+            var kcore = new KCoreDecomposition(
+                graph,
+                new Concurrency(concurrency),
+                ProgressTracker.NULL_TRACKER,
+                1,
+                true,
+                bucketWindowSize,
+                TerminationFlag.RUNNING_TRUE
+            ).compute();
+            assertThat(kcore.degeneracy()).isEqualTo(3);
+            var coreValues = kcore.coreValues();
+
+            assertThat(coreValues.get(idFunction.of("z"))).isEqualTo(0L);
+
+            for (int i = 1; i <= 8; ++i) {
+                assertThat(coreValues.get(idFunction.of("green" + i))).isEqualTo(1L);
+            }
+
+            assertThat(coreValues.get(idFunction.of("yellow1"))).isEqualTo(2L);
+            assertThat(coreValues.get(idFunction.of("yellow2"))).isEqualTo(2L);
+
+            for (int i = 1; i <= 4; ++i) {
+                assertThat(coreValues.get(idFunction.of("red" + i))).isEqualTo(3L);
+            }
+        }
     }
 
     @GdlExtension
@@ -249,5 +281,21 @@ class KCoreDecompositionTest {
             assertThat(coreValues.toArray()).isEqualTo(new int[]{3, 3, 3, 3});
 
         }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 2, 128})
+        void shouldSkipEmptyWindowsWithBucketedPeeling(int bucketWindowSize) {
+            var kcore = new KCoreDecomposition(
+                graph,
+                new Concurrency(1),
+                ProgressTracker.NULL_TRACKER,
+                1,
+                true,
+                bucketWindowSize,
+                TerminationFlag.RUNNING_TRUE
+            ).compute();
+            assertThat(kcore.degeneracy()).isEqualTo(3);
+            assertThat(kcore.coreValues().toArray()).isEqualTo(new int[]{3, 3, 3, 3});
+        }
     }
 }
@@ -114,5 +114,23 @@ class KmeansStreamConfigTest {
         var userInput = CypherMapWrapper.create(Map.of("nodeProperty", "foo", "initialSampler", "kmEanS++"));
         assertThatNoException().isThrownBy(() -> KmeansStreamConfig.of(userInput));
     }
+
+    @Test
+    void shouldParseVariant() {
+        var userInput = CypherMapWrapper.create(Map.of("nodeProperty", "foo", "variant", "mini-Batch"));
+        assertThat(KmeansStreamConfig.of(userInput).variant()).isEqualTo(KmeansVariant.MINIBATCH);
+    }
+
+    @Test
+    void shouldParseParallelSampler() {
+        var userInput = CypherMapWrapper.create(Map.of("nodeProperty", "foo", "initialSampler", "kmeans||"));
+        assertThat(KmeansStreamConfig.of(userInput).initialSampler()).isEqualTo(KmeansSampler.SamplerType.KMEANSPARALLEL);
+    }
+
+    @Test
+    void shouldFailOnInvalidVariant() {
+        var userInput = CypherMapWrapper.create(Map.of("nodeProperty", "foo", "variant", "elkan"));
+        assertThatThrownBy(() -> KmeansStreamConfig.of(userInput)).hasMessageContaining("is not supported");
+    }
     
 }
@@ -25,6 +25,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
@@ -168,6 +171,100 @@ class KmeansTest {
 
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldProduceSameClustersWithHamerlyBounds(int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(1)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .nodePropertyProducer(PropertyProducer.randomEmbeddingDouble("kmeans", 8, -10, 10))
+            .seed(42L)
+            .build()
+            .generate();
+
+        var configBuilder = KmeansStreamConfigImpl.builder()
+            .nodeProperty("kmeans")
+            .concurrency(concurrency)
+            .randomSeed(19L)
+            .maxIterations(25)
+            .deltaThreshold(0)
+            .k(20);
+        var kmeansContext = ImmutableKmeansContext.builder().build();
+
+        var lloyd = Kmeans.createKmeans(
+            randomGraph,
+            configBuilder.variant(KmeansVariant.LLOYD).build().toParameters(),
+            kmeansContext,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+        var hamerly = Kmeans.createKmeans(
+            randomGraph,
+            configBuilder.variant(KmeansVariant.HAMERLY).build().toParameters(),
+            kmeansContext,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        assertThat(hamerly.communities().toArray()).containsExactly(lloyd.communities().toArray());
+        assertThat(hamerly.centers()).isDeepEqualTo(lloyd.centers());
+        assertThat(hamerly.averageDistanceToCentroid()).isEqualTo(lloyd.averageDistanceToCentroid());
+    }
+
+    @Test
+    void shouldRunMiniBatch() {
+        var kmeansConfig = KmeansStreamConfigImpl.builder()
+            .nodeProperty("kmeans")
+            .concurrency(1)
+            .randomSeed(19L)
+            .k(2)
+            .maxIterations(5)
+            .variant(KmeansVariant.MINIBATCH)
+            .miniBatchSize(4)
+            .build();
+        var kmeansContext = ImmutableKmeansContext.builder().build();
+
+        var result = Kmeans.createKmeans(
+            graph,
+            kmeansConfig.toParameters(),
+            kmeansContext,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+        var communities = result.communities();
+
+        assertThat(communities.get(0)).isEqualTo(communities.get(1));
+        assertThat(communities.get(2)).isEqualTo(communities.get(3));
+        assertThat(communities.get(0)).isNotEqualTo(communities.get(2));
+
+        // the last iteration assigns all nodes and recomputes the centroids from that assignment
+        assertThat(List.of(result.centers())).containsExactlyInAnyOrder(new double[]{1.0, 1.5}, new double[]{101, 101});
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldRunWithParallelSampler(int concurrency) {
+        var kmeansConfig = KmeansStreamConfigImpl.builder()
+            .nodeProperty("kmeans")
+            .concurrency(concurrency)
+            .randomSeed(19L)
+            .k(2)
+            .initialSampler(KmeansSampler.SamplerType.KMEANSPARALLEL)
+            .build();
+        var kmeansContext = ImmutableKmeansContext.builder().build();
+
+        var result = Kmeans.createKmeans(
+            graph,
+            kmeansConfig.toParameters(),
+            kmeansContext,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+        var communities = result.communities();
+
+        assertThat(communities.get(0)).isEqualTo(communities.get(1));
+        assertThat(communities.get(2)).isEqualTo(communities.get(3));
+        assertThat(communities.get(0)).isNotEqualTo(communities.get(2));
+        assertThat(List.of(result.centers())).containsExactlyInAnyOrder(new double[]{1.0, 1.5}, new double[]{101, 101});
+    }
+
     @Test
     void shouldRunOnFloatGraph() {
         var kmeansConfig = KmeansStreamConfigImpl.builder()
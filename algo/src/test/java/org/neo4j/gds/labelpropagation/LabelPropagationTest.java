@@ -62,7 +62,16 @@ class LabelPropagationTest {
         new Concurrency(4),
         10,
         null,
-        null
+        null,
+        false
+    );
+
+    private static final LabelPropagationParameters SEMI_SYNCHRONOUS_PARAMETERS = new LabelPropagationParameters(
+        new Concurrency(4),
+        10,
+        null,
+        null,
+        true
     );
 
     // override idOffset for seedId to be actual neo4j ids
@@ -96,7 +105,7 @@ class LabelPropagationTest {
     void shouldUseOriginalNodeIdWhenSeedPropertyIsMissing() {
         LabelPropagation lp = new LabelPropagation(
             graph,
-            new LabelPropagationParameters(new Concurrency(4), 1, null, null),
+            new LabelPropagationParameters(new Concurrency(4), 1, null, null, false),
             DefaultPool.INSTANCE,
             ProgressTracker.NULL_TRACKER,
             TerminationFlag.RUNNING_TRUE
@@ -119,7 +128,7 @@ class LabelPropagationTest {
     void shouldUseSeedProperty() {
         LabelPropagation lp = new LabelPropagation(
             graph,
-            new LabelPropagationParameters(new Concurrency(4), 1, null, "seedId"),
+            new LabelPropagationParameters(new Concurrency(4), 1, null, "seedId", false),
             DefaultPool.INSTANCE,
             ProgressTracker.NULL_TRACKER,
             TerminationFlag.RUNNING_TRUE
@@ -148,16 +157,51 @@ class LabelPropagationTest {
         testClustering(graph, 2);
     }
 
+    @Test
+    void testSingleThreadSemiSynchronousClustering() {
+        testLPClustering(graph, SEMI_SYNCHRONOUS_PARAMETERS, 100);
+    }
+
+    @Test
+    void testMultiThreadSemiSynchronousClustering() {
+        testLPClustering(graph, SEMI_SYNCHRONOUS_PARAMETERS, 2);
+    }
+
+    @Test
+    void shouldIsolateColorConflicts() {
+        var properColors = HugeLongArray.newArray(graph.nodeCount());
+        properColors.setAll(nodeId -> nodeId);
+        assertThat(LabelPropagation.isolateColorConflicts(
+            graph,
+            properColors,
+            graph.nodeCount(),
+            new Concurrency(4),
+            DefaultPool.INSTANCE
+        )).isFalse();
+        assertThat(properColors.toArray()).containsExactly(LongStream.range(0, graph.nodeCount()).toArray());
+
+        // every node has an outgoing relationship, so every node is in conflict
+        var sameColors = HugeLongArray.newArray(graph.nodeCount());
+        assertThat(LabelPropagation.isolateColorConflicts(
+            graph,
+            sameColors,
+            1,
+            new Concurrency(4),
+            DefaultPool.INSTANCE
+        )).isTrue();
+        assertThat(sameColors.toArray()).containsOnly(1L);
+    }
+
     private void testClustering(TestGraph graph, int batchSize) {
         for (int i = 0; i < 20; i++) {
-            testLPClustering(graph, batchSize);
+            testLPClustering(graph, DEFAULT_PARAMETERS, batchSize);
         }
     }
 
-    private void testLPClustering(TestGraph graph, int batchSize) {
+    private void testLPClustering(TestGraph graph, LabelPropagationParameters parameters, int batchSize) {
         LabelPropagation lp = new LabelPropagation(
             graph,
-            DEFAULT_PARAMETERS,
+            parameters,
             DefaultPool.INSTANCE,
             ProgressTracker.NULL_TRACKER,
             TerminationFlag.RUNNING_TRUE
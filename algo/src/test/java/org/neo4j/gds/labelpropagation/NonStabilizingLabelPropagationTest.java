@@ -63,7 +63,7 @@ class NonStabilizingLabelPropagationTest {
     void testLabelPropagationDoesStabilize() {
         LabelPropagation labelPropagation = new LabelPropagation(
             graph,
-            new LabelPropagationParameters(new Concurrency(4), 10, null, null),
+            new LabelPropagationParameters(new Concurrency(4), 10, null, null, false),
             DefaultPool.INSTANCE,
             ProgressTracker.NULL_TRACKER,
             TerminationFlag.RUNNING_TRUE
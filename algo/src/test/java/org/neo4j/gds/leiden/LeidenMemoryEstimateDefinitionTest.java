@@ -35,7 +35,8 @@ class LeidenMemoryEstimateDefinitionTest {
         var estimate = new LeidenMemoryEstimateDefinition(new LeidenMemoryEstimationParameters(
             null,
             false,
-            3
+            3,
+            false
         )).memoryEstimation();
 
         MemoryEstimationAssert.assertThat(estimate)
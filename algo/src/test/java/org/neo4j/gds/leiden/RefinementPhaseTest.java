@@ -21,6 +21,10 @@ package org.neo4j.gds.leiden;
 
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
@@ -102,4 +106,92 @@ class RefinementPhaseTest {
 
         assertThat(refinementResult.maximumRefinedCommunityId()).isEqualTo(6);
     }
+
+    @Test
+    void shouldRefineCommunitiesInParallel() {
+        var localPhaseCommunities = HugeLongArray.of(0, 0, 2, 2, 2, 7, 7, 7);
+        var nodeVolumes = HugeDoubleArray.of(1, 1, 1, 1, 1, 1, 1, 1);
+        var communityVolumes = HugeDoubleArray.of(2, 0, 3, 0, 0, 0, 0, 3);
+        var refinement = RefinementPhase.create(
+            graph,
+            localPhaseCommunities,
+            nodeVolumes,
+            communityVolumes,
+            1.0,
+            0.01,
+            19L,
+            true,
+            new Concurrency(4),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        );
+        var refinementResult = refinement.run();
+        var communities = refinementResult.communities();
+
+        var communitiesMap = LongStream
+            .range(0, 8)
+            .mapToObj(v -> "a" + v)
+            .collect(Collectors.groupingBy(v -> communities.get(graph.toMappedNodeId(v))));
+
+        assertThat(communitiesMap.values())
+            .hasSize(3)
+            .satisfiesExactlyInAnyOrder(
+                community -> assertThat(community).containsExactlyInAnyOrder("a0", "a1"),
+                community -> assertThat(community).containsExactlyInAnyOrder("a2", "a3", "a4"),
+                community -> assertThat(community).containsExactlyInAnyOrder("a5", "a6", "a7")
+            );
+
+        assertThat(refinementResult.maximumRefinedCommunityId())
+            .isEqualTo(communitiesMap.keySet().stream().mapToLong(Long::longValue).max().orElseThrow());
+    }
+
+    @Test
+    void parallelRefinementShouldNotDependOnConcurrency() {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(Direction.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var localPhaseCommunities = HugeLongArray.newArray(randomGraph.nodeCount());
+        var nodeVolumes = HugeDoubleArray.newArray(randomGraph.nodeCount());
+        var communityVolumes = HugeDoubleArray.newArray(randomGraph.nodeCount());
+        for (long nodeId = 0; nodeId < randomGraph.nodeCount(); nodeId++) {
+            long communityId = nodeId % 100;
+            localPhaseCommunities.set(nodeId, communityId);
+            nodeVolumes.set(nodeId, randomGraph.degree(nodeId));
+            communityVolumes.addTo(communityId, randomGraph.degree(nodeId));
+        }
+
+        var singleThreaded = refineInParallel(randomGraph, localPhaseCommunities, nodeVolumes, communityVolumes, 1);
+        var multiThreaded = refineInParallel(randomGraph, localPhaseCommunities, nodeVolumes, communityVolumes, 4);
+
+        assertThat(multiThreaded.communities().toArray()).containsExactly(singleThreaded.communities().toArray());
+        assertThat(multiThreaded.maximumRefinedCommunityId()).isEqualTo(singleThreaded.maximumRefinedCommunityId());
+    }
+
+    private static RefinementPhase.RefinementPhaseResult refineInParallel(
+        Graph graph,
+        HugeLongArray localPhaseCommunities,
+        HugeDoubleArray nodeVolumes,
+        HugeDoubleArray communityVolumes,
+        int concurrency
+    ) {
+        return RefinementPhase.create(
+            graph,
+            localPhaseCommunities,
+            nodeVolumes,
+            communityVolumes,
+            1.0,
+            0.01,
+            19L,
+            true,
+            new Concurrency(concurrency),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+    }
 }
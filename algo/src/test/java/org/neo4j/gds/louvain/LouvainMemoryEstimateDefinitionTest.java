@@ -31,6 +31,7 @@ import org.neo4j.gds.mem.MemoryTree;
 
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
@@ -73,7 +74,8 @@ class LouvainMemoryEstimateDefinitionTest {
 
         var estimationParameters = new LouvainMemoryEstimationParameters(
             levels,
-            includeIntermediateCommunities
+            includeIntermediateCommunities,
+            false
         );
 
         var memoryEstimation = new LouvainMemoryEstimateDefinition(estimationParameters).memoryEstimation();
@@ -102,6 +104,7 @@ class LouvainMemoryEstimateDefinitionTest {
 
         var estimationParameters = new LouvainMemoryEstimationParameters(
             1,
+            false,
             false
         );
 
@@ -116,4 +119,19 @@ class LouvainMemoryEstimateDefinitionTest {
         assertEquals(memoryTreeOneProperty.memoryUsage(), memoryTreeTwoProperties.memoryUsage());
     }
 
+    @Test
+    void shouldEstimateLessMemoryInLowMemoryMode() {
+        var dimensions = ImmutableGraphDimensions.builder().nodeCount(100_000L).relCountUpperBound(500_000L).build();
+        var concurrency = new Concurrency(4);
+
+        var defaultEstimation = new LouvainMemoryEstimateDefinition(
+            new LouvainMemoryEstimationParameters(10, false, false)
+        ).memoryEstimation().estimate(dimensions, concurrency).memoryUsage();
+        var lowMemoryEstimation = new LouvainMemoryEstimateDefinition(
+            new LouvainMemoryEstimationParameters(10, false, true)
+        ).memoryEstimation().estimate(dimensions, concurrency).memoryUsage();
+
+        assertThat(lowMemoryEstimation.min).isLessThan(defaultEstimation.min);
+        assertThat(lowMemoryEstimation.max).isLessThan(defaultEstimation.max);
+    }
 }
@@ -162,6 +162,53 @@ class LouvainTest {
         assertEquals(0.38, modularities[modularities.length - 1], 0.01);
     }
 
+    @Test
+    void testUnweightedInLowMemoryMode() {
+        var graph = graphStore.getGraph(
+            NodeLabel.listOf("Node"),
+            RelationshipType.listOf("TYPE_OUT"),
+            Optional.empty()
+        );
+        IdFunction mappedId = name -> graph.toMappedNodeId(idFunction.of(name));
+
+        var algorithm = new Louvain(
+            graph,
+            new Concurrency(4),
+            10,
+            TOLERANCE_DEFAULT,
+            10,
+            true,
+            null,
+            true,
+            ProgressTracker.NULL_TRACKER,
+            DefaultPool.INSTANCE
+        );
+        algorithm.setTerminationFlag(TerminationFlag.RUNNING_TRUE);
+
+        var result = algorithm.compute();
+
+        final HugeLongArray[] dendrogram = result.dendrogramManager().getAllDendrograms();
+        final double[] modularities = result.modularities();
+
+        CommunityHelper.assertCommunities(
+            dendrogram[0],
+            ids(mappedId, "a", "b", "d"),
+            ids(mappedId, "c", "e", "f", "x"),
+            ids(mappedId, "g", "h", "i"),
+            ids(mappedId, "j", "k", "l", "m", "n")
+        );
+
+        CommunityHelper.assertCommunities(
+            dendrogram[1],
+            ids(mappedId, "a", "b", "c", "d", "e", "f", "x"),
+            ids(mappedId, "g", "h", "i"),
+            ids(mappedId, "j", "k", "l", "m", "n")
+        );
+
+        assertEquals(2, result.ranLevels());
+        assertEquals(0.38, modularities[modularities.length - 1], 0.01);
+    }
+
     @Test
     void testWeighted() {
         var graph = graphStore.getGraph(
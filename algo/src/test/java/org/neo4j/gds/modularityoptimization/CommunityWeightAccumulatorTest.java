@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.modularityoptimization;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommunityWeightAccumulatorTest {
+
+    @Test
+    void shouldAccumulateWeightsPerCommunity() {
+        var accumulator = new CommunityWeightAccumulator();
+        accumulator.reset(5);
+
+        accumulator.add(42, 1.0);
+        accumulator.add(7, 0.5);
+        accumulator.add(42, 2.0);
+        accumulator.add(1337, 0.25);
+
+        assertThat(accumulator.size()).isEqualTo(3);
+        assertThat(accumulator.communityAt(0)).isEqualTo(42);
+        assertThat(accumulator.weightAt(0)).isEqualTo(3.0);
+        assertThat(accumulator.communityAt(1)).isEqualTo(7);
+        assertThat(accumulator.weightAt(1)).isEqualTo(0.5);
+        assertThat(accumulator.weight(1337)).isEqualTo(0.25);
+        assertThat(accumulator.weight(1)).isEqualTo(0.0);
+    }
+
+    @Test
+    void shouldResetBetweenNodes() {
+        var accumulator = new CommunityWeightAccumulator();
+        accumulator.reset(2);
+        accumulator.add(1, 1.0);
+        accumulator.add(2, 1.0);
+
+        accumulator.reset(1);
+        accumulator.add(2, 3.0);
+
+        assertThat(accumulator.size()).isEqualTo(1);
+        assertThat(accumulator.weight(1)).isEqualTo(0.0);
+        assertThat(accumulator.weight(2)).isEqualTo(3.0);
+    }
+
+    @Test
+    void shouldGrowForHighDegreeNodes() {
+        var accumulator = new CommunityWeightAccumulator();
+        int degree = 1000;
+        accumulator.reset(degree);
+        for (int community = 0; community < degree; community++) {
+            accumulator.add(community, community);
+        }
+
+        assertThat(accumulator.size()).isEqualTo(degree);
+        for (int community = 0; community < degree; community++) {
+            assertThat(accumulator.weight(community)).isEqualTo(community);
+        }
+
+        accumulator.reset(3);
+        assertThat(accumulator.size()).isZero();
+        assertThat(accumulator.weight(500)).isEqualTo(0.0);
+    }
+}
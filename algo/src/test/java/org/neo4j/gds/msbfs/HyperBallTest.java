@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.msbfs;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.closeness.ClosenessCentrality;
+import org.neo4j.gds.closeness.DefaultCentralityComputer;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.harmonic.HarmonicCentrality;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+class HyperBallTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE " +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+
+        ", (a)-[:TYPE]->(b)" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (c)-[:TYPE]->(d)" +
+        ", (d)-[:TYPE]->(e)";
+
+    @GdlGraph(graphNamePrefix = "directed")
+    private static final String DIRECTED_CYPHER = DB_CYPHER;
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private TestGraph directedGraph;
+
+    @Test
+    void shouldEstimateDistancesOnPath() {
+        var result = new HyperBall(
+            graph,
+            new Concurrency(1),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        // exact farness is 10, 7, 6, 7, 10 and exact sum of inverse distances is 25/12, 17/6, 3, 17/6, 25/12
+        assertThat(result.reaching().get(graph.toMappedNodeId("a"))).isCloseTo(4, within(0.5));
+        assertThat(result.reaching().get(graph.toMappedNodeId("c"))).isCloseTo(4, within(0.5));
+        assertThat(result.farness().get(graph.toMappedNodeId("a"))).isCloseTo(10, within(1.0));
+        assertThat(result.farness().get(graph.toMappedNodeId("b"))).isCloseTo(7, within(1.0));
+        assertThat(result.farness().get(graph.toMappedNodeId("c"))).isCloseTo(6, within(1.0));
+        assertThat(result.inverseFarness().get(graph.toMappedNodeId("a"))).isCloseTo(25.0 / 12, within(0.25));
+        assertThat(result.inverseFarness().get(graph.toMappedNodeId("c"))).isCloseTo(3, within(0.25));
+    }
+
+    @Test
+    void shouldApproximateClosenessAndHarmonicCentrality() {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.RANDOM)
+            .direction(Direction.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var closeness = new ClosenessCentrality(
+            randomGraph,
+            new Concurrency(4),
+            new DefaultCentralityComputer(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute().centralityScoreProvider();
+        var harmonic = new HarmonicCentrality(
+            randomGraph,
+            new Concurrency(4),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute().centralityScoreProvider();
+
+        var estimates = new HyperBall(
+            randomGraph,
+            new Concurrency(4),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        double closenessError = 0;
+        double harmonicError = 0;
+        long connectedNodes = 0;
+        for (long nodeId = 0; nodeId < randomGraph.nodeCount(); nodeId++) {
+            double exactCloseness = closeness.applyAsDouble(nodeId);
+            if (exactCloseness == 0) {
+                continue;
+            }
+            double farness = estimates.farness().get(nodeId);
+            double estimatedCloseness = farness == 0 ? 0 : estimates.reaching().get(nodeId) / farness;
+            double estimatedHarmonic = estimates.inverseFarness().get(nodeId) / (randomGraph.nodeCount() - 1);
+            closenessError += Math.abs(estimatedCloseness - exactCloseness) / exactCloseness;
+            harmonicError += Math.abs(estimatedHarmonic - harmonic.applyAsDouble(nodeId)) / harmonic.applyAsDouble(nodeId);
+            connectedNodes++;
+        }
+
+        assertThat(connectedNodes).isPositive();
+        assertThat(closenessError / connectedNodes).isLessThan(0.1);
+        assertThat(harmonicError / connectedNodes).isLessThan(0.25);
+    }
+
+    @Test
+    void shouldRequireRelationshipsToEveryNode() {
+        assertThatThrownBy(() -> new HyperBall(
+            directedGraph,
+            new Concurrency(1),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("undirected or inverse indexed");
+    }
+
+    @Test
+    void shouldMergeRegistersBytewise() {
+        long registers = 0x00_05_7F_01_00_3A_02_10L;
+        long otherRegisters = 0x01_04_00_7F_00_3B_02_0FL;
+
+        assertThat(HyperBall.registerMax(registers, otherRegisters)).isEqualTo(0x01_05_7F_7F_00_3B_02_10L);
+        assertThat(HyperBall.registerMax(otherRegisters, registers)).isEqualTo(0x01_05_7F_7F_00_3B_02_10L);
+    }
+}
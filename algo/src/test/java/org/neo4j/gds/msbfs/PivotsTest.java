@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.msbfs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PivotsTest {
+
+    @Test
+    void shouldSampleDistinctNodes() {
+        var pivots = Pivots.sample(100, 10, Optional.of(42L));
+
+        assertThat(pivots.nodes())
+            .hasSize(10)
+            .doesNotHaveDuplicates()
+            .isSorted()
+            .allSatisfy(nodeId -> assertThat(nodeId).isBetween(0L, 99L));
+    }
+
+    @Test
+    void shouldBeReproducibleWithSeed() {
+        var pivots = Pivots.sample(1_000, 50, Optional.of(42L));
+        var otherPivots = Pivots.sample(1_000, 50, Optional.of(42L));
+
+        assertThat(pivots.nodes()).containsExactly(otherPivots.nodes());
+    }
+
+    @Test
+    void shouldSampleAllNodesIfSampleSizeExceedsNodeCount() {
+        var pivots = Pivots.sample(5, 10, Optional.empty());
+
+        assertThat(pivots.nodes()).containsExactly(0, 1, 2, 3, 4);
+        assertThat(pivots.sampleSizeFor(2)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldExcludeNodeFromItsOwnSample() {
+        var pivots = Pivots.sample(100, 10, Optional.of(42L));
+        long pivot = pivots.nodes()[0];
+        long nonPivot = LongStream.range(0, 100)
+            .filter(nodeId -> Arrays.binarySearch(pivots.nodes(), nodeId) < 0)
+            .findFirst()
+            .orElseThrow();
+
+        assertThat(pivots.sampleSizeFor(pivot)).isEqualTo(9);
+        assertThat(pivots.sampleSizeFor(nonPivot)).isEqualTo(10);
+    }
+
+    @Test
+    void shouldShrinkErrorBoundWithSampleSize() {
+        var small = Pivots.sample(1_000, 10, Optional.of(42L));
+        var large = Pivots.sample(1_000, 100, Optional.of(42L));
+
+        assertThat(small.errorBound(1.0)).isCloseTo(Math.sqrt(Math.log(2_000) / 20), within(1e-9));
+        assertThat(large.errorBound(1.0)).isLessThan(small.errorBound(1.0));
+        assertThat(large.errorBound(4.0)).isCloseTo(4 * large.errorBound(1.0), within(1e-9));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryRange;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForwardPushPageRankMemoryEstimateDefinitionTest {
+
+    // a single source node touches at most 1 + 1 / (0.15 * 1E-4) nodes
+    private static final long TOUCHED_NODES = 66_668;
+
+    @Test
+    void shouldNotDependOnTheGraphSizeWithoutRandomWalks() {
+        var smallGraph = estimate(0, 1, GraphDimensions.of(1_000_000, 10_000_000));
+        var largeGraph = estimate(0, 1, GraphDimensions.of(100_000_000, 1_000_000_000));
+
+        assertThat(smallGraph.min).isEqualTo(smallGraph.max);
+        assertThat(largeGraph).isEqualTo(smallGraph);
+    }
+
+    @Test
+    void shouldBeBoundedByTheNodeCount() {
+        var tinyGraph = estimate(0, 1, GraphDimensions.of(1_000, 10_000));
+        var smallGraph = estimate(0, 1, GraphDimensions.of(1_000_000, 10_000_000));
+
+        assertThat(tinyGraph.max).isLessThan(smallGraph.max);
+    }
+
+    @Test
+    void shouldKeepTheScoresOfEveryQuery() {
+        var dimensions = GraphDimensions.of(1_000_000, 10_000_000);
+
+        var oneQuery = estimate(0, 1, dimensions);
+        var twoQueries = estimate(0, 2, dimensions);
+
+        assertThat(twoQueries.max - oneQuery.max).isEqualTo(Estimate.sizeOfLongDoubleHashMap(TOUCHED_NODES));
+    }
+
+    @Test
+    void shouldAllowScoresForAllNodesWithRandomWalks() {
+        var dimensions = GraphDimensions.of(1_000_000, 10_000_000);
+
+        var pushOnly = estimate(0, 1, dimensions);
+        var withWalks = estimate(10, 1, dimensions);
+
+        assertThat(withWalks.min).isEqualTo(pushOnly.min);
+        assertThat(withWalks.max - pushOnly.max).isEqualTo(
+            Estimate.sizeOfLongDoubleHashMap(dimensions.nodeCount()) - Estimate.sizeOfLongDoubleHashMap(TOUCHED_NODES)
+        );
+    }
+
+    private static MemoryRange estimate(double walksPerResidual, int queryCount, GraphDimensions dimensions) {
+        var parameters = new ForwardPushPageRankParameters(
+            new Concurrency(4),
+            0.85,
+            1E-4,
+            walksPerResidual,
+            Optional.empty()
+        );
+
+        return new ForwardPushPageRankMemoryEstimateDefinition(parameters, queryCount, 1)
+            .memoryEstimation()
+            .estimate(dimensions, new Concurrency(4))
+            .memoryUsage();
+    }
+}
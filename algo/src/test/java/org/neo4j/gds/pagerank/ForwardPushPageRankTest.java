@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongToDoubleFunction;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+class ForwardPushPageRankTest {
+
+    // same graph as the personalized PageRankTest
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (g:Node)" +
+        ", (h:Node)" +
+        ", (i:Node)" +
+        ", (j:Node)" +
+        ", (k:Node)" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (c)-[:TYPE]->(b)" +
+        ", (d)-[:TYPE]->(a)" +
+        ", (d)-[:TYPE]->(b)" +
+        ", (e)-[:TYPE]->(b)" +
+        ", (e)-[:TYPE]->(d)" +
+        ", (e)-[:TYPE]->(f)" +
+        ", (f)-[:TYPE]->(b)" +
+        ", (f)-[:TYPE]->(e)" +
+        ", (g)-[:TYPE]->(b)" +
+        ", (g)-[:TYPE]->(e)" +
+        ", (h)-[:TYPE]->(b)" +
+        ", (h)-[:TYPE]->(e)" +
+        ", (i)-[:TYPE]->(b)" +
+        ", (i)-[:TYPE]->(e)" +
+        ", (j)-[:TYPE]->(e)" +
+        ", (k)-[:TYPE]->(e)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void shouldMatchPersonalizedPageRank() {
+        var sourceNodeSets = List.of(
+            new long[]{idFunction.of("a"), idFunction.of("e")},
+            new long[]{idFunction.of("k"), idFunction.of("b")}
+        );
+
+        var result = run(graph, sourceNodeSets, 1E-12, 0, 1);
+
+        for (int query = 0; query < sourceNodeSets.size(); query++) {
+            var pregelScores = runOnPregel(graph, sourceNodeSets.get(query));
+            for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(result.score(query, nodeId)).isEqualTo(pregelScores.applyAsDouble(nodeId), within(1E-5));
+            }
+        }
+    }
+
+    @Test
+    void shouldOnlyTouchNodesAboveThreshold() {
+        var result = run(graph, List.<long[]>of(new long[]{idFunction.of("k")}), 0.3, 0, 1);
+
+        // k pushes to e, whose residual of 0.85 stays below the threshold of its 3 relationships
+        assertThat(result.scores().get(0).keys().toArray()).containsExactly(idFunction.of("k"));
+        assertThat(result.pushes()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1", "4"})
+    void shouldMatchPregelOnBatchOfQueries(int concurrency) {
+        var randomGraph = randomGraph();
+        var sourceNodeSets = List.of(new long[]{0}, new long[]{42, 1337}, new long[]{7, 8, 9}, new long[]{4_999});
+
+        var result = run(randomGraph, sourceNodeSets, 1E-10, 0, concurrency);
+
+        for (int query = 0; query < sourceNodeSets.size(); query++) {
+            var pregelScores = runOnPregel(randomGraph, sourceNodeSets.get(query));
+            for (long nodeId = 0; nodeId < randomGraph.nodeCount(); nodeId++) {
+                assertThat(result.score(query, nodeId)).isEqualTo(pregelScores.applyAsDouble(nodeId), within(1E-5));
+            }
+        }
+    }
+
+    @Test
+    void randomWalksShouldReduceMissingMass() {
+        var randomGraph = randomGraph();
+        var sourceNodeSets = List.<long[]>of(new long[]{42});
+        var exactMass = totalMass(run(randomGraph, sourceNodeSets, 1E-10, 0, 1));
+
+        var pushOnly = run(randomGraph, sourceNodeSets, 1E-3, 0, 1);
+        var hybrid = run(randomGraph, sourceNodeSets, 1E-3, 1_000, 1);
+
+        assertThat(pushOnly.randomWalks()).isZero();
+        assertThat(hybrid.randomWalks()).isPositive();
+        assertThat(hybrid.pushes()).isEqualTo(pushOnly.pushes());
+        assertThat(Math.abs(exactMass - totalMass(hybrid))).isLessThan((exactMass - totalMass(pushOnly)) / 2);
+    }
+
+    @Test
+    void shouldBeDeterministicWithRandomSeed() {
+        var randomGraph = randomGraph();
+        var sourceNodeSets = List.of(new long[]{1}, new long[]{2}, new long[]{3});
+
+        var first = run(randomGraph, sourceNodeSets, 1E-3, 100, 4);
+        var second = run(randomGraph, sourceNodeSets, 1E-3, 100, 4);
+
+        assertThat(second.scores()).isEqualTo(first.scores());
+    }
+
+    private static Graph randomGraph() {
+        return RandomGraphGenerator.builder()
+            .nodeCount(5_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+    }
+
+    private static ForwardPushPageRankResult run(
+        Graph graph,
+        List<long[]> sourceNodeSets,
+        double epsilon,
+        double walksPerResidual,
+        int concurrency
+    ) {
+        var parameters = new ForwardPushPageRankParameters(
+            new Concurrency(concurrency),
+            0.85,
+            epsilon,
+            walksPerResidual,
+            Optional.of(19L)
+        );
+        return new ForwardPushPageRank(
+            graph,
+            parameters,
+            sourceNodeSets,
+            graph::degree,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
+
+    private static LongToDoubleFunction runOnPregel(Graph graph, long[] sourceNodes) {
+        var config = PageRankConfigImpl.builder()
+            .maxIterations(200)
+            .tolerance(0)
+            .concurrency(1)
+            .sourceNodes(Arrays.stream(sourceNodes).map(graph::toOriginalNodeId).boxed().collect(Collectors.toList()))
+            .build();
+
+        return new PageRankAlgorithmFactory<>()
+            .build(graph, config, ProgressTracker.NULL_TRACKER)
+            .compute()
+            .centralityScoreProvider();
+    }
+
+    private static double totalMass(ForwardPushPageRankResult result) {
+        double mass = 0;
+        for (var cursor : result.scores().get(0)) {
+            mass += cursor.value;
+        }
+        return mass;
+    }
+}
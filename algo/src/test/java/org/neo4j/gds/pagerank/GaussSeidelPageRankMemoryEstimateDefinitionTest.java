@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.concurrency.Concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GaussSeidelPageRankMemoryEstimateDefinitionTest {
+
+    @Test
+    void shouldOnlyDependOnTheNodeCount() {
+        var estimation = new GaussSeidelPageRankMemoryEstimateDefinition().memoryEstimation();
+
+        var sparseGraph = estimation.estimate(GraphDimensions.of(1_000_000, 1_000_000), new Concurrency(4)).memoryUsage();
+        var denseGraph = estimation.estimate(GraphDimensions.of(1_000_000, 100_000_000), new Concurrency(4)).memoryUsage();
+
+        assertThat(sparseGraph.min).isEqualTo(sparseGraph.max);
+        assertThat(denseGraph).isEqualTo(sparseGraph);
+        // three doubles and two bits per node
+        assertThat(sparseGraph.max).isBetween(24 * 1_000_000L, 25 * 1_000_000L);
+    }
+}
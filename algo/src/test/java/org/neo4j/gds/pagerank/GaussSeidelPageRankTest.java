@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.scaling.ScalerFactory;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.function.LongToDoubleFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+class GaussSeidelPageRankTest {
+
+    // same graph as the unweighted PageRankTest
+    @GdlGraph(indexInverse = true)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (g:Node)" +
+        ", (h:Node)" +
+        ", (i:Node)" +
+        ", (j:Node)" +
+        ", (k:Node)" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (c)-[:TYPE]->(b)" +
+        ", (d)-[:TYPE]->(a)" +
+        ", (d)-[:TYPE]->(b)" +
+        ", (e)-[:TYPE]->(b)" +
+        ", (e)-[:TYPE]->(d)" +
+        ", (e)-[:TYPE]->(f)" +
+        ", (f)-[:TYPE]->(b)" +
+        ", (f)-[:TYPE]->(e)" +
+        ", (g)-[:TYPE]->(b)" +
+        ", (g)-[:TYPE]->(e)" +
+        ", (h)-[:TYPE]->(b)" +
+        ", (h)-[:TYPE]->(e)" +
+        ", (i)-[:TYPE]->(b)" +
+        ", (i)-[:TYPE]->(e)" +
+        ", (j)-[:TYPE]->(e)" +
+        ", (k)-[:TYPE]->(e)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Test
+    void shouldMatchConvergedPregel() {
+        var expected = runOnPregel(graph, 200);
+
+        var result = run(graph, 1E-10, 1);
+
+        assertThat(result.didConverge()).isTrue();
+        for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(result.centralityScoreProvider().applyAsDouble(nodeId))
+                .isEqualTo(expected.applyAsDouble(nodeId), within(1E-5));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldMatchPregel(int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .inverseIndex(true)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var expected = runOnPregel(randomGraph, 200);
+
+        var result = run(randomGraph, 1E-10, concurrency);
+
+        assertThat(result.didConverge()).isTrue();
+        for (long nodeId = 0; nodeId < randomGraph.nodeCount(); nodeId++) {
+            assertThat(result.centralityScoreProvider().applyAsDouble(nodeId))
+                .isEqualTo(expected.applyAsDouble(nodeId), within(1E-5));
+        }
+    }
+
+    @Test
+    void shouldConvergeInFewerIterationsThanPregel() {
+        var tolerance = 1E-4;
+        var pregelIterations = pregelIterations(graph, tolerance);
+
+        var algorithm = algorithm(graph, tolerance, 1);
+        var result = algorithm.compute();
+
+        assertThat(result.iterations()).isLessThan(pregelIterations);
+        // a Pregel iteration sends a message along every relationship
+        assertThat(algorithm.visitedRelationships()).isLessThanOrEqualTo(pregelIterations * graph.relationshipCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldVisitFewerRelationshipsThanPregel(int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .inverseIndex(true)
+            .seed(42L)
+            .build()
+            .generate();
+        var tolerance = 1E-4;
+        var pregelIterations = pregelIterations(randomGraph, tolerance);
+
+        var algorithm = algorithm(randomGraph, tolerance, concurrency);
+        var result = algorithm.compute();
+
+        assertThat(result.didConverge()).isTrue();
+        assertThat(algorithm.visitedRelationships())
+            .isLessThanOrEqualTo(pregelIterations * randomGraph.relationshipCount());
+    }
+
+    @Test
+    void shouldScaleScores() {
+        var config = PageRankConfigImpl.builder()
+            .maxIterations(200)
+            .tolerance(1E-10)
+            .concurrency(1)
+            .scaler(ScalerFactory.parse("minmax"))
+            .build();
+        var expected = new PageRankAlgorithmFactory<>()
+            .build(graph, config, ProgressTracker.NULL_TRACKER)
+            .compute()
+            .centralityScoreProvider();
+
+        var result = new GaussSeidelPageRank(
+            graph,
+            config.toGaussSeidelParameters(),
+            graph::degree,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(result.centralityScoreProvider().applyAsDouble(nodeId))
+                .isEqualTo(expected.applyAsDouble(nodeId), within(1E-5));
+        }
+    }
+
+    @Test
+    void shouldRequireInverseIndex() {
+        var directedGraph = RandomGraphGenerator.builder()
+            .nodeCount(10)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .build()
+            .generate();
+
+        assertThatThrownBy(() -> run(directedGraph, 1E-7, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("requires an inverse index or an undirected graph");
+    }
+
+    private static LongToDoubleFunction runOnPregel(Graph graph, int maxIterations) {
+        var config = PageRankConfigImpl.builder()
+            .maxIterations(maxIterations)
+            .tolerance(0)
+            .concurrency(1)
+            .build();
+        return new PageRankAlgorithmFactory<>()
+            .build(graph, config, ProgressTracker.NULL_TRACKER)
+            .compute()
+            .centralityScoreProvider();
+    }
+
+    private static int pregelIterations(Graph graph, double tolerance) {
+        var config = PageRankConfigImpl.builder()
+            .maxIterations(100)
+            .tolerance(tolerance)
+            .concurrency(1)
+            .build();
+        return new PageRankAlgorithmFactory<>()
+            .build(graph, config, ProgressTracker.NULL_TRACKER)
+            .compute()
+            .iterations();
+    }
+
+    private static PageRankResult run(Graph graph, double tolerance, int concurrency) {
+        return algorithm(graph, tolerance, concurrency).compute();
+    }
+
+    private static GaussSeidelPageRank algorithm(Graph graph, double tolerance, int concurrency) {
+        var parameters = new GaussSeidelPageRankParameters(
+            new Concurrency(concurrency),
+            0.85,
+            tolerance,
+            100,
+            ScalerFactory.parse("none")
+        );
+        return new GaussSeidelPageRank(
+            graph,
+            parameters,
+            graph::degree,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        );
+    }
+}
@@ -49,6 +49,12 @@ public class PageRankConfigTest {
             .hasMessageContaining("Negative node ids are not supported for the field `sourceNodes`");
     }
 
+    @Test
+    void shouldNotAllowGaussSeidelForPersonalizedPageRank() {
+        assertThatThrownBy(() -> PageRankStreamConfigImpl.builder().sourceNodes(List.of(0)).gaussSeidel(true).build())
+            .hasMessageContaining("The `gaussSeidel` option cannot be used together with `sourceNodes`.");
+    }
+
     @Test
     void shouldNotAllowNonExistantSourceNodes() {
         var config = PageRankStreamConfigImpl.builder()
@@ -24,10 +24,13 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.concurrency.Concurrency;
 
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 class PageRankMemoryEstimateDefinitionTest {
 
 
@@ -45,7 +48,7 @@ class PageRankMemoryEstimateDefinitionTest {
         var nodeCount = 100_000;
         var relationshipCount = nodeCount * 10;
 
-        var memoryEstimation = new PageRankMemoryEstimateDefinition().memoryEstimation();
+        var memoryEstimation = new PageRankMemoryEstimateDefinition(PageRankStreamConfigImpl.builder().build()).memoryEstimation();
 
         MemoryEstimationAssert.assertThat(memoryEstimation)
             .memoryRange(nodeCount, relationshipCount, new Concurrency(concurrency))
@@ -58,7 +61,7 @@ class PageRankMemoryEstimateDefinitionTest {
         var nodeCount = 10_000_000_000L;
         var relationshipCount = 10_000_000_000L;
 
-        var memoryEstimation = new PageRankMemoryEstimateDefinition().memoryEstimation();
+        var memoryEstimation = new PageRankMemoryEstimateDefinition(PageRankStreamConfigImpl.builder().build()).memoryEstimation();
 
         MemoryEstimationAssert.assertThat(memoryEstimation)
             .memoryRange(nodeCount, relationshipCount, new Concurrency(4))
@@ -66,4 +69,20 @@ class PageRankMemoryEstimateDefinitionTest {
             .hasMax(241_286_621_640L);
     }
 
+    @Test
+    void shouldIncludeFrontierWhenTrackingActiveNodes() {
+        var dimensions = GraphDimensions.of(100_000, 1_000_000);
+
+        var allNodes = new PageRankMemoryEstimateDefinition(PageRankStreamConfigImpl.builder().build())
+            .memoryEstimation()
+            .estimate(dimensions, new Concurrency(4))
+            .memoryUsage();
+        var activeNodes = new PageRankMemoryEstimateDefinition(PageRankStreamConfigImpl.builder().trackActiveNodes(true).build())
+            .memoryEstimation()
+            .estimate(dimensions, new Concurrency(4))
+            .memoryUsage();
+
+        assertThat(activeNodes.min).isGreaterThan(allNodes.min);
+    }
+
 }
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.scc;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.HashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@GdlExtension
+class ParallelSccTest {
+
+    @GdlGraph(indexInverse = true)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (g:Node)" +
+        ", (h:Node)" +
+        ", (i:Node)" +
+        ", (j:Node)" +
+        ", (k:Node)" +
+        ", (l:Node)" +
+
+        ", (a)-[:TYPE]->(b)" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (c)-[:TYPE]->(a)" +
+
+        ", (d)-[:TYPE]->(e)" +
+        ", (e)-[:TYPE]->(f)" +
+        ", (f)-[:TYPE]->(d)" +
+
+        ", (a)-[:TYPE]->(d)" +
+
+        ", (g)-[:TYPE]->(h)" +
+        ", (h)-[:TYPE]->(i)" +
+        ", (i)-[:TYPE]->(g)" +
+
+        ", (j)-[:TYPE]->(k)" +
+        ", (k)-[:TYPE]->(j)" +
+        ", (k)-[:TYPE]->(a)" +
+
+        ", (l)-[:TYPE]->(l)" +
+        ", (l)-[:TYPE]->(g)";
+
+    @Inject
+    private TestGraph graph;
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, ParallelScc.SEQUENTIAL_CUTOFF})
+    void shouldIdentifyComponentsBySmallestNode(long sequentialCutoff) {
+        IdFunction idFunction = graph::toMappedNodeId;
+
+        var components = new ParallelScc(
+            graph,
+            new Concurrency(4),
+            sequentialCutoff,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        assertComponent(components, idFunction, "a", "b", "c");
+        assertComponent(components, idFunction, "d", "e", "f");
+        assertComponent(components, idFunction, "g", "h", "i");
+        assertComponent(components, idFunction, "j", "k");
+        assertComponent(components, idFunction, "l");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1, RANDOM, 0",
+        "2, RANDOM, 0",
+        "5, RANDOM, 0",
+        "2, POWER_LAW, 0",
+        "5, POWER_LAW, 0",
+        "2, RANDOM, 500",
+        "5, POWER_LAW, 500"
+    })
+    void shouldFindSameComponentsAsSequentialScc(
+        int averageDegree,
+        RelationshipDistribution distribution,
+        long sequentialCutoff
+    ) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(distribution)
+            .inverseIndex(true)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var expected = new Scc(randomGraph, ProgressTracker.NULL_TRACKER, TerminationFlag.RUNNING_TRUE).compute();
+        var actual = new ParallelScc(
+            randomGraph,
+            new Concurrency(4),
+            sequentialCutoff,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        assertSamePartition(randomGraph, expected, actual);
+    }
+
+    @Test
+    void shouldHandChainOfComponentsToSequentialScc() {
+        // every coloring round only assigns the first of the remaining components of the chain
+        int componentCount = 1_000;
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .maxOriginalId(2L * componentCount - 1)
+            .concurrency(new Concurrency(1))
+            .build();
+        for (long nodeId = 0; nodeId < 2L * componentCount; nodeId++) {
+            nodesBuilder.addNode(nodeId);
+        }
+        var idMap = nodesBuilder.build().idMap();
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .relationshipType(RelationshipType.of("TYPE"))
+            .orientation(Orientation.NATURAL)
+            .indexInverse(true)
+            .executorService(DefaultPool.INSTANCE)
+            .build();
+        for (long component = 0; component < componentCount; component++) {
+            relationshipsBuilder.add(2 * component, 2 * component + 1);
+            relationshipsBuilder.add(2 * component + 1, 2 * component);
+            if (component + 1 < componentCount) {
+                relationshipsBuilder.add(2 * component + 1, 2 * component + 2);
+            }
+        }
+        var chain = GraphFactory.create(idMap, relationshipsBuilder.build());
+
+        var expected = new Scc(chain, ProgressTracker.NULL_TRACKER, TerminationFlag.RUNNING_TRUE).compute();
+        var actual = new ParallelScc(
+            chain,
+            new Concurrency(4),
+            0,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        assertSamePartition(chain, expected, actual);
+    }
+
+    @Test
+    void shouldRequireInverseIndex() {
+        var graphWithoutInverseIndex = RandomGraphGenerator.builder()
+            .nodeCount(100)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.RANDOM)
+            .seed(42L)
+            .build()
+            .generate();
+
+        assertThatThrownBy(() -> new ParallelScc(
+            graphWithoutInverseIndex,
+            new Concurrency(4),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("inverse index");
+    }
+
+    private void assertComponent(HugeLongArray components, IdFunction idFunction, String... variables) {
+        long smallestNode = Long.MAX_VALUE;
+        for (var variable : variables) {
+            smallestNode = Math.min(smallestNode, idFunction.of(variable));
+        }
+        long members = 0;
+        for (long nodeId = 0; nodeId < components.size(); nodeId++) {
+            if (components.get(nodeId) == smallestNode) {
+                members++;
+            }
+        }
+        for (var variable : variables) {
+            assertThat(components.get(idFunction.of(variable))).isEqualTo(smallestNode);
+        }
+        assertThat(members).isEqualTo(variables.length);
+    }
+
+    private static void assertSamePartition(Graph graph, HugeLongArray expected, HugeLongArray actual) {
+        var expectedToActual = new HashMap<Long, Long>();
+        var actualToExpected = new HashMap<Long, Long>();
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            long expectedComponent = expected.get(nodeId);
+            long actualComponent = actual.get(nodeId);
+
+            assertThat(expectedToActual.computeIfAbsent(expectedComponent, __ -> actualComponent)).isEqualTo(actualComponent);
+            assertThat(actualToExpected.computeIfAbsent(actualComponent, __ -> expectedComponent)).isEqualTo(expectedComponent);
+            assertThat(actualComponent).isLessThanOrEqualTo(nodeId);
+            assertThat(actual.get(actualComponent)).isEqualTo(actualComponent);
+        }
+    }
+}
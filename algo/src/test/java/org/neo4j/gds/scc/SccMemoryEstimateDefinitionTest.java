@@ -21,8 +21,11 @@ package org.neo4j.gds.scc;
 
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.concurrency.Concurrency;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 class SccMemoryEstimateDefinitionTest {
 
     @Test
@@ -35,4 +38,20 @@ class SccMemoryEstimateDefinitionTest {
             .hasMax(69132L);
     }
 
+    @Test
+    void shouldAddSequentialFallbackToParallelEstimation() {
+        var dimensions = GraphDimensions.of(1_000_000, 5_000_000);
+        var sequential = new SccMemoryEstimateDefinition().memoryEstimation()
+            .estimate(dimensions, new Concurrency(4))
+            .memoryUsage();
+        var parallelOnly = ParallelScc.memoryEstimation()
+            .estimate(dimensions, new Concurrency(4))
+            .memoryUsage();
+        var parallel = new SccMemoryEstimateDefinition(true).memoryEstimation()
+            .estimate(dimensions, new Concurrency(4))
+            .memoryUsage();
+
+        assertThat(parallel).isEqualTo(parallelOnly.add(sequential));
+    }
+
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.spanningtree;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.function.DoubleUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+class BoruvkaTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (y:Node)" +
+        ", (z:Node)" +
+
+        ", (a)-[:TYPE {cost: 1.0}]->(b)" +
+        ", (a)-[:TYPE {cost: 2.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 3.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 4.0}]->(d)" +
+        ", (c)-[:TYPE {cost: 5.0}]->(e)" +
+        ", (d)-[:TYPE {cost: 6.0}]->(e)" +
+        ", (y)-[:TYPE {cost: 1.0}]->(z)";
+
+    @Inject
+    private TestGraph graph;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"a", "b", "c", "d", "e", "y"})
+    void shouldComputeSameTreeAsPrim(String startNode) {
+        long startNodeId = graph.toMappedNodeId(startNode);
+
+        for (var minMax : new DoubleUnaryOperator[]{Prim.MIN_OPERATOR, Prim.MAX_OPERATOR}) {
+            var expected = prim(graph, minMax, startNodeId);
+            var actual = compute(graph, minMax, startNodeId);
+
+            assertThat(actual.effectiveNodeCount()).isEqualTo(expected.effectiveNodeCount());
+            assertThat(actual.totalWeight()).isEqualTo(expected.totalWeight());
+            graph.forEachNode(nodeId -> {
+                assertThat(actual.parent(nodeId)).isEqualTo(expected.parent(nodeId));
+                if (actual.parent(nodeId) != -1) {
+                    assertThat(actual.costToParent(nodeId)).isEqualTo(expected.costToParent(nodeId));
+                }
+                return true;
+            });
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"2, RANDOM", "4, RANDOM", "8, POWER_LAW"})
+    void shouldComputeTreeOfSameWeightAsPrim(int averageDegree, RelationshipDistribution distribution) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(distribution)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 0, 100))
+            .direction(Direction.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        for (var minMax : new DoubleUnaryOperator[]{Prim.MIN_OPERATOR, Prim.MAX_OPERATOR}) {
+            var expected = prim(randomGraph, minMax, 0);
+            var actual = compute(randomGraph, minMax, 0);
+
+            assertThat(actual.effectiveNodeCount()).isEqualTo(expected.effectiveNodeCount());
+            assertThat(actual.totalWeight()).isCloseTo(expected.totalWeight(), within(1e-6));
+            randomGraph.forEachNode(nodeId -> {
+                assertThat(actual.head(nodeId)).isEqualTo(expected.head(nodeId));
+                return true;
+            });
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"2, RANDOM", "4, RANDOM", "8, POWER_LAW"})
+    void shouldComputeValidTreeForTiedWeights(int averageDegree, RelationshipDistribution distribution) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(distribution)
+            .relationshipPropertyProducer(PropertyProducer.fixedDouble("weight", 1.0))
+            .direction(Direction.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        // any spanning tree is minimal, so only the weight and the shape of the tree are fixed
+        var expected = prim(randomGraph, Prim.MIN_OPERATOR, 0);
+        var actual = compute(randomGraph, Prim.MIN_OPERATOR, 0);
+
+        assertThat(actual.effectiveNodeCount()).isEqualTo(expected.effectiveNodeCount());
+        assertThat(actual.totalWeight()).isCloseTo(expected.totalWeight(), within(1e-6));
+        randomGraph.forEachNode(nodeId -> {
+            var parent = actual.parent(nodeId);
+            assertThat(parent == -1).isEqualTo(expected.parent(nodeId) == -1);
+            if (parent != -1) {
+                assertThat(randomGraph.exists(parent, nodeId)).isTrue();
+                assertThat(actual.costToParent(nodeId)).isEqualTo(1.0);
+                assertThat(reachesRoot(actual, nodeId, 0, randomGraph.nodeCount())).isTrue();
+            }
+            return true;
+        });
+    }
+
+    private static boolean reachesRoot(SpanningTree tree, long nodeId, long rootId, long maxSteps) {
+        long current = nodeId;
+        for (long step = 0; step < maxSteps && current != -1; step++) {
+            if (current == rootId) {
+                return true;
+            }
+            current = tree.parent(current);
+        }
+        return current == rootId;
+    }
+
+    private static SpanningTree prim(Graph graph, DoubleUnaryOperator minMax, long startNodeId) {
+        return new Prim(
+            graph,
+            minMax,
+            startNodeId,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
+
+    private static SpanningTree compute(Graph graph, DoubleUnaryOperator minMax, long startNodeId) {
+        return new Boruvka(
+            graph,
+            minMax,
+            startNodeId,
+            new Concurrency(4),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
+}
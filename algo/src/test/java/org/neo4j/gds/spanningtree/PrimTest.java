@@ -150,7 +150,7 @@ class PrimTest {
 
     @Test
     void shouldLogProgress() {
-        var parameters = new SpanningTreeParameters(Prim.MIN_OPERATOR, graph.toOriginalNodeId("a"));
+        var parameters = new SpanningTreeParameters(Prim.MIN_OPERATOR, graph.toOriginalNodeId("a"), false);
         var factory = new SpanningTreeAlgorithmFactory<>();
         var log = new GdsTestLog();
         var progressTracker = new TestProgressTracker(
@@ -29,7 +29,7 @@ class SpanningTreeAlgorithmFactoryTest {
     @Test
     void shouldThrowIfNotUndirected() {
         var graph = GdlFactory.of("(a)-[:foo{cost:1.0}]->(b)").build().getUnion();
-        var parameters = new SpanningTreeParameters(Prim.MIN_OPERATOR, 0);
+        var parameters = new SpanningTreeParameters(Prim.MIN_OPERATOR, 0, false);
         var spanningTreeAlgorithmFactory = new SpanningTreeAlgorithmFactory<>();
         assertThatThrownBy(() -> spanningTreeAlgorithmFactory.build(graph, parameters, ProgressTracker.NULL_TRACKER))
             .hasMessageContaining("undirected");
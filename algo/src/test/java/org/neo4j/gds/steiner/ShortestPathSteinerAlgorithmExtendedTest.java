@@ -25,6 +25,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.Orientation;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -37,6 +40,8 @@ import org.neo4j.gds.paths.PathResult;
 import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -274,4 +279,84 @@ class ShortestPathSteinerAlgorithmExtendedTest {
 
     }
 
+    @ParameterizedTest
+    @MethodSource("batchConfigurations")
+    void shouldBuildValidTreeWhenBatchingTerminals(boolean applyRerouting, int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.RANDOM)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 1, 10))
+            .seed(42L)
+            .build()
+            .generate();
+
+        var terminals = LongStream.range(1, 1_000).filter(nodeId -> nodeId % 10 == 0).boxed().collect(Collectors.toList());
+
+        var sequential = new ShortestPathsSteinerAlgorithm(
+            randomGraph,
+            0,
+            terminals,
+            2.0,
+            new Concurrency(concurrency),
+            applyRerouting,
+            false,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+        var batched = new ShortestPathsSteinerAlgorithm(
+            randomGraph,
+            0,
+            terminals,
+            2.0,
+            new Concurrency(concurrency),
+            applyRerouting,
+            true,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        assertThat(batched.effectiveTargetNodesCount()).isEqualTo(sequential.effectiveTargetNodesCount());
+
+        var parent = batched.parentArray();
+        var parentCost = batched.relationshipToParentCost();
+        double totalCost = 0;
+        long treeNodes = 0;
+        for (long nodeId = 0; nodeId < randomGraph.nodeCount(); nodeId++) {
+            if (parent.get(nodeId) == ShortestPathsSteinerAlgorithm.PRUNED) {
+                continue;
+            }
+            treeNodes++;
+            if (parent.get(nodeId) != ShortestPathsSteinerAlgorithm.ROOT_NODE) {
+                totalCost += parentCost.get(nodeId);
+            }
+            // every tree node reaches the root without a cycle
+            long ancestor = nodeId;
+            long steps = 0;
+            while (parent.get(ancestor) != ShortestPathsSteinerAlgorithm.ROOT_NODE) {
+                ancestor = parent.get(ancestor);
+                assertThat(ancestor).isNotEqualTo(ShortestPathsSteinerAlgorithm.PRUNED);
+                assertThat(++steps).isLessThan(randomGraph.nodeCount());
+            }
+            assertThat(ancestor).isEqualTo(0L);
+        }
+        for (long terminal : terminals) {
+            if (sequential.parentArray().get(terminal) != ShortestPathsSteinerAlgorithm.PRUNED) {
+                assertThat(parent.get(terminal)).isNotEqualTo(ShortestPathsSteinerAlgorithm.PRUNED);
+            }
+        }
+        assertThat(batched.totalCost()).isCloseTo(totalCost, SteinerTestUtils.offset);
+        assertThat(batched.effectiveNodeCount()).isEqualTo(treeNodes);
+    }
+
+    static Stream<Arguments> batchConfigurations() {
+        return Stream.of(
+            arguments(false, 1),
+            arguments(false, 4),
+            arguments(true, 1),
+            arguments(true, 4)
+        );
+    }
 }
@@ -217,6 +217,27 @@ class ShortestPathsSteinerAlgorithmReroutingTest {
 
     }
 
+    @Test
+    void shouldPruneUnusedIfReroutingInBatches() {
+        IdFunction idFunction = graph::toMappedNodeId;
+
+        var steinerResultWithReroute = new ShortestPathsSteinerAlgorithm(
+            graph,
+            idFunction.of("a0"),
+            List.of(idFunction.of("a3"), idFunction.of("a4")),
+            2.0,
+            new Concurrency(4),
+            true,
+            true,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+        assertThat(steinerResultWithReroute.totalCost()).isEqualTo(4.0);
+        assertThat(steinerResultWithReroute.effectiveNodeCount()).isEqualTo(3);
+        assertThat(steinerResultWithReroute.effectiveTargetNodesCount()).isEqualTo(2);
+    }
+
     @Test
     void shouldPruneUnusedIfReroutingOnInvertedIndex() {
         IdFunction invIdFunction = invGraph::toMappedNodeId;
@@ -59,14 +59,14 @@ public class Hits implements BidirectionalPregelComputation<Hits.HitsConfig> {
 
 
     @Override
-    public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+    public MemoryEstimateDefinition estimateDefinition(HitsConfig config) {
         return () -> Pregel.memoryEstimation(
             Map.of(
                 "auth", ValueType.DOUBLE,
                 "hub", ValueType.DOUBLE
             ),
             false,
-            false
+            config
         );
     }
 
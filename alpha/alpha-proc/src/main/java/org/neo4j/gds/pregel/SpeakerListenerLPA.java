@@ -69,11 +69,11 @@ public class SpeakerListenerLPA implements PregelComputation<SpeakerListenerLPA.
 
 
     @Override
-    public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+    public MemoryEstimateDefinition estimateDefinition(SpeakerListenerLPAConfig config) {
         return () -> Pregel.memoryEstimation(
             Map.of(LABELS_PROPERTY, ValueType.LONG_ARRAY),
             false,
-            false
+            config
         );
     }
 
@@ -36,6 +36,7 @@ import org.neo4j.gds.betweenness.BetwennessCentralityResult;
 import org.neo4j.gds.betweenness.ForwardTraverser;
 import org.neo4j.gds.betweenness.FullSelectionStrategy;
 import org.neo4j.gds.betweenness.RandomDegreeSelectionStrategy;
+import org.neo4j.gds.biconnectivity.Biconnectivity;
 import org.neo4j.gds.bridges.BridgeProgressTaskCreator;
 import org.neo4j.gds.bridges.BridgeResult;
 import org.neo4j.gds.bridges.Bridges;
@@ -53,14 +54,23 @@ import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.degree.DegreeCentrality;
 import org.neo4j.gds.degree.DegreeCentralityConfig;
 import org.neo4j.gds.degree.DegreeCentralityResult;
+import org.neo4j.gds.diameter.DistanceStatistics;
+import org.neo4j.gds.diameter.DistanceStatisticsBaseConfig;
+import org.neo4j.gds.diameter.DistanceStatisticsResult;
 import org.neo4j.gds.harmonic.HarmonicCentrality;
 import org.neo4j.gds.harmonic.HarmonicCentralityBaseConfig;
 import org.neo4j.gds.harmonic.HarmonicResult;
 import org.neo4j.gds.influenceMaximization.CELF;
 import org.neo4j.gds.influenceMaximization.CELFResult;
 import org.neo4j.gds.influenceMaximization.InfluenceMaximizationBaseConfig;
+import org.neo4j.gds.influenceMaximization.ReverseInfluenceSampling;
+import org.neo4j.gds.msbfs.Pivots;
 import org.neo4j.gds.pagerank.ArticleRankComputation;
 import org.neo4j.gds.pagerank.EigenvectorComputation;
+import org.neo4j.gds.pagerank.ForwardPushPageRank;
+import org.neo4j.gds.pagerank.ForwardPushPageRankBaseConfig;
+import org.neo4j.gds.pagerank.ForwardPushPageRankResult;
+import org.neo4j.gds.pagerank.GaussSeidelPageRank;
 import org.neo4j.gds.pagerank.PageRankAlgorithm;
 import org.neo4j.gds.pagerank.PageRankAlgorithmFactory;
 import org.neo4j.gds.pagerank.PageRankComputation;
@@ -70,10 +80,12 @@ import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.LongToDoubleFunction;
+import java.util.stream.Collectors;
 
 import static org.neo4j.gds.pagerank.PageRankAlgorithmFactory.Mode.ARTICLE_RANK;
 import static org.neo4j.gds.pagerank.PageRankAlgorithmFactory.Mode.EIGENVECTOR;
 import static org.neo4j.gds.pagerank.PageRankAlgorithmFactory.Mode.PAGE_RANK;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public class CentralityAlgorithms {
     private final AlgorithmMachinery algorithmMachinery = new AlgorithmMachinery();
@@ -124,6 +136,10 @@ public class CentralityAlgorithms {
     }
 
     CELFResult celf(Graph graph, InfluenceMaximizationBaseConfig configuration) {
+        if (configuration.reverseInfluenceSampling()) {
+            return reverseInfluenceSampling(graph, configuration);
+        }
+
         var task = Tasks.task(
             LabelForProgressTracking.CELF.value,
             Tasks.leaf("Greedy", graph.nodeCount()),
@@ -136,6 +152,25 @@ public class CentralityAlgorithms {
         return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
     }
 
+    private CELFResult reverseInfluenceSampling(Graph graph, InfluenceMaximizationBaseConfig configuration) {
+        var task = Tasks.task(
+            LabelForProgressTracking.CELF.value,
+            Tasks.leaf("LowerBound", ReverseInfluenceSampling.lowerBoundRounds(graph.nodeCount())),
+            Tasks.leaf("Sampling"),
+            Tasks.leaf("NodeSelection", configuration.seedSetSize())
+        );
+        var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
+
+        var algorithm = new ReverseInfluenceSampling(
+            graph,
+            configuration.toParameters(),
+            progressTracker,
+            terminationFlag
+        );
+
+        return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
+    }
+
     ClosenessCentralityResult closenessCentrality(Graph graph, ClosenessCentralityBaseConfig configuration) {
         var parameters = configuration.toParameters();
 
@@ -143,9 +178,16 @@ public class CentralityAlgorithms {
             ? new WassermanFaustCentralityComputer(graph.nodeCount())
             : new DefaultCentralityComputer();
 
+        var pivots = parameters.samplingSize()
+            .map(samplingSize -> Pivots.sample(graph.nodeCount(), samplingSize, parameters.samplingSeed()));
+        long sourceCount = pivots.map(sample -> (long) sample.nodes().length).orElse(graph.nodeCount());
+        var farnessTask = parameters.hyperBall()
+            ? Tasks.leaf("Farness computation")
+            : Tasks.leaf("Farness computation", graph.nodeCount() * sourceCount);
+
         var progressTracker = progressTrackerCreator.createProgressTracker(configuration, Tasks.task(
             LabelForProgressTracking.ClosenessCentrality.value,
-            Tasks.leaf("Farness computation", graph.nodeCount() * graph.nodeCount()),
+            farnessTask,
             Tasks.leaf("Closeness computation", graph.nodeCount())
         ));
 
@@ -153,6 +195,8 @@ public class CentralityAlgorithms {
             graph,
             parameters.concurrency(),
             centralityComputer,
+            pivots,
+            parameters.hyperBall(),
             DefaultPool.INSTANCE,
             progressTracker
         );
@@ -185,6 +229,13 @@ public class CentralityAlgorithms {
         var task = ArticulationPointsProgressTaskCreator.progressTask(graph.nodeCount());
         var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
 
+        if (Biconnectivity.isApplicable(graph.nodeCount(), configuration.concurrency())) {
+            var algorithm = new Biconnectivity(graph, configuration.concurrency(), progressTracker, terminationFlag);
+            return algorithmMachinery
+                .runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true)
+                .articulationPoints();
+        }
+
         var algorithm = new ArticulationPoints(graph, progressTracker);
 
         return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
@@ -195,22 +246,71 @@ public class CentralityAlgorithms {
         var task = BridgeProgressTaskCreator.progressTask(graph.nodeCount());
         var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
 
+        if (Biconnectivity.isApplicable(graph.nodeCount(), configuration.concurrency())) {
+            var algorithm = new Biconnectivity(graph, configuration.concurrency(), progressTracker, terminationFlag);
+            var result = algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
+            return new BridgeResult(result.bridges());
+        }
+
         var algorithm = new Bridges(graph, progressTracker);
 
         return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
     }
 
+    DistanceStatisticsResult distanceStatistics(Graph graph, DistanceStatisticsBaseConfig configuration) {
+        var parameters = configuration.toParameters();
+
+        var task = DistanceStatistics.progressTask(graph.nodeCount(), parameters);
+        var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
+
+        var algorithm = new DistanceStatistics(
+            graph,
+            parameters,
+            DefaultPool.INSTANCE,
+            progressTracker,
+            terminationFlag
+        );
+
+        return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
+    }
+
     PageRankResult eigenVector(Graph graph, PageRankConfig configuration) {
         return pagerank(graph, configuration, LabelForProgressTracking.EigenVector, EIGENVECTOR);
     }
 
+    ForwardPushPageRankResult forwardPushPageRank(Graph graph, ForwardPushPageRankBaseConfig configuration) {
+        var sourceNodeSets = configuration.sourceNodes().stream()
+            .map(sourceNode -> new long[]{graph.toMappedNodeId(sourceNode)})
+            .collect(Collectors.toList());
+
+        var task = ForwardPushPageRank.progressTask(sourceNodeSets.size());
+        var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
+
+        var algorithm = new ForwardPushPageRank(
+            graph,
+            configuration.toParameters(),
+            sourceNodeSets,
+            degreeFunction(graph, configuration.concurrency(), configuration.hasRelationshipWeightProperty()),
+            DefaultPool.INSTANCE,
+            progressTracker,
+            terminationFlag
+        );
+
+        return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
+    }
+
     HarmonicResult harmonicCentrality(Graph graph, HarmonicCentralityBaseConfig configuration) {
         var task = Tasks.leaf(LabelForProgressTracking.HarmonicCentrality.value);
         var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
 
+        var pivots = configuration.samplingSize()
+            .map(samplingSize -> Pivots.sample(graph.nodeCount(), samplingSize, configuration.samplingSeed()));
+
         var algorithm = new HarmonicCentrality(
             graph,
             configuration.concurrency(),
+            pivots,
+            configuration.hyperBall(),
             DefaultPool.INSTANCE,
             progressTracker
         );
@@ -235,14 +335,15 @@ public class CentralityAlgorithms {
 
     private LongToDoubleFunction degreeFunction(
         Graph graph,
-        PageRankConfig configuration
+        Concurrency concurrency,
+        boolean hasRelationshipWeightProperty
     ) {
         var degreeCentrality = new DegreeCentrality(
             graph,
             DefaultPool.INSTANCE,
-            configuration.concurrency(),
+            concurrency,
             Orientation.NATURAL,
-            configuration.hasRelationshipWeightProperty(),
+            hasRelationshipWeightProperty,
             10_000,
             ProgressTracker.NULL_TRACKER
         );
@@ -257,6 +358,16 @@ public class CentralityAlgorithms {
         LabelForProgressTracking label,
         PageRankAlgorithmFactory.Mode mode
     ) {
+        if (configuration.gaussSeidel()) {
+            if (mode != PAGE_RANK) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The `gaussSeidel` option is not supported by %s.",
+                    label.value
+                ));
+            }
+            return gaussSeidelPageRank(graph, configuration);
+        }
+
         var task = Pregel.progressTask(graph, configuration, label.value);
         var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
 
@@ -275,13 +386,32 @@ public class CentralityAlgorithms {
         return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
     }
 
+    private PageRankResult gaussSeidelPageRank(Graph graph, PageRankConfig configuration) {
+        var parameters = configuration.toGaussSeidelParameters();
+
+        var task = GaussSeidelPageRank.progressTask(parameters);
+        var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
+
+        var algorithm = new GaussSeidelPageRank(
+            graph,
+            parameters,
+            degreeFunction(graph, configuration.concurrency(), configuration.hasRelationshipWeightProperty()),
+            DefaultPool.INSTANCE,
+            progressTracker,
+            terminationFlag
+        );
+
+        return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
+    }
+
     private PregelComputation<PageRankConfig> pickComputation(
         Graph graph, PageRankConfig configuration,
         PageRankAlgorithmFactory.Mode mode
     ) {
         var degreeFunction = degreeFunction(
             graph,
-            configuration
+            configuration.concurrency(),
+            configuration.hasRelationshipWeightProperty()
         );
 
         var mappedSourceNodes = new LongScatterSet(configuration.sourceNodes().size());
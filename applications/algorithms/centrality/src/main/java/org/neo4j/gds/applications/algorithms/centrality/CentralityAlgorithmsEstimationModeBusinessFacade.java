@@ -28,13 +28,21 @@ import org.neo4j.gds.betweenness.BetweennessCentralityMemoryEstimateDefinition;
 import org.neo4j.gds.bridges.BridgesBaseConfig;
 import org.neo4j.gds.bridges.BridgesMemoryEstimateDefinition;
 import org.neo4j.gds.closeness.ClosenessCentralityBaseConfig;
+import org.neo4j.gds.closeness.ClosenessCentralityHyperBallMemoryEstimateDefinition;
 import org.neo4j.gds.config.RelationshipWeightConfig;
 import org.neo4j.gds.degree.DegreeCentralityAlgorithmEstimateDefinition;
 import org.neo4j.gds.degree.DegreeCentralityConfig;
+import org.neo4j.gds.diameter.DistanceStatisticsBaseConfig;
+import org.neo4j.gds.diameter.DistanceStatisticsMemoryEstimateDefinition;
 import org.neo4j.gds.exceptions.MemoryEstimationNotImplementedException;
+import org.neo4j.gds.harmonic.HarmonicCentralityBaseConfig;
+import org.neo4j.gds.harmonic.HarmonicCentralityHyperBallMemoryEstimateDefinition;
 import org.neo4j.gds.influenceMaximization.CELFMemoryEstimateDefinition;
 import org.neo4j.gds.influenceMaximization.InfluenceMaximizationBaseConfig;
 import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.pagerank.ForwardPushPageRankBaseConfig;
+import org.neo4j.gds.pagerank.ForwardPushPageRankMemoryEstimateDefinition;
+import org.neo4j.gds.pagerank.GaussSeidelPageRankMemoryEstimateDefinition;
 import org.neo4j.gds.pagerank.PageRankConfig;
 import org.neo4j.gds.pagerank.PageRankMemoryEstimateDefinition;
 
@@ -94,7 +102,10 @@ public class CentralityAlgorithmsEstimationModeBusinessFacade {
     }
 
     public MemoryEstimation celf(InfluenceMaximizationBaseConfig configuration) {
-        return new CELFMemoryEstimateDefinition(configuration.toParameters()).memoryEstimation();
+        return new CELFMemoryEstimateDefinition(
+            configuration.toParameters(),
+            configuration.reverseInfluenceSampling()
+        ).memoryEstimation();
     }
 
     public MemoryEstimateResult celf(InfluenceMaximizationBaseConfig configuration, Object graphNameOrConfiguration) {
@@ -107,7 +118,10 @@ public class CentralityAlgorithmsEstimationModeBusinessFacade {
         );
     }
 
-    public MemoryEstimation closenessCentrality(ClosenessCentralityBaseConfig ignored) {
+    public MemoryEstimation closenessCentrality(ClosenessCentralityBaseConfig configuration) {
+        if (configuration.hyperBall()) {
+            return new ClosenessCentralityHyperBallMemoryEstimateDefinition().memoryEstimation();
+        }
         throw new MemoryEstimationNotImplementedException();
     }
 
@@ -128,16 +142,62 @@ public class CentralityAlgorithmsEstimationModeBusinessFacade {
         );
     }
 
-    public MemoryEstimation harmonicCentrality() {
+    public MemoryEstimation distanceStatistics(DistanceStatisticsBaseConfig configuration) {
+        return new DistanceStatisticsMemoryEstimateDefinition(configuration.maxSamplingSize()).memoryEstimation();
+    }
+
+    public MemoryEstimateResult distanceStatistics(
+        DistanceStatisticsBaseConfig configuration,
+        Object graphNameOrConfiguration
+    ) {
+        var memoryEstimation = distanceStatistics(configuration);
+
+        return algorithmEstimationTemplate.estimate(
+            configuration,
+            graphNameOrConfiguration,
+            memoryEstimation
+        );
+    }
+
+    public MemoryEstimation forwardPushPageRank(ForwardPushPageRankBaseConfig configuration) {
+        // each source node is answered as a query of its own
+        return new ForwardPushPageRankMemoryEstimateDefinition(
+            configuration.toParameters(),
+            configuration.sourceNodes().size(),
+            1
+        ).memoryEstimation();
+    }
+
+    public MemoryEstimateResult forwardPushPageRank(
+        ForwardPushPageRankBaseConfig configuration,
+        Object graphNameOrConfiguration
+    ) {
+        var memoryEstimation = forwardPushPageRank(configuration);
+
+        return algorithmEstimationTemplate.estimate(
+            configuration,
+            graphNameOrConfiguration,
+            memoryEstimation
+        );
+    }
+
+    public MemoryEstimation harmonicCentrality(HarmonicCentralityBaseConfig configuration) {
+        if (configuration.hyperBall()) {
+            return new HarmonicCentralityHyperBallMemoryEstimateDefinition().memoryEstimation();
+        }
         throw new MemoryEstimationNotImplementedException();
     }
 
-    public MemoryEstimation pageRank() {
-        return new PageRankMemoryEstimateDefinition().memoryEstimation();
+    public MemoryEstimation pageRank(PageRankConfig configuration) {
+        if (configuration.gaussSeidel()) {
+            return new GaussSeidelPageRankMemoryEstimateDefinition().memoryEstimation();
+        }
+
+        return new PageRankMemoryEstimateDefinition(configuration).memoryEstimation();
     }
 
     public MemoryEstimateResult pageRank(PageRankConfig configuration, Object graphNameOrConfiguration) {
-        var memoryEstimation = pageRank();
+        var memoryEstimation = pageRank(configuration);
 
         return algorithmEstimationTemplate.estimate(
             configuration,
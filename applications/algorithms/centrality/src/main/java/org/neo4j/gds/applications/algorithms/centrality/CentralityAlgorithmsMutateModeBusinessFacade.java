@@ -78,7 +78,7 @@ public class CentralityAlgorithmsMutateModeBusinessFacade {
             graphName,
             configuration,
             ArticleRank,
-            estimation::pageRank,
+            () -> estimation.pageRank(configuration),
             (graph, __) -> algorithms.articleRank(graph, configuration),
             mutateStep,
             resultBuilder
@@ -187,7 +187,7 @@ public class CentralityAlgorithmsMutateModeBusinessFacade {
             graphName,
             configuration,
             EigenVector,
-            estimation::pageRank,
+            () -> estimation.pageRank(configuration),
             (graph, __) -> algorithms.eigenVector(graph, configuration),
             mutateStep,
             resultBuilder
@@ -205,7 +205,7 @@ public class CentralityAlgorithmsMutateModeBusinessFacade {
             graphName,
             configuration,
             HarmonicCentrality,
-            estimation::harmonicCentrality,
+            () -> estimation.harmonicCentrality(configuration),
             (graph, __) -> algorithms.harmonicCentrality(graph, configuration),
             mutateStep,
             resultBuilder
@@ -223,7 +223,7 @@ public class CentralityAlgorithmsMutateModeBusinessFacade {
             graphName,
             configuration,
             PageRank,
-            estimation::pageRank,
+            () -> estimation.pageRank(configuration),
             (graph, __) -> algorithms.pageRank(graph, configuration),
             mutateStep,
             resultBuilder
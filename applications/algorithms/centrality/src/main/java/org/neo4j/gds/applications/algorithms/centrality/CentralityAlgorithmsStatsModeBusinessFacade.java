@@ -28,6 +28,8 @@ import org.neo4j.gds.articulationpoints.ArticulationPointsStatsConfig;
 import org.neo4j.gds.betweenness.BetweennessCentralityStatsConfig;
 import org.neo4j.gds.closeness.ClosenessCentralityStatsConfig;
 import org.neo4j.gds.degree.DegreeCentralityStatsConfig;
+import org.neo4j.gds.diameter.DistanceStatisticsResult;
+import org.neo4j.gds.diameter.DistanceStatisticsStatsConfig;
 import org.neo4j.gds.harmonic.HarmonicCentralityStatsConfig;
 import org.neo4j.gds.influenceMaximization.CELFResult;
 import org.neo4j.gds.influenceMaximization.InfluenceMaximizationStatsConfig;
@@ -40,6 +42,7 @@ import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTra
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.CELF;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.ClosenessCentrality;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.DegreeCentrality;
+import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.DistanceStatistics;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.EigenVector;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.HarmonicCentrality;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.PageRank;
@@ -68,7 +71,7 @@ public class CentralityAlgorithmsStatsModeBusinessFacade {
             graphName,
             configuration,
             ArticleRank,
-            estimationFacade::pageRank,
+            () -> estimationFacade.pageRank(configuration),
             (graph, __) -> centralityAlgorithms.articleRank(graph, configuration),
             resultBuilder
         );
@@ -149,6 +152,21 @@ public class CentralityAlgorithmsStatsModeBusinessFacade {
         );
     }
 
+    public <RESULT> RESULT distanceStatistics(
+        GraphName graphName,
+        DistanceStatisticsStatsConfig configuration,
+        ResultBuilder<DistanceStatisticsStatsConfig, DistanceStatisticsResult, RESULT, Void> resultBuilder
+    ) {
+        return algorithmProcessingTemplateConvenience.processRegularAlgorithmInStatsOrStreamMode(
+            graphName,
+            configuration,
+            DistanceStatistics,
+            () -> estimationFacade.distanceStatistics(configuration),
+            (graph, __) -> centralityAlgorithms.distanceStatistics(graph, configuration),
+            resultBuilder
+        );
+    }
+
     public <RESULT> RESULT eigenVector(
         GraphName graphName,
         PageRankStatsConfig configuration,
@@ -158,7 +176,7 @@ public class CentralityAlgorithmsStatsModeBusinessFacade {
             graphName,
             configuration,
             EigenVector,
-            estimationFacade::pageRank,
+            () -> estimationFacade.pageRank(configuration),
             (graph, __) -> centralityAlgorithms.eigenVector(graph, configuration),
             resultBuilder
         );
@@ -173,7 +191,7 @@ public class CentralityAlgorithmsStatsModeBusinessFacade {
             graphName,
             configuration,
             HarmonicCentrality,
-            estimationFacade::harmonicCentrality,
+            () -> estimationFacade.harmonicCentrality(configuration),
             (graph, __) -> centralityAlgorithms.harmonicCentrality(graph, configuration),
             resultBuilder
         );
@@ -188,7 +206,7 @@ public class CentralityAlgorithmsStatsModeBusinessFacade {
             graphName,
             configuration,
             PageRank,
-            estimationFacade::pageRank,
+            () -> estimationFacade.pageRank(configuration),
             (graph, __) -> centralityAlgorithms.pageRank(graph, configuration),
             resultBuilder
         );
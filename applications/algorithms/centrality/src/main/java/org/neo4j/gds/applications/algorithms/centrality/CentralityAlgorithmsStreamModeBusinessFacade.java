@@ -34,6 +34,8 @@ import org.neo4j.gds.harmonic.HarmonicCentralityStreamConfig;
 import org.neo4j.gds.harmonic.HarmonicResult;
 import org.neo4j.gds.influenceMaximization.CELFResult;
 import org.neo4j.gds.influenceMaximization.InfluenceMaximizationStreamConfig;
+import org.neo4j.gds.pagerank.ForwardPushPageRankResult;
+import org.neo4j.gds.pagerank.ForwardPushPageRankStreamConfig;
 import org.neo4j.gds.pagerank.PageRankResult;
 import org.neo4j.gds.pagerank.PageRankStreamConfig;
 
@@ -45,6 +47,7 @@ import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTra
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.ClosenessCentrality;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.DegreeCentrality;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.EigenVector;
+import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.ForwardPushPageRank;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.HarmonicCentrality;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.PageRank;
 
@@ -72,7 +75,7 @@ public class CentralityAlgorithmsStreamModeBusinessFacade {
             graphName,
             configuration,
             ArticleRank,
-            estimationFacade::pageRank,
+            () -> estimationFacade.pageRank(configuration),
             (graph, __) -> centralityAlgorithms.articleRank(graph, configuration),
             resultBuilder
         );
@@ -175,12 +178,27 @@ public class CentralityAlgorithmsStreamModeBusinessFacade {
             graphName,
             configuration,
             EigenVector,
-            estimationFacade::pageRank,
+            () -> estimationFacade.pageRank(configuration),
             (graph, __) -> centralityAlgorithms.eigenVector(graph, configuration),
             resultBuilder
         );
     }
 
+    public <RESULT> RESULT forwardPushPageRank(
+        GraphName graphName,
+        ForwardPushPageRankStreamConfig configuration,
+        ResultBuilder<ForwardPushPageRankStreamConfig, ForwardPushPageRankResult, RESULT, Void> resultBuilder
+    ) {
+        return algorithmProcessingTemplateConvenience.processRegularAlgorithmInStatsOrStreamMode(
+            graphName,
+            configuration,
+            ForwardPushPageRank,
+            () -> estimationFacade.forwardPushPageRank(configuration),
+            (graph, __) -> centralityAlgorithms.forwardPushPageRank(graph, configuration),
+            resultBuilder
+        );
+    }
+
     public <RESULT> RESULT harmonicCentrality(
         GraphName graphName,
         HarmonicCentralityStreamConfig configuration,
@@ -190,7 +208,7 @@ public class CentralityAlgorithmsStreamModeBusinessFacade {
             graphName,
             configuration,
             HarmonicCentrality,
-            estimationFacade::harmonicCentrality,
+            () -> estimationFacade.harmonicCentrality(configuration),
             (graph, __) -> centralityAlgorithms.harmonicCentrality(graph, configuration),
             resultBuilder
         );
@@ -205,7 +223,7 @@ public class CentralityAlgorithmsStreamModeBusinessFacade {
             graphName,
             configuration,
             PageRank,
-            estimationFacade::pageRank,
+            () -> estimationFacade.pageRank(configuration),
             (graph, __) -> centralityAlgorithms.pageRank(graph, configuration),
             resultBuilder
         );
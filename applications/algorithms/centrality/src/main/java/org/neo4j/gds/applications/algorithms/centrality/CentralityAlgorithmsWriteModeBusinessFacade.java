@@ -97,7 +97,7 @@ public final class CentralityAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             ArticleRank,
-            estimationFacade::pageRank,
+            () -> estimationFacade.pageRank(configuration),
             (graph, __) -> centralityAlgorithms.articleRank(graph, configuration),
             writeStep,
             resultBuilder
@@ -203,7 +203,7 @@ public final class CentralityAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             EigenVector,
-            estimationFacade::pageRank,
+            () -> estimationFacade.pageRank(configuration),
             (graph, __) -> centralityAlgorithms.eigenVector(graph, configuration),
             writeStep,
             resultBuilder
@@ -221,7 +221,7 @@ public final class CentralityAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             HarmonicCentrality,
-            estimationFacade::harmonicCentrality,
+            () -> estimationFacade.harmonicCentrality(configuration),
             (graph, __) -> centralityAlgorithms.harmonicCentrality(graph, configuration),
             writeStep,
             resultBuilder
@@ -239,7 +239,7 @@ public final class CentralityAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             PageRank,
-            estimationFacade::pageRank,
+            () -> estimationFacade.pageRank(configuration),
             (graph, __) -> centralityAlgorithms.pageRank(graph, configuration),
             writeStep,
             resultBuilder
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.applications.algorithms.community;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.algorithms.community.CommunityCompanion;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmMachinery;
@@ -31,7 +32,6 @@ import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.conductance.Conductance;
 import org.neo4j.gds.conductance.ConductanceBaseConfig;
 import org.neo4j.gds.conductance.ConductanceResult;
-import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.ConcurrencyConfig;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
@@ -44,6 +44,7 @@ import org.neo4j.gds.k1coloring.K1ColoringBaseConfig;
 import org.neo4j.gds.k1coloring.K1ColoringResult;
 import org.neo4j.gds.k1coloring.K1ColoringStreamConfigImpl;
 import org.neo4j.gds.kcore.KCoreDecomposition;
+import org.neo4j.gds.kcore.KCoreDecompositionBaseConfig;
 import org.neo4j.gds.kcore.KCoreDecompositionResult;
 import org.neo4j.gds.kmeans.ImmutableKmeansContext;
 import org.neo4j.gds.kmeans.Kmeans;
@@ -65,6 +66,7 @@ import org.neo4j.gds.modularityoptimization.ModularityOptimization;
 import org.neo4j.gds.modularityoptimization.ModularityOptimizationBaseConfig;
 import org.neo4j.gds.modularityoptimization.ModularityOptimizationFactory;
 import org.neo4j.gds.modularityoptimization.ModularityOptimizationResult;
+import org.neo4j.gds.scc.ParallelScc;
 import org.neo4j.gds.scc.Scc;
 import org.neo4j.gds.scc.SccCommonBaseConfig;
 import org.neo4j.gds.termination.TerminationFlag;
@@ -170,11 +172,17 @@ public class CommunityAlgorithms {
         return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
     }
 
-    KCoreDecompositionResult kCore(Graph graph, AlgoBaseConfig configuration) {
+    KCoreDecompositionResult kCore(Graph graph, KCoreDecompositionBaseConfig configuration) {
         var task = Tasks.leaf(LabelForProgressTracking.KCore.value, graph.nodeCount());
         var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
 
-        var algorithm = new KCoreDecomposition(graph, configuration.concurrency(), progressTracker, terminationFlag);
+        var algorithm = new KCoreDecomposition(
+            graph,
+            configuration.concurrency(),
+            configuration.bucketedPeeling(),
+            progressTracker,
+            terminationFlag
+        );
 
         return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
     }
@@ -282,6 +290,7 @@ public class CommunityAlgorithms {
             parameters.randomSeed().orElse(0L),
             seedValues,
             parameters.tolerance(),
+            parameters.parallelRefinement(),
             parameters.concurrency(),
             progressTracker
         );
@@ -307,6 +316,7 @@ public class CommunityAlgorithms {
             parameters.maxLevels(),
             parameters.includeIntermediateCommunities(),
             parameters.seedProperty(),
+            parameters.lowMemory(),
             progressTracker,
             DefaultPool.INSTANCE
         );
@@ -368,7 +378,9 @@ public class CommunityAlgorithms {
             Tasks.leaf(LabelForProgressTracking.SCC.value, graph.nodeCount())
         );
 
-        var algorithm = new Scc(graph, progressTracker, terminationFlag);
+        Algorithm<HugeLongArray> algorithm = configuration.parallel()
+            ? new ParallelScc(graph, configuration.concurrency(), progressTracker, terminationFlag)
+            : new Scc(graph, progressTracker, terminationFlag);
 
         return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
     }
@@ -43,6 +43,7 @@ import org.neo4j.gds.modularity.ModularityCalculatorMemoryEstimateDefinition;
 import org.neo4j.gds.modularityoptimization.ModularityOptimizationBaseConfig;
 import org.neo4j.gds.modularityoptimization.ModularityOptimizationMemoryEstimateDefinition;
 import org.neo4j.gds.scc.SccBaseConfig;
+import org.neo4j.gds.scc.SccCommonBaseConfig;
 import org.neo4j.gds.scc.SccMemoryEstimateDefinition;
 import org.neo4j.gds.triangle.IntersectingTriangleCountMemoryEstimateDefinition;
 import org.neo4j.gds.triangle.LocalClusteringCoefficientBaseConfig;
@@ -93,12 +94,12 @@ public class CommunityAlgorithmsEstimationModeBusinessFacade {
         );
     }
 
-    public MemoryEstimation kCore() {
-        return new KCoreDecompositionMemoryEstimateDefinition().memoryEstimation();
+    public MemoryEstimation kCore(KCoreDecompositionBaseConfig configuration) {
+        return new KCoreDecompositionMemoryEstimateDefinition(configuration.bucketedPeeling()).memoryEstimation();
     }
 
     public MemoryEstimateResult kCore(KCoreDecompositionBaseConfig configuration, Object graphNameOrConfiguration) {
-        var memoryEstimation = kCore();
+        var memoryEstimation = kCore(configuration);
 
         return algorithmEstimationTemplate.estimate(
             configuration,
@@ -121,15 +122,15 @@ public class CommunityAlgorithmsEstimationModeBusinessFacade {
         );
     }
 
-    public MemoryEstimation labelPropagation() {
-        return new LabelPropagationMemoryEstimateDefinition().memoryEstimation();
+    public MemoryEstimation labelPropagation(LabelPropagationBaseConfig configuration) {
+        return new LabelPropagationMemoryEstimateDefinition(configuration.semiSynchronous()).memoryEstimation();
     }
 
     public MemoryEstimateResult labelPropagation(
         LabelPropagationBaseConfig configuration,
         Object graphNameOrConfiguration
     ) {
-        var memoryEstimation = labelPropagation();
+        var memoryEstimation = labelPropagation(configuration);
 
         return algorithmEstimationTemplate.estimate(
             configuration,
@@ -214,12 +215,12 @@ public class CommunityAlgorithmsEstimationModeBusinessFacade {
         );
     }
 
-    public MemoryEstimation scc() {
-        return new SccMemoryEstimateDefinition().memoryEstimation();
+    public MemoryEstimation scc(SccCommonBaseConfig configuration) {
+        return new SccMemoryEstimateDefinition(configuration.parallel()).memoryEstimation();
     }
 
     public MemoryEstimateResult scc(SccBaseConfig configuration, Object graphNameOrConfiguration) {
-        var memoryEstimation = scc();
+        var memoryEstimation = scc(configuration);
 
         return algorithmEstimationTemplate.estimate(
             configuration,
@@ -129,7 +129,7 @@ public class CommunityAlgorithmsMutateModeBusinessFacade {
             graphName,
             configuration,
             KCore,
-            estimation::kCore,
+            () -> estimation.kCore(configuration),
             (graph, __) -> algorithms.kCore(graph, configuration),
             mutateStep,
             resultBuilder
@@ -165,7 +165,7 @@ public class CommunityAlgorithmsMutateModeBusinessFacade {
             graphName,
             configuration,
             LabelPropagation,
-            estimation::labelPropagation,
+            () -> estimation.labelPropagation(configuration),
             (graph, __) -> algorithms.labelPropagation(graph, configuration),
             mutateStep,
             resultBuilder
@@ -255,7 +255,7 @@ public class CommunityAlgorithmsMutateModeBusinessFacade {
             graphName,
             configuration,
             SCC,
-            estimation::scc,
+            () -> estimation.scc(configuration),
             (graph, __) -> algorithms.scc(graph, configuration),
             mutateStep,
             resultBuilder
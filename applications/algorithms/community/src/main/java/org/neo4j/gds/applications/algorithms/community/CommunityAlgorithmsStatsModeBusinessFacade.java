@@ -99,7 +99,7 @@ public class CommunityAlgorithmsStatsModeBusinessFacade {
             graphName,
             configuration,
             KCore,
-            estimationFacade::kCore,
+            () -> estimationFacade.kCore(configuration),
             (graph, __) -> communityAlgorithms.kCore(graph, configuration),
             resultBuilder
         );
@@ -129,7 +129,7 @@ public class CommunityAlgorithmsStatsModeBusinessFacade {
             graphName,
             configuration,
             LabelPropagation,
-            estimationFacade::labelPropagation,
+            () -> estimationFacade.labelPropagation(configuration),
             (graph, __) -> communityAlgorithms.labelPropagation(graph, configuration),
             resultBuilder
         );
@@ -219,7 +219,7 @@ public class CommunityAlgorithmsStatsModeBusinessFacade {
             graphName,
             configuration,
             SCC,
-            estimationFacade::scc,
+            () -> estimationFacade.scc(configuration),
             (graph, __) -> communityAlgorithms.scc(graph, configuration),
             resultBuilder
         );
@@ -140,7 +140,7 @@ public class CommunityAlgorithmsStreamModeBusinessFacade {
             graphName,
             configuration,
             KCore,
-            estimationFacade::kCore,
+            () -> estimationFacade.kCore(configuration),
             (graph, __) -> algorithms.kCore(graph, configuration),
             resultBuilder
         );
@@ -170,7 +170,7 @@ public class CommunityAlgorithmsStreamModeBusinessFacade {
             graphName,
             configuration,
             LabelPropagation,
-            estimationFacade::labelPropagation,
+            () -> estimationFacade.labelPropagation(configuration),
             (graph, __) -> algorithms.labelPropagation(graph, configuration),
             resultBuilder
         );
@@ -260,7 +260,7 @@ public class CommunityAlgorithmsStreamModeBusinessFacade {
             graphName,
             configuration,
             SCC,
-            estimationFacade::scc,
+            () -> estimationFacade.scc(configuration),
             (graph, __) -> algorithms.scc(graph, configuration),
             resultBuilder
         );
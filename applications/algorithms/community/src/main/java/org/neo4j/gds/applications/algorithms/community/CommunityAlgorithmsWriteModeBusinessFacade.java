@@ -130,7 +130,7 @@ public final class CommunityAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             KCore,
-            estimationFacade::kCore,
+            () -> estimationFacade.kCore(configuration),
             (graph, __) -> algorithms.kCore(graph, configuration),
             writeStep,
             resultBuilder
@@ -166,7 +166,7 @@ public final class CommunityAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             LabelPropagation,
-            estimationFacade::labelPropagation,
+            () -> estimationFacade.labelPropagation(configuration),
             (graph, __) -> algorithms.labelPropagation(graph, configuration),
             writeStep,
             resultBuilder
@@ -256,7 +256,7 @@ public final class CommunityAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             SCC,
-            estimationFacade::scc,
+            () -> estimationFacade.scc(configuration),
             (graph, __) -> algorithms.scc(graph, configuration),
             writeStep,
             resultBuilder
@@ -274,7 +274,7 @@ public final class CommunityAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             SCC,
-            estimationFacade::scc,
+            () -> estimationFacade.scc(configuration),
             (graph, __) -> algorithms.scc(graph, configuration),
             writeStep,
             resultBuilder
@@ -38,10 +38,12 @@ public enum LabelForProgressTracking {
     DeltaStepping("Delta Stepping"),
     DFS("DFS"),
     Dijkstra("Dijkstra"),
+    DistanceStatistics("DistanceStatistics"),
     EigenVector("EigenVector"),
     FastRP("FastRP"),
     FilteredKNN("Filtered K-Nearest Neighbours"),
     FilteredNodeSimilarity("Filtered Node Similarity"),
+    ForwardPushPageRank("ForwardPushPageRank"),
     GraphSage("GraphSage"),
     GraphSageTrain("GraphSageTrain"),
     HarmonicCentrality("HarmonicCentrality"),
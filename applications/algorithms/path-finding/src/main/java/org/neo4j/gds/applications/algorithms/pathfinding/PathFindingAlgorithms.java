@@ -59,9 +59,9 @@ import org.neo4j.gds.paths.traverse.BfsBaseConfig;
 import org.neo4j.gds.paths.traverse.DfsBaseConfig;
 import org.neo4j.gds.paths.yens.Yens;
 import org.neo4j.gds.paths.yens.config.ShortestPathYensBaseConfig;
-import org.neo4j.gds.spanningtree.Prim;
 import org.neo4j.gds.spanningtree.SpanningTree;
 import org.neo4j.gds.spanningtree.SpanningTreeBaseConfig;
+import org.neo4j.gds.spanningtree.SpanningTreeEngine;
 import org.neo4j.gds.steiner.ShortestPathsSteinerAlgorithm;
 import org.neo4j.gds.steiner.SteinerTreeBaseConfig;
 import org.neo4j.gds.steiner.SteinerTreeResult;
@@ -194,6 +194,8 @@ public class PathFindingAlgorithms {
             parameters.objective(),
             graph.toMappedNodeId(parameters.sourceNode()),
             parameters.k(),
+            configuration.concurrency(),
+            parameters.parallel(),
             progressTracker,
             requestScopedDependencies.getTerminationFlag()
         );
@@ -333,10 +335,12 @@ public class PathFindingAlgorithms {
             Tasks.leaf(LabelForProgressTracking.SpanningTree.value)
         );
 
-        var algorithm = new Prim(
+        var algorithm = SpanningTreeEngine.create(
             graph,
             parameters.objective(),
             graph.toMappedNodeId(parameters.sourceNode()),
+            configuration.concurrency(),
+            parameters.parallel(),
             progressTracker,
             requestScopedDependencies.getTerminationFlag()
         );
@@ -369,6 +373,7 @@ public class PathFindingAlgorithms {
             parameters.delta(),
             parameters.concurrency(),
             parameters.applyRerouting(),
+            parameters.batchTerminals(),
             DefaultPool.INSTANCE,
             progressTracker,
             requestScopedDependencies.getTerminationFlag()
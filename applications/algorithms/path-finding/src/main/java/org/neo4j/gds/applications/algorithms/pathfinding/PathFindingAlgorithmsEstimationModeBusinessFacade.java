@@ -195,13 +195,13 @@ public class PathFindingAlgorithmsEstimationModeBusinessFacade {
         SpanningTreeBaseConfig configuration,
         Object graphNameOrConfiguration
     ) {
-        var memoryEstimation = spanningTree();
+        var memoryEstimation = spanningTree(configuration);
 
         return runEstimation(configuration, graphNameOrConfiguration, memoryEstimation);
     }
 
-    public MemoryEstimation spanningTree() {
-        return new SpanningTreeMemoryEstimateDefinition().memoryEstimation();
+    public MemoryEstimation spanningTree(SpanningTreeBaseConfig configuration) {
+        return new SpanningTreeMemoryEstimateDefinition(configuration.parallel()).memoryEstimation();
     }
 
     public MemoryEstimateResult steinerTree(
@@ -214,7 +214,10 @@ public class PathFindingAlgorithmsEstimationModeBusinessFacade {
     }
 
     public MemoryEstimation steinerTree(SteinerTreeBaseConfig configuration) {
-        return new SteinerTreeMemoryEstimateDefinition(configuration.applyRerouting()).memoryEstimation();
+        return new SteinerTreeMemoryEstimateDefinition(
+            configuration.applyRerouting(),
+            configuration.batchTerminals()
+        ).memoryEstimation();
     }
 
     MemoryEstimation topologicalSort() {
@@ -227,7 +227,7 @@ public class PathFindingAlgorithmsMutateModeBusinessFacade {
             graphName,
             configuration,
             LabelForProgressTracking.SpanningTree,
-            estimationFacade::spanningTree,
+            () -> estimationFacade.spanningTree(configuration),
             (graph, __) -> pathFindingAlgorithms.spanningTree(graph, configuration),
             mutateStep,
             resultBuilder
@@ -19,6 +19,8 @@
  */
 package org.neo4j.gds.api;
 
+import java.util.function.DoubleBinaryOperator;
+
 /**
  * The properties for a mono-partite graph for a single relationship property.
  * Provides access to the target {@link #propertyCursor(long) properties} for any given source node.
@@ -81,4 +83,23 @@ public interface AdjacencyProperties {
      * NOTE: In order to use the returned cursor {@link PropertyCursor#init} must be called.
      */
     PropertyCursor rawPropertyCursor();
+
+    /**
+     * Fold the property values of all relationships of a given {@code node} into a single value,
+     * starting from {@code identity}. The values are visited in adjacency order.
+     *
+     * Implementations that store property values contiguously are expected to override this
+     * and read the values without going through a {@link PropertyCursor}.
+     *
+     * Undefined behavior if the node does not exist.
+     * Undefined behavior if this list does not have properties.
+     */
+    default double reduce(long node, double identity, DoubleBinaryOperator reducer) {
+        var cursor = propertyCursor(node);
+        var result = identity;
+        while (cursor.hasNextLong()) {
+            result = reducer.applyAsDouble(result, Double.longBitsToDouble(cursor.nextLong()));
+        }
+        return result;
+    }
 }
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.api;
 
+import java.util.function.DoubleBinaryOperator;
 import java.util.stream.Stream;
 
 public interface RelationshipIterator extends RelationshipPredicate {
@@ -94,6 +95,36 @@ public interface RelationshipIterator extends RelationshipPredicate {
      */
     Stream<RelationshipCursor> streamRelationships(long nodeId, double fallbackValue);
 
+    /**
+     * Folds the relationship property values of all relationships of a given node
+     * into a single value, starting from {@code identity}. If the graph was loaded
+     * without a relationship property, the given fallback value is used for every
+     * relationship.
+     * <p>
+     * This is equivalent to calling {@link #forEachRelationship(long, double, RelationshipWithPropertyConsumer)}
+     * and accumulating the property values, but implementations backed by a columnar
+     * property store can reduce the values without decoding the target ids.
+     *
+     * @param nodeId        id of the node for which to reduce the relationship properties
+     * @param fallbackValue value used as relationship property if no properties were loaded
+     * @param identity      the initial value of the reduction
+     * @param reducer       function combining the intermediate result with the next property value
+     * @return the reduced value, or {@code identity} if the node has no relationships
+     */
+    default double reduceRelationshipProperty(
+        long nodeId,
+        double fallbackValue,
+        double identity,
+        DoubleBinaryOperator reducer
+    ) {
+        double[] result = {identity};
+        forEachRelationship(nodeId, fallbackValue, (sourceNodeId, targetNodeId, property) -> {
+            result[0] = reducer.applyAsDouble(result[0], property);
+            return true;
+        });
+        return result[0];
+    }
+
     /**
      * @return a copy of this iterator that reuses new cursors internally,
      *         so that iterations happen independent of other iterations.
@@ -23,6 +23,8 @@ import org.neo4j.gds.api.AdjacencyList;
 import org.neo4j.gds.api.AdjacencyProperties;
 import org.neo4j.gds.api.PropertyCursor;
 
+import java.util.function.DoubleBinaryOperator;
+
 public class MixedAdjacencyProperties implements AdjacencyProperties {
 
     private final AdjacencyList adjacencyList;
@@ -60,4 +62,12 @@ public class MixedAdjacencyProperties implements AdjacencyProperties {
     public PropertyCursor rawPropertyCursor() {
         return this.vlongAdjacencyProperties.rawPropertyCursor();
     }
+
+    @Override
+    public double reduce(long node, double identity, DoubleBinaryOperator reducer) {
+        if (MixedCompressor.usePacking(this.adjacencyList.degree(node))) {
+            return this.packedAdjacencyProperties.reduce(node, identity, reducer);
+        }
+        return this.vlongAdjacencyProperties.reduce(node, identity, reducer);
+    }
 }
@@ -40,6 +40,8 @@ import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.mem.BitUtil;
 import org.neo4j.gds.mem.Estimate;
 
+import java.util.function.DoubleBinaryOperator;
+
 import static org.neo4j.gds.RelationshipType.ALL_RELATIONSHIPS;
 import static org.neo4j.gds.collections.PageUtil.indexInPage;
 import static org.neo4j.gds.collections.PageUtil.pageIndex;
@@ -187,6 +189,25 @@ public final class UncompressedAdjacencyList implements AdjacencyList, Adjacency
         return new Cursor(pages);
     }
 
+    @Override
+    public double reduce(long node, double identity, DoubleBinaryOperator reducer) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return identity;
+        }
+        // The values of a single node never cross a page boundary,
+        // so we can fold over a slice of the page without a cursor.
+        var offset = offsets.get(node);
+        var page = pages[pageIndex(offset, BumpAllocator.PAGE_SHIFT)];
+        var from = indexInPage(offset, BumpAllocator.PAGE_MASK);
+        var to = from + degree;
+        var result = identity;
+        for (int i = from; i < to; i++) {
+            result = reducer.applyAsDouble(result, Double.longBitsToDouble(page[i]));
+        }
+        return result;
+    }
+
     @Override
     public MemoryInfo memoryInfo() {
         return this.memoryInfo;
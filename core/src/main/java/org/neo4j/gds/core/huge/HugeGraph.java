@@ -54,6 +54,7 @@ import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.PrimitiveIterator;
 import java.util.Set;
+import java.util.function.DoubleBinaryOperator;
 import java.util.function.LongPredicate;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -328,6 +329,23 @@ public class HugeGraph implements CSRGraph {
         runForEachInverse(nodeId, fallbackValue, consumer);
     }
 
+    @Override
+    public double reduceRelationshipProperty(
+        long nodeId,
+        double fallbackValue,
+        double identity,
+        DoubleBinaryOperator reducer
+    ) {
+        if (!hasRelationshipProperty() || properties == null) {
+            var result = identity;
+            for (int i = degree(nodeId); i > 0; i--) {
+                result = reducer.applyAsDouble(result, fallbackValue);
+            }
+            return result;
+        }
+        return properties.reduce(nodeId, identity, reducer);
+    }
+
     @Override
     public Stream<RelationshipCursor> streamRelationships(long nodeId, double fallbackValue) {
         var adjacencyCursor = adjacencyCursorForIteration(nodeId);
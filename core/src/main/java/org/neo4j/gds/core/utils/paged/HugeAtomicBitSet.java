@@ -192,6 +192,32 @@ public final class HugeAtomicBitSet {
         }
     }
 
+    /**
+     * Returns the index of the first set bit that is greater than or equal to the given index
+     * or -1 if there is no such bit.
+     * <p>
+     * Note: this method is not thread-safe.
+     */
+    public long nextSetBit(long index) {
+        if (index >= numBits) {
+            return -1;
+        }
+
+        long wordIndex = index / NUM_BITS;
+        long wordCount = bits.size();
+        // the shift only considers the lowest 6 bits of the index
+        long word = bits.get(wordIndex) & (-1L << index);
+
+        while (word == 0) {
+            if (++wordIndex == wordCount) {
+                return -1;
+            }
+            word = bits.get(wordIndex);
+        }
+
+        return wordIndex * NUM_BITS + Long.numberOfTrailingZeros(word);
+    }
+
     /**
      * Returns the number of set bits in the bit set.
      * <p>
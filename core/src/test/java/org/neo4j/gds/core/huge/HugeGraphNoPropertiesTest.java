@@ -83,6 +83,21 @@ final class HugeGraphNoPropertiesTest extends BaseTest {
         });
     }
 
+    @ParameterizedTest
+    @EnumSource(Orientation.class)
+    void propertyReductionShouldUseFallbackWeight(Orientation orientation) {
+        Graph graph = loadGraph(db, orientation);
+
+        double fallbackWeight = 42D;
+        graph.forEachNode((nodeId) -> {
+            assertEquals(
+                fallbackWeight * graph.degree(nodeId),
+                graph.reduceRelationshipProperty(nodeId, fallbackWeight, 0D, Double::sum)
+            );
+            return true;
+        });
+    }
+
     private Graph loadGraph(final GraphDatabaseService db, Orientation orientation) {
         return new StoreLoaderBuilder()
             .databaseService(db)
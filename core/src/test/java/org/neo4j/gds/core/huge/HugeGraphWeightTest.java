@@ -60,6 +60,29 @@ final class HugeGraphWeightTest extends BaseTest {
         });
     }
 
+    @Test
+    void shouldReducePropertiesPerNode() {
+        int nodeCount = PageUtil.pageSizeFor(PageUtil.PAGE_SIZE_32KB, Estimate.BYTES_OBJECT_REF) * 2;
+        mkDb(nodeCount, 3);
+
+        Graph graph = loadGraph(db);
+
+        graph.forEachNode((long node) -> {
+            double[] expected = {0D, Double.NEGATIVE_INFINITY};
+            graph.forEachRelationship(node, Double.NaN, (src, tgt, property) -> {
+                expected[0] += property;
+                expected[1] = Math.max(expected[1], property);
+                return true;
+            });
+            assertEquals(expected[0], graph.reduceRelationshipProperty(node, Double.NaN, 0D, Double::sum));
+            assertEquals(
+                expected[1],
+                graph.reduceRelationshipProperty(node, Double.NaN, Double.NEGATIVE_INFINITY, Math::max)
+            );
+            return true;
+        });
+    }
+
     @Test
     void shouldLoadMoreWeights() {
         int nodeCount = PageUtil.pageSizeFor(PageUtil.PAGE_SIZE_32KB, Estimate.BYTES_OBJECT_REF);
@@ -163,6 +163,26 @@ class HugeAtomicBitSetTest {
         assertThat(bitSet.cardinality()).isEqualTo(42L);
     }
 
+    @Test
+    void testNextSetBit() {
+        var bitSet = HugeAtomicBitSet.create(200);
+        assertThat(bitSet.nextSetBit(0)).isEqualTo(-1L);
+
+        bitSet.set(3);
+        bitSet.set(64);
+        bitSet.set(199);
+
+        assertThat(bitSet.nextSetBit(0)).isEqualTo(3L);
+        assertThat(bitSet.nextSetBit(3)).isEqualTo(3L);
+        assertThat(bitSet.nextSetBit(4)).isEqualTo(64L);
+        assertThat(bitSet.nextSetBit(65)).isEqualTo(199L);
+        assertThat(bitSet.nextSetBit(199)).isEqualTo(199L);
+        assertThat(bitSet.nextSetBit(200)).isEqualTo(-1L);
+
+        bitSet.clear(199);
+        assertThat(bitSet.nextSetBit(65)).isEqualTo(-1L);
+    }
+
     @Test
     void testClearAll() {
         var bitSet = HugeAtomicBitSet.create(100);
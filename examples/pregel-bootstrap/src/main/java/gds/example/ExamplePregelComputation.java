@@ -48,11 +48,11 @@ public class ExamplePregelComputation implements PregelComputation<ExamplePregel
     }
 
     @Override
-    public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+    public MemoryEstimateDefinition estimateDefinition(ExampleConfig config) {
         return () -> Pregel.memoryEstimation(
             Map.of(KEY, ValueType.LONG),
             reducer().isEmpty(),
-            isAsynchronous
+            config
         );
     }
 
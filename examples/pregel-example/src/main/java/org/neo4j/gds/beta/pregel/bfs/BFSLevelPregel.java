@@ -48,11 +48,11 @@ public class BFSLevelPregel implements PregelComputation<BFSPregelConfig> {
     }
 
     @Override
-    public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+    public MemoryEstimateDefinition estimateDefinition(BFSPregelConfig config) {
         return () -> Pregel.memoryEstimation(
             Map.of(LEVEL, ValueType.LONG),
             reducer().isEmpty(),
-            isAsynchronous
+            config
         );
     }
 
@@ -49,11 +49,11 @@ public class BFSParentPregel implements PregelComputation<BFSPregelConfig> {
     }
 
     @Override
-    public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+    public MemoryEstimateDefinition estimateDefinition(BFSPregelConfig config) {
         return () -> Pregel.memoryEstimation(
             Map.of(PARENT, ValueType.LONG),
             reducer().isEmpty(),
-            isAsynchronous
+            config
         );
     }
 
@@ -51,11 +51,11 @@ public class ConnectedComponentsPregel implements PregelComputation<ConnectedCom
     }
 
     @Override
-    public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+    public MemoryEstimateDefinition estimateDefinition(ConnectedComponentsConfig config) {
         return () -> Pregel.memoryEstimation(
             Map.of(COMPONENT, ValueType.LONG),
             reducer().isEmpty(),
-            isAsynchronous
+            config
         );
     }
 
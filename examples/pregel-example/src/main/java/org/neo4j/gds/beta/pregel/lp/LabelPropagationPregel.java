@@ -52,11 +52,11 @@ public class LabelPropagationPregel implements PregelComputation<LabelPropagatio
 
 
     @Override
-    public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+    public MemoryEstimateDefinition estimateDefinition(LabelPropagationPregelConfig config) {
         return () -> Pregel.memoryEstimation(
             Map.of(LABEL_KEY, ValueType.LONG),
             false,
-            false
+            config
         );
     }
 
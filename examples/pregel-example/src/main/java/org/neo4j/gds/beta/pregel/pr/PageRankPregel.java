@@ -50,8 +50,8 @@ public class PageRankPregel implements PregelComputation<PageRankPregel.PageRank
     }
 
     @Override
-    public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
-        return new PageRankMemoryEstimateDefinition();
+    public MemoryEstimateDefinition estimateDefinition(PageRankPregelConfig config) {
+        return new PageRankMemoryEstimateDefinition(config);
     }
 
     @Override
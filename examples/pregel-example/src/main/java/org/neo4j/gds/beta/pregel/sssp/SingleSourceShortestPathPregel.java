@@ -51,11 +51,11 @@ public class SingleSourceShortestPathPregel implements PregelComputation<SingleS
     }
 
     @Override
-    public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+    public MemoryEstimateDefinition estimateDefinition(SingleSourceShortestPathPregelConfig config) {
         return () -> Pregel.memoryEstimation(
             Map.of(DISTANCE, ValueType.LONG),
             false,
-            false
+            config
         );
     }
 
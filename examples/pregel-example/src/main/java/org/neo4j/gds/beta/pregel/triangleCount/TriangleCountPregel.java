@@ -54,11 +54,11 @@ public class TriangleCountPregel implements PregelComputation<TriangleCountPrege
 
 
     @Override
-    public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+    public MemoryEstimateDefinition estimateDefinition(TriangleCountPregelConfig config) {
         return () -> Pregel.memoryEstimation(
             Map.of(),
             true,
-            isAsynchronous
+            config
         );
     }
 
@@ -377,6 +377,9 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.dfs.stream",
         "gds.dfs.stream.estimate",
 
+        "gds.distanceStatistics.stats",
+        "gds.distanceStatistics.stats.estimate",
+
         "gds.eigenvector.mutate",
         "gds.eigenvector.mutate.estimate",
         "gds.eigenvector.stats",
@@ -397,6 +400,9 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.fastRP.write",
         "gds.fastRP.write.estimate",
 
+        "gds.forwardPushPageRank.stream",
+        "gds.forwardPushPageRank.stream.estimate",
+
         "gds.graph.relationships.stream",
         "gds.graph.relationships.toUndirected",
         "gds.graph.relationships.toUndirected.estimate",
@@ -585,7 +591,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         );
 
         // If you find yourself updating this count, please also update the count in SmokeTest.kt
-        int expectedCount = 428;
+        int expectedCount = 432;
         assertEquals(
             expectedCount,
             returnedRows,
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pregel;
+
+import com.google.auto.common.BasicAnnotationProcessor;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.JavaFile;
+import org.neo4j.gds.beta.pregel.annotation.PregelNodeValues;
+import org.neo4j.gds.pregel.generator.NodeValuesGenerator;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Generates typed, column-indexed node value accessors for computations annotated with {@link PregelNodeValues}.
+ */
+public final class NodeValuesProcessorStep implements BasicAnnotationProcessor.Step {
+
+    private static final Class<PregelNodeValues> ANNOTATION_CLASS = PregelNodeValues.class;
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z][A-Za-z0-9_]*");
+
+    private final Messager messager;
+    private final Filer filer;
+    private final Elements elementUtils;
+    // produces @Generated meta info
+    private final Optional<AnnotationSpec> generatedAnnotationSpec;
+
+    NodeValuesProcessorStep(
+        Messager messager,
+        Filer filer,
+        Elements elementUtils,
+        Optional<AnnotationSpec> generatedAnnotationSpec
+    ) {
+        this.messager = messager;
+        this.filer = filer;
+        this.elementUtils = elementUtils;
+        this.generatedAnnotationSpec = generatedAnnotationSpec;
+    }
+
+    @Override
+    public Set<String> annotations() {
+        return Set.of(ANNOTATION_CLASS.getCanonicalName());
+    }
+
+    @Override
+    public Set<? extends Element> process(ImmutableSetMultimap<String, Element> elementsByAnnotation) {
+        Set<Element> elements = elementsByAnnotation.get(ANNOTATION_CLASS.getCanonicalName());
+        ImmutableSet.Builder<Element> elementsToRetry = ImmutableSet.builder();
+
+        for (Element element : elements) {
+            if (isValid(element) && !write(element)) {
+                elementsToRetry.add(element);
+            }
+        }
+        return elementsToRetry.build();
+    }
+
+    private boolean isValid(Element element) {
+        if (element.getKind() != ElementKind.CLASS) {
+            messager.printMessage(
+                Diagnostic.Kind.ERROR,
+                "The annotated node values must be declared on a class.",
+                element
+            );
+            return false;
+        }
+
+        var properties = element.getAnnotation(ANNOTATION_CLASS).value();
+        if (properties.length == 0) {
+            messager.printMessage(
+                Diagnostic.Kind.ERROR,
+                "The annotated node values must declare at least one property.",
+                element
+            );
+            return false;
+        }
+
+        var keys = new HashSet<String>();
+        var constantNames = new HashSet<String>();
+        var valid = true;
+        for (var property : properties) {
+            var key = property.key();
+            if (!KEY_PATTERN.matcher(key).matches()) {
+                messager.printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "The node value key `" + key + "` must start with a letter and only contain letters, digits or underscores.",
+                    element
+                );
+                valid = false;
+            } else if (!keys.add(key)) {
+                messager.printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "The node value key `" + key + "` is declared more than once.",
+                    element
+                );
+                valid = false;
+            } else if (!constantNames.add(NodeValuesGenerator.constantName(key))) {
+                messager.printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "The node value key `" + key + "` clashes with another key after conversion to `" + NodeValuesGenerator.constantName(key) + "`.",
+                    element
+                );
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    private boolean write(Element element) {
+        var packageName = elementUtils.getPackageOf(element).getQualifiedName().toString();
+        var computationName = element.getSimpleName().toString();
+        var properties = List.of(element.getAnnotation(ANNOTATION_CLASS).value());
+
+        var typeSpec = new NodeValuesGenerator(packageName, computationName, properties)
+            .generate(generatedAnnotationSpec)
+            .toBuilder()
+            .addOriginatingElement(element)
+            .build();
+
+        var file = JavaFile
+            .builder(packageName, typeSpec)
+            .indent("    ")
+            .skipJavaLangImports(true)
+            .build();
+
+        try {
+            file.writeTo(filer);
+            return true;
+        } catch (IOException e) {
+            messager.printMessage(
+                Diagnostic.Kind.ERROR,
+                "Could not write Pregel java file: " + e.getMessage(),
+                element
+            );
+            return false;
+        }
+    }
+}
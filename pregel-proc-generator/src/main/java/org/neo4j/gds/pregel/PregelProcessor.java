@@ -57,6 +57,13 @@ public final class PregelProcessor extends BasicAnnotationProcessor {
             pregelGenerator
         );
 
-        return Set.of(processingStep);
+        var nodeValuesStep = new NodeValuesProcessorStep(
+            processingEnv.getMessager(),
+            processingEnv.getFiler(),
+            processingEnv.getElementUtils(),
+            generatedAnnotationSpec
+        );
+
+        return Set.of(processingStep, nodeValuesStep);
     }
 }
@@ -108,7 +108,7 @@ public class AlgorithmFactoryGenerator {
             .addParameter(typeNames.config(), "configuration")
             .addStatement("var computation = new $T()", typeNames.computation())
             .addStatement(
-                "return computation.estimateDefinition(configuration.isAsynchronous()).memoryEstimation()",
+                "return computation.estimateDefinition(configuration).memoryEstimation()",
                 typeNames.algorithm()
             )
             .build();
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pregel.generator;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.beta.pregel.PregelSchema;
+import org.neo4j.gds.beta.pregel.annotation.PregelNodeValues;
+import org.neo4j.gds.beta.pregel.context.ComputeContext;
+import org.neo4j.gds.beta.pregel.context.NodeCentricContext;
+
+import javax.lang.model.element.Modifier;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the typed node value accessors for a computation annotated with {@link PregelNodeValues}.
+ * The columns follow the order of {@link org.neo4j.gds.beta.pregel.NodeValue#columnOrder(PregelSchema)}.
+ */
+public class NodeValuesGenerator {
+
+    private static final TypeName COMPUTE_CONTEXT = ParameterizedTypeName.get(
+        ClassName.get(ComputeContext.class),
+        WildcardTypeName.subtypeOf(Object.class)
+    );
+    private static final TypeName NODE_CENTRIC_CONTEXT = ParameterizedTypeName.get(
+        ClassName.get(NodeCentricContext.class),
+        WildcardTypeName.subtypeOf(Object.class)
+    );
+
+    private final ClassName nodeValues;
+    private final List<PregelNodeValues.Property> columns;
+
+    public NodeValuesGenerator(String packageName, String computationName, List<PregelNodeValues.Property> properties) {
+        this.nodeValues = ClassName.get(packageName, computationName + "NodeValues");
+        this.columns = properties
+            .stream()
+            .sorted(Comparator.comparing(PregelNodeValues.Property::key))
+            .collect(Collectors.toList());
+    }
+
+    public TypeSpec generate(Optional<AnnotationSpec> generatedAnnotationSpec) {
+        var typeSpecBuilder = TypeSpec
+            .classBuilder(nodeValues)
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL);
+
+        generatedAnnotationSpec.ifPresent(typeSpecBuilder::addAnnotation);
+
+        for (int column = 0; column < columns.size(); column++) {
+            typeSpecBuilder.addField(columnField(columns.get(column), column));
+        }
+
+        typeSpecBuilder
+            .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+            .addMethod(schemaMethod());
+
+        for (var property : columns) {
+            typeSpecBuilder.addMethod(getter(property)).addMethod(setter(property));
+        }
+
+        return typeSpecBuilder.build();
+    }
+
+    FieldSpec columnField(PregelNodeValues.Property property, int column) {
+        return FieldSpec
+            .builder(int.class, constantName(property.key()), Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+            .initializer("$L", column)
+            .build();
+    }
+
+    MethodSpec schemaMethod() {
+        var code = CodeBlock.builder().add("return new $T()", ClassName.get(PregelSchema.Builder.class));
+        for (var property : columns) {
+            code.add(
+                "\n.add($S, $T.$L, $T.$L)",
+                property.key(),
+                ValueType.class,
+                property.type().name(),
+                PregelSchema.Visibility.class,
+                property.visibility().name()
+            );
+        }
+        code.add("\n.build()");
+
+        return MethodSpec.methodBuilder("schema")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .returns(PregelSchema.class)
+            .addStatement(code.build())
+            .build();
+    }
+
+    MethodSpec getter(PregelNodeValues.Property property) {
+        return MethodSpec.methodBuilder(methodName(property.key()))
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .addParameter(COMPUTE_CONTEXT, "context")
+            .returns(javaType(property.type()))
+            .addStatement("return context.$L($L)", contextGetter(property.type()), constantName(property.key()))
+            .build();
+    }
+
+    MethodSpec setter(PregelNodeValues.Property property) {
+        var name = methodName(property.key());
+        return MethodSpec.methodBuilder("set" + Character.toUpperCase(name.charAt(0)) + name.substring(1))
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .addParameter(NODE_CENTRIC_CONTEXT, "context")
+            .addParameter(javaType(property.type()), "value")
+            .addStatement("context.setNodeValue($L, value)", constantName(property.key()))
+            .build();
+    }
+
+    /**
+     * Turns a property key like {@code communityId} or {@code community_id} into {@code COMMUNITY_ID}.
+     */
+    public static String constantName(String key) {
+        var name = new StringBuilder();
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (i > 0 && Character.isUpperCase(c) && !Character.isUpperCase(key.charAt(i - 1)) && key.charAt(i - 1) != '_') {
+                name.append('_');
+            }
+            name.append(c);
+        }
+        return name.toString().toUpperCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Turns a property key like {@code community_id} into {@code communityId}.
+     */
+    public static String methodName(String key) {
+        var name = new StringBuilder();
+        boolean upperCaseNext = false;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c == '_') {
+                upperCaseNext = name.length() > 0;
+            } else if (name.length() == 0) {
+                name.append(Character.toLowerCase(c));
+            } else {
+                name.append(upperCaseNext ? Character.toUpperCase(c) : c);
+                upperCaseNext = false;
+            }
+        }
+        return name.toString();
+    }
+
+    private static TypeName javaType(ValueType type) {
+        switch (type) {
+            case DOUBLE: return TypeName.DOUBLE;
+            case LONG: return TypeName.LONG;
+            case DOUBLE_ARRAY: return TypeName.get(double[].class);
+            case LONG_ARRAY: return TypeName.get(long[].class);
+            default: throw new IllegalArgumentException("Unsupported value type: " + type);
+        }
+    }
+
+    private static String contextGetter(ValueType type) {
+        switch (type) {
+            case DOUBLE: return "doubleNodeValue";
+            case LONG: return "longNodeValue";
+            case DOUBLE_ARRAY: return "doubleArrayNodeValue";
+            case LONG_ARRAY: return "longArrayNodeValue";
+            default: throw new IllegalArgumentException("Unsupported value type: " + type);
+        }
+    }
+}
@@ -97,6 +97,16 @@ class PregelProcessorTest {
             );
     }
 
+    @Test
+    void positiveNodeValuesTest() {
+        assertAbout(javaSource())
+            .that(forResource("positive/NodeValuesComputation.java"))
+            .processedWith(new PregelProcessor())
+            .compilesWithoutError()
+            .and()
+            .generatesSources(loadExpectedFile("expected/NodeValuesComputationNodeValues.java"));
+    }
+
     @Test
     void baseClassMustBeAClass() {
         runNegativeTest(
@@ -163,6 +173,18 @@ class PregelProcessorTest {
         );
     }
 
+    @Test
+    void nodeValueKeysMustBeUnique() {
+        runNegativeTest(
+            "NodeValuesHaveDuplicateKey",
+            e(
+                "The node value key `rank` is declared more than once.",
+                29,
+                8
+            )
+        );
+    }
+
     private void runNegativeTest(String className, ErrorCheck... expectations) {
         JavaFileObject file = forResource(String.format(Locale.ENGLISH, "negative/%s.java", className));
 
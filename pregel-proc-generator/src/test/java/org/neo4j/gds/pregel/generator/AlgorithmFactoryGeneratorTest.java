@@ -92,7 +92,7 @@ class AlgorithmFactoryGeneratorTest {
             "@java.lang.Override" + NL +
             "public org.neo4j.gds.mem.MemoryEstimation memoryEstimation(gds.testconfig.TheConfig configuration) {" + NL +
             "  var computation = new gds.test.Baz();" + NL +
-            "  return computation.estimateDefinition(configuration.isAsynchronous()).memoryEstimation();" + NL +
+            "  return computation.estimateDefinition(configuration).memoryEstimation();" + NL +
             "}" + NL
         );
     }
@@ -49,6 +49,6 @@ public final class BidirectionalComputationAlgorithmFactory extends GraphAlgorit
     @Override
     public MemoryEstimation memoryEstimation(PregelProcedureConfig configuration) {
         var computation = new BidirectionalComputation();
-        return computation.estimateDefinition(configuration.isAsynchronous()).memoryEstimation();
+        return computation.estimateDefinition(configuration).memoryEstimation();
     }
 }
@@ -49,6 +49,6 @@ public final class ComputationAlgorithmFactory extends GraphAlgorithmFactory<Com
     @Override
     public MemoryEstimation memoryEstimation(PregelProcedureConfig configuration) {
         var computation = new Computation();
-        return computation.estimateDefinition(configuration.isAsynchronous()).memoryEstimation();
+        return computation.estimateDefinition(configuration).memoryEstimation();
     }
 }
@@ -49,6 +49,6 @@ public final class InheritedComputationAlgorithmFactory extends GraphAlgorithmFa
     @Override
     public MemoryEstimation memoryEstimation(PregelProcedureConfig configuration) {
         var computation = new InheritedComputation();
-        return computation.estimateDefinition(configuration.isAsynchronous()).memoryEstimation();
+        return computation.estimateDefinition(configuration).memoryEstimation();
     }
 }
@@ -34,7 +34,7 @@ public class BaseComputation implements PregelComputation<PregelProcedureConfig>
     }
 
     @Override
-    public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+    public MemoryEstimateDefinition estimateDefinition(PregelProcedureConfig config) {
         return null;
     }
 
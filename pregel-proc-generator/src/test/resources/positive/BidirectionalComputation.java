@@ -41,7 +41,7 @@ public class BidirectionalComputation implements BidirectionalPregelComputation<
     }
 
     @Override
-    public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+    public MemoryEstimateDefinition estimateDefinition(PregelProcedureConfig config) {
         return null;
     }
 
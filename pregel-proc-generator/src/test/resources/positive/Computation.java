@@ -41,7 +41,7 @@ public class Computation implements PregelComputation<PregelProcedureConfig> {
     }
 
     @Override
-    public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+    public MemoryEstimateDefinition estimateDefinition(PregelProcedureConfig config) {
         return null;
     }
 
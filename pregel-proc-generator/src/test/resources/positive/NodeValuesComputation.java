@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pregel.cc;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.beta.pregel.Messages;
+import org.neo4j.gds.beta.pregel.PregelComputation;
+import org.neo4j.gds.beta.pregel.PregelProcedureConfig;
+import org.neo4j.gds.beta.pregel.PregelSchema;
+import org.neo4j.gds.beta.pregel.annotation.PregelNodeValues;
+import org.neo4j.gds.beta.pregel.context.ComputeContext;
+import org.neo4j.gds.mem.MemoryEstimateDefinition;
+
+@PregelNodeValues({
+    @PregelNodeValues.Property(key = "rank", type = ValueType.DOUBLE),
+    @PregelNodeValues.Property(key = "community_id", type = ValueType.LONG),
+    @PregelNodeValues.Property(key = "neighbors", type = ValueType.LONG_ARRAY, visibility = PregelSchema.Visibility.PRIVATE)
+})
+public class NodeValuesComputation implements PregelComputation<PregelProcedureConfig> {
+
+    @Override
+    public PregelSchema schema(PregelProcedureConfig config) {
+        return NodeValuesComputationNodeValues.schema();
+    }
+
+    @Override
+    public MemoryEstimateDefinition estimateDefinition(PregelProcedureConfig config) {
+        return null;
+    }
+
+    @Override
+    public void compute(ComputeContext<PregelProcedureConfig> context, Messages messages) {
+        NodeValuesComputationNodeValues.setRank(context, NodeValuesComputationNodeValues.rank(context) + 1);
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+import org.neo4j.gds.termination.TerminationFlag;
+import org.neo4j.gds.utils.CloseableThreadLocal;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Message queues for asynchronous computations that store all messages
+ * of a superstep in a shared arena instead of one growable array per node.
+ * <p>
+ * Each thread appends messages to its own chunk of the arena. A message
+ * links to the previously received message of the same node, so every node
+ * owns a lock-free stack of messages that can be read within the superstep
+ * the messages were sent in. Slots are never reused within a superstep,
+ * which rules out the ABA problem when popping concurrently to pushes.
+ * <p>
+ * Between supersteps, the messages that have not been read are moved into
+ * a contiguous inbox by a counting sort over the receiving nodes, keeping
+ * the order in which they were received, and the arena is reset. The
+ * memory is therefore bounded by the messages of a single superstep plus
+ * the unread messages, independent of the fan-in of single nodes.
+ */
+public final class ArenaAsyncDoubleQueues {
+
+    static final int CHUNK_SIZE = 4096;
+    private static final long NO_MESSAGE = -1L;
+    private static final long MESSAGE_SIZE = Double.BYTES + Long.BYTES;
+
+    private final long nodeCount;
+    private final Concurrency concurrency;
+
+    // arena address of the last received message per node
+    private final HugeAtomicLongArray heads;
+    private final AtomicLong nextChunk;
+    private final CloseableThreadLocal<Allocator> allocators;
+    private volatile Chunk[] chunks;
+    // incremented when the arena is reset, invalidates the chunks held by allocators
+    private volatile int epoch;
+
+    // unread messages of previous supersteps, per node in [inboxHeads, inboxEnds)
+    private HugeDoubleArray inbox;
+    private HugeLongArray inboxHeads;
+    private HugeLongArray inboxEnds;
+
+    private HugeDoubleArray nextInbox;
+    private HugeLongArray nextInboxHeads;
+    private HugeLongArray nextInboxEnds;
+
+    public static ArenaAsyncDoubleQueues of(long nodeCount, Concurrency concurrency) {
+        return new ArenaAsyncDoubleQueues(nodeCount, concurrency);
+    }
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(ArenaAsyncDoubleQueues.class)
+            .perNode("heads", HugeAtomicLongArray::memoryEstimation)
+            .perNode("inbox heads", nodeCount -> 2 * HugeLongArray.memoryEstimation(nodeCount))
+            .perNode("inbox ends", nodeCount -> 2 * HugeLongArray.memoryEstimation(nodeCount))
+            .perGraphDimension("arena", (dimensions, concurrency) -> {
+                // each thread holds at least one chunk, sending one message
+                // per relationship and superstep fills the arena once
+                long minChunks = concurrency.value();
+                long maxChunks = minChunks + ceilDiv(dimensions.relCountUpperBound(), CHUNK_SIZE);
+                return MemoryRange.of(minChunks, maxChunks).times(CHUNK_SIZE * MESSAGE_SIZE);
+            })
+            .perGraphDimension("inboxes", (dimensions, concurrency) -> MemoryRange.of(
+                2 * HugeDoubleArray.memoryEstimation(0),
+                2 * HugeDoubleArray.memoryEstimation(dimensions.relCountUpperBound())
+            ))
+            .build();
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    private ArenaAsyncDoubleQueues(long nodeCount, Concurrency concurrency) {
+        this.nodeCount = nodeCount;
+        this.concurrency = concurrency;
+        this.heads = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.of(concurrency, nodeId -> NO_MESSAGE));
+        this.nextChunk = new AtomicLong();
+        this.allocators = CloseableThreadLocal.withInitial(Allocator::new);
+        this.chunks = new Chunk[concurrency.value()];
+
+        this.inbox = HugeDoubleArray.newArray(0);
+        this.inboxHeads = HugeLongArray.newArray(nodeCount);
+        this.inboxEnds = HugeLongArray.newArray(nodeCount);
+        this.nextInbox = HugeDoubleArray.newArray(0);
+        this.nextInboxHeads = HugeLongArray.newArray(nodeCount);
+        this.nextInboxEnds = HugeLongArray.newArray(nodeCount);
+    }
+
+    /**
+     * Adds a message to the queue of the given node.
+     * Can be called concurrently.
+     */
+    void push(long nodeId, double message) {
+        var allocator = allocators.get();
+        if (allocator.epoch != epoch || allocator.offset == CHUNK_SIZE) {
+            allocateChunk(allocator);
+        }
+        var chunk = allocator.chunk;
+        int slot = allocator.offset++;
+        long address = allocator.base + slot;
+
+        chunk.messages[slot] = message;
+        long head;
+        do {
+            head = heads.get(nodeId);
+            chunk.next[slot] = head;
+        } while (!heads.compareAndSet(nodeId, head, address));
+    }
+
+    private void allocateChunk(Allocator allocator) {
+        long chunkIndex = nextChunk.getAndIncrement();
+        allocator.chunk = chunk(chunkIndex);
+        allocator.base = chunkIndex * CHUNK_SIZE;
+        allocator.offset = 0;
+        allocator.epoch = epoch;
+    }
+
+    private Chunk chunk(long chunkIndex) {
+        var currentChunks = chunks;
+        if (chunkIndex < currentChunks.length && currentChunks[(int) chunkIndex] != null) {
+            return currentChunks[(int) chunkIndex];
+        }
+        synchronized (this) {
+            if (chunkIndex >= chunks.length) {
+                this.chunks = Arrays.copyOf(chunks, (int) Math.max(chunks.length * 2L, chunkIndex + 1));
+            }
+            if (chunks[(int) chunkIndex] == null) {
+                chunks[(int) chunkIndex] = new Chunk();
+            }
+            return chunks[(int) chunkIndex];
+        }
+    }
+
+    boolean isEmpty(long nodeId) {
+        return inboxHeads.get(nodeId) == inboxEnds.get(nodeId) && heads.get(nodeId) == NO_MESSAGE;
+    }
+
+    /**
+     * Removes and returns the next message of the given node. Messages
+     * of previous supersteps are returned first, in the order they were
+     * received, followed by the messages of the current superstep in
+     * reverse order. Must only be called by the thread computing the node.
+     */
+    double pop(long nodeId) {
+        long inboxHead = inboxHeads.get(nodeId);
+        if (inboxHead < inboxEnds.get(nodeId)) {
+            inboxHeads.set(nodeId, inboxHead + 1);
+            return inbox.get(inboxHead);
+        }
+        while (true) {
+            long head = heads.get(nodeId);
+            assert head != NO_MESSAGE : "no message to pop";
+            // read after the head, the chunk is published by the compare-and-set in push
+            var chunk = chunks[(int) (head / CHUNK_SIZE)];
+            int slot = (int) (head % CHUNK_SIZE);
+            if (heads.compareAndSet(nodeId, head, chunk.next[slot])) {
+                return chunk.messages[slot];
+            }
+        }
+    }
+
+    /**
+     * Moves all unread messages into the inbox and resets the arena.
+     * Must not be called concurrently to any other method.
+     */
+    void compact() {
+        var currentChunks = chunks;
+
+        // count the unread messages per node
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, TerminationFlag.RUNNING_TRUE, nodeId -> {
+            long count = inboxEnds.get(nodeId) - inboxHeads.get(nodeId);
+            for (long address = heads.get(nodeId); address != NO_MESSAGE; address = next(currentChunks, address)) {
+                count++;
+            }
+            nextInboxEnds.set(nodeId, count);
+        });
+
+        long messageCount = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            nextInboxHeads.set(nodeId, messageCount);
+            messageCount += nextInboxEnds.get(nodeId);
+            nextInboxEnds.set(nodeId, messageCount);
+        }
+
+        var capacity = nextInbox.size();
+        if (capacity < messageCount) {
+            nextInbox.release();
+            // grow by 50%, but at least to the required capacity
+            this.nextInbox = HugeDoubleArray.newArray(Math.max(messageCount, capacity + (capacity >> 1)));
+        }
+
+        var targetInbox = nextInbox;
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, TerminationFlag.RUNNING_TRUE, nodeId -> {
+            long target = nextInboxHeads.get(nodeId);
+            long end = inboxEnds.get(nodeId);
+            for (long index = inboxHeads.get(nodeId); index < end; index++) {
+                targetInbox.set(target++, inbox.get(index));
+            }
+            // the stack holds the latest message first
+            long reverseTarget = nextInboxEnds.get(nodeId) - 1;
+            for (long address = heads.get(nodeId); address != NO_MESSAGE; address = next(currentChunks, address)) {
+                targetInbox.set(reverseTarget--, currentChunks[(int) (address / CHUNK_SIZE)].messages[(int) (address % CHUNK_SIZE)]);
+            }
+            heads.set(nodeId, NO_MESSAGE);
+        });
+
+        swapInboxes();
+
+        nextChunk.set(0);
+        this.epoch++;
+    }
+
+    private static long next(Chunk[] chunks, long address) {
+        return chunks[(int) (address / CHUNK_SIZE)].next[(int) (address % CHUNK_SIZE)];
+    }
+
+    private void swapInboxes() {
+        var tmpInbox = inbox;
+        this.inbox = nextInbox;
+        this.nextInbox = tmpInbox;
+
+        var tmpHeads = inboxHeads;
+        this.inboxHeads = nextInboxHeads;
+        this.nextInboxHeads = tmpHeads;
+
+        var tmpEnds = inboxEnds;
+        this.inboxEnds = nextInboxEnds;
+        this.nextInboxEnds = tmpEnds;
+    }
+
+    void release() {
+        allocators.close();
+        this.chunks = new Chunk[0];
+        heads.release();
+        inbox.release();
+        inboxHeads.release();
+        inboxEnds.release();
+        nextInbox.release();
+        nextInboxHeads.release();
+        nextInboxEnds.release();
+    }
+
+    @TestOnly
+    long allocatedChunks() {
+        return Arrays.stream(chunks).filter(Objects::nonNull).count();
+    }
+
+    private static final class Chunk {
+        final double[] messages = new double[CHUNK_SIZE];
+        final long[] next = new long[CHUNK_SIZE];
+    }
+
+    private static final class Allocator {
+        int epoch = -1;
+        Chunk chunk;
+        long base;
+        int offset = CHUNK_SIZE;
+    }
+
+    public static class Iterator implements Messages.MessageIterator {
+
+        private final ArenaAsyncDoubleQueues queues;
+
+        private long nodeId;
+
+        public Iterator(ArenaAsyncDoubleQueues queues) {this.queues = queues;}
+
+        void init(long nodeId) {
+            this.nodeId = nodeId;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !queues.isEmpty(nodeId);
+        }
+
+        @Override
+        public double nextDouble() {
+            return queues.pop(nodeId);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return queues.isEmpty(nodeId);
+        }
+    }
+}
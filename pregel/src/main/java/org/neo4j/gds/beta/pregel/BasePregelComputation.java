@@ -22,6 +22,7 @@ package org.neo4j.gds.beta.pregel;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.beta.pregel.context.MasterComputeContext;
 
+import java.util.Locale;
 import java.util.Optional;
 
 public interface BasePregelComputation<C extends PregelConfig> {
@@ -68,6 +69,29 @@ public interface BasePregelComputation<C extends PregelConfig> {
         return Optional.empty();
     }
 
+    /**
+     * The message schema describes the layout of the messages sent
+     * during the computation. By default, a message is a single double.
+     * <br>
+     * Computations that need to send multiple values at once, such as
+     * a community id together with a score, can use a wider schema
+     * instead of encoding values into a double or spending additional
+     * supersteps. Messages of schemas other than {@link MessageSchema#DOUBLE}
+     * are sent via the typed send methods of the compute context
+     * and read via {@link Messages#advance()}.
+     * <br>
+     * Without a {@link #reducer()}, wider schemas are only supported for
+     * synchronous computations. Combined with a reducer, only
+     * {@link MessageSchema#doubles(int)} is supported, whose fields are
+     * reduced independently. This allows running a batch of computations
+     * that share the traversal of the graph.
+     *
+     * @see MessageSchema
+     */
+    default MessageSchema messageSchema(C config) {
+        return MessageSchema.DOUBLE;
+    }
+
     /**
      * If the input graph is weighted, i.e. relationships have a
      * property, this method can be overridden to apply that weight
@@ -90,5 +114,31 @@ public interface BasePregelComputation<C extends PregelConfig> {
      */
     default void close() {}
 
-    MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous);
+    /**
+     * Estimates the memory needed to run this computation.
+     * The configuration decides which messenger is used and
+     * whether active nodes are tracked, see
+     * {@link Pregel#memoryEstimation(java.util.Map, boolean, PregelConfig)}.
+     * Computations that send messages with multiple fields pass the width
+     * of their message schema to
+     * {@link Pregel#memoryEstimation(java.util.Map, boolean, int, PregelConfig)}.
+     * <br>
+     * Delegates to {@link #estimateDefinition(boolean)} by default,
+     * which only distinguishes sync and async message queues.
+     */
+    default MemoryEstimateDefinition estimateDefinition(C config) {
+        return estimateDefinition(config.isAsynchronous());
+    }
+
+    /**
+     * @deprecated Implement {@link #estimateDefinition(PregelConfig)} instead, which can account for the configured messenger
+     */
+    @Deprecated
+    default MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+        throw new UnsupportedOperationException(String.format(
+            Locale.US,
+            "The Pregel computation %s does not implement a memory estimation",
+            getClass().getSimpleName()
+        ));
+    }
 }
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.termination.TerminationFlag;
+
+/**
+ * A reducing messenger for messages of {@link MessageSchema#doubles(int)}
+ * with a width larger than one. Each message field is treated as an
+ * independent lane, and the {@link Reducer} is applied to each lane separately.
+ * <p>
+ * This allows running a batch of computations at once, e.g. personalised
+ * PageRank for multiple source sets, where each lane carries the message
+ * of one computation of the batch. Sending a message to all neighbors
+ * then traverses the adjacency list once for all lanes.
+ * <p>
+ * The lanes of a node are stored next to each other, so that a message
+ * is reduced into a single memory region. A node receives a message if
+ * at least one of its lanes differs from the identity of the reducer.
+ */
+final class BatchedReducingMessenger implements Messenger<BatchedReducingMessenger.LaneMessageIterator> {
+
+    private final long nodeCount;
+    private final int width;
+    private final PregelConfig config;
+    private final Reducer reducer;
+
+    private HugeAtomicDoubleArray sendArray;
+    private HugeAtomicDoubleArray receiveArray;
+
+    BatchedReducingMessenger(long nodeCount, int width, PregelConfig config, Reducer reducer) {
+        assert !Double.isNaN(reducer.identity()): "identity element must not be NaN";
+        assert width > 1: "use the ReducingMessenger for single-value messages";
+
+        this.nodeCount = nodeCount;
+        this.width = width;
+        this.config = config;
+        this.reducer = reducer;
+
+        this.receiveArray = HugeAtomicDoubleArray.of(nodeCount * width, ParallelDoublePageCreator.passThrough(config.concurrency()));
+        this.sendArray = HugeAtomicDoubleArray.of(nodeCount * width, ParallelDoublePageCreator.passThrough(config.concurrency()));
+    }
+
+    static MemoryEstimation memoryEstimation(int width) {
+        return MemoryEstimations.builder(BatchedReducingMessenger.class)
+            .perNode("send array", nodeCount -> HugeAtomicDoubleArray.memoryEstimation(nodeCount * width))
+            .perNode("receive array", nodeCount -> HugeAtomicDoubleArray.memoryEstimation(nodeCount * width))
+            .build();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        // Swap arrays
+        var tmp = receiveArray;
+        this.receiveArray = sendArray;
+        this.sendArray = tmp;
+
+        var send = sendArray;
+        var identity = reducer.identity();
+        ParallelUtil.parallelForEachNode(
+            nodeCount,
+            config.concurrency(),
+            TerminationFlag.RUNNING_TRUE,
+            nodeId -> {
+                long offset = nodeId * width;
+                for (int lane = 0; lane < width; lane++) {
+                    send.set(offset + lane, identity);
+                }
+            }
+        );
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " only supports messages of " + width + " doubles");
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        assert message.length == width: "message width does not match the message schema";
+
+        long offset = targetNodeId * width;
+        for (int lane = 0; lane < width; lane++) {
+            double laneMessage = message[lane];
+            sendArray.update(offset + lane, current -> reducer.reduce(current, laneMessage));
+        }
+    }
+
+    @Override
+    public LaneMessageIterator messageIterator() {
+        return new LaneMessageIterator(width);
+    }
+
+    @Override
+    public void initMessageIterator(LaneMessageIterator messageIterator, long nodeId, boolean isFirstIteration) {
+        var identity = reducer.identity();
+        var lanes = messageIterator.lanes;
+        boolean hasMessage = false;
+
+        long offset = nodeId * width;
+        for (int lane = 0; lane < width; lane++) {
+            double message = receiveArray.getAndReplace(offset + lane, identity);
+            lanes[lane] = message;
+            hasMessage |= message != identity;
+        }
+        messageIterator.init(hasMessage);
+    }
+
+    @Override
+    public void release() {
+        sendArray.release();
+        receiveArray.release();
+    }
+
+    /**
+     * Yields at most one message, i.e. the reduced value of each lane.
+     */
+    static final class LaneMessageIterator implements Messages.MessageIterator {
+
+        private final double[] lanes;
+        private boolean hasMessage;
+        private int nextLane;
+
+        LaneMessageIterator(int width) {
+            this.lanes = new double[width];
+        }
+
+        void init(boolean hasMessage) {
+            this.hasMessage = hasMessage;
+            this.nextLane = hasMessage ? 0 : lanes.length;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !hasMessage;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextLane < lanes.length;
+        }
+
+        @Override
+        public double nextDouble() {
+            return lanes[nextLane++];
+        }
+    }
+}
@@ -19,12 +19,15 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.beta.pregel.context.ComputeContext;
 import org.neo4j.gds.beta.pregel.context.InitContext;
 import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.function.LongConsumer;
+
 public interface ComputeStep<
     CONFIG extends PregelConfig,
     ITERATOR extends Messages.MessageIterator,
@@ -50,17 +53,32 @@ public interface ComputeStep<
 
     ProgressTracker progressTracker();
 
+    /**
+     * The frontier of active nodes or null if every node is visited in each superstep.
+     */
+    @Nullable Frontier frontier();
+
+    /**
+     * The profiler of the current superstep or null if profiling is disabled.
+     */
+    @Nullable SuperstepProfiler profiler();
+
     default void computeBatch() {
         var messenger = messenger();
         var messageIterator = messenger.messageIterator();
-        var messages = new Messages(messageIterator);
-
         var nodeBatch = nodeBatch();
         var initContext = initContext();
         var computeContext = computeContext();
+        var messages = new Messages(messageIterator, computeContext.messageSchema());
         var voteBits = voteBits();
 
-        nodeBatch.consume(nodeId -> {
+        var frontier = frontier();
+        var profiler = profiler();
+        // active and receiving nodes of this batch, only counted when profiling
+        var counts = profiler == null ? null : new long[2];
+        long start = profiler == null ? 0 : System.nanoTime();
+
+        LongConsumer computeNode = nodeId -> {
             if (computeContext.isInitialSuperstep()) {
                 initContext.setNodeId(nodeId);
                 initFunction().init(initContext);
@@ -68,12 +86,32 @@ public interface ComputeStep<
 
             messenger.initMessageIterator(messageIterator, nodeId, computeContext.isInitialSuperstep());
 
-            if (!messages.isEmpty() || !voteBits.get(nodeId)) {
+            boolean hasMessages = !messages.isEmpty();
+            if (hasMessages || !voteBits.get(nodeId)) {
+                if (counts != null) {
+                    counts[0]++;
+                    if (hasMessages) {
+                        counts[1]++;
+                    }
+                }
                 voteBits.clear(nodeId);
                 computeContext.setNodeId(nodeId);
                 computeFunction().compute(computeContext, messages);
+                if (frontier != null && !voteBits.get(nodeId)) {
+                    // the node did not vote to halt and is computed again
+                    frontier.activate(nodeId);
+                }
             }
-        });
+        };
+
+        if (frontier == null) {
+            nodeBatch.consume(computeNode);
+        } else {
+            frontier.forEachActiveNode(nodeBatch, computeNode);
+        }
+        if (profiler != null) {
+            profiler.recordPartition(System.nanoTime() - start, counts[0], counts[1]);
+        }
         progressTracker().logProgress(nodeBatch.nodeCount());
     }
 
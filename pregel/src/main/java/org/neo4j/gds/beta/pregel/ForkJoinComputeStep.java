@@ -49,6 +49,8 @@ public final class ForkJoinComputeStep<
     private final NodeValue nodeValue;
     private final HugeAtomicBitSet voteBits;
     private final Messenger<ITERATOR> messenger;
+    private final @Nullable Frontier frontier;
+    private final @Nullable SuperstepProfiler profiler;
     private Partition nodeBatch;
     private final MutableInt iteration;
     private final AtomicBoolean hasSentMessage;
@@ -64,6 +66,8 @@ public final class ForkJoinComputeStep<
         NodeValue nodeValue,
         Messenger<ITERATOR> messenger,
         HugeAtomicBitSet voteBits,
+        @Nullable Frontier frontier,
+        @Nullable SuperstepProfiler profiler,
         @Nullable CountedCompleter<Void> parent,
         AtomicBoolean sentMessage,
         ProgressTracker progressTracker
@@ -78,6 +82,8 @@ public final class ForkJoinComputeStep<
         this.nodeBatch = nodeBatch;
         this.nodeValue = nodeValue;
         this.messenger = messenger;
+        this.frontier = frontier;
+        this.profiler = profiler;
         this.hasSentMessage = sentMessage;
         this.progressTracker = progressTracker;
         this.computeContext = computeContextSupplier.get();
@@ -85,7 +91,11 @@ public final class ForkJoinComputeStep<
 
     @Override
     public void compute() {
-        if (nodeBatch.nodeCount() >= SEQUENTIAL_THRESHOLD) {
+        if (frontier != null && !frontier.hasActiveNodes(nodeBatch)) {
+            // nothing to compute, we neither split nor visit the batch
+            progressTracker.logProgress(nodeBatch.nodeCount());
+            tryComplete();
+        } else if (nodeBatch.nodeCount() >= SEQUENTIAL_THRESHOLD) {
             long startNode = nodeBatch.startNode();
             long batchSize = nodeBatch.nodeCount();
             boolean isEven = batchSize % 2 == 0;
@@ -108,6 +118,8 @@ public final class ForkJoinComputeStep<
                 nodeValue,
                 messenger,
                 voteBits,
+                frontier,
+                profiler,
                 this,
                 hasSentMessage,
                 progressTracker
@@ -170,4 +182,14 @@ public final class ForkJoinComputeStep<
     public ProgressTracker progressTracker() {
         return progressTracker;
     }
+
+    @Override
+    public @Nullable Frontier frontier() {
+        return frontier;
+    }
+
+    @Override
+    public @Nullable SuperstepProfiler profiler() {
+        return profiler;
+    }
 }
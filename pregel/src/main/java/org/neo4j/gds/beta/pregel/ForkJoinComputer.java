@@ -21,6 +21,7 @@ package org.neo4j.gds.beta.pregel;
 
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.beta.pregel.context.ComputeContext;
 import org.neo4j.gds.beta.pregel.context.ComputeContext.BidirectionalComputeContext;
@@ -49,10 +50,12 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        @Nullable Frontier frontier,
+        @Nullable SuperstepProfiler profiler,
         ForkJoinPool forkJoinPool,
         ProgressTracker progressTracker
     ) {
-        super(graph, computation, config, nodeValues, messenger, voteBits, progressTracker);
+        super(graph, computation, config, nodeValues, messenger, voteBits, frontier, profiler, progressTracker);
         this.forkJoinPool = forkJoinPool;
     }
 
@@ -123,6 +126,8 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
             nodeValues,
             messenger,
             voteBits,
+            frontier,
+            profiler,
             null,
             hasSentMessages,
             progressTracker
@@ -164,6 +169,8 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
             nodeValues,
             messenger,
             voteBits,
+            frontier,
+            profiler,
             null,
             hasSentMessages,
             progressTracker
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+
+import java.util.function.LongConsumer;
+
+/**
+ * The frontier tracks the nodes that need to be computed in the next superstep.
+ * A node is active if it received a message or did not vote to halt. All other
+ * nodes are skipped without looking at their message queues or vote bits.
+ * <br>
+ * The active nodes are collected in a dense bit set. Between two supersteps,
+ * the frontier switches to a sorted array of node ids if only few nodes are
+ * active, so that the compute steps only visit those nodes and partitions
+ * without any active node are not scheduled at all.
+ * <br>
+ * The frontier over-approximates the active nodes, e.g. with asynchronous
+ * messaging a message might already be consumed in the superstep it was sent.
+ * The compute steps therefore still check for messages and vote bits.
+ *
+ * @see <a href="https://doi.org/10.1145/2442516.2442530">Ligra: A Lightweight Graph Processing Framework for Shared Memory</a>
+ */
+public final class Frontier {
+
+    // Ligra switches to the sparse representation if less than
+    // a twentieth of the graph is active.
+    static final double SPARSE_THRESHOLD = 0.05;
+
+    private final long nodeCount;
+    private final HugeLongArray sparseNodes;
+
+    // active nodes of the current superstep
+    private HugeAtomicBitSet current;
+    // nodes that are activated for the next superstep
+    private HugeAtomicBitSet next;
+
+    private boolean allActive;
+    // set if all nodes are activated for the next superstep
+    private volatile boolean nextAllActive;
+    private boolean isSparse;
+    private long activeNodeCount;
+
+    static Frontier create(long nodeCount) {
+        return new Frontier(
+            nodeCount,
+            HugeAtomicBitSet.create(nodeCount),
+            HugeAtomicBitSet.create(nodeCount),
+            HugeLongArray.newArray(sparseCapacity(nodeCount))
+        );
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(Frontier.class)
+            .perNode("current", HugeAtomicBitSet::memoryEstimation)
+            .perNode("next", HugeAtomicBitSet::memoryEstimation)
+            .perNode("sparse nodes", nodeCount -> HugeLongArray.memoryEstimation(sparseCapacity(nodeCount)))
+            .build();
+    }
+
+    private static long sparseCapacity(long nodeCount) {
+        return (long) Math.ceil(nodeCount * SPARSE_THRESHOLD);
+    }
+
+    private Frontier(long nodeCount, HugeAtomicBitSet current, HugeAtomicBitSet next, HugeLongArray sparseNodes) {
+        this.nodeCount = nodeCount;
+        this.current = current;
+        this.next = next;
+        this.sparseNodes = sparseNodes;
+        // in the initial superstep, every node is computed
+        this.allActive = true;
+        this.activeNodeCount = nodeCount;
+    }
+
+    /**
+     * Marks the node to be computed in the next superstep.
+     * Can be called concurrently.
+     */
+    void activate(long nodeId) {
+        next.set(nodeId);
+    }
+
+    /**
+     * Marks all nodes to be computed in the next superstep.
+     * Can be called concurrently.
+     */
+    void activateAll() {
+        // avoid contended writes, this is called once per broadcasting node
+        if (!nextAllActive) {
+            this.nextAllActive = true;
+        }
+    }
+
+    /**
+     * Makes the nodes that were activated during the
+     * last superstep the active nodes of the next one.
+     * Must not be called concurrently to any other method.
+     */
+    void advance() {
+        var tmp = current;
+        this.current = next;
+        this.next = tmp;
+        this.next.clear();
+
+        if (nextAllActive) {
+            this.nextAllActive = false;
+            this.allActive = true;
+            this.isSparse = false;
+            this.activeNodeCount = nodeCount;
+            return;
+        }
+
+        this.allActive = false;
+        this.activeNodeCount = current.cardinality();
+        this.isSparse = activeNodeCount < nodeCount * SPARSE_THRESHOLD;
+
+        if (isSparse) {
+            var index = new long[]{0};
+            current.forEachSetBit(nodeId -> sparseNodes.set(index[0]++, nodeId));
+        }
+    }
+
+    long activeNodeCount() {
+        return activeNodeCount;
+    }
+
+    boolean isSparse() {
+        return isSparse;
+    }
+
+    boolean hasActiveNodes(Partition partition) {
+        if (allActive) {
+            return partition.nodeCount() > 0;
+        }
+        long start = partition.startNode();
+        long end = start + partition.nodeCount();
+        if (isSparse) {
+            long index = lowerBound(start);
+            return index < activeNodeCount && sparseNodes.get(index) < end;
+        }
+        long nextActive = current.nextSetBit(start);
+        return nextActive != -1 && nextActive < end;
+    }
+
+    /**
+     * Calls the consumer for each active node in the partition in increasing order.
+     */
+    void forEachActiveNode(Partition partition, LongConsumer consumer) {
+        if (allActive) {
+            partition.consume(consumer);
+            return;
+        }
+        long start = partition.startNode();
+        long end = start + partition.nodeCount();
+        if (isSparse) {
+            for (long index = lowerBound(start); index < activeNodeCount; index++) {
+                long nodeId = sparseNodes.get(index);
+                if (nodeId >= end) {
+                    break;
+                }
+                consumer.accept(nodeId);
+            }
+        } else {
+            for (long nodeId = current.nextSetBit(start); nodeId != -1 && nodeId < end; nodeId = current.nextSetBit(nodeId + 1)) {
+                consumer.accept(nodeId);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the first sparse node that is not smaller than the given node id.
+     */
+    private long lowerBound(long nodeId) {
+        long low = 0;
+        long high = activeNodeCount;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (sparseNodes.get(mid) < nodeId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    void release() {
+        sparseNodes.release();
+    }
+}
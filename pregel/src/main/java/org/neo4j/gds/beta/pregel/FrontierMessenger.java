@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+/**
+ * A messenger that activates the receiving node of each message
+ * in the {@link Frontier} before delegating to the actual messenger.
+ * Broadcasts that are gathered by the receivers activate all nodes.
+ */
+final class FrontierMessenger<ITERATOR extends Messages.MessageIterator> implements Messenger<ITERATOR> {
+
+    private final Messenger<ITERATOR> delegate;
+    private final Frontier frontier;
+
+    FrontierMessenger(Messenger<ITERATOR> delegate, Frontier frontier) {
+        this.delegate = delegate;
+        this.frontier = frontier;
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        delegate.initIteration(iteration);
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        delegate.sendTo(targetNodeId, message);
+        frontier.activate(targetNodeId);
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        delegate.sendTo(targetNodeId, message);
+        frontier.activate(targetNodeId);
+    }
+
+    @Override
+    public boolean broadcast(long sourceNodeId, double message) {
+        if (delegate.broadcast(sourceNodeId, message)) {
+            // the receivers are only known when gathering the message
+            frontier.activateAll();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public ITERATOR messageIterator() {
+        return delegate.messageIterator();
+    }
+
+    @Override
+    public void initMessageIterator(ITERATOR messageIterator, long nodeId, boolean isFirstIteration) {
+        delegate.initMessageIterator(messageIterator, nodeId, isFirstIteration);
+    }
+
+    @Override
+    public void release() {
+        delegate.release();
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A temporary file that stores runs of spilled messages. Each run is
+ * a sequence of records sorted by the receiving node, where a record
+ * consists of the node id followed by the fields of one message.
+ * <p>
+ * Runs are appended concurrently during a superstep and are memory
+ * mapped for reading in the next one. As runs are written back to back,
+ * the file is mapped in a few large segments instead of one mapping per run,
+ * which keeps the number of mappings far below the limit of the operating system.
+ * The file is reused across supersteps and deleted when it is closed.
+ */
+final class MessageRunFile implements AutoCloseable {
+
+    // a single mapping is limited to Integer.MAX_VALUE bytes
+    static final long MAX_SEGMENT_BYTES = 1L << 30;
+
+    private final FileChannel channel;
+    private final int recordBytes;
+    // records never span two segments as runs consist of whole records
+    private final long recordsPerSegment;
+    private final AtomicLong size;
+    private final List<Run> runs;
+
+    private MappedByteBuffer[] segments;
+    private long[] runFirstRecords;
+    private long[] runLengths;
+
+    static MessageRunFile create(int messageWidth) {
+        return create(messageWidth, MAX_SEGMENT_BYTES);
+    }
+
+    static MessageRunFile create(int messageWidth, long maxSegmentBytes) {
+        try {
+            var path = Files.createTempFile("gds-pregel-messages", ".bin");
+            var channel = FileChannel.open(path, READ, WRITE, DELETE_ON_CLOSE);
+            return new MessageRunFile(channel, recordBytes(messageWidth), maxSegmentBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create a file for spilling Pregel messages", e);
+        }
+    }
+
+    static int recordBytes(int messageWidth) {
+        return Long.BYTES + messageWidth * Double.BYTES;
+    }
+
+    private MessageRunFile(FileChannel channel, int recordBytes, long maxSegmentBytes) {
+        assert maxSegmentBytes <= Integer.MAX_VALUE : "segments must fit into a single mapping";
+
+        this.channel = channel;
+        this.recordBytes = recordBytes;
+        this.recordsPerSegment = Math.max(1, maxSegmentBytes / recordBytes);
+        this.size = new AtomicLong();
+        this.runs = new ArrayList<>();
+        this.segments = new MappedByteBuffer[0];
+        this.runFirstRecords = new long[0];
+        this.runLengths = new long[0];
+    }
+
+    /**
+     * Appends the records in the buffer between its position and limit as a single run.
+     * Can be called concurrently.
+     */
+    void append(ByteBuffer records) {
+        int bytes = records.remaining();
+        long position = size.getAndAdd(bytes);
+        try {
+            while (records.hasRemaining()) {
+                position += channel.write(records, position);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not spill Pregel messages", e);
+        }
+        synchronized (runs) {
+            runs.add(new Run(position - bytes, bytes / recordBytes));
+        }
+    }
+
+    /**
+     * Maps all appended runs for reading.
+     * Must not be called concurrently to any other method.
+     */
+    void map() {
+        long recordCount = size.get() / recordBytes;
+        int segmentCount = Math.toIntExact((recordCount + recordsPerSegment - 1) / recordsPerSegment);
+        segments = new MappedByteBuffer[segmentCount];
+        try {
+            for (int i = 0; i < segmentCount; i++) {
+                long firstRecord = i * recordsPerSegment;
+                long records = Math.min(recordsPerSegment, recordCount - firstRecord);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, firstRecord * recordBytes, records * recordBytes);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read spilled Pregel messages", e);
+        }
+
+        runFirstRecords = new long[runs.size()];
+        runLengths = new long[runs.size()];
+        for (int i = 0; i < runs.size(); i++) {
+            var run = runs.get(i);
+            runFirstRecords[i] = run.offset() / recordBytes;
+            runLengths[i] = run.length();
+        }
+    }
+
+    /**
+     * Drops all runs, the file space is overwritten by subsequently appended runs.
+     * Must not be called concurrently to any other method.
+     */
+    void reset() {
+        runs.clear();
+        size.set(0);
+        this.segments = new MappedByteBuffer[0];
+        this.runFirstRecords = new long[0];
+        this.runLengths = new long[0];
+    }
+
+    int segmentCount() {
+        return segments.length;
+    }
+
+    int runCount() {
+        return runLengths.length;
+    }
+
+    long runLength(int run) {
+        return runLengths[run];
+    }
+
+    /**
+     * Reads use absolute positions only and are safe to be called concurrently.
+     */
+    long target(int run, long record) {
+        long fileRecord = runFirstRecords[run] + record;
+        return segment(fileRecord).getLong(segmentOffset(fileRecord));
+    }
+
+    double field(int run, long record, int field) {
+        long fileRecord = runFirstRecords[run] + record;
+        return segment(fileRecord).getDouble(segmentOffset(fileRecord) + Long.BYTES + field * Double.BYTES);
+    }
+
+    private MappedByteBuffer segment(long fileRecord) {
+        return segments[(int) (fileRecord / recordsPerSegment)];
+    }
+
+    private int segmentOffset(long fileRecord) {
+        return (int) ((fileRecord % recordsPerSegment) * recordBytes);
+    }
+
+    /**
+     * Returns the first record in the run at or after {@code fromRecord} whose target is not smaller than the given node.
+     */
+    long lowerBound(int run, long fromRecord, long nodeId) {
+        long low = fromRecord;
+        long high = runLengths[run];
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (target(run, mid) < nodeId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public void close() {
+        reset();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Run(long offset, long length) {}
+}
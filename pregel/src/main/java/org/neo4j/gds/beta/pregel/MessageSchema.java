@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The message schema describes the layout of a single message.
+ * A message is a fixed-width tuple of primitive fields, each
+ * being either a {@link ValueType#LONG} or a {@link ValueType#DOUBLE}.
+ * <br>
+ * Messages of all schemas are stored in the primitive message
+ * queues without any boxing. Each field occupies one slot of the
+ * queue and long fields are stored by their raw bit pattern, which
+ * is lossless. All fields of a message are written and read as a
+ * unit, so concurrent senders cannot interleave their fields.
+ *
+ * @see BasePregelComputation#messageSchema(PregelConfig)
+ */
+public final class MessageSchema {
+
+    /**
+     * A single double value, which is the default message schema.
+     */
+    public static final MessageSchema DOUBLE = new MessageSchema(ValueType.DOUBLE);
+
+    /**
+     * A single long value, e.g. a community or node id.
+     */
+    public static final MessageSchema LONG = new MessageSchema(ValueType.LONG);
+
+    /**
+     * A long value followed by a double value, e.g. a community id and its score.
+     */
+    public static final MessageSchema LONG_DOUBLE = new MessageSchema(ValueType.LONG, ValueType.DOUBLE);
+
+    private final ValueType[] fields;
+
+    private MessageSchema(ValueType... fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * A fixed number of double values.
+     */
+    public static MessageSchema doubles(int width) {
+        if (width < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The width of a message must be at least 1, but got %d.",
+                width
+            ));
+        }
+        if (width == 1) {
+            return DOUBLE;
+        }
+        var fields = new ValueType[width];
+        Arrays.fill(fields, ValueType.DOUBLE);
+        return new MessageSchema(fields);
+    }
+
+    /**
+     * The number of primitive fields in a message.
+     */
+    public int width() {
+        return fields.length;
+    }
+
+    public ValueType fieldType(int field) {
+        return fields[field];
+    }
+
+    public List<ValueType> fields() {
+        return List.of(fields);
+    }
+
+    /**
+     * Indicates if all fields are doubles, see {@link #doubles(int)}.
+     */
+    public boolean hasOnlyDoubles() {
+        for (ValueType field : fields) {
+            if (field != ValueType.DOUBLE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indicates if this is the default schema, which carries a single double.
+     */
+    public boolean isSingleDouble() {
+        return fields.length == 1 && fields[0] == ValueType.DOUBLE;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return Arrays.equals(fields, ((MessageSchema) o).fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(fields);
+    }
+
+    @Override
+    public String toString() {
+        return "MessageSchema" + Arrays.toString(fields);
+    }
+}
@@ -20,6 +20,7 @@
 package org.neo4j.gds.beta.pregel;
 
 import org.jetbrains.annotations.NotNull;
+import org.neo4j.gds.api.nodeproperties.ValueType;
 
 import java.util.Iterator;
 import java.util.PrimitiveIterator;
@@ -37,9 +38,17 @@ public final class Messages implements Iterable<Double> {
     }
 
     private final MessageIterator iterator;
+    private final MessageSchema schema;
+    private final double[] current;
 
     Messages(MessageIterator iterator) {
+        this(iterator, MessageSchema.DOUBLE);
+    }
+
+    Messages(MessageIterator iterator, MessageSchema schema) {
         this.iterator = iterator;
+        this.schema = schema;
+        this.current = new double[schema.width()];
     }
 
     @NotNull
@@ -50,4 +59,48 @@ public final class Messages implements Iterable<Double> {
     public boolean isEmpty() {
         return iterator.isEmpty();
     }
+
+    public MessageSchema schema() {
+        return schema;
+    }
+
+    /**
+     * Moves to the next message, whose fields can then be read via
+     * {@link #longValue(int)} and {@link #doubleValue(int)}.
+     * <br>
+     * Example:
+     * <pre>
+     * while (messages.advance()) {
+     *     long communityId = messages.longValue(0);
+     *     double score = messages.doubleValue(1);
+     * }
+     * </pre>
+     *
+     * @return false, iff there are no more messages
+     */
+    public boolean advance() {
+        if (!iterator.hasNext()) {
+            return false;
+        }
+        for (int field = 0; field < current.length; field++) {
+            current[field] = iterator.nextDouble();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the given long field of the current message.
+     */
+    public long longValue(int field) {
+        assert schema.fieldType(field) == ValueType.LONG : "field " + field + " is not a long";
+        return Double.doubleToRawLongBits(current[field]);
+    }
+
+    /**
+     * Returns the given double field of the current message.
+     */
+    public double doubleValue(int field) {
+        assert schema.fieldType(field) == ValueType.DOUBLE : "field " + field + " is not a double";
+        return current[field];
+    }
 }
@@ -25,6 +25,24 @@ public interface Messenger<ITERATOR extends Messages.MessageIterator> {
 
     void sendTo(long targetNodeId, double message);
 
+    /**
+     * Sends a message consisting of multiple fields, see {@link MessageSchema}.
+     * All fields are delivered together and in the given order.
+     */
+    default void sendTo(long targetNodeId, double[] message) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " only supports single-value messages");
+    }
+
+    /**
+     * Offers a message that is meant for all neighbors of the source node.
+     * Returns true if the messenger delivers the message itself, e.g. by
+     * letting the receivers gather it in the next superstep. Otherwise, the
+     * caller needs to send the message to each neighbor via {@link #sendTo(long, double)}.
+     */
+    default boolean broadcast(long sourceNodeId, double message) {
+        return false;
+    }
+
     ITERATOR messageIterator();
 
     void initMessageIterator(ITERATOR messageIterator, long nodeId, boolean isFirstIteration);
@@ -34,6 +34,9 @@ import org.neo4j.gds.mem.Estimate;
 import org.neo4j.gds.utils.StringFormatting;
 import org.neo4j.gds.utils.StringJoining;
 
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -43,33 +46,55 @@ import static org.neo4j.gds.api.nodeproperties.ValueType.LONG;
 import static org.neo4j.gds.api.nodeproperties.ValueType.LONG_ARRAY;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
+/**
+ * Stores the node values of a Pregel computation in one primitive array per
+ * schema element. Besides by property key, the arrays can be accessed by column,
+ * which is the position of the element in the schema ordered by property key.
+ * Accessing values by column avoids the key lookup in tight compute loops.
+ */
 public abstract class NodeValue {
 
     private final PregelSchema pregelSchema;
     private final Map<String, ValueType> propertyTypes;
+    private final List<String> columnKeys;
+    // the property arrays in column order
+    private final Object[] columns;
 
-    NodeValue(PregelSchema pregelSchema) {
+    NodeValue(PregelSchema pregelSchema, Object[] columns) {
         this.pregelSchema = pregelSchema;
         this.propertyTypes = pregelSchema.elements()
             .stream()
             .collect(Collectors.toMap(Element::propertyKey, Element::propertyType));
+        this.columnKeys = columnOrder(pregelSchema).stream().map(Element::propertyKey).collect(Collectors.toList());
+        this.columns = columns;
     }
 
     static NodeValue of(PregelSchema schema, long nodeCount, Concurrency concurrency) {
-        var properties = schema.elements()
-            .stream()
-            .collect(Collectors.toMap(
-                Element::propertyKey,
-                element -> initArray(element, nodeCount, concurrency)
-            ));
+        var elements = columnOrder(schema);
+        var columns = new Object[elements.size()];
+        for (int column = 0; column < columns.length; column++) {
+            columns[column] = initArray(elements.get(column), nodeCount, concurrency);
+        }
 
-        if (properties.size() == 1) {
-            var element = schema.elements().iterator().next();
-            var property = properties.values().iterator().next();
-            return new SingleNodeValue(schema, element, property);
+        if (columns.length == 1) {
+            return new SingleNodeValue(schema, elements.get(0), columns);
         }
 
-        return new CompositeNodeValue(schema, properties);
+        var properties = new HashMap<String, Object>();
+        for (int column = 0; column < columns.length; column++) {
+            properties.put(elements.get(column).propertyKey(), columns[column]);
+        }
+        return new CompositeNodeValue(schema, properties, columns);
+    }
+
+    /**
+     * Returns the schema elements in column order, i.e. ordered by property key.
+     */
+    public static List<Element> columnOrder(PregelSchema schema) {
+        return schema.elements()
+            .stream()
+            .sorted(Comparator.comparing(Element::propertyKey))
+            .collect(Collectors.toList());
     }
 
     static MemoryEstimation memoryEstimation(Map<String, ValueType> properties) {
@@ -143,6 +168,59 @@ public abstract class NodeValue {
         return arrayProperties.get(nodeId);
     }
 
+    /**
+     * Returns the column of the given property key.
+     *
+     * @throws IllegalArgumentException if the key does not exist
+     */
+    public int column(String key) {
+        int column = columnKeys.indexOf(key);
+        if (column == -1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Property with key %s does not exist. Available properties are: %s",
+                key,
+                columnKeys
+            ));
+        }
+        return column;
+    }
+
+    public double doubleValue(int column, long nodeId) {
+        return ((HugeDoubleArray) columns[column]).get(nodeId);
+    }
+
+    public long longValue(int column, long nodeId) {
+        return ((HugeLongArray) columns[column]).get(nodeId);
+    }
+
+    public long[] longArrayValue(int column, long nodeId) {
+        //noinspection unchecked
+        return ((HugeObjectArray<long[]>) columns[column]).get(nodeId);
+    }
+
+    public double[] doubleArrayValue(int column, long nodeId) {
+        //noinspection unchecked
+        return ((HugeObjectArray<double[]>) columns[column]).get(nodeId);
+    }
+
+    public void set(int column, long nodeId, double value) {
+        ((HugeDoubleArray) columns[column]).set(nodeId, value);
+    }
+
+    public void set(int column, long nodeId, long value) {
+        ((HugeLongArray) columns[column]).set(nodeId, value);
+    }
+
+    public void set(int column, long nodeId, long[] value) {
+        //noinspection unchecked
+        ((HugeObjectArray<long[]>) columns[column]).set(nodeId, value);
+    }
+
+    public void set(int column, long nodeId, double[] value) {
+        //noinspection unchecked
+        ((HugeObjectArray<double[]>) columns[column]).set(nodeId, value);
+    }
+
     public void set(String key, long nodeId, double value) {
         doubleProperties(key).set(nodeId, value);
     }
@@ -221,10 +299,10 @@ public abstract class NodeValue {
         private final Element element;
         private final Object property;
 
-        SingleNodeValue(PregelSchema pregelSchema, Element element, Object property) {
-            super(pregelSchema);
+        SingleNodeValue(PregelSchema pregelSchema, Element element, Object[] columns) {
+            super(pregelSchema, columns);
             this.element = element;
-            this.property = property;
+            this.property = columns[0];
         }
 
         @Override
@@ -264,8 +342,8 @@ public abstract class NodeValue {
 
         private final Map<String, Object> properties;
 
-        CompositeNodeValue(PregelSchema pregelSchema, Map<String, Object> properties) {
-            super(pregelSchema);
+        CompositeNodeValue(PregelSchema pregelSchema, Map<String, Object> properties, Object[] columns) {
+            super(pregelSchema, columns);
             this.properties = properties;
         }
 
@@ -21,6 +21,7 @@ package org.neo4j.gds.beta.pregel;
 
 import org.apache.commons.lang3.mutable.MutableBoolean;
 import org.apache.commons.lang3.mutable.MutableInt;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.beta.pregel.context.ComputeContext;
 import org.neo4j.gds.beta.pregel.context.InitContext;
 import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
@@ -42,6 +43,8 @@ public final class PartitionedComputeStep<
     private final Partition nodeBatch;
     private final HugeAtomicBitSet voteBits;
     private final Messenger<ITERATOR> messenger;
+    private final @Nullable Frontier frontier;
+    private final @Nullable SuperstepProfiler profiler;
 
     private final MutableInt iteration;
     private final MutableBoolean hasSentMessage;
@@ -56,6 +59,8 @@ public final class PartitionedComputeStep<
         NodeValue nodeValue,
         Messenger<ITERATOR> messenger,
         HugeAtomicBitSet voteBits,
+        @Nullable Frontier frontier,
+        @Nullable SuperstepProfiler profiler,
         MutableInt iteration,
         MutableBoolean hasSentMessage,
         ProgressTracker progressTracker
@@ -68,6 +73,8 @@ public final class PartitionedComputeStep<
         this.voteBits = voteBits;
         this.nodeBatch = nodeBatch;
         this.messenger = messenger;
+        this.frontier = frontier;
+        this.profiler = profiler;
         this.progressTracker = progressTracker;
         this.iteration = iteration;
         this.hasSentMessage = hasSentMessage;
@@ -124,6 +131,16 @@ public final class PartitionedComputeStep<
         return progressTracker;
     }
 
+    @Override
+    public @Nullable Frontier frontier() {
+        return frontier;
+    }
+
+    @Override
+    public @Nullable SuperstepProfiler profiler() {
+        return profiler;
+    }
+
     void init(int iteration) {
         this.iteration.setValue(iteration);
         hasSentMessage.setValue(false);
@@ -22,6 +22,7 @@ package org.neo4j.gds.beta.pregel;
 import org.apache.commons.lang3.mutable.MutableBoolean;
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.beta.pregel.context.ComputeContext;
 import org.neo4j.gds.beta.pregel.context.ComputeContext.BidirectionalComputeContext;
@@ -34,6 +35,7 @@ import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
@@ -54,11 +56,13 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        @Nullable Frontier frontier,
+        @Nullable SuperstepProfiler profiler,
         Concurrency concurrency,
         ExecutorService executorService,
         ProgressTracker progressTracker
     ) {
-        super(graph, computation, config, nodeValues, messenger, voteBits, progressTracker);
+        super(graph, computation, config, nodeValues, messenger, voteBits, frontier, profiler, progressTracker);
         this.executorService = executorService;
         this.concurrency = concurrency;
     }
@@ -77,13 +81,33 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
 
     @Override
     public void runIteration() {
+        var tasks = frontier == null
+            ? computeSteps
+            : activeComputeSteps();
+
         RunWithConcurrency.builder()
             .concurrency(concurrency)
-            .tasks(computeSteps)
+            .tasks(tasks)
             .executor(executorService)
             .run();
     }
 
+    /**
+     * Only the compute steps whose partitions contain active nodes are scheduled.
+     * The progress for the remaining partitions is logged right away.
+     */
+    private List<PartitionedComputeStep<CONFIG, ?, ?, ?>> activeComputeSteps() {
+        var activeSteps = new ArrayList<PartitionedComputeStep<CONFIG, ?, ?, ?>>(computeSteps.size());
+        for (var computeStep : computeSteps) {
+            if (frontier.hasActiveNodes(computeStep.nodeBatch())) {
+                activeSteps.add(computeStep);
+            } else {
+                progressTracker.logProgress(computeStep.nodeBatch().nodeCount());
+            }
+        }
+        return activeSteps;
+    }
+
     @Override
     public boolean hasConverged() {
         // No messages have been sent and all nodes voted to halt
@@ -168,6 +192,8 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
             nodeValues,
             messenger,
             voteBits,
+            frontier,
+            profiler,
             iteration,
             hasSentMessages,
             progressTracker
@@ -211,6 +237,8 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
             nodeValues,
             messenger,
             voteBits,
+            frontier,
+            profiler,
             iteration,
             hasSentMessages,
             progressTracker
@@ -20,6 +20,7 @@
 package org.neo4j.gds.beta.pregel;
 
 import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.context.MasterComputeContext;
@@ -27,16 +28,20 @@ import org.neo4j.gds.core.concurrency.ExecutorServiceUtil;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.beta.pregel.annotation.PregelNodeValues;
 import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.utils.StringJoining;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
 
 @Value.Style(builderVisibility = Value.Style.BuilderVisibility.PUBLIC, depluralize = true, deepImmutablesDetection = true)
 public final class Pregel<CONFIG extends PregelConfig> {
@@ -51,6 +56,10 @@ public final class Pregel<CONFIG extends PregelConfig> {
 
     private final Messenger<?> messenger;
 
+    private final @Nullable Frontier frontier;
+
+    private final @Nullable SuperstepProfiler profiler;
+
     private final PregelComputer<CONFIG> computer;
 
     private final ProgressTracker progressTracker;
@@ -95,21 +104,143 @@ public final class Pregel<CONFIG extends PregelConfig> {
             ));
         }
 
+        var messageSchema = computation.messageSchema(config);
+
+        // batched messages are always pushed, see BatchedReducingMessenger
+        if (config.pullMessages()
+            && computation.reducer().isPresent()
+            && messageSchema.isSingleDouble()
+            && !ReducingMessenger.canPull(graph)) {
+            throw new UnsupportedOperationException(String.format(
+                Locale.US,
+                "Pulling messages for the Pregel algorithm %s requires inverse indexes for all configured relationships %s",
+                computation.getClass().getSimpleName(),
+                StringJoining.join(config.relationshipTypes())
+            ));
+        }
+
+        if (!messageSchema.isSingleDouble()) {
+            if (computation.reducer().isPresent()) {
+                if (!messageSchema.hasOnlyDoubles()) {
+                    throw new IllegalArgumentException(String.format(
+                        Locale.US,
+                        "The Pregel algorithm %s declares %s, which cannot be combined with a reducer",
+                        computation.getClass().getSimpleName(),
+                        messageSchema
+                    ));
+                }
+            } else if (config.isAsynchronous()) {
+                throw new IllegalArgumentException(String.format(
+                    Locale.US,
+                    "The Pregel algorithm %s declares %s, which is only supported for synchronous computations",
+                    computation.getClass().getSimpleName(),
+                    messageSchema
+                ));
+            }
+        }
+
+        var schema = computation.schema(config);
+        validateNodeValues(computation, schema);
+
         return new Pregel<>(
             graph,
             config,
             computation,
-            NodeValue.of(computation.schema(config), graph.nodeCount(), config.concurrency()),
+            NodeValue.of(schema, graph.nodeCount(), config.concurrency()),
             executor,
             progressTracker,
             terminationFlag
         );
     }
 
+    /**
+     * The accessors generated for {@link PregelNodeValues} address node values by column,
+     * which is only correct if the runtime schema declares the same properties.
+     */
+    private static void validateNodeValues(BasePregelComputation<?> computation, PregelSchema schema) {
+        var nodeValues = computation.getClass().getAnnotation(PregelNodeValues.class);
+        if (nodeValues == null) {
+            return;
+        }
+
+        // elements are equal by their key, hence type and visibility are compared explicitly
+        var declaredProperties = Arrays.stream(nodeValues.value())
+            .map(property -> describeNodeValue(property.key(), property.type(), property.visibility()))
+            .sorted()
+            .collect(Collectors.toList());
+        var schemaProperties = schema.elements().stream()
+            .map(element -> describeNodeValue(element.propertyKey(), element.propertyType(), element.visibility()))
+            .sorted()
+            .collect(Collectors.toList());
+
+        if (!declaredProperties.equals(schemaProperties)) {
+            throw new IllegalArgumentException(String.format(
+                Locale.US,
+                "The Pregel algorithm %s declares the node values %s in @PregelNodeValues, but its schema contains %s",
+                computation.getClass().getSimpleName(),
+                declaredProperties,
+                schemaProperties
+            ));
+        }
+    }
+
+    private static String describeNodeValue(String key, ValueType type, PregelSchema.Visibility visibility) {
+        return String.format(Locale.US, "%s (%s, %s)", key, type, visibility);
+    }
+
+    /**
+     * @deprecated Use the variant that takes the Pregel config, which accounts for the configured messenger
+     */
+    @Deprecated
     public static MemoryEstimation memoryEstimation(
         Map<String, ValueType> propertiesMap,
         boolean isQueueBased,
         boolean isAsync
+    ) {
+        return memoryEstimation(propertiesMap, isQueueBased, 1, isAsync, false, false, false, 0);
+    }
+
+    public static MemoryEstimation memoryEstimation(
+        Map<String, ValueType> propertiesMap,
+        boolean isQueueBased,
+        PregelConfig config
+    ) {
+        return memoryEstimation(propertiesMap, isQueueBased, 1, config);
+    }
+
+    /**
+     * Estimates computations that send messages of multiple fields,
+     * see {@link BasePregelComputation#messageSchema(PregelConfig)}.
+     * Reduced messages with more than one field are kept in batched arrays,
+     * spilled messages take up a record of all fields.
+     */
+    public static MemoryEstimation memoryEstimation(
+        Map<String, ValueType> propertiesMap,
+        boolean isQueueBased,
+        int messageWidth,
+        PregelConfig config
+    ) {
+        return memoryEstimation(
+            propertiesMap,
+            isQueueBased,
+            messageWidth,
+            config.isAsynchronous(),
+            config.compactMessageQueues(),
+            config.trackActiveNodes(),
+            config.pullMessages(),
+            config.messageMemoryBudget()
+        );
+    }
+
+    private static MemoryEstimation memoryEstimation(
+        Map<String, ValueType> propertiesMap,
+        boolean isQueueBased,
+        int messageWidth,
+        boolean isAsync,
+        boolean compactMessageQueues,
+        boolean trackActiveNodes,
+        boolean pullMessages,
+        long messageMemoryBudget
     ) {
         var estimationBuilder = MemoryEstimations.builder(Pregel.class)
             .perNode("vote bits", HugeAtomicBitSet::memoryEstimation)
@@ -117,13 +248,27 @@ public final class Pregel<CONFIG extends PregelConfig> {
             .add("node value", NodeValue.memoryEstimation(propertiesMap));
 
         if (isQueueBased) {
-            if (isAsync) {
+            if (isAsync && compactMessageQueues) {
+                estimationBuilder.add("message queues", ArenaAsyncQueueMessenger.memoryEstimation());
+            } else if (isAsync) {
                 estimationBuilder.add("message queues", AsyncQueueMessenger.memoryEstimation());
+            } else if (messageMemoryBudget > 0) {
+                estimationBuilder.add(
+                    "message queues",
+                    SpillingSyncQueueMessenger.memoryEstimation(messageWidth, messageMemoryBudget)
+                );
             } else {
                 estimationBuilder.add("message queues", SyncQueueMessenger.memoryEstimation());
             }
+        } else if (messageWidth > 1) {
+            // batched messages are always pushed
+            estimationBuilder.add("message arrays", BatchedReducingMessenger.memoryEstimation(messageWidth));
         } else {
-            estimationBuilder.add("message arrays", ReducingMessenger.memoryEstimation());
+            estimationBuilder.add("message arrays", ReducingMessenger.memoryEstimation(pullMessages));
+        }
+
+        if (trackActiveNodes) {
+            estimationBuilder.add("frontier", Frontier.memoryEstimation());
         }
 
         return estimationBuilder.build();
@@ -166,21 +311,31 @@ public final class Pregel<CONFIG extends PregelConfig> {
         this.progressTracker = progressTracker;
         this.terminationFlag = terminationFlag;
 
-        var reducer = computation.reducer();
+        this.frontier = config.trackActiveNodes() ? Frontier.create(graph.nodeCount()) : null;
 
-        this.messenger = reducer.isPresent()
-            ? new ReducingMessenger(graph, config, reducer.get())
-            : config.isAsynchronous()
-                ? new AsyncQueueMessenger(graph.nodeCount())
-                : new SyncQueueMessenger(graph.nodeCount());
+        Messenger<?> messenger = createMessenger(graph, config, computation, frontier);
+
+        if (frontier != null) {
+            messenger = withFrontier(messenger, frontier);
+        }
+
+        if (config.profileSupersteps()) {
+            this.profiler = new SuperstepProfiler();
+            messenger = withProfiler(messenger, graph, profiler);
+        } else {
+            this.profiler = null;
+        }
+        this.messenger = messenger;
 
         this.computer = PregelComputer.<CONFIG>builder()
             .graph(graph)
             .computation(computation)
             .config(config)
             .nodeValues(nodeValues)
-            .messenger(messenger)
+            .messenger(this.messenger)
             .voteBits(HugeAtomicBitSet.create(graph.nodeCount()))
+            .frontier(frontier)
+            .profiler(profiler)
             .executorService(config.useForkJoin()
                 ? ExecutorServiceUtil.createForkJoinPool(config.concurrency())
                 : executor)
@@ -195,6 +350,8 @@ public final class Pregel<CONFIG extends PregelConfig> {
     public PregelResult run() {
         boolean didConverge = false;
 
+        var superstepProfiles = new ArrayList<SuperstepProfile>();
+
         computer.initComputation();
 
         try {
@@ -205,9 +362,20 @@ public final class Pregel<CONFIG extends PregelConfig> {
                 terminationFlag.assertRunning();
                 progressTracker.beginSubTask();
 
+                if (frontier != null && iteration > 0) {
+                    frontier.advance();
+                }
                 computer.initIteration(iteration);
                 messenger.initIteration(iteration);
-                computer.runIteration();
+                if (profiler != null) {
+                    profiler.beginSuperstep(iteration);
+                    computer.runIteration();
+                    var superstepProfile = profiler.endSuperstep();
+                    progressTracker.logInfo(superstepProfile.toLogMessage());
+                    superstepProfiles.add(superstepProfile);
+                } else {
+                    computer.runIteration();
+                }
 
                 progressTracker.endSubTask();
 
@@ -225,6 +393,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
                 .nodeValues(nodeValues)
                 .didConverge(didConverge)
                 .ranIterations(iteration)
+                .superstepProfiles(superstepProfiles)
                 .build();
         } finally {
             progressTracker.endSubTask();
@@ -235,6 +404,52 @@ public final class Pregel<CONFIG extends PregelConfig> {
     public void release() {
         progressTracker.release();
         messenger.release();
+        if (frontier != null) {
+            frontier.release();
+        }
+    }
+
+    private static <CONFIG extends PregelConfig> Messenger<?> createMessenger(
+        Graph graph,
+        CONFIG config,
+        BasePregelComputation<CONFIG> computation,
+        @Nullable Frontier frontier
+    ) {
+        var reducer = computation.reducer();
+        if (reducer.isPresent()) {
+            var messageWidth = computation.messageSchema(config).width();
+            if (messageWidth > 1) {
+                return new BatchedReducingMessenger(graph.nodeCount(), messageWidth, config, reducer.get());
+            }
+            return new ReducingMessenger(graph, config, reducer.get(), computation, config.pullMessages(), frontier);
+        }
+        if (!config.isAsynchronous()) {
+            return config.messageMemoryBudget() > 0
+                ? new SpillingSyncQueueMessenger(
+                    graph.nodeCount(),
+                    computation.messageSchema(config).width(),
+                    config.messageMemoryBudget()
+                )
+                : new SyncQueueMessenger(graph.nodeCount());
+        }
+        return config.compactMessageQueues()
+            ? new ArenaAsyncQueueMessenger(graph.nodeCount(), config.concurrency())
+            : new AsyncQueueMessenger(graph.nodeCount());
+    }
+
+    private static <ITERATOR extends Messages.MessageIterator> Messenger<ITERATOR> withFrontier(
+        Messenger<ITERATOR> messenger,
+        Frontier frontier
+    ) {
+        return new FrontierMessenger<>(messenger, frontier);
+    }
+
+    private static <ITERATOR extends Messages.MessageIterator> Messenger<ITERATOR> withProfiler(
+        Messenger<ITERATOR> messenger,
+        Graph graph,
+        SuperstepProfiler profiler
+    ) {
+        return new ProfilingMessenger<>(messenger, graph, profiler);
     }
 
     private boolean runMasterComputeStep(int iteration) {
@@ -20,6 +20,7 @@
 package org.neo4j.gds.beta.pregel;
 
 import org.immutables.builder.Builder;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -36,6 +37,8 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
     final NodeValue nodeValues;
     final Messenger<?> messenger;
     final HugeAtomicBitSet voteBits;
+    final @Nullable Frontier frontier;
+    final @Nullable SuperstepProfiler profiler;
     final ProgressTracker progressTracker;
 
     PregelComputer(
@@ -45,6 +48,8 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        @Nullable Frontier frontier,
+        @Nullable SuperstepProfiler profiler,
         ProgressTracker progressTracker
     ) {
         this.graph = graph;
@@ -53,6 +58,8 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         this.nodeValues = nodeValues;
         this.messenger = messenger;
         this.voteBits = voteBits;
+        this.frontier = frontier;
+        this.profiler = profiler;
         this.progressTracker = progressTracker;
     }
 
@@ -78,6 +85,8 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        @Nullable Frontier frontier,
+        @Nullable SuperstepProfiler profiler,
         ExecutorService executorService,
         ProgressTracker progressTracker
     ) {
@@ -96,6 +105,8 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
                 nodeValues,
                 messenger,
                 voteBits,
+                frontier,
+                profiler,
                 (ForkJoinPool) executorService,
                 progressTracker
             );
@@ -108,6 +119,8 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
             nodeValues,
             messenger,
             voteBits,
+            frontier,
+            profiler,
             config.concurrency(),
             executorService,
             progressTracker
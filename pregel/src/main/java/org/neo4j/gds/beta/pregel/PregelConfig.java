@@ -43,6 +43,58 @@ public interface PregelConfig extends
         return Partitioning.RANGE;
     }
 
+    /**
+     * If enabled, only nodes that received messages or did not vote to halt
+     * are visited in a superstep, instead of scanning all nodes. This pays off
+     * for computations where only few nodes are active in later supersteps,
+     * such as shortest paths or label propagation.
+     */
+    default boolean trackActiveNodes() {
+        return false;
+    }
+
+    /**
+     * If enabled, computations with a reducer may let nodes gather messages
+     * that were sent to all neighbors from their incoming neighbors instead of
+     * pushing them to each neighbor. The decision is made per superstep based
+     * on the number of broadcasting nodes. Requires an inverse index or an
+     * undirected graph.
+     */
+    default boolean pullMessages() {
+        return false;
+    }
+
+    /**
+     * If enabled, asynchronous computations without a reducer store the
+     * messages of a superstep in per-thread chunks of a shared arena and
+     * move unread messages into a single contiguous inbox between supersteps,
+     * instead of growing one queue per node.
+     */
+    default boolean compactMessageQueues() {
+        return false;
+    }
+
+    /**
+     * The number of bytes that the messages of a superstep may occupy in
+     * memory for synchronous computations without a reducer. Messages beyond
+     * the budget are spilled to temporary files and read back in the next
+     * superstep. A budget of 0 keeps all messages in memory.
+     */
+    @Configuration.LongRange(min = 0)
+    default long messageMemoryBudget() {
+        return 0;
+    }
+
+    /**
+     * If enabled, the active nodes, sent messages and compute time of each
+     * partition are recorded per superstep, logged and returned as part of
+     * the {@link PregelResult}. If disabled, messages are sent without
+     * any indirection.
+     */
+    default boolean profileSupersteps() {
+        return false;
+    }
+
     @Configuration.Ignore
     default boolean useForkJoin() {
         return partitioning() == Partitioning.AUTO;
@@ -21,6 +21,8 @@ package org.neo4j.gds.beta.pregel;
 
 import org.neo4j.gds.annotation.ValueClass;
 
+import java.util.List;
+
 @ValueClass
 public interface PregelResult {
 
@@ -29,4 +31,9 @@ public interface PregelResult {
     int ranIterations();
 
     boolean didConverge();
+
+    /**
+     * The metrics of each superstep, empty unless {@link PregelConfig#profileSupersteps()} is enabled.
+     */
+    List<SuperstepProfile> superstepProfiles();
 }
@@ -135,11 +135,11 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
     void grow(long nodeId, int minCapacity) {
         var queue = this.queues.get(nodeId);
         var capacity = queue.length;
-        // grow by 50%
-        var newCapacity = capacity + (capacity >> 1);
+        // grow by 50%, but at least to the requested capacity
+        var newCapacity = Math.max(capacity + (capacity >> 1), minCapacity);
         var resizedArray = Arrays.copyOf(queue, newCapacity);
         // Fill with NaN to indicate empty slots.
-        Arrays.fill(resizedArray, minCapacity - 1, newCapacity, EMPTY_MESSAGE);
+        Arrays.fill(resizedArray, capacity, newCapacity, EMPTY_MESSAGE);
         this.queues.set(nodeId, resizedArray);
     }
 
@@ -56,6 +56,38 @@ public abstract class PrimitiveDoubleQueues {
     abstract void grow(long nodeId, int newCapacity);
 
     public void push(long nodeId, double message) {
+        long idx = reserve(nodeId, 1);
+
+        // Multiple threads can concurrently update the queue, we need
+        // to signal this with a shared reference to the array.
+        getSharedReference(nodeId);
+        ARRAY_HANDLE.setVolatile(queues.get(nodeId), (int) idx, message);
+        dropSharedReference(nodeId);
+    }
+
+    /**
+     * Pushes a message that consists of multiple slots. The slots
+     * are reserved at once, so they are stored consecutively and
+     * cannot interleave with messages pushed by other threads.
+     */
+    public void push(long nodeId, double[] message) {
+        int idx = (int) reserve(nodeId, message.length);
+
+        getSharedReference(nodeId);
+        var queue = queues.get(nodeId);
+        // The first slot is written last, so that a reader that
+        // sees the first slot also sees the remaining ones.
+        for (int slot = message.length - 1; slot >= 0; slot--) {
+            ARRAY_HANDLE.setVolatile(queue, idx + slot, message[slot]);
+        }
+        dropSharedReference(nodeId);
+    }
+
+    /**
+     * Reserves {@code width} consecutive slots in the queue of the given node
+     * and returns the index of the first one. Grows the queue if necessary.
+     */
+    private long reserve(long nodeId, int width) {
         // The index which we will eventually use to
         // insert the message into the nodes' queue.
         long idx;
@@ -69,7 +101,7 @@ public abstract class PrimitiveDoubleQueues {
                 // When the thread is done growing, the index will
                 // turn positive again, so we go ahead and try to
                 // set the next index.
-                var nextId = -idx + 1;
+                var nextId = -idx + width;
 
                 while (true) {
                     var currentIdx = tails.compareAndExchange(nodeId, -idx, nextId);
@@ -93,7 +125,7 @@ public abstract class PrimitiveDoubleQueues {
             }
             // We basically perform and getAndIncrement and try
             // to update the tail with the next index.
-            long nextIdx = idx + 1;
+            long nextIdx = idx + width;
 
             if (hasSpaceLeft(nodeId, (int) nextIdx)) {
                 // There is still room in the local queue.
@@ -119,7 +151,9 @@ public abstract class PrimitiveDoubleQueues {
                     // make sure that no other thread is currently
                     // inserting into the queue.
                     getExclusiveReference(nodeId);
-                    grow(nodeId, (int) nextIdx);
+                    // The new capacity leaves room for the message
+                    // of a thread that waits for the grow to finish.
+                    grow(nodeId, (int) (nextIdx + width));
                     dropExclusiveReference(nodeId);
 
                     // We turn the index back to the positive value to notify
@@ -137,11 +171,7 @@ public abstract class PrimitiveDoubleQueues {
         // in order to avoid reading from the queue before it is grown.
         VarHandle.fullFence();
 
-        // Multiple threads can concurrently update the queue, we need
-        // to signal this with a shared reference to the array.
-        getSharedReference(nodeId);
-        ARRAY_HANDLE.setVolatile(queues.get(nodeId), (int) idx, message);
-        dropSharedReference(nodeId);
+        return idx;
     }
 
     private void getSharedReference(long nodeId) {
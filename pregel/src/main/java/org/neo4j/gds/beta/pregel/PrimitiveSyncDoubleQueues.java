@@ -103,8 +103,8 @@ public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
     void grow(long nodeId, int minCapacity) {
         var queue = queues.get(nodeId);
         var capacity = queue.length;
-        // grow by 50%
-        var newCapacity = capacity + (capacity >> 1);
+        // grow by 50%, but at least to the requested capacity
+        var newCapacity = Math.max(capacity + (capacity >> 1), minCapacity);
         queues.set(nodeId, Arrays.copyOf(queue, newCapacity));
     }
 
@@ -19,7 +19,12 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.termination.TerminationFlag;
@@ -27,37 +32,114 @@ import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
 
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * A messenger implementation that is backed by two double arrays used
  * to send and receive messages. The messenger can only be applied in
  * combination with a {@link Reducer}
  * which atomically reduces all incoming messages into a single one.
+ * <p>
+ * If pulling is enabled, the messenger decides per superstep whether messages
+ * sent to all neighbors are pushed to each neighbor or stored once at the
+ * sending node and gathered by the receivers in the next superstep by
+ * iterating their incoming relationships. Pulling avoids the atomic updates
+ * and pays off if many nodes broadcast, which is decided based on the number
+ * of relationships touched by broadcasts in the previous superstep, bounded by
+ * the nodes that are active in the current one.
+ * Messages sent to single nodes are always pushed.
+ *
+ * @see <a href="https://doi.org/10.1145/2442516.2442530">Ligra: A Lightweight Graph Processing Framework for Shared Memory</a>
  */
 public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMessageIterator> {
 
+    // Ligra switches to pulling if the active nodes touch
+    // more than a twentieth of the relationships.
+    static final double PULL_THRESHOLD = 0.05;
+
     private final Graph graph;
     private final PregelConfig config;
     private final Reducer reducer;
+    private final BasePregelComputation<?> computation;
 
     private HugeAtomicDoubleArray sendArray;
     private HugeAtomicDoubleArray receiveArray;
 
+    // broadcast messages per sending node, only valid if the node's broadcast bit is set
+    private @Nullable HugeDoubleArray sendOutbox;
+    private @Nullable HugeDoubleArray receiveOutbox;
+    private @Nullable HugeAtomicBitSet sendBroadcasts;
+    private @Nullable HugeAtomicBitSet receiveBroadcasts;
+    // nodes computed in the current superstep, all nodes if not tracked
+    private final @Nullable Frontier frontier;
+    // nodes and relationships touched by broadcasts in the current superstep
+    private final LongAdder broadcastVolume;
+    private boolean isPullingSend;
+    private boolean isPullingReceive;
+
     ReducingMessenger(Graph graph, PregelConfig config, Reducer reducer) {
+        this(graph, config, reducer, null, false, null);
+    }
+
+    ReducingMessenger(
+        Graph graph,
+        PregelConfig config,
+        Reducer reducer,
+        BasePregelComputation<?> computation,
+        boolean pullMessages,
+        @Nullable Frontier frontier
+    ) {
         assert !Double.isNaN(reducer.identity()): "identity element must not be NaN";
+        assert !pullMessages || canPull(graph): "pulling messages requires an inverse index or an undirected graph";
 
         this.graph = graph;
         this.config = config;
         this.reducer = reducer;
+        this.computation = computation;
+        this.frontier = frontier;
 
         this.receiveArray = HugeAtomicDoubleArray.of(graph.nodeCount(), ParallelDoublePageCreator.passThrough(config.concurrency()));
         this.sendArray = HugeAtomicDoubleArray.of(graph.nodeCount(), ParallelDoublePageCreator.passThrough(config.concurrency()));
+
+        if (pullMessages) {
+            this.sendOutbox = HugeDoubleArray.newArray(graph.nodeCount());
+            this.receiveOutbox = HugeDoubleArray.newArray(graph.nodeCount());
+            this.sendBroadcasts = HugeAtomicBitSet.create(graph.nodeCount());
+            this.receiveBroadcasts = HugeAtomicBitSet.create(graph.nodeCount());
+        }
+        this.broadcastVolume = new LongAdder();
     }
 
     static MemoryEstimation memoryEstimation() {
-        return MemoryEstimations.builder(ReducingMessenger.class)
+        return memoryEstimation(false);
+    }
+
+    static MemoryEstimation memoryEstimation(boolean pullMessages) {
+        var builder = MemoryEstimations.builder(ReducingMessenger.class)
             .perNode("send array", HugeAtomicDoubleArray::memoryEstimation)
-            .perNode("receive array", HugeAtomicDoubleArray::memoryEstimation)
-            .build();
+            .perNode("receive array", HugeAtomicDoubleArray::memoryEstimation);
+
+        if (pullMessages) {
+            builder
+                .perNode("send outbox", HugeDoubleArray::memoryEstimation)
+                .perNode("receive outbox", HugeDoubleArray::memoryEstimation)
+                .perNode("send broadcasts", HugeAtomicBitSet::memoryEstimation)
+                .perNode("receive broadcasts", HugeAtomicBitSet::memoryEstimation);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Messages can be gathered if the incoming relationships
+     * of each node can be iterated.
+     */
+    static boolean canPull(Graph graph) {
+        return graph.characteristics().isInverseIndexed() || graph.characteristics().isUndirected();
+    }
+
+    boolean isPulling() {
+        return isPullingSend;
     }
 
     @Override
@@ -74,6 +156,42 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
             TerminationFlag.RUNNING_TRUE,
             nodeId -> sendArray.set(nodeId, reducer.identity())
         );
+
+        if (sendOutbox != null) {
+            var outbox = receiveOutbox;
+            this.receiveOutbox = sendOutbox;
+            this.sendOutbox = outbox;
+
+            var broadcasts = receiveBroadcasts;
+            this.receiveBroadcasts = sendBroadcasts;
+            this.sendBroadcasts = broadcasts;
+
+            this.isPullingReceive = isPullingSend;
+            this.isPullingSend = expectedBroadcastVolume(iteration) > graph.relationshipCount() * PULL_THRESHOLD;
+
+            if (isPullingSend) {
+                broadcasts.clear();
+            }
+        }
+    }
+
+    /**
+     * Estimates the nodes and relationships touched by broadcasts in the
+     * current superstep. Ligra estimates the volume of a frontier U as
+     * |U| + outdeg(U), we use the average degree for the out-degree of
+     * the active nodes. As all of them might broadcast, this is the only
+     * estimate for the initial superstep. Later on, the volume observed
+     * in the previous superstep is used unless the frontier is smaller.
+     */
+    private long expectedBroadcastVolume(int iteration) {
+        long previousVolume = broadcastVolume.sumThenReset();
+
+        long nodeCount = graph.nodeCount();
+        long activeNodes = frontier == null ? nodeCount : frontier.activeNodeCount();
+        double averageDegree = nodeCount == 0 ? 0 : (double) graph.relationshipCount() / nodeCount;
+        long frontierVolume = activeNodes + (long) Math.ceil(activeNodes * averageDegree);
+
+        return iteration == 0 ? frontierVolume : Math.min(previousVolume, frontierVolume);
     }
 
     @Override
@@ -84,9 +202,25 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
         );
     }
 
+    @Override
+    public boolean broadcast(long sourceNodeId, double message) {
+        if (sendOutbox == null) {
+            return false;
+        }
+        broadcastVolume.add(1 + graph.degree(sourceNodeId));
+        if (!isPullingSend) {
+            return false;
+        }
+        sendOutbox.set(sourceNodeId, message);
+        sendBroadcasts.set(sourceNodeId);
+        return true;
+    }
+
     @Override
     public ReducingMessenger.SingleMessageIterator messageIterator() {
-        return new SingleMessageIterator();
+        return sendOutbox == null
+            ? new SingleMessageIterator()
+            : new GatheringMessageIterator(graph.concurrentCopy());
     }
 
     @Override
@@ -97,12 +231,20 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
     ) {
         var message = receiveArray.getAndReplace(nodeId, reducer.identity());
         messageIterator.init(message, message != reducer.identity());
+
+        if (isPullingReceive) {
+            ((GatheringMessageIterator) messageIterator).gather(nodeId);
+        }
     }
 
     @Override
     public void release() {
         sendArray.release();
         receiveArray.release();
+        if (sendOutbox != null) {
+            sendOutbox.release();
+            receiveOutbox.release();
+        }
     }
 
     static class SingleMessageIterator implements Messages.MessageIterator {
@@ -131,4 +273,56 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
             return message;
         }
     }
+
+    /**
+     * Reduces the broadcast messages of all incoming neighbors
+     * into the pushed message. Each iterator uses its own copy
+     * of the graph as it is used by a single thread.
+     */
+    final class GatheringMessageIterator extends SingleMessageIterator implements RelationshipConsumer, RelationshipWithPropertyConsumer {
+
+        private final Graph gatherGraph;
+
+        GatheringMessageIterator(Graph gatherGraph) {
+            this.gatherGraph = gatherGraph;
+        }
+
+        void gather(long nodeId) {
+            boolean isUndirected = gatherGraph.characteristics().isUndirected();
+            if (config.hasRelationshipWeightProperty()) {
+                if (isUndirected) {
+                    gatherGraph.forEachRelationship(nodeId, 1.0, this);
+                } else {
+                    gatherGraph.forEachInverseRelationship(nodeId, 1.0, this);
+                }
+            } else {
+                if (isUndirected) {
+                    gatherGraph.forEachRelationship(nodeId, this);
+                } else {
+                    gatherGraph.forEachInverseRelationship(nodeId, this);
+                }
+            }
+            // same as for pushed messages, reducing into the identity means no message
+            this.hasNext = message != reducer.identity();
+        }
+
+        @Override
+        public boolean accept(long nodeId, long neighborId) {
+            if (receiveBroadcasts.get(neighborId)) {
+                this.message = reducer.reduce(message, receiveOutbox.get(neighborId));
+            }
+            return true;
+        }
+
+        @Override
+        public boolean accept(long nodeId, long neighborId, double weight) {
+            if (receiveBroadcasts.get(neighborId)) {
+                this.message = reducer.reduce(
+                    message,
+                    computation.applyRelationshipWeight(receiveOutbox.get(neighborId), weight)
+                );
+            }
+            return true;
+        }
+    }
 }
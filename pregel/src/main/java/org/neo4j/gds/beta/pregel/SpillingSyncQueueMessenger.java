@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+import org.neo4j.gds.utils.CloseableThreadLocal;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A messenger for synchronous computations that keeps messages in
+ * {@link PrimitiveSyncDoubleQueues} until a memory budget is used up.
+ * Messages beyond the budget are collected in per-thread buffers, which
+ * are sorted by the receiving node and written as runs to a temporary
+ * {@link MessageRunFile}. In the next superstep, the file is memory mapped
+ * and the messages of a node are merged from the queue and all runs.
+ * <p>
+ * The budget is shared by all threads, which reserve it in blocks
+ * to avoid contention on every message.
+ */
+class SpillingSyncQueueMessenger implements Messenger<SpillingSyncQueueMessenger.Iterator> {
+
+    // the index of a record within a run is packed into the lower bits of the sort key
+    static final int RUN_CAPACITY_BITS = 16;
+    static final int RUN_CAPACITY = 1 << RUN_CAPACITY_BITS;
+    private static final long RUN_INDEX_MASK = RUN_CAPACITY - 1;
+    private static final int BUDGET_BLOCK_SIZE = 1024;
+
+    private final PrimitiveSyncDoubleQueues queues;
+    private final int messageWidth;
+    private final long budgetInMessages;
+    private final AtomicLong remainingBudget;
+
+    private final CloseableThreadLocal<SpillBuffer> spillBuffers;
+    private final Queue<SpillBuffer> allSpillBuffers;
+
+    private MessageRunFile sendFile;
+    private MessageRunFile receiveFile;
+    // incremented for each superstep, invalidates reserved budget and read positions
+    private volatile int epoch;
+
+    SpillingSyncQueueMessenger(long nodeCount, int messageWidth, long memoryBudget) {
+        assert nodeCount <= (Long.MAX_VALUE >>> RUN_CAPACITY_BITS) : "node ids must leave space for the run index";
+
+        this.queues = PrimitiveSyncDoubleQueues.of(nodeCount);
+        this.messageWidth = messageWidth;
+        this.budgetInMessages = memoryBudget / ((long) messageWidth * Double.BYTES);
+        this.remainingBudget = new AtomicLong(budgetInMessages);
+        this.allSpillBuffers = new ConcurrentLinkedQueue<>();
+        this.spillBuffers = CloseableThreadLocal.withInitial(() -> {
+            var buffer = new SpillBuffer(messageWidth);
+            allSpillBuffers.add(buffer);
+            return buffer;
+        });
+        this.sendFile = MessageRunFile.create(messageWidth);
+        this.receiveFile = MessageRunFile.create(messageWidth);
+    }
+
+    static MemoryEstimation memoryEstimation(int messageWidth, long memoryBudget) {
+        long recordBytes = MessageRunFile.recordBytes(messageWidth);
+        return MemoryEstimations.builder(SpillingSyncQueueMessenger.class)
+            .add("message queues", PrimitiveSyncDoubleQueues.memoryEstimation())
+            .fixed("message budget", memoryBudget)
+            .perThread("spill buffer", MemoryRange.of(
+                0,
+                RUN_CAPACITY * (Long.BYTES + messageWidth * Double.BYTES + Long.BYTES + recordBytes)
+            ))
+            .build();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        for (var buffer : allSpillBuffers) {
+            buffer.flush(sendFile);
+        }
+
+        var tmp = receiveFile;
+        this.receiveFile = sendFile;
+        this.sendFile = tmp;
+        sendFile.reset();
+        receiveFile.map();
+
+        queues.swapQueues();
+        remainingBudget.set(budgetInMessages);
+        this.epoch++;
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        var buffer = spillBuffers.get();
+        if (buffer.reserve()) {
+            queues.push(targetNodeId, message);
+        } else {
+            buffer.add(targetNodeId, message, sendFile);
+        }
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        var buffer = spillBuffers.get();
+        if (buffer.reserve()) {
+            queues.push(targetNodeId, message);
+        } else {
+            buffer.add(targetNodeId, message, sendFile);
+        }
+    }
+
+    @Override
+    public Iterator messageIterator() {
+        return new Iterator();
+    }
+
+    @Override
+    public void initMessageIterator(Iterator messageIterator, long nodeId, boolean isFirstIteration) {
+        queues.initIterator(messageIterator.queueIterator, nodeId);
+        messageIterator.init(nodeId);
+    }
+
+    @Override
+    public void release() {
+        queues.release();
+        spillBuffers.close();
+        allSpillBuffers.clear();
+        sendFile.close();
+        receiveFile.close();
+    }
+
+    private long reserveBudget() {
+        while (true) {
+            long remaining = remainingBudget.get();
+            if (remaining <= 0) {
+                return 0;
+            }
+            long reserved = Math.min(remaining, BUDGET_BLOCK_SIZE);
+            if (remainingBudget.compareAndSet(remaining, remaining - reserved)) {
+                return reserved;
+            }
+        }
+    }
+
+    private final class SpillBuffer {
+        private final int width;
+        private final long[] targets;
+        private final double[] messages;
+        private final long[] sortKeys;
+        private final ByteBuffer records;
+        private int size;
+
+        private int bufferEpoch = -1;
+        private long reservedBudget;
+        private boolean isBudgetExhausted;
+
+        SpillBuffer(int width) {
+            this.width = width;
+            this.targets = new long[RUN_CAPACITY];
+            this.messages = new double[RUN_CAPACITY * width];
+            this.sortKeys = new long[RUN_CAPACITY];
+            this.records = ByteBuffer.allocate(RUN_CAPACITY * MessageRunFile.recordBytes(width));
+        }
+
+        /**
+         * Returns true if the next message fits into the memory budget.
+         */
+        boolean reserve() {
+            if (bufferEpoch != epoch) {
+                this.bufferEpoch = epoch;
+                this.reservedBudget = 0;
+                this.isBudgetExhausted = false;
+            }
+            if (reservedBudget == 0 && !isBudgetExhausted) {
+                this.reservedBudget = reserveBudget();
+                this.isBudgetExhausted = reservedBudget == 0;
+            }
+            if (reservedBudget > 0) {
+                reservedBudget--;
+                return true;
+            }
+            return false;
+        }
+
+        void add(long targetNodeId, double message, MessageRunFile file) {
+            targets[size] = targetNodeId;
+            messages[size * width] = message;
+            if (++size == RUN_CAPACITY) {
+                flush(file);
+            }
+        }
+
+        void add(long targetNodeId, double[] message, MessageRunFile file) {
+            targets[size] = targetNodeId;
+            System.arraycopy(message, 0, messages, size * width, width);
+            if (++size == RUN_CAPACITY) {
+                flush(file);
+            }
+        }
+
+        void flush(MessageRunFile file) {
+            if (size == 0) {
+                return;
+            }
+            for (int i = 0; i < size; i++) {
+                sortKeys[i] = (targets[i] << RUN_CAPACITY_BITS) | i;
+            }
+            Arrays.sort(sortKeys, 0, size);
+
+            records.clear();
+            for (int i = 0; i < size; i++) {
+                int index = (int) (sortKeys[i] & RUN_INDEX_MASK);
+                records.putLong(targets[index]);
+                for (int field = 0; field < width; field++) {
+                    records.putDouble(messages[index * width + field]);
+                }
+            }
+            records.flip();
+            file.append(records);
+            this.size = 0;
+        }
+    }
+
+    /**
+     * Iterates the messages of a node in the queue, followed by the
+     * spilled messages of the node in each run. The iterator merges the
+     * runs with a cursor per run and a heap of runs ordered by the target
+     * at their cursor. As nodes are mostly visited in increasing order,
+     * the cursors only move forward and a node only touches the runs that
+     * contain messages for it. Cursors are only searched for if the visited
+     * nodes are not increasing, e.g. when a thread continues with another
+     * partition, or if a node is skipped.
+     */
+    final class Iterator implements Messages.MessageIterator {
+
+        final PrimitiveSyncDoubleQueues.Iterator queueIterator;
+
+        private int iteratorEpoch = -1;
+        private long previousNodeId;
+
+        // the next record and its target per run
+        private long[] cursors;
+        private long[] heads;
+        // runs with remaining records, a min heap on their heads
+        private int[] heap;
+        private int heapSize;
+
+        // record ranges of the current node
+        private int[] matchedRuns;
+        private long[] matchedStarts;
+        private long[] matchedEnds;
+        private int matchedCount;
+
+        private int match;
+        private long record;
+        private int field;
+
+        Iterator() {
+            this.queueIterator = new PrimitiveSyncDoubleQueues.Iterator();
+            allocate(0);
+        }
+
+        private void allocate(int runCount) {
+            this.cursors = new long[runCount];
+            this.heads = new long[runCount];
+            this.heap = new int[runCount];
+            this.matchedRuns = new int[runCount];
+            this.matchedStarts = new long[runCount];
+            this.matchedEnds = new long[runCount];
+            this.heapSize = 0;
+        }
+
+        void init(long nodeId) {
+            var file = receiveFile;
+            int runCount = file.runCount();
+            boolean isContinuation = iteratorEpoch == epoch && nodeId > previousNodeId;
+            if (cursors.length != runCount) {
+                allocate(runCount);
+                isContinuation = false;
+            }
+            if (!isContinuation) {
+                this.heapSize = 0;
+                for (int run = 0; run < runCount; run++) {
+                    cursors[run] = file.lowerBound(run, 0, nodeId);
+                    if (cursors[run] < file.runLength(run)) {
+                        heads[run] = file.target(run, cursors[run]);
+                        heap[heapSize] = run;
+                        siftUp(heapSize++);
+                    }
+                }
+            }
+            this.iteratorEpoch = epoch;
+            this.previousNodeId = nodeId;
+
+            this.matchedCount = 0;
+            while (heapSize > 0 && heads[heap[0]] <= nodeId) {
+                int run = heap[0];
+                long cursor = cursors[run];
+                long runLength = file.runLength(run);
+                if (heads[run] < nodeId) {
+                    // the messages of skipped nodes are never read
+                    cursor = file.lowerBound(run, cursor, nodeId);
+                } else {
+                    long end = cursor + 1;
+                    while (end < runLength && file.target(run, end) == nodeId) {
+                        end++;
+                    }
+                    matchedRuns[matchedCount] = run;
+                    matchedStarts[matchedCount] = cursor;
+                    matchedEnds[matchedCount] = end;
+                    matchedCount++;
+                    cursor = end;
+                }
+
+                cursors[run] = cursor;
+                if (cursor < runLength) {
+                    heads[run] = file.target(run, cursor);
+                } else {
+                    heap[0] = heap[--heapSize];
+                }
+                siftDown(0);
+            }
+
+            this.match = 0;
+            this.record = matchedCount > 0 ? matchedStarts[0] : 0;
+            this.field = 0;
+        }
+
+        private void siftUp(int index) {
+            int run = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (heads[heap[parent]] <= heads[run]) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = run;
+        }
+
+        private void siftDown(int index) {
+            if (index >= heapSize) {
+                return;
+            }
+            int run = heap[index];
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+                if (child + 1 < heapSize && heads[heap[child + 1]] < heads[heap[child]]) {
+                    child++;
+                }
+                if (heads[run] <= heads[heap[child]]) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = run;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return queueIterator.hasNext() || match < matchedCount;
+        }
+
+        @Override
+        public double nextDouble() {
+            if (queueIterator.hasNext()) {
+                return queueIterator.nextDouble();
+            }
+            double value = receiveFile.field(matchedRuns[match], record, field);
+            if (++field == messageWidth) {
+                this.field = 0;
+                if (++record == matchedEnds[match] && ++match < matchedCount) {
+                    this.record = matchedStarts[match];
+                }
+            }
+            return value;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return queueIterator.isEmpty() && matchedCount == 0;
+        }
+    }
+}
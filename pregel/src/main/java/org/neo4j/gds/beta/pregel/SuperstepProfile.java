@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.annotation.ValueClass;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Metrics of a single superstep, recorded if {@link PregelConfig#profileSupersteps()} is enabled.
+ * <br>
+ * A partition is a batch of nodes computed by a single task, i.e. one of the
+ * {@link PregelConfig#concurrency()} partitions for range and degree partitioning
+ * or a leaf task of the fork-join computation.
+ */
+@ValueClass
+public interface SuperstepProfile {
+
+    int superstep();
+
+    /**
+     * The number of nodes whose compute function was called.
+     */
+    long activeNodes();
+
+    /**
+     * The number of nodes that received at least one message.
+     */
+    long receivingNodes();
+
+    /**
+     * The number of messages sent during the superstep. Messages sent to all
+     * neighbors count once per neighbor, including messages that are
+     * gathered by the receivers. For synchronous queue-based computations,
+     * this is the growth of the message queues for the next superstep.
+     */
+    long messagesSent();
+
+    /**
+     * The wall time of the compute phase in nanoseconds.
+     */
+    long computeNanos();
+
+    int partitions();
+
+    long minPartitionNanos();
+
+    long maxPartitionNanos();
+
+    long totalPartitionNanos();
+
+    /**
+     * The ratio of the slowest partition to the average partition.
+     * A value close to 1 indicates evenly balanced partitions.
+     */
+    default double partitionSkew() {
+        if (partitions() == 0 || totalPartitionNanos() == 0) {
+            return 1.0;
+        }
+        return maxPartitionNanos() / ((double) totalPartitionNanos() / partitions());
+    }
+
+    default Map<String, Object> toMap() {
+        return Map.of(
+            "superstep", superstep(),
+            "activeNodes", activeNodes(),
+            "receivingNodes", receivingNodes(),
+            "messagesSent", messagesSent(),
+            "computeMillis", TimeUnit.NANOSECONDS.toMillis(computeNanos()),
+            "partitions", partitions(),
+            "minPartitionMillis", TimeUnit.NANOSECONDS.toMillis(minPartitionNanos()),
+            "maxPartitionMillis", TimeUnit.NANOSECONDS.toMillis(maxPartitionNanos()),
+            "partitionSkew", partitionSkew()
+        );
+    }
+
+    default String toLogMessage() {
+        return formatWithLocale(
+            "Superstep %d :: active nodes %d, receiving nodes %d, messages sent %d, compute %d ms, partitions %d, partition time min %d ms / max %d ms, skew %.2f",
+            superstep(),
+            activeNodes(),
+            receivingNodes(),
+            messagesSent(),
+            TimeUnit.NANOSECONDS.toMillis(computeNanos()),
+            partitions(),
+            TimeUnit.NANOSECONDS.toMillis(minPartitionNanos()),
+            TimeUnit.NANOSECONDS.toMillis(maxPartitionNanos()),
+            partitionSkew()
+        );
+    }
+}
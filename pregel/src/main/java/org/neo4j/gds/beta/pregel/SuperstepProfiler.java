@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the metrics of the current superstep. The compute steps record
+ * their partitions concurrently, messages are counted by a {@link Messenger}
+ * decorator. Nothing is recorded if profiling is disabled, as neither the
+ * profiler nor the decorator are created in that case.
+ *
+ * @see SuperstepProfile
+ */
+public final class SuperstepProfiler {
+
+    private final LongAdder activeNodes;
+    private final LongAdder receivingNodes;
+    private final LongAdder messagesSent;
+    private final LongAdder partitions;
+    private final LongAdder totalPartitionNanos;
+    private final LongAccumulator minPartitionNanos;
+    private final LongAccumulator maxPartitionNanos;
+
+    private int superstep;
+    private long superstepStart;
+
+    SuperstepProfiler() {
+        this.activeNodes = new LongAdder();
+        this.receivingNodes = new LongAdder();
+        this.messagesSent = new LongAdder();
+        this.partitions = new LongAdder();
+        this.totalPartitionNanos = new LongAdder();
+        this.minPartitionNanos = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        this.maxPartitionNanos = new LongAccumulator(Math::max, 0);
+    }
+
+    void beginSuperstep(int superstep) {
+        this.superstep = superstep;
+        activeNodes.reset();
+        receivingNodes.reset();
+        messagesSent.reset();
+        partitions.reset();
+        totalPartitionNanos.reset();
+        minPartitionNanos.reset();
+        maxPartitionNanos.reset();
+        this.superstepStart = System.nanoTime();
+    }
+
+    SuperstepProfile endSuperstep() {
+        long computeNanos = System.nanoTime() - superstepStart;
+        int partitionCount = partitions.intValue();
+
+        return ImmutableSuperstepProfile.builder()
+            .superstep(superstep)
+            .activeNodes(activeNodes.sum())
+            .receivingNodes(receivingNodes.sum())
+            .messagesSent(messagesSent.sum())
+            .computeNanos(computeNanos)
+            .partitions(partitionCount)
+            .minPartitionNanos(partitionCount == 0 ? 0 : minPartitionNanos.get())
+            .maxPartitionNanos(maxPartitionNanos.get())
+            .totalPartitionNanos(totalPartitionNanos.sum())
+            .build();
+    }
+
+    void recordPartition(long nanos, long activeNodes, long receivingNodes) {
+        this.partitions.increment();
+        this.totalPartitionNanos.add(nanos);
+        this.minPartitionNanos.accumulate(nanos);
+        this.maxPartitionNanos.accumulate(nanos);
+        this.activeNodes.add(activeNodes);
+        this.receivingNodes.add(receivingNodes);
+    }
+
+    void recordMessages(long count) {
+        messagesSent.add(count);
+    }
+}
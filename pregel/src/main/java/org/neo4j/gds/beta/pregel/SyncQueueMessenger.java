@@ -43,6 +43,11 @@ public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.I
         queues.push(targetNodeId, message);
     }
 
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        queues.push(targetNodeId, message);
+    }
+
     @Override
     public PrimitiveSyncDoubleQueues.Iterator messageIterator() {
         return new PrimitiveSyncDoubleQueues.Iterator();
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel.annotation;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.beta.pregel.PregelSchema;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the node value schema of a Pregel computation.
+ * <br>
+ * The annotation processor generates a class named after the computation
+ * with the suffix {@code NodeValues}. It provides the {@link PregelSchema}
+ * to be returned by the computation as well as typed, static accessors
+ * that read and write node values by column instead of by property key.
+ * <br>
+ * The annotation is retained at runtime, so that {@link org.neo4j.gds.beta.pregel.Pregel}
+ * can reject computations whose schema does not match the declared properties,
+ * as the generated accessors would read and write the wrong columns.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface PregelNodeValues {
+
+    /**
+     * The node value properties of the computation.
+     *
+     * @return properties
+     */
+    Property[] value();
+
+    @Target({})
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Property {
+
+        /**
+         * The property key, which is also used to name the generated accessors.
+         *
+         * @return property key
+         */
+        String key();
+
+        ValueType type();
+
+        PregelSchema.Visibility visibility() default PregelSchema.Visibility.PUBLIC;
+    }
+}
@@ -22,7 +22,9 @@ package org.neo4j.gds.beta.pregel.context;
 import org.apache.commons.lang3.mutable.MutableBoolean;
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.BasePregelComputation;
+import org.neo4j.gds.beta.pregel.MessageSchema;
 import org.neo4j.gds.beta.pregel.Messenger;
 import org.neo4j.gds.beta.pregel.NodeValue;
 import org.neo4j.gds.beta.pregel.PregelConfig;
@@ -31,6 +33,8 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.Optional;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 /**
  * A context that is used during the computation. It allows an implementation
  * to send messages to other nodes and change the state of the currently
@@ -43,6 +47,10 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
     private final Messenger<?> messenger;
     private final MutableInt iteration;
     private final MutableBoolean hasSendMessage;
+    private final MessageSchema messageSchema;
+    // reused for sending typed messages, a context is only used by a single thread
+    private final double[] messageBuffer;
+    private final double[] weightedMessageBuffer;
 
     protected BasePregelComputation<CONFIG> computation;
 
@@ -64,6 +72,9 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
         this.voteBits = voteBits;
         this.iteration = iteration;
         this.hasSendMessage = hasSendMessage.orElse(new MutableBoolean(false));
+        this.messageSchema = computation.messageSchema(config);
+        this.messageBuffer = new double[messageSchema.width()];
+        this.weightedMessageBuffer = new double[messageSchema.width()];
     }
 
     private final SendMessagesFunction sendMessagesFunction;
@@ -113,6 +124,38 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
         return nodeValue.doubleArrayValue(key, nodeId);
     }
 
+    /**
+     * Returns the node double value for the given column, see {@link NodeValue#column(String)}.
+     * The column is not validated.
+     */
+    public double doubleNodeValue(int column) {
+        return nodeValue.doubleValue(column, nodeId);
+    }
+
+    /**
+     * Returns the node long value for the given column, see {@link NodeValue#column(String)}.
+     * The column is not validated.
+     */
+    public long longNodeValue(int column) {
+        return nodeValue.longValue(column, nodeId);
+    }
+
+    /**
+     * Returns the node long array value for the given column, see {@link NodeValue#column(String)}.
+     * The column is not validated.
+     */
+    public long[] longArrayNodeValue(int column) {
+        return nodeValue.longArrayValue(column, nodeId);
+    }
+
+    /**
+     * Returns the node double array value for the given column, see {@link NodeValue#column(String)}.
+     * The column is not validated.
+     */
+    public double[] doubleArrayNodeValue(int column) {
+        return nodeValue.doubleArrayValue(column, nodeId);
+    }
+
     /**
      * Notify the execution framework that this node intends
      * to stop the computation. If the node voted to halt
@@ -143,6 +186,12 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
      * Sends the given message to all neighbors of the node.
      */
     public void sendToNeighbors(double message) {
+        if (messenger.broadcast(nodeId, message)) {
+            if (degree() > 0) {
+                this.hasSendMessage.setValue(true);
+            }
+            return;
+        }
         sendMessagesFunction.sendToNeighbors(nodeId, message);
     }
 
@@ -157,6 +206,140 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
         this.hasSendMessage.setValue(true);
     }
 
+    /**
+     * Returns the layout of the messages sent and received by this computation.
+     */
+    public MessageSchema messageSchema() {
+        return messageSchema;
+    }
+
+    /**
+     * Sends the given message to the target node.
+     *
+     * @throws IllegalStateException if the message schema is not {@link MessageSchema#LONG}
+     */
+    public void sendLongTo(long targetNodeId, long message) {
+        checkMessageSchema(MessageSchema.LONG);
+        messageBuffer[0] = Double.longBitsToDouble(message);
+        sendMessageBuffer(targetNodeId);
+    }
+
+    /**
+     * Sends the given message to all neighbors of the node.
+     *
+     * @throws IllegalStateException if the message schema is not {@link MessageSchema#LONG}
+     */
+    public void sendLongToNeighbors(long message) {
+        checkMessageSchema(MessageSchema.LONG);
+        messageBuffer[0] = Double.longBitsToDouble(message);
+        sendMessageBufferToNeighbors();
+    }
+
+    /**
+     * Sends the given message to the target node.
+     *
+     * @throws IllegalStateException if the message schema is not {@link MessageSchema#LONG_DOUBLE}
+     */
+    public void sendLongDoubleTo(long targetNodeId, long first, double second) {
+        checkMessageSchema(MessageSchema.LONG_DOUBLE);
+        messageBuffer[0] = Double.longBitsToDouble(first);
+        messageBuffer[1] = second;
+        sendMessageBuffer(targetNodeId);
+    }
+
+    /**
+     * Sends the given message to all neighbors of the node.
+     * If the graph is weighted, the relationship weight is
+     * applied to the double field.
+     *
+     * @throws IllegalStateException if the message schema is not {@link MessageSchema#LONG_DOUBLE}
+     */
+    public void sendLongDoubleToNeighbors(long first, double second) {
+        checkMessageSchema(MessageSchema.LONG_DOUBLE);
+        messageBuffer[0] = Double.longBitsToDouble(first);
+        messageBuffer[1] = second;
+        sendMessageBufferToNeighbors();
+    }
+
+    /**
+     * Sends the given message to the target node. The
+     * array is copied and can be reused by the caller.
+     *
+     * @throws IllegalStateException if the message schema is not {@link MessageSchema#doubles(int)} of the array length
+     */
+    public void sendTo(long targetNodeId, double[] message) {
+        checkDoublesMessageSchema(message.length);
+        System.arraycopy(message, 0, messageBuffer, 0, message.length);
+        sendMessageBuffer(targetNodeId);
+    }
+
+    /**
+     * Sends the given message to all neighbors of the node.
+     * If the graph is weighted, the relationship weight is
+     * applied to each field.
+     *
+     * @throws IllegalStateException if the message schema is not {@link MessageSchema#doubles(int)} of the array length
+     */
+    public void sendToNeighbors(double[] message) {
+        checkDoublesMessageSchema(message.length);
+        System.arraycopy(message, 0, messageBuffer, 0, message.length);
+        sendMessageBufferToNeighbors();
+    }
+
+    private void checkMessageSchema(MessageSchema expected) {
+        if (!messageSchema.equals(expected)) {
+            throw new IllegalStateException(formatWithLocale(
+                "Cannot send a message of %s, the computation declares %s.",
+                expected,
+                messageSchema
+            ));
+        }
+    }
+
+    private void checkDoublesMessageSchema(int width) {
+        if (messageSchema.width() != width || !messageSchema.hasOnlyDoubles()) {
+            throw new IllegalStateException(formatWithLocale(
+                "Cannot send a message of %d doubles, the computation declares %s.",
+                width,
+                messageSchema
+            ));
+        }
+    }
+
+    private void sendMessageBuffer(long targetNodeId) {
+        if (messageSchema.isSingleDouble()) {
+            messenger.sendTo(targetNodeId, messageBuffer[0]);
+        } else {
+            messenger.sendTo(targetNodeId, messageBuffer);
+        }
+        this.hasSendMessage.setValue(true);
+    }
+
+    private void sendMessageBufferToNeighbors() {
+        if (messageSchema.isSingleDouble()) {
+            sendToNeighbors(messageBuffer[0]);
+            return;
+        }
+        if (config.hasRelationshipWeightProperty()) {
+            var weightedMessage = weightedMessageBuffer;
+            graph.forEachRelationship(nodeId, 1.0, (ignored, targetNodeId, weight) -> {
+                for (int field = 0; field < messageBuffer.length; field++) {
+                    weightedMessage[field] = messageSchema.fieldType(field) == ValueType.DOUBLE
+                        ? computation.applyRelationshipWeight(messageBuffer[field], weight)
+                        : messageBuffer[field];
+                }
+                messenger.sendTo(targetNodeId, weightedMessage);
+                return true;
+            });
+        } else {
+            graph.forEachRelationship(nodeId, (ignored, targetNodeId) -> {
+                messenger.sendTo(targetNodeId, messageBuffer);
+                return true;
+            });
+        }
+        this.hasSendMessage.setValue(true);
+    }
+
     private void sendToNeighbors(long sourceNodeId, double message) {
         graph.forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
             sendTo(targetNodeId, message);
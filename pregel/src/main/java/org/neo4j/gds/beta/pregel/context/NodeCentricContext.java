@@ -110,6 +110,46 @@ public abstract class NodeCentricContext<CONFIG extends PregelConfig> extends Pr
         nodeValue.set(key, nodeId, value);
     }
 
+    /**
+     * Sets a node double value for the given column, see {@link NodeValue#column(String)}.
+     *
+     * @param column node value column
+     * @param value property value
+     */
+    public void setNodeValue(int column, double value) {
+        nodeValue.set(column, nodeId, value);
+    }
+
+    /**
+     * Sets a node long value for the given column, see {@link NodeValue#column(String)}.
+     *
+     * @param column node value column
+     * @param value property value
+     */
+    public void setNodeValue(int column, long value) {
+        nodeValue.set(column, nodeId, value);
+    }
+
+    /**
+     * Sets a node long array value for the given column, see {@link NodeValue#column(String)}.
+     *
+     * @param column node value column
+     * @param value property value
+     */
+    public void setNodeValue(int column, long[] value) {
+        nodeValue.set(column, nodeId, value);
+    }
+
+    /**
+     * Sets a node double array value for the given column, see {@link NodeValue#column(String)}.
+     *
+     * @param column node value column
+     * @param value property value
+     */
+    public void setNodeValue(int column, double[] value) {
+        nodeValue.set(column, nodeId, value);
+    }
+
     /**
      * Returns the degree (number of relationships) of the currently processed node.
      */
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.concurrency.Concurrency;
+
+import java.util.ArrayList;
+import java.util.concurrent.Phaser;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.beta.pregel.ArenaAsyncDoubleQueues.CHUNK_SIZE;
+
+class ArenaAsyncDoubleQueuesTest {
+
+    @Test
+    void isEmpty() {
+        var queues = ArenaAsyncDoubleQueues.of(1, new Concurrency(1));
+        assertThat(queues.isEmpty(0)).isTrue();
+
+        queues.push(0, 42);
+        assertThat(queues.isEmpty(0)).isFalse();
+
+        queues.pop(0);
+        assertThat(queues.isEmpty(0)).isTrue();
+    }
+
+    @Test
+    void popMessagesOfCurrentSuperstepLatestFirst() {
+        var queues = ArenaAsyncDoubleQueues.of(2, new Concurrency(1));
+        queues.push(0, 42.0D);
+        queues.push(1, 1337.0D);
+        queues.push(0, 84.0D);
+
+        assertThat(queues.pop(0)).isEqualTo(84.0D);
+        assertThat(queues.pop(0)).isEqualTo(42.0D);
+        assertThat(queues.isEmpty(0)).isTrue();
+        assertThat(queues.pop(1)).isEqualTo(1337.0D);
+    }
+
+    @Test
+    void compactKeepsUnreadMessagesInReceiveOrder() {
+        var queues = ArenaAsyncDoubleQueues.of(3, new Concurrency(1));
+        for (int i = 0; i < 5; i++) {
+            queues.push(0, i);
+            queues.push(2, 10 + i);
+        }
+        queues.pop(2);
+
+        queues.compact();
+
+        // messages of the next superstep are read after the unread ones
+        queues.push(0, 5);
+        queues.compact();
+
+        for (int i = 0; i < 6; i++) {
+            assertThat(queues.pop(0)).isEqualTo(i);
+        }
+        assertThat(queues.isEmpty(0)).isTrue();
+        assertThat(queues.isEmpty(1)).isTrue();
+        for (int i = 0; i < 4; i++) {
+            assertThat(queues.pop(2)).isEqualTo(10 + i);
+        }
+        assertThat(queues.isEmpty(2)).isTrue();
+    }
+
+    @Test
+    void reuseChunksAcrossSupersteps() {
+        var queues = ArenaAsyncDoubleQueues.of(1, new Concurrency(1));
+
+        for (int superstep = 0; superstep < 5; superstep++) {
+            for (int i = 0; i < 3 * CHUNK_SIZE; i++) {
+                queues.push(0, i);
+            }
+            var sum = 0D;
+            while (!queues.isEmpty(0)) {
+                sum += queues.pop(0);
+            }
+            assertThat(sum).isEqualTo(IntStream.range(0, 3 * CHUNK_SIZE).asDoubleStream().sum());
+            queues.compact();
+        }
+
+        assertThat(queues.allocatedChunks()).isEqualTo(3);
+    }
+
+    @Test
+    void parallelPush() {
+        var queues = ArenaAsyncDoubleQueues.of(1, new Concurrency(4));
+        var concurrency = 4;
+        var messagesPerTask = 2 * CHUNK_SIZE + 1;
+        var phaser = new Phaser(concurrency + 1);
+
+        IntStream.range(0, concurrency).mapToObj((taskOffset) -> (Runnable) () -> {
+            phaser.arriveAndAwaitAdvance();
+            for (int i = 0; i < messagesPerTask; i++) {
+                queues.push(0, i + taskOffset * messagesPerTask);
+            }
+            phaser.arriveAndAwaitAdvance();
+        }).forEach(task -> new Thread(task).start());
+
+        phaser.arriveAndAwaitAdvance();
+        phaser.arriveAndAwaitAdvance();
+
+        queues.compact();
+
+        var values = new ArrayList<Long>();
+        while (!queues.isEmpty(0)) {
+            values.add(Math.round(queues.pop(0)));
+        }
+
+        assertThat(values).containsExactlyInAnyOrderElementsOf(
+            IntStream.range(0, concurrency * messagesPerTask).mapToObj(Long::valueOf).toList()
+        );
+    }
+
+    @Test
+    void iterate() {
+        var queues = ArenaAsyncDoubleQueues.of(1, new Concurrency(1));
+        queues.push(0, 1);
+        queues.compact();
+        queues.push(0, 2);
+
+        var iterator = new ArenaAsyncDoubleQueues.Iterator(queues);
+        iterator.init(0);
+
+        var sum = 0D;
+        while (iterator.hasNext()) {
+            sum += iterator.nextDouble();
+        }
+
+        assertThat(sum).isEqualTo(3);
+        assertThat(iterator.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.core.utils.partition.Partition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FrontierTest {
+
+    @Test
+    void allNodesAreActiveInitially() {
+        var frontier = Frontier.create(100);
+
+        assertThat(frontier.activeNodeCount()).isEqualTo(100);
+        assertThat(frontier.hasActiveNodes(Partition.of(90, 10))).isTrue();
+        assertThat(activeNodes(frontier, Partition.of(90, 10))).containsExactly(90L, 91L, 92L, 93L, 94L, 95L, 96L, 97L, 98L, 99L);
+    }
+
+    @Test
+    void switchesRepresentationByDensity() {
+        var frontier = Frontier.create(1000);
+
+        // less than 5% of the nodes are active
+        frontier.activate(3);
+        frontier.activate(700);
+        frontier.advance();
+        assertThat(frontier.isSparse()).isTrue();
+        assertThat(frontier.activeNodeCount()).isEqualTo(2);
+
+        for (long nodeId = 0; nodeId < 100; nodeId++) {
+            frontier.activate(nodeId * 10);
+        }
+        frontier.advance();
+        assertThat(frontier.isSparse()).isFalse();
+        assertThat(frontier.activeNodeCount()).isEqualTo(100);
+
+        frontier.advance();
+        assertThat(frontier.isSparse()).isTrue();
+        assertThat(frontier.activeNodeCount()).isEqualTo(0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 200})
+    void visitsOnlyActiveNodesOfPartition(int activeNodes) {
+        var frontier = Frontier.create(1000);
+        for (long nodeId = 0; nodeId < activeNodes; nodeId++) {
+            frontier.activate(1000 - activeNodes * 2L + nodeId * 2L);
+        }
+        frontier.advance();
+
+        var lastPartition = Partition.of(500, 500);
+        var emptyPartition = Partition.of(0, 500);
+
+        assertThat(frontier.hasActiveNodes(emptyPartition)).isFalse();
+        assertThat(activeNodes(frontier, emptyPartition)).isEmpty();
+
+        assertThat(frontier.hasActiveNodes(lastPartition)).isTrue();
+        var visited = activeNodes(frontier, lastPartition);
+        assertThat(visited).hasSize(activeNodes).isSorted();
+        assertThat(visited.get(visited.size() - 1)).isEqualTo(998L);
+    }
+
+    @Test
+    void activationsOnlyAffectTheNextSuperstep() {
+        var frontier = Frontier.create(100);
+        frontier.activate(42);
+        frontier.advance();
+
+        frontier.activate(1);
+        assertThat(activeNodes(frontier, Partition.of(0, 100))).containsExactly(42L);
+
+        frontier.advance();
+        assertThat(activeNodes(frontier, Partition.of(0, 100))).containsExactly(1L);
+    }
+
+    private static List<Long> activeNodes(Frontier frontier, Partition partition) {
+        var nodes = new ArrayList<Long>();
+        frontier.forEachActiveNode(partition, nodes::add);
+        return nodes;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageRunFileTest {
+
+    @Test
+    void mapRunsInSegments() {
+        int recordBytes = MessageRunFile.recordBytes(1);
+        // three records per segment, runs span segment boundaries
+        try (var file = MessageRunFile.create(1, 3L * recordBytes + 1)) {
+            file.append(records(new long[]{0, 1, 1, 4, 5}));
+            file.append(records(new long[]{2, 3}));
+            file.append(records(new long[]{1, 2, 3, 5}));
+
+            file.map();
+
+            assertThat(file.segmentCount()).isEqualTo(4);
+            assertThat(file.runCount()).isEqualTo(3);
+            for (int run = 0; run < file.runCount(); run++) {
+                for (long record = 0; record < file.runLength(run); record++) {
+                    // the message is the target negated
+                    assertThat(file.field(run, record, 0)).isEqualTo(-file.target(run, record));
+                }
+            }
+            assertThat(file.lowerBound(0, 0, 2)).isEqualTo(3);
+            assertThat(file.lowerBound(2, 1, 4)).isEqualTo(3);
+
+            file.reset();
+            file.map();
+            assertThat(file.segmentCount()).isZero();
+            assertThat(file.runCount()).isZero();
+        }
+    }
+
+    private static ByteBuffer records(long[] targets) {
+        var buffer = ByteBuffer.allocate(targets.length * MessageRunFile.recordBytes(1));
+        for (long target : targets) {
+            buffer.putLong(target).putDouble(-target);
+        }
+        return buffer.flip();
+    }
+}
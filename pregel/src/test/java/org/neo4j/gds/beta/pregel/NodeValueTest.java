@@ -61,6 +61,44 @@ class NodeValueTest {
         assertEquals(nodeValues.longProperties(key2).size(), 10);
     }
 
+    @Test
+    void columnsAreOrderedByPropertyKey() {
+        var schema = new PregelSchema.Builder()
+            .add("rank", ValueType.DOUBLE)
+            .add("community", ValueType.LONG)
+            .add("neighbors", ValueType.LONG_ARRAY)
+            .build();
+        var nodeValues = NodeValue.of(schema, 10, new Concurrency(4));
+
+        assertThat(nodeValues.column("community")).isEqualTo(0);
+        assertThat(nodeValues.column("neighbors")).isEqualTo(1);
+        assertThat(nodeValues.column("rank")).isEqualTo(2);
+        assertThatThrownBy(() -> nodeValues.column("DOES_NOT_EXIST"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Property with key DOES_NOT_EXIST does not exist.");
+    }
+
+    @Test
+    void columnAccessSharesStorageWithKeyAccess() {
+        var schema = new PregelSchema.Builder()
+            .add("rank", ValueType.DOUBLE)
+            .add("community", ValueType.LONG)
+            .add("neighbors", ValueType.LONG_ARRAY)
+            .add("scores", ValueType.DOUBLE_ARRAY)
+            .build();
+        var nodeValues = NodeValue.of(schema, 10, new Concurrency(4));
+
+        nodeValues.set(nodeValues.column("rank"), 3, 0.5D);
+        nodeValues.set(nodeValues.column("community"), 3, 42L);
+        nodeValues.set(nodeValues.column("neighbors"), 3, new long[]{1, 2});
+        nodeValues.set("scores", 3, new double[]{1.5});
+
+        assertThat(nodeValues.doubleValue("rank", 3)).isEqualTo(0.5D);
+        assertThat(nodeValues.longValue("community", 3)).isEqualTo(42L);
+        assertThat(nodeValues.longArrayValue("neighbors", 3)).containsExactly(1, 2);
+        assertThat(nodeValues.doubleArrayValue(nodeValues.column("scores"), 3)).containsExactly(1.5);
+    }
+
     @ParameterizedTest
     @MethodSource("org.neo4j.gds.beta.pregel.NodeValueTest#validPropertyTypeAndGetters")
     void testThrowWhenAccessingUnknownProperty(ValueType valueType, BiConsumer<NodeValue, String> valueConsumer) {
@@ -34,8 +34,10 @@ import org.neo4j.gds.TestTaskStore;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.Direction;
 import org.neo4j.gds.beta.generator.RandomGraphGenerator;
 import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.beta.pregel.annotation.PregelNodeValues;
 import org.neo4j.gds.beta.pregel.context.ComputeContext;
 import org.neo4j.gds.beta.pregel.context.ComputeContext.BidirectionalComputeContext;
 import org.neo4j.gds.beta.pregel.context.InitContext;
@@ -60,6 +62,7 @@ import org.neo4j.gds.mem.MemoryRange;
 import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -276,6 +279,532 @@ class PregelTest {
         }
     }
 
+    static Stream<Arguments> partitioningAndReducer() {
+        return crossArguments(PregelTest::partitionings, TestSupport::trueFalseArguments);
+    }
+
+    @ParameterizedTest
+    @MethodSource("partitioningAndReducer")
+    void trackingActiveNodesProducesSameResult(Partitioning partitioning, boolean useReducer) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var configBuilder = PregelConfigImpl.builder()
+            .maxIterations(100)
+            .partitioning(partitioning)
+            .concurrency(4);
+
+        var computation = useReducer ? new MinIdComputation() {
+            @Override
+            public Optional<Reducer> reducer() {
+                return Optional.of(new Reducer.Min());
+            }
+        } : new MinIdComputation();
+
+        var allNodes = Pregel.create(
+            graph,
+            configBuilder.trackActiveNodes(false).build(),
+            computation,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+        var activeNodes = Pregel.create(
+            graph,
+            configBuilder.trackActiveNodes(true).build(),
+            computation,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        assertThat(activeNodes.didConverge()).isEqualTo(allNodes.didConverge());
+        assertThat(activeNodes.ranIterations()).isEqualTo(allNodes.ranIterations());
+        assertThat(activeNodes.nodeValues().doubleProperties(KEY).toArray())
+            .containsExactly(allNodes.nodeValues().doubleProperties(KEY).toArray());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void messagesActivateHaltedNodes(Partitioning partitioning) {
+        var chain = TestSupport.fromGdl("(a)-->(b)-->(c)-->(d)-->(e)");
+
+        var config = PregelConfigImpl.builder()
+            .maxIterations(10)
+            .partitioning(partitioning)
+            .trackActiveNodes(true)
+            .concurrency(4)
+            .build();
+
+        var result = Pregel.create(
+            chain,
+            config,
+            new HopComputation(chain.toMappedNodeId("a")),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        // every node has voted to halt before its message arrives, only the message makes it compute again
+        var hops = result.nodeValues().doubleProperties(KEY);
+        assertThat(hops.get(chain.toMappedNodeId("a"))).isEqualTo(0);
+        assertThat(hops.get(chain.toMappedNodeId("b"))).isEqualTo(1);
+        assertThat(hops.get(chain.toMappedNodeId("c"))).isEqualTo(2);
+        assertThat(hops.get(chain.toMappedNodeId("d"))).isEqualTo(3);
+        assertThat(hops.get(chain.toMappedNodeId("e"))).isEqualTo(4);
+        assertThat(result.didConverge()).isTrue();
+    }
+
+    static Stream<Arguments> directionAndActiveNodes() {
+        return crossArguments(
+            () -> Stream.of(Arguments.of(Direction.DIRECTED), Arguments.of(Direction.UNDIRECTED)),
+            TestSupport::trueFalseArguments
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("directionAndActiveNodes")
+    void pullingMessagesProducesSameResult(Direction direction, boolean trackActiveNodes) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(direction)
+            .inverseIndex(direction == Direction.DIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var configBuilder = PregelConfigImpl.builder()
+            .maxIterations(100)
+            .trackActiveNodes(trackActiveNodes)
+            .concurrency(4);
+
+        var pushed = Pregel.create(
+            graph,
+            configBuilder.pullMessages(false).build(),
+            new ReducingMinIdComputation(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+        var pulled = Pregel.create(
+            graph,
+            configBuilder.pullMessages(true).build(),
+            new ReducingMinIdComputation(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        assertThat(pulled.didConverge()).isEqualTo(pushed.didConverge());
+        assertThat(pulled.ranIterations()).isEqualTo(pushed.ranIterations());
+        assertThat(pulled.nodeValues().doubleProperties(KEY).toArray())
+            .containsExactly(pushed.nodeValues().doubleProperties(KEY).toArray());
+    }
+
+    @Test
+    void pullNaNMessages() {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(100)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .direction(Direction.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var result = Pregel.create(
+            graph,
+            PregelConfigImpl.builder().maxIterations(2).pullMessages(true).build(),
+            new TestReduciblePregelComputation() {
+                @Override
+                public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+                    if (context.isInitialSuperstep()) {
+                        context.setNodeValue(KEY, 0.0);
+                        context.sendToNeighbors(Double.NaN);
+                    } else if (!messages.isEmpty()) {
+                        context.setNodeValue(KEY, messages.doubleIterator().nextDouble());
+                    }
+                    context.voteToHalt();
+                }
+            },
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        var values = result.nodeValues().doubleProperties(KEY);
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            if (graph.degree(nodeId) > 0) {
+                assertThat(values.get(nodeId)).as("value of node %d", nodeId).isNaN();
+            } else {
+                assertThat(values.get(nodeId)).as("value of node %d", nodeId).isEqualTo(0.0);
+            }
+        }
+    }
+
+    @Test
+    void throwIfMessagesArePulledWithoutInverseIndex() {
+        ThrowableAssert.ThrowingCallable pregelCreate = () -> Pregel.create(
+            graph,
+            PregelConfigImpl.builder().maxIterations(2).pullMessages(true).build(),
+            new ReducingMinIdComputation(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        assertThatThrownBy(pregelCreate)
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessageContaining("requires inverse indexes");
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void compactMessageQueuesProduceSameResult(Partitioning partitioning) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var configBuilder = PregelConfigImpl.builder()
+            .maxIterations(100)
+            .isAsynchronous(true)
+            .partitioning(partitioning)
+            .concurrency(4);
+
+        var perNodeQueues = Pregel.create(
+            graph,
+            configBuilder.compactMessageQueues(false).build(),
+            new MinIdComputation(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+        var compactQueues = Pregel.create(
+            graph,
+            configBuilder.compactMessageQueues(true).build(),
+            new MinIdComputation(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        // asynchronous computations may take a different number of supersteps
+        assertThat(compactQueues.didConverge()).isTrue();
+        assertThat(compactQueues.didConverge()).isEqualTo(perNodeQueues.didConverge());
+        assertThat(compactQueues.nodeValues().doubleProperties(KEY).toArray())
+            .containsExactly(perNodeQueues.nodeValues().doubleProperties(KEY).toArray());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void spillingMessagesProducesSameResult(Partitioning partitioning) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var configBuilder = PregelConfigImpl.builder()
+            .maxIterations(100)
+            .partitioning(partitioning)
+            .concurrency(4);
+
+        var inMemory = Pregel.create(
+            graph,
+            configBuilder.build(),
+            new MinIdComputation(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+        var spilled = Pregel.create(
+            graph,
+            // a budget for a few thousand messages forces spilling in the first supersteps
+            configBuilder.messageMemoryBudget(4096 * Double.BYTES).build(),
+            new MinIdComputation(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        assertThat(spilled.didConverge()).isEqualTo(inMemory.didConverge());
+        assertThat(spilled.ranIterations()).isEqualTo(inMemory.ranIterations());
+        assertThat(spilled.nodeValues().doubleProperties(KEY).toArray())
+            .containsExactly(inMemory.nodeValues().doubleProperties(KEY).toArray());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void batchedRunProducesSameResultAsSingleRuns(Partitioning partitioning) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var config = PregelConfigImpl.builder()
+            .maxIterations(100)
+            .partitioning(partitioning)
+            .concurrency(4)
+            .build();
+
+        var batched = Pregel.create(
+            graph,
+            config,
+            new BatchedMinIdComputation(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        assertThat(batched.didConverge()).isTrue();
+        var batchedLabels = batched.nodeValues().doubleArrayProperties(KEY);
+
+        for (int lane = 0; lane < BatchedMinIdComputation.OFFSETS.length; lane++) {
+            var single = run(graph, config, new OffsetMinIdComputation(BatchedMinIdComputation.OFFSETS[lane]));
+            for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(batchedLabels.get(nodeId)[lane])
+                    .as("lane %d of node %d", lane, nodeId)
+                    .isEqualTo(single.get(nodeId));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void profileSupersteps(Partitioning partitioning) {
+        var configBuilder = PregelConfigImpl.builder()
+            .maxIterations(10)
+            .partitioning(partitioning)
+            .concurrency(2);
+
+        var unprofiled = Pregel.create(
+            graph,
+            configBuilder.build(),
+            new MinIdComputation(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+        var profiled = Pregel.create(
+            graph,
+            configBuilder.profileSupersteps(true).build(),
+            new MinIdComputation(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        assertThat(unprofiled.superstepProfiles()).isEmpty();
+        assertThat(profiled.ranIterations()).isEqualTo(unprofiled.ranIterations());
+        assertThat(profiled.nodeValues().doubleProperties(KEY).toArray())
+            .containsExactly(unprofiled.nodeValues().doubleProperties(KEY).toArray());
+
+        var profiles = profiled.superstepProfiles();
+        assertThat(profiles).hasSize(2);
+
+        // every node is computed and alice sends to bob and eve
+        var initialSuperstep = profiles.get(0);
+        assertThat(initialSuperstep.superstep()).isEqualTo(0);
+        assertThat(initialSuperstep.activeNodes()).isEqualTo(3L);
+        assertThat(initialSuperstep.receivingNodes()).isEqualTo(0L);
+        assertThat(initialSuperstep.messagesSent()).isEqualTo(2L);
+        assertThat(initialSuperstep.partitions()).isPositive();
+        assertThat(initialSuperstep.maxPartitionNanos()).isGreaterThanOrEqualTo(initialSuperstep.minPartitionNanos());
+        assertThat(initialSuperstep.partitionSkew()).isGreaterThanOrEqualTo(1.0);
+
+        // only bob and eve have messages, but no outgoing relationships
+        var secondSuperstep = profiles.get(1);
+        assertThat(secondSuperstep.superstep()).isEqualTo(1);
+        assertThat(secondSuperstep.activeNodes()).isEqualTo(2L);
+        assertThat(secondSuperstep.receivingNodes()).isEqualTo(2L);
+        assertThat(secondSuperstep.messagesSent()).isEqualTo(0L);
+        assertThat(secondSuperstep.toMap()).containsEntry("messagesSent", 0L);
+    }
+
+    /**
+     * Propagates the minimum of a label derived from the node id, where the
+     * derivation is shifted by an offset to get different results per offset.
+     */
+    static class OffsetMinIdComputation implements PregelComputation<PregelConfig> {
+
+        private final long offset;
+
+        OffsetMinIdComputation(long offset) {
+            this.offset = offset;
+        }
+
+        static double label(long nodeId, long offset, long nodeCount) {
+            return (nodeId + offset) % nodeCount;
+        }
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder().add(KEY, ValueType.DOUBLE).build();
+        }
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return Optional.of(new Reducer.Min());
+        }
+
+        @Override
+        public MemoryEstimateDefinition estimateDefinition(PregelConfig config) {
+            return null;
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                double label = label(context.nodeId(), offset, context.nodeCount());
+                context.setNodeValue(KEY, label);
+                context.sendToNeighbors(label);
+            } else {
+                double minLabel = context.doubleNodeValue(KEY);
+                for (var message : messages) {
+                    minLabel = Math.min(minLabel, message);
+                }
+                if (minLabel < context.doubleNodeValue(KEY)) {
+                    context.setNodeValue(KEY, minLabel);
+                    context.sendToNeighbors(minLabel);
+                }
+            }
+            context.voteToHalt();
+        }
+    }
+
+    /**
+     * Runs an {@link OffsetMinIdComputation} per offset in a single batched computation.
+     */
+    static class BatchedMinIdComputation implements PregelComputation<PregelConfig> {
+
+        static final long[] OFFSETS = {0, 1_000, 2_500, 7_777};
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder().add(KEY, ValueType.DOUBLE_ARRAY).build();
+        }
+
+        @Override
+        public MessageSchema messageSchema(PregelConfig config) {
+            return MessageSchema.doubles(OFFSETS.length);
+        }
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return Optional.of(new Reducer.Min());
+        }
+
+        @Override
+        public MemoryEstimateDefinition estimateDefinition(PregelConfig config) {
+            return null;
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                var labels = new double[OFFSETS.length];
+                for (int lane = 0; lane < OFFSETS.length; lane++) {
+                    labels[lane] = OffsetMinIdComputation.label(context.nodeId(), OFFSETS[lane], context.nodeCount());
+                }
+                context.setNodeValue(KEY, labels);
+                context.sendToNeighbors(labels);
+            } else if (messages.advance()) {
+                var labels = context.doubleArrayNodeValue(KEY);
+                boolean changed = false;
+                for (int lane = 0; lane < OFFSETS.length; lane++) {
+                    double message = messages.doubleValue(lane);
+                    if (message < labels[lane]) {
+                        labels[lane] = message;
+                        changed = true;
+                    }
+                }
+                if (changed) {
+                    context.setNodeValue(KEY, labels);
+                    context.sendToNeighbors(labels);
+                }
+            }
+            context.voteToHalt();
+        }
+    }
+
+    static class HopComputation implements PregelComputation<PregelConfig> {
+
+        private final long sourceNode;
+
+        HopComputation(long sourceNode) {
+            this.sourceNode = sourceNode;
+        }
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder().add(KEY, ValueType.DOUBLE).build();
+        }
+
+        @Override
+        public MemoryEstimateDefinition estimateDefinition(PregelConfig config) {
+            return null;
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                if (context.nodeId() == sourceNode) {
+                    context.setNodeValue(KEY, 0D);
+                    context.sendToNeighbors(1D);
+                } else {
+                    context.setNodeValue(KEY, -1D);
+                }
+            } else if (context.doubleNodeValue(KEY) < 0) {
+                for (var message : messages) {
+                    context.setNodeValue(KEY, message);
+                    context.sendToNeighbors(message + 1);
+                    break;
+                }
+            }
+            context.voteToHalt();
+        }
+    }
+
+    static class ReducingMinIdComputation extends MinIdComputation {
+        @Override
+        public Optional<Reducer> reducer() {
+            return Optional.of(new Reducer.Min());
+        }
+    }
+
+    static class MinIdComputation implements PregelComputation<PregelConfig> {
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder().add(KEY, ValueType.DOUBLE).build();
+        }
+
+        @Override
+        public MemoryEstimateDefinition estimateDefinition(PregelConfig config) {
+            return null;
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.setNodeValue(KEY, (double) context.nodeId());
+                context.sendToNeighbors((double) context.nodeId());
+            } else {
+                double minId = context.doubleNodeValue(KEY);
+                for (var message : messages) {
+                    minId = Math.min(minId, message);
+                }
+                if (minId < context.doubleNodeValue(KEY)) {
+                    context.setNodeValue(KEY, minId);
+                    context.sendToNeighbors(minId);
+                }
+            }
+            context.voteToHalt();
+        }
+    }
+
     @NotNull
     private HugeDoubleArray run(Graph graph, PregelConfig config, PregelComputation<PregelConfig> computation) {
         var pregelJob = Pregel.create(
@@ -518,7 +1047,7 @@ class PregelTest {
                 }
 
                 @Override
-                public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+                public MemoryEstimateDefinition estimateDefinition(PregelConfig config) {
                     return null;
                 }
             },
@@ -545,15 +1074,76 @@ class PregelTest {
             .relCountUpperBound(100_000)
             .build();
 
+        var config = PregelConfigImpl.builder().maxIterations(1).isAsynchronous(isAsync).build();
+
         assertEquals(
             MemoryRange.of(expectedBytes).max,
             Pregel
-                .memoryEstimation(pregelSchema.propertiesMap(), isQueueBased, isAsync)
+                .memoryEstimation(pregelSchema.propertiesMap(), isQueueBased, config)
                 .estimate(dimensions, new Concurrency(concurrency))
                 .memoryUsage().max
         );
     }
 
+    @Test
+    void memoryEstimationOfBatchedMessages() {
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(10_000)
+            .relCountUpperBound(100_000)
+            .build();
+        var concurrency = new Concurrency(4);
+        var properties = Map.of("key", ValueType.LONG);
+        var config = PregelConfigImpl.builder().maxIterations(1).build();
+
+        long singleValueMessages = Pregel.memoryEstimation(properties, false, 1, config)
+            .estimate(dimensions, concurrency)
+            .memoryUsage().max;
+        long batchedMessages = Pregel.memoryEstimation(properties, false, 3, config)
+            .estimate(dimensions, concurrency)
+            .memoryUsage().max;
+
+        long reducingMessenger = ReducingMessenger.memoryEstimation()
+            .estimate(dimensions, concurrency)
+            .memoryUsage().max;
+        long batchedReducingMessenger = BatchedReducingMessenger.memoryEstimation(3)
+            .estimate(dimensions, concurrency)
+            .memoryUsage().max;
+
+        assertThat(batchedMessages - singleValueMessages).isEqualTo(batchedReducingMessenger - reducingMessenger);
+        assertThat(Pregel.memoryEstimation(properties, false, config).estimate(dimensions, concurrency).memoryUsage().max)
+            .isEqualTo(singleValueMessages);
+    }
+
+    @Test
+    void estimateDefinitionFallsBackToAsynchronousFlag() {
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(10_000)
+            .relCountUpperBound(100_000)
+            .build();
+        var propertiesMap = Map.of(KEY, ValueType.DOUBLE);
+
+        // implements only the deprecated variant, as computations written against earlier versions do
+        var computation = new PregelComputation<PregelConfig>() {
+            @Override
+            public PregelSchema schema(PregelConfig config) {
+                return new PregelSchema.Builder().add(KEY, ValueType.DOUBLE).build();
+            }
+
+            @Override
+            public void compute(ComputeContext<PregelConfig> context, Messages messages) {}
+
+            @Override
+            public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+                return () -> Pregel.memoryEstimation(propertiesMap, true, isAsynchronous);
+            }
+        };
+
+        var config = PregelConfigImpl.builder().maxIterations(1).isAsynchronous(true).build();
+
+        assertThat(computation.estimateDefinition(config).memoryEstimation().estimate(dimensions, new Concurrency(4)).memoryUsage().max)
+            .isEqualTo(Pregel.memoryEstimation(propertiesMap, true, config).estimate(dimensions, new Concurrency(4)).memoryUsage().max);
+    }
+
     static Stream<Arguments> partitioningConfigAndResult() {
         return crossArguments(PregelTest::partitionings, PregelTest::configAndResult);
     }
@@ -658,7 +1248,7 @@ class PregelTest {
         }
 
         @Override
-        public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+        public MemoryEstimateDefinition estimateDefinition(PregelConfig config) {
             return null;
         }
 
@@ -704,7 +1294,7 @@ class PregelTest {
         }
 
         @Override
-        public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+        public MemoryEstimateDefinition estimateDefinition(PregelConfig config) {
             return null;
         }
 
@@ -743,7 +1333,7 @@ class PregelTest {
         }
 
         @Override
-        public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+        public MemoryEstimateDefinition estimateDefinition(CompositeTestComputationConfig config) {
             return null;
         }
 
@@ -815,7 +1405,7 @@ class PregelTest {
         }
 
         @Override
-        public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+        public MemoryEstimateDefinition estimateDefinition(PregelConfig config) {
             return null;
         }
     }
@@ -827,7 +1417,7 @@ class PregelTest {
         }
 
         @Override
-        public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+        public MemoryEstimateDefinition estimateDefinition(PregelConfig config) {
             return null;
         }
 
@@ -850,6 +1440,150 @@ class PregelTest {
         }
     }
 
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void sendTypedMessages(Partitioning partitioning) {
+        var config = PregelConfigImpl.builder()
+            .maxIterations(2)
+            .concurrency(2)
+            .partitioning(partitioning)
+            .build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TypedMessageComputation(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var nodeValues = pregelJob.run().nodeValues();
+        var alice = graph.toMappedNodeId("alice");
+        var bob = graph.toMappedNodeId("bob");
+        var eve = graph.toMappedNodeId("eve");
+
+        assertThat(nodeValues.longValue(TypedMessageComputation.SENDER_KEY, alice)).isEqualTo(-1L);
+        assertThat(nodeValues.doubleValue(TypedMessageComputation.SCORE_KEY, alice)).isEqualTo(0D);
+        // the complement of small ids has the bit pattern of a double NaN, it must survive the queues unchanged
+        assertThat(nodeValues.longValue(TypedMessageComputation.SENDER_KEY, bob)).isEqualTo(~alice);
+        assertThat(nodeValues.doubleValue(TypedMessageComputation.SCORE_KEY, bob)).isEqualTo(0.5D);
+        assertThat(nodeValues.longValue(TypedMessageComputation.SENDER_KEY, eve)).isEqualTo(~alice);
+        assertThat(nodeValues.doubleValue(TypedMessageComputation.SCORE_KEY, eve)).isEqualTo(0.5D);
+    }
+
+    @Test
+    void throwIfTypedMessagesAreCombinedWithAReducer() {
+        ThrowableAssert.ThrowingCallable pregelCreate = () -> Pregel.create(
+            graph,
+            PregelConfigImpl.builder().maxIterations(2).build(),
+            new TypedMessageComputation() {
+                @Override
+                public Optional<Reducer> reducer() {
+                    return Optional.of(new Reducer.Sum());
+                }
+            },
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        assertThatThrownBy(pregelCreate)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("cannot be combined with a reducer");
+    }
+
+    @Test
+    void acceptSchemaMatchingTheDeclaredNodeValues() {
+        var result = Pregel.create(
+            graph,
+            PregelConfigImpl.builder().maxIterations(2).build(),
+            new DeclaredNodeValuesComputation(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        assertThat(result.nodeValues().doubleProperties(KEY).size()).isEqualTo(graph.nodeCount());
+    }
+
+    @Test
+    void throwIfSchemaDoesNotMatchTheDeclaredNodeValues() {
+        ThrowableAssert.ThrowingCallable pregelCreate = () -> Pregel.create(
+            graph,
+            PregelConfigImpl.builder().maxIterations(2).build(),
+            new MismatchingNodeValuesComputation(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        assertThatThrownBy(pregelCreate)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("declares the node values [value (LONG, PUBLIC)] in @PregelNodeValues")
+            .hasMessageContaining("schema contains [value (DOUBLE, PUBLIC)]");
+    }
+
+    @PregelNodeValues(@PregelNodeValues.Property(key = KEY, type = ValueType.DOUBLE))
+    static class DeclaredNodeValuesComputation extends TestPregelComputation {}
+
+    @PregelNodeValues(@PregelNodeValues.Property(key = KEY, type = ValueType.LONG))
+    static class MismatchingNodeValuesComputation extends TestPregelComputation {}
+
+    @Test
+    void throwIfTypedMessagesAreSentAsynchronously() {
+        ThrowableAssert.ThrowingCallable pregelCreate = () -> Pregel.create(
+            graph,
+            PregelConfigImpl.builder().maxIterations(2).isAsynchronous(true).build(),
+            new TypedMessageComputation(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        assertThatThrownBy(pregelCreate)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("only supported for synchronous computations");
+    }
+
+    static class TypedMessageComputation implements PregelComputation<PregelConfig> {
+
+        static final String SENDER_KEY = "sender";
+        static final String SCORE_KEY = "score";
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder()
+                .add(SENDER_KEY, ValueType.LONG)
+                .add(SCORE_KEY, ValueType.DOUBLE)
+                .build();
+        }
+
+        @Override
+        public MessageSchema messageSchema(PregelConfig config) {
+            return MessageSchema.LONG_DOUBLE;
+        }
+
+        @Override
+        public MemoryEstimateDefinition estimateDefinition(PregelConfig config) {
+            return null;
+        }
+
+        @Override
+        public void init(InitContext<PregelConfig> context) {
+            context.setNodeValue(SENDER_KEY, -1L);
+            context.setNodeValue(SCORE_KEY, 0D);
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.sendLongDoubleToNeighbors(~context.nodeId(), 1D / context.degree());
+            } else {
+                while (messages.advance()) {
+                    context.setNodeValue(SENDER_KEY, messages.longValue(0));
+                    context.setNodeValue(SCORE_KEY, context.doubleNodeValue(SCORE_KEY) + messages.doubleValue(1));
+                }
+            }
+            context.voteToHalt();
+        }
+    }
+
     @Test
     void throwIfBidirectionalWithoutInverseIndex() {
         ThrowableAssert.ThrowingCallable pregelCreate = () -> Pregel.create(
@@ -872,7 +1606,7 @@ class PregelTest {
         }
 
         @Override
-        public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+        public MemoryEstimateDefinition estimateDefinition(PregelConfig config) {
             return null;
         }
 
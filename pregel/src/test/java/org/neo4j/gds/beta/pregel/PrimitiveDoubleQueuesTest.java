@@ -23,6 +23,7 @@ import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.concurrent.Phaser;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -82,4 +83,51 @@ abstract class PrimitiveDoubleQueuesTest {
             .containsExactlyInAnyOrder(LongStream.range(0, concurrency * 100).boxed().toArray(Long[]::new));
     }
 
+    @RepeatedTest(100)
+    void parallelPushMultiSlotMessages() {
+        var queues = getQueue(1, 42);
+        var concurrency = 4;
+        var width = 3;
+        var phaser = new Phaser(concurrency + 1);
+
+        IntStream.range(0, concurrency).mapToObj((taskOffset) -> (Runnable) () -> {
+            var message = new double[width];
+            phaser.arriveAndAwaitAdvance();
+            for (int i = 0; i < 100; i++) {
+                Arrays.fill(message, i + taskOffset * 100);
+                queues.push(0, message);
+            }
+            phaser.arriveAndAwaitAdvance();
+        }).forEach(task -> new Thread(task).start());
+
+        phaser.arriveAndAwaitAdvance();
+        phaser.arriveAndAwaitAdvance();
+
+        assertThat(queues.tail(0)).isEqualTo((long) concurrency * 100 * width);
+
+        var values = new ArrayList<Long>();
+        var queue = queues.queue(0);
+        for (int i = 0; i < queues.tail(0); i += width) {
+            // the slots of a message must not interleave with other messages
+            assertThat(queue[i + 1]).isEqualTo(queue[i]);
+            assertThat(queue[i + 2]).isEqualTo(queue[i]);
+            values.add(Math.round(queue[i]));
+        }
+
+        assertThat(values)
+            .containsExactlyInAnyOrder(LongStream.range(0, concurrency * 100).boxed().toArray(Long[]::new));
+    }
+
+    @Test
+    void growQueueArrayForWideMessages() {
+        var queues = getQueue(1, 42);
+
+        var message = new double[100];
+        Arrays.fill(message, 1337);
+        queues.push(0, message);
+
+        assertThat(queues.queue(0).length).isGreaterThanOrEqualTo(100);
+        assertThat(queues.tail(0)).isEqualTo(100);
+        assertThat(Arrays.copyOf(queues.queue(0), 100)).containsOnly(1337);
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.beta.pregel.SpillingSyncQueueMessenger.RUN_CAPACITY;
+
+class SpillingSyncQueueMessengerTest {
+
+    @Test
+    void spillMessagesBeyondBudget() {
+        // the budget fits two messages
+        var messenger = new SpillingSyncQueueMessenger(3, 1, 2 * Double.BYTES);
+        messenger.initIteration(0);
+
+        for (int i = 0; i < 10; i++) {
+            messenger.sendTo(1, i);
+        }
+        messenger.sendTo(0, 42);
+        messenger.sendTo(2, 1337);
+
+        messenger.initIteration(1);
+
+        assertThat(messages(messenger, 0, 1)).containsExactly(42D);
+        assertThat(messages(messenger, 1, 1)).containsExactlyInAnyOrder(0D, 1D, 2D, 3D, 4D, 5D, 6D, 7D, 8D, 9D);
+        assertThat(messages(messenger, 2, 1)).containsExactly(1337D);
+
+        // messages are only delivered in the following superstep
+        messenger.initIteration(2);
+        assertThat(messages(messenger, 1, 1)).isEmpty();
+
+        messenger.release();
+    }
+
+    @Test
+    void spillWideMessages() {
+        var messenger = new SpillingSyncQueueMessenger(2, 2, 2 * Double.BYTES);
+        messenger.initIteration(0);
+
+        messenger.sendTo(1, new double[]{1, 2});
+        messenger.sendTo(1, new double[]{3, 4});
+        messenger.sendTo(0, new double[]{5, 6});
+
+        messenger.initIteration(1);
+
+        assertThat(messages(messenger, 0, 2)).containsExactly(5D, 6D);
+        var nodeMessages = messages(messenger, 1, 2);
+        assertThat(nodeMessages).hasSize(4);
+        // fields of a message are delivered together
+        for (int i = 0; i < nodeMessages.size(); i += 2) {
+            assertThat(nodeMessages.get(i + 1)).isEqualTo(nodeMessages.get(i) + 1);
+        }
+
+        messenger.release();
+    }
+
+    @Test
+    void mergeMultipleRuns() {
+        int nodeCount = 100;
+        int messageCount = 2 * RUN_CAPACITY + 5;
+        var messenger = new SpillingSyncQueueMessenger(nodeCount, 1, Double.BYTES);
+        messenger.initIteration(0);
+
+        var expectedSums = new double[nodeCount];
+        for (int i = 0; i < messageCount; i++) {
+            int target = (i * 31) % nodeCount;
+            messenger.sendTo(target, i);
+            expectedSums[target] += i;
+        }
+
+        messenger.initIteration(1);
+
+        // visit nodes out of order to cover restarting the search in each run
+        var iterator = messenger.messageIterator();
+        for (long nodeId : new long[]{0, 1, 50, 99, 10, 11, 98}) {
+            messenger.initMessageIterator(iterator, nodeId, false);
+            var sum = 0D;
+            while (iterator.hasNext()) {
+                sum += iterator.nextDouble();
+            }
+            assertThat(sum).isEqualTo(expectedSums[(int) nodeId]);
+        }
+
+        messenger.release();
+    }
+
+    private static List<Double> messages(SpillingSyncQueueMessenger messenger, long nodeId, int width) {
+        var iterator = messenger.messageIterator();
+        messenger.initMessageIterator(iterator, nodeId, false);
+        assertThat(iterator.isEmpty()).isEqualTo(!iterator.hasNext());
+
+        var messages = new ArrayList<Double>();
+        while (iterator.hasNext()) {
+            messages.add(iterator.nextDouble());
+        }
+        assertThat(messages.size() % width).isZero();
+        return messages;
+    }
+}
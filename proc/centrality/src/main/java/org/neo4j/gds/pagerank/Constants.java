@@ -27,4 +27,6 @@ class Constants {
         "measures the transitive influence or connectivity of nodes.";
     public static final String EIGENVECTOR_DESCRIPTION =
         "Eigenvector Centrality is an algorithm that measures the transitive influence or connectivity of nodes.";
+    public static final String FORWARD_PUSH_PAGE_RANK_DESCRIPTION =
+        "Forward Push Page Rank approximates a personalized Page Rank for each of the given source nodes.";
 }
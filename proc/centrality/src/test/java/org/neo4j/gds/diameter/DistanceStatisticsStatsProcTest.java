@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.diameter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseTest;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.InstanceOfAssertFactories.DOUBLE;
+import static org.assertj.core.api.InstanceOfAssertFactories.LONG;
+import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
+import static org.neo4j.gds.compat.GraphDatabaseApiProxy.registerProcedures;
+
+class DistanceStatisticsStatsProcTest extends BaseTest {
+
+    @Neo4jGraph
+    private static final String DB_CYPHER =
+        """
+            CREATE
+               (a:Node),
+               (b:Node),
+               (c:Node),
+               (d:Node),
+               (e:Node),
+               (f:Node),
+               (g:Node),
+               (a)-[:R]->(b),
+               (b)-[:R]->(c),
+               (c)-[:R]->(d),
+               (d)-[:R]->(e),
+               (f)-[:R]->(g)
+            """;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            db,
+            DistanceStatisticsStatsProc.class,
+            GraphProjectProc.class
+        );
+
+        runQuery("CALL gds.graph.project('graph', 'Node', {R: {orientation: 'UNDIRECTED'}})");
+    }
+
+    @Test
+    void shouldComputeStats() {
+        var resultRowCount = runQueryWithRowConsumer(
+            "CALL gds.distanceStatistics.stats('graph', {concurrency: 1})",
+            row -> {
+                assertThat(row.get("neighbourhoodFunction")).isEqualTo(List.of(7.0, 17.0, 23.0, 27.0, 29.0));
+                assertThat(row.getNumber("effectiveDiameter"))
+                    .asInstanceOf(DOUBLE)
+                    .isCloseTo(2.95, within(1e-9));
+                assertThat(row.getNumber("sampledSources"))
+                    .asInstanceOf(LONG)
+                    .isEqualTo(7L);
+                assertThat(row.getNumber("diameterLowerBound"))
+                    .asInstanceOf(LONG)
+                    .isEqualTo(4L);
+                assertThat(row.getNumber("diameterUpperBound"))
+                    .asInstanceOf(LONG)
+                    .isEqualTo(4L);
+                assertThat(row.get("configuration"))
+                    .asInstanceOf(MAP)
+                    .containsEntry("maxSamplingSize", 10_000L);
+            }
+        );
+
+        assertThat(resultRowCount).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldEstimateStats() {
+        var resultRowCount = runQueryWithRowConsumer(
+            "CALL gds.distanceStatistics.stats.estimate('graph', {})",
+            row -> {
+                assertThat(row.get("requiredMemory")).isNotNull();
+                assertThat(row.get("treeView")).isNotNull();
+            }
+        );
+
+        assertThat(resultRowCount)
+            .as("There should be one row as a result of estimating stats.")
+            .isEqualTo(1L);
+    }
+}
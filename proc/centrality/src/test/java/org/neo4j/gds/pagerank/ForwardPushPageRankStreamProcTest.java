@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseTest;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.InstanceOfAssertFactories.DOUBLE;
+import static org.assertj.core.api.InstanceOfAssertFactories.LONG;
+import static org.neo4j.gds.compat.GraphDatabaseApiProxy.registerProcedures;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+class ForwardPushPageRankStreamProcTest extends BaseTest {
+
+    @Neo4jGraph
+    private static final String DB_CYPHER =
+        """
+            CREATE
+               (b:Node),
+               (d:Node),
+               (e:Node),
+               (f:Node),
+               (k:Node),
+               (e)-[:R]->(b),
+               (e)-[:R]->(d),
+               (e)-[:R]->(f),
+               (k)-[:R]->(e)
+            """;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            db,
+            ForwardPushPageRankStreamProc.class,
+            GraphProjectProc.class
+        );
+
+        runQuery("CALL gds.graph.project('graph', 'Node', 'R')");
+    }
+
+    @Test
+    void shouldStreamScoresPerSourceNode() {
+        var resultRowCount = runQueryWithRowConsumer(
+            formatWithLocale(
+                "CALL gds.forwardPushPageRank.stream('graph', {sourceNodes: [%d], epsilon: 0.3})",
+                idFunction.of("k")
+            ),
+            row -> {
+                // k pushes to e, whose residual of 0.85 stays below the threshold of its 3 relationships
+                assertThat(row.getNumber("sourceNodeId"))
+                    .asInstanceOf(LONG)
+                    .isEqualTo(idFunction.of("k"));
+                assertThat(row.getNumber("nodeId"))
+                    .asInstanceOf(LONG)
+                    .isEqualTo(idFunction.of("k"));
+                assertThat(row.getNumber("score"))
+                    .asInstanceOf(DOUBLE)
+                    .isCloseTo(0.15, within(1e-9));
+            }
+        );
+
+        assertThat(resultRowCount).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldEstimateStream() {
+        var resultRowCount = runQueryWithRowConsumer(
+            formatWithLocale(
+                "CALL gds.forwardPushPageRank.stream.estimate('graph', {sourceNodes: [%d]})",
+                idFunction.of("k")
+            ),
+            row -> {
+                assertThat(row.get("requiredMemory")).isNotNull();
+                assertThat(row.get("treeView")).isNotNull();
+            }
+        );
+
+        assertThat(resultRowCount)
+            .as("There should be one row as a result of estimating stream.")
+            .isEqualTo(1L);
+    }
+}
@@ -19,12 +19,18 @@
  */
 package org.neo4j.gds.pregel.proc;
 
+import org.neo4j.gds.beta.pregel.SuperstepProfile;
 import org.neo4j.gds.result.AbstractResultBuilder;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 public abstract class AbstractPregelResultBuilder<RESULT> extends AbstractResultBuilder<RESULT> {
 
     protected long ranIterations;
     protected boolean didConverge;
+    protected List<Map<String, Object>> superstepProfiles = List.of();
 
     public AbstractPregelResultBuilder<RESULT> withRanIterations(long ranIterations) {
         this.ranIterations = ranIterations;
@@ -36,4 +42,12 @@ public abstract class AbstractPregelResultBuilder<RESULT> extends AbstractResult
         return this;
     }
 
+    public AbstractPregelResultBuilder<RESULT> withSuperstepProfiles(List<SuperstepProfile> superstepProfiles) {
+        this.superstepProfiles = superstepProfiles
+            .stream()
+            .map(SuperstepProfile::toMap)
+            .collect(Collectors.toList());
+        return this;
+    }
+
 }
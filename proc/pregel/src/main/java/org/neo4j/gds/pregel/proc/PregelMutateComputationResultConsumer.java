@@ -29,6 +29,7 @@ import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.result.AbstractResultBuilder;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.LoggingUtil.runWithExceptionLogging;
@@ -45,9 +46,11 @@ public class PregelMutateComputationResultConsumer<
 
             var ranIterations = computationResult.result().map(PregelResult::ranIterations).orElse(0);
             var didConverge = computationResult.result().map(PregelResult::didConverge).orElse(false);
+            var superstepProfiles = computationResult.result().map(PregelResult::superstepProfiles).orElse(List.of());
             AbstractResultBuilder<PregelMutateResult> resultBuilder = new PregelMutateResult.Builder()
                 .withRanIterations(ranIterations)
                 .didConverge(didConverge)
+                .withSuperstepProfiles(superstepProfiles)
                 .withPreProcessingMillis(computationResult.preProcessingMillis())
                 .withComputeMillis(computationResult.computeMillis())
                 .withNodeCount(computationResult.graph().nodeCount())
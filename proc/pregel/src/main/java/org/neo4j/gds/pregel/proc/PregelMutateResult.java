@@ -21,6 +21,7 @@ package org.neo4j.gds.pregel.proc;
 
 import org.neo4j.gds.procedures.algorithms.results.StandardMutateResult;
 
+import java.util.List;
 import java.util.Map;
 
 @SuppressWarnings("unused")
@@ -29,6 +30,7 @@ public final class PregelMutateResult extends StandardMutateResult {
     public final long nodePropertiesWritten;
     public final long ranIterations;
     public final boolean didConverge;
+    public final List<Map<String, Object>> superstepProfiles;
 
     private PregelMutateResult(
         long nodePropertiesWritten,
@@ -37,12 +39,14 @@ public final class PregelMutateResult extends StandardMutateResult {
         long mutateMillis,
         long ranIterations,
         boolean didConverge,
+        List<Map<String, Object>> superstepProfiles,
         Map<String, Object> configuration
     ) {
         super(preProcessingMillis, computeMillis, 0L, mutateMillis, configuration);
         this.nodePropertiesWritten = nodePropertiesWritten;
         this.ranIterations = ranIterations;
         this.didConverge = didConverge;
+        this.superstepProfiles = superstepProfiles;
     }
 
     public static class Builder extends AbstractPregelResultBuilder<PregelMutateResult> {
@@ -56,6 +60,7 @@ public final class PregelMutateResult extends StandardMutateResult {
                 mutateMillis,
                 ranIterations,
                 didConverge,
+                superstepProfiles,
                 config.toMap()
             );
         }
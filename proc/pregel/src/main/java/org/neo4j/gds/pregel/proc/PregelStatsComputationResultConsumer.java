@@ -26,6 +26,7 @@ import org.neo4j.gds.executor.ComputationResult;
 import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.LoggingUtil.runWithExceptionLogging;
@@ -56,6 +57,10 @@ public class PregelStatsComputationResultConsumer<
     ) {
         var ranIterations = computeResult.result().map(PregelResult::ranIterations).orElse(0);
         var didConverge = computeResult.result().map(PregelResult::didConverge).orElse(false);
-        return new PregelStatsResult.Builder().withRanIterations(ranIterations).didConverge(didConverge);
+        var superstepProfiles = computeResult.result().map(PregelResult::superstepProfiles).orElse(List.of());
+        return new PregelStatsResult.Builder()
+            .withRanIterations(ranIterations)
+            .didConverge(didConverge)
+            .withSuperstepProfiles(superstepProfiles);
     }
 }
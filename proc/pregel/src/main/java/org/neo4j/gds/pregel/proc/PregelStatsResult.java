@@ -21,6 +21,7 @@ package org.neo4j.gds.pregel.proc;
 
 import org.neo4j.gds.procedures.algorithms.results.StandardStatsResult;
 
+import java.util.List;
 import java.util.Map;
 
 @SuppressWarnings("unused")
@@ -28,24 +29,27 @@ public final class PregelStatsResult extends StandardStatsResult {
 
     public final long ranIterations;
     public final boolean didConverge;
+    public final List<Map<String, Object>> superstepProfiles;
 
     private PregelStatsResult(
         long preProcessingMillis,
         long computeMillis,
         long ranIterations,
         boolean didConverge,
+        List<Map<String, Object>> superstepProfiles,
         Map<String, Object> configuration
     ) {
         super(preProcessingMillis, computeMillis, 0L, configuration);
         this.ranIterations = ranIterations;
         this.didConverge = didConverge;
+        this.superstepProfiles = superstepProfiles;
     }
 
     public static class Builder extends AbstractPregelResultBuilder<PregelStatsResult> {
 
         @Override
         public PregelStatsResult build() {
-            return new PregelStatsResult(preProcessingMillis, computeMillis, ranIterations, didConverge, config.toMap());
+            return new PregelStatsResult(preProcessingMillis, computeMillis, ranIterations, didConverge, superstepProfiles, config.toMap());
         }
     }
 }
@@ -24,6 +24,8 @@ import org.neo4j.gds.WriteNodePropertiesComputationResultConsumer;
 import org.neo4j.gds.beta.pregel.PregelProcedureConfig;
 import org.neo4j.gds.beta.pregel.PregelResult;
 
+import java.util.List;
+
 public class PregelWriteComputationResultConsumer<
     ALGO extends Algorithm<PregelResult>,
     CONFIG extends PregelProcedureConfig
@@ -35,7 +37,11 @@ public class PregelWriteComputationResultConsumer<
             (computationResult, executionContext) -> {
                 var ranIterations = computationResult.result().map(PregelResult::ranIterations).orElse(0);
                 var didConverge = computationResult.result().map(PregelResult::didConverge).orElse(false);
-                return new PregelWriteResult.Builder().withRanIterations(ranIterations).didConverge(didConverge);
+                var superstepProfiles = computationResult.result().map(PregelResult::superstepProfiles).orElse(List.of());
+                return new PregelWriteResult.Builder()
+                    .withRanIterations(ranIterations)
+                    .didConverge(didConverge)
+                    .withSuperstepProfiles(superstepProfiles);
             },
             (computationResult) -> PregelCompanion.nodeProperties(
                 computationResult,
@@ -21,6 +21,7 @@ package org.neo4j.gds.pregel.proc;
 
 import org.neo4j.gds.procedures.algorithms.results.StandardWriteResult;
 
+import java.util.List;
 import java.util.Map;
 
 @SuppressWarnings("unused")
@@ -29,6 +30,7 @@ public final class PregelWriteResult extends StandardWriteResult {
     public final long nodePropertiesWritten;
     public final long ranIterations;
     public final boolean didConverge;
+    public final List<Map<String, Object>> superstepProfiles;
 
     private PregelWriteResult(
         long nodePropertiesWritten,
@@ -37,12 +39,14 @@ public final class PregelWriteResult extends StandardWriteResult {
         long writeMillis,
         long ranIterations,
         boolean didConverge,
+        List<Map<String, Object>> superstepProfiles,
         Map<String, Object> configuration
     ) {
         super(preProcessingMillis, computeMillis, 0L, writeMillis, configuration);
         this.nodePropertiesWritten = nodePropertiesWritten;
         this.ranIterations = ranIterations;
         this.didConverge = didConverge;
+        this.superstepProfiles = superstepProfiles;
     }
 
     public static class Builder extends AbstractPregelResultBuilder<PregelWriteResult> {
@@ -56,6 +60,7 @@ public final class PregelWriteResult extends StandardWriteResult {
                 writeMillis,
                 ranIterations,
                 didConverge,
+                superstepProfiles,
                 config.toMap()
             );
         }
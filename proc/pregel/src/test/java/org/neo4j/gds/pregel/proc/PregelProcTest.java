@@ -200,6 +200,27 @@ public class PregelProcTest extends BaseProcTest {
         );
     }
 
+    @Test
+    void mutateWithSuperstepProfiles() {
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("example", "pregel", "test")
+            .mutateMode()
+            .addParameter("maxIterations", 2)
+            .addParameter("mutateProperty", "test_")
+            .addParameter("profileSupersteps", true)
+            .yields("superstepProfiles");
+
+        runQueryWithRowConsumer(query, row -> {
+            @SuppressWarnings("unchecked")
+            var profiles = (List<Map<String, Object>>) row.get("superstepProfiles");
+            assertThat(profiles).hasSize(2);
+            assertThat(profiles).allSatisfy(profile -> assertThat(profile)
+                .containsEntry("activeNodes", 1L)
+                .containsEntry("messagesSent", 0L)
+                .containsKeys("computeMillis", "partitions", "maxPartitionMillis", "partitionSkew"));
+        });
+    }
+
     @Test
     void cleanupTaskRegistryWhenTheAlgorithmFailsInStreamMode() {
         var taskStore = new TestTaskStore();
@@ -471,7 +492,7 @@ public class PregelProcTest extends BaseProcTest {
                 }
 
                 @Override
-                public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+                public MemoryEstimateDefinition estimateDefinition(PregelProcedureConfig config) {
                     return null;
                 }
 
@@ -41,6 +41,7 @@ import org.neo4j.gds.closeness.ClosenessCentralityWriteConfig;
 import org.neo4j.gds.degree.DegreeCentralityStatsConfig;
 import org.neo4j.gds.degree.DegreeCentralityStreamConfig;
 import org.neo4j.gds.degree.DegreeCentralityWriteConfig;
+import org.neo4j.gds.diameter.DistanceStatisticsStatsConfig;
 import org.neo4j.gds.harmonic.DeprecatedTieredHarmonicCentralityWriteConfig;
 import org.neo4j.gds.harmonic.HarmonicCentralityStatsConfig;
 import org.neo4j.gds.harmonic.HarmonicCentralityStreamConfig;
@@ -48,6 +49,7 @@ import org.neo4j.gds.harmonic.HarmonicCentralityWriteConfig;
 import org.neo4j.gds.influenceMaximization.InfluenceMaximizationStatsConfig;
 import org.neo4j.gds.influenceMaximization.InfluenceMaximizationStreamConfig;
 import org.neo4j.gds.influenceMaximization.InfluenceMaximizationWriteConfig;
+import org.neo4j.gds.pagerank.ForwardPushPageRankStreamConfig;
 import org.neo4j.gds.pagerank.PageRankMutateConfig;
 import org.neo4j.gds.pagerank.PageRankStatsConfig;
 import org.neo4j.gds.pagerank.PageRankStreamConfig;
@@ -811,6 +813,35 @@ public final class CentralityProcedureFacade {
         return Stream.of(result);
     }
 
+    public Stream<DistanceStatisticsStatsResult> distanceStatisticsStats(
+        String graphName,
+        Map<String, Object> configuration
+    ) {
+        return algorithmExecutionScaffolding.runAlgorithm(
+            graphName,
+            configuration,
+            DistanceStatisticsStatsConfig::of,
+            statsMode()::distanceStatistics,
+            new DistanceStatisticsResultBuilderForStatsMode()
+        );
+    }
+
+    public Stream<MemoryEstimateResult> distanceStatisticsStatsEstimate(
+        Object graphNameOrConfiguration,
+        Map<String, Object> algorithmConfiguration
+    ) {
+        var result = estimationMode.runEstimation(
+            algorithmConfiguration,
+            DistanceStatisticsStatsConfig::of,
+            configuration -> estimationMode().distanceStatistics(
+                configuration,
+                graphNameOrConfiguration
+            )
+        );
+
+        return Stream.of(result);
+    }
+
     public MutateStub<PageRankMutateConfig, PageRankMutateResult> eigenVectorMutateStub() {
         return eigenVectorMutateStub;
     }
@@ -904,6 +935,35 @@ public final class CentralityProcedureFacade {
         return Stream.of(result);
     }
 
+    public Stream<ForwardPushPageRankStreamResult> forwardPushPageRankStream(
+        String graphName,
+        Map<String, Object> configuration
+    ) {
+        return algorithmExecutionScaffoldingForStreamMode.runAlgorithm(
+            graphName,
+            configuration,
+            ForwardPushPageRankStreamConfig::of,
+            streamMode()::forwardPushPageRank,
+            new ForwardPushPageRankResultBuilderForStreamMode()
+        );
+    }
+
+    public Stream<MemoryEstimateResult> forwardPushPageRankStreamEstimate(
+        Object graphNameOrConfiguration,
+        Map<String, Object> algorithmConfiguration
+    ) {
+        var result = estimationMode.runEstimation(
+            algorithmConfiguration,
+            ForwardPushPageRankStreamConfig::of,
+            configuration -> estimationMode().forwardPushPageRank(
+                configuration,
+                graphNameOrConfiguration
+            )
+        );
+
+        return Stream.of(result);
+    }
+
     public HarmonicCentralityMutateStub harmonicCentralityMutateStub() {
         return harmonicCentralityMutateStub;
     }
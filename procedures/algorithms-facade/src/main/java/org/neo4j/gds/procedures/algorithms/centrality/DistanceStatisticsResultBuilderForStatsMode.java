@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.procedures.algorithms.centrality;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.applications.algorithms.machinery.AlgorithmProcessingTimings;
+import org.neo4j.gds.applications.algorithms.machinery.ResultBuilder;
+import org.neo4j.gds.diameter.DistanceStatisticsResult;
+import org.neo4j.gds.diameter.DistanceStatisticsStatsConfig;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+class DistanceStatisticsResultBuilderForStatsMode implements ResultBuilder<DistanceStatisticsStatsConfig, DistanceStatisticsResult, Stream<DistanceStatisticsStatsResult>, Void> {
+
+    @Override
+    public Stream<DistanceStatisticsStatsResult> build(
+        Graph graph,
+        GraphStore graphStore,
+        DistanceStatisticsStatsConfig configuration,
+        Optional<DistanceStatisticsResult> result,
+        AlgorithmProcessingTimings timings,
+        Optional<Void> metadata
+    ) {
+        if (result.isEmpty()) {
+            return Stream.of(DistanceStatisticsStatsResult.EMPTY);
+        }
+
+        var distanceStatistics = result.get();
+        var neighbourhoodFunction = Arrays.stream(distanceStatistics.neighbourhoodFunction())
+            .boxed()
+            .collect(Collectors.toList());
+
+        return Stream.of(
+            new DistanceStatisticsStatsResult(
+                neighbourhoodFunction,
+                distanceStatistics.effectiveDiameter(),
+                distanceStatistics.sampledSources(),
+                distanceStatistics.diameterLowerBound(),
+                distanceStatistics.diameterUpperBound(),
+                distanceStatistics.radiusLowerBound(),
+                distanceStatistics.radiusUpperBound(),
+                timings.computeMillis,
+                configuration.toMap()
+            )
+        );
+    }
+}
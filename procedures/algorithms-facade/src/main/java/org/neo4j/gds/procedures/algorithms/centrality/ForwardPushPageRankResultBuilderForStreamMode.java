@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.procedures.algorithms.centrality;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.applications.algorithms.machinery.AlgorithmProcessingTimings;
+import org.neo4j.gds.applications.algorithms.machinery.ResultBuilder;
+import org.neo4j.gds.pagerank.ForwardPushPageRankResult;
+import org.neo4j.gds.pagerank.ForwardPushPageRankStreamConfig;
+
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+class ForwardPushPageRankResultBuilderForStreamMode implements ResultBuilder<ForwardPushPageRankStreamConfig, ForwardPushPageRankResult, Stream<ForwardPushPageRankStreamResult>, Void> {
+
+    @Override
+    public Stream<ForwardPushPageRankStreamResult> build(
+        Graph graph,
+        GraphStore graphStore,
+        ForwardPushPageRankStreamConfig configuration,
+        Optional<ForwardPushPageRankResult> result,
+        AlgorithmProcessingTimings timings,
+        Optional<Void> unused
+    ) {
+        if (result.isEmpty()) return Stream.empty();
+
+        // queries are answered in the order of the configured source nodes
+        var sourceNodes = configuration.sourceNodes();
+        var scores = result.get().scores();
+
+        return IntStream.range(0, scores.size())
+            .boxed()
+            .flatMap(query -> StreamSupport.stream(scores.get(query).spliterator(), false)
+                .map(cursor -> new ForwardPushPageRankStreamResult(
+                    sourceNodes.get(query),
+                    graph.toOriginalNodeId(cursor.key),
+                    cursor.value
+                )));
+    }
+}
@@ -53,22 +53,22 @@ public class HarmonicCentralityMutateStub implements MutateStub<HarmonicCentrali
     }
 
     @Override
-    public MemoryEstimation getMemoryEstimation(String username, Map<String, Object> configuration) {
+    public MemoryEstimation getMemoryEstimation(String username, Map<String, Object> rawConfiguration) {
         return genericStub.getMemoryEstimation(
             username,
-            configuration,
+            rawConfiguration,
             HarmonicCentralityMutateConfig::of,
-            __ -> estimationMode().harmonicCentrality()
+            configuration -> estimationMode().harmonicCentrality(configuration)
         );
     }
 
     @Override
-    public Stream<MemoryEstimateResult> estimate(Object graphName, Map<String, Object> configuration) {
+    public Stream<MemoryEstimateResult> estimate(Object graphName, Map<String, Object> rawConfiguration) {
         return genericStub.estimate(
             graphName,
-            configuration,
+            rawConfiguration,
             HarmonicCentralityMutateConfig::of,
-            __ -> estimationMode().harmonicCentrality()
+            configuration -> estimationMode().harmonicCentrality(configuration)
         );
     }
 
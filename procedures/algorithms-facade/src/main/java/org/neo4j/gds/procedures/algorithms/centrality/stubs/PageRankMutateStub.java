@@ -59,22 +59,22 @@ public class PageRankMutateStub implements MutateStub<PageRankMutateConfig, Page
     }
 
     @Override
-    public MemoryEstimation getMemoryEstimation(String username, Map<String, Object> configuration) {
+    public MemoryEstimation getMemoryEstimation(String username, Map<String, Object> rawConfiguration) {
         return genericStub.getMemoryEstimation(
             username,
-            configuration,
+            rawConfiguration,
             PageRankMutateConfig::of,
-            __ -> estimationMode().pageRank()
+            configuration -> estimationMode().pageRank(configuration)
         );
     }
 
     @Override
-    public Stream<MemoryEstimateResult> estimate(Object graphName, Map<String, Object> configuration) {
+    public Stream<MemoryEstimateResult> estimate(Object graphName, Map<String, Object> rawConfiguration) {
         return genericStub.estimate(
             graphName,
-            configuration,
+            rawConfiguration,
             PageRankMutateConfig::of,
-            __ -> estimationMode().pageRank()
+            configuration -> estimationMode().pageRank(configuration)
         );
     }
 
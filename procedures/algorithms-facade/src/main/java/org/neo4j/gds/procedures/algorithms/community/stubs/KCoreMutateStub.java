@@ -49,22 +49,22 @@ public class KCoreMutateStub implements MutateStub<KCoreDecompositionMutateConfi
     }
 
     @Override
-    public MemoryEstimation getMemoryEstimation(String username, Map<String, Object> configuration) {
+    public MemoryEstimation getMemoryEstimation(String username, Map<String, Object> rawConfiguration) {
         return genericStub.getMemoryEstimation(
             username,
-            configuration,
+            rawConfiguration,
             KCoreDecompositionMutateConfig::of,
-            __ -> estimationMode().kCore()
+            configuration -> estimationMode().kCore(configuration)
         );
     }
 
     @Override
-    public Stream<MemoryEstimateResult> estimate(Object graphName, Map<String, Object> configuration) {
+    public Stream<MemoryEstimateResult> estimate(Object graphName, Map<String, Object> rawConfiguration) {
         return genericStub.estimate(
             graphName,
-            configuration,
+            rawConfiguration,
             KCoreDecompositionMutateConfig::of,
-            __ -> estimationMode().kCore()
+            configuration -> estimationMode().kCore(configuration)
         );
     }
 
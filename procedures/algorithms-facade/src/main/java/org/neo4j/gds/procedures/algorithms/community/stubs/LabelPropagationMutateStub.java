@@ -59,7 +59,7 @@ public class LabelPropagationMutateStub implements MutateStub<LabelPropagationMu
             username,
             rawConfiguration,
             LabelPropagationMutateConfig::of,
-            __ -> estimationMode().labelPropagation()
+            configuration -> estimationMode().labelPropagation(configuration)
         );
     }
 
@@ -69,7 +69,7 @@ public class LabelPropagationMutateStub implements MutateStub<LabelPropagationMu
             graphName,
             rawConfiguration,
             LabelPropagationMutateConfig::of,
-            __ -> estimationMode().labelPropagation()
+            configuration -> estimationMode().labelPropagation(configuration)
         );
     }
 
@@ -54,22 +54,22 @@ public class SccMutateStub implements MutateStub<SccMutateConfig, SccMutateResul
     }
 
     @Override
-    public MemoryEstimation getMemoryEstimation(String username, Map<String, Object> configuration) {
+    public MemoryEstimation getMemoryEstimation(String username, Map<String, Object> rawConfiguration) {
         return genericStub.getMemoryEstimation(
             username,
-            configuration,
+            rawConfiguration,
             SccMutateConfig::of,
-            __ -> estimationMode().scc()
+            configuration -> estimationMode().scc(configuration)
         );
     }
 
     @Override
-    public Stream<MemoryEstimateResult> estimate(Object graphName, Map<String, Object> configuration) {
+    public Stream<MemoryEstimateResult> estimate(Object graphName, Map<String, Object> rawConfiguration) {
         return genericStub.estimate(
             graphName,
-            configuration,
+            rawConfiguration,
             SccMutateConfig::of,
-            __ -> estimationMode().scc()
+            configuration -> estimationMode().scc(configuration)
         );
     }
 
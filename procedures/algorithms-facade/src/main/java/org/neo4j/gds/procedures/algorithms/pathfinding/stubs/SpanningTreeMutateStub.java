@@ -49,22 +49,22 @@ public class SpanningTreeMutateStub implements MutateStub<SpanningTreeMutateConf
     }
 
     @Override
-    public MemoryEstimation getMemoryEstimation(String username, Map<String, Object> configuration) {
+    public MemoryEstimation getMemoryEstimation(String username, Map<String, Object> rawConfiguration) {
         return genericStub.getMemoryEstimation(
             username,
-            configuration,
+            rawConfiguration,
             SpanningTreeMutateConfig::of,
-            __ -> estimationMode().spanningTree()
+            configuration -> estimationMode().spanningTree(configuration)
         );
     }
 
     @Override
-    public Stream<MemoryEstimateResult> estimate(Object graphName, Map<String, Object> configuration) {
+    public Stream<MemoryEstimateResult> estimate(Object graphName, Map<String, Object> rawConfiguration) {
         return genericStub.estimate(
             graphName,
-            configuration,
+            rawConfiguration,
             SpanningTreeMutateConfig::of,
-            __ -> estimationMode().spanningTree()
+            configuration -> estimationMode().spanningTree(configuration)
         );
     }
 